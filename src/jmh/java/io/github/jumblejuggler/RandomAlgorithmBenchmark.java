@@ -0,0 +1,73 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cost of the numeric jugglers under each supported random generator algorithm.
+ *
+ * <p>Each benchmark thread owns its own {@link JumbleJuggler}, as a worker would after calling
+ * {@link JumbleJuggler#split()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RandomAlgorithmBenchmark {
+  @Param({"ThreadLocalRandom", "Xoshiro256PlusPlus", "L64X128MixRandom", "SplittableRandom"})
+  private String algorithm;
+
+  private final BoundedIntSampler sampler = BoundedIntSampler.of(1_000);
+  private JumbleJuggler juggler;
+
+  @Setup
+  public void setUp() {
+    juggler = JumbleJuggler.withAlgorithm(algorithm);
+  }
+
+  @Benchmark
+  public int integerBetween() {
+    return IntegerJuggler.generateRandomIntBetween(juggler, -1_000, 1_000);
+  }
+
+  @Benchmark
+  public int integerPositiveSmallerThan() {
+    return IntegerJuggler.generateRandomPositiveIntSmallerThan(juggler, 1_000);
+  }
+
+  @Benchmark
+  public int boundedIntSampler() {
+    return sampler.nextInt(juggler);
+  }
+
+  @Benchmark
+  public long longBetween() {
+    return LongJuggler.generateRandomLongBetween(juggler, -1_000_000L, 1_000_000L);
+  }
+
+  @Benchmark
+  public long longPositive() {
+    return LongJuggler.generateRandomPositiveLong(juggler);
+  }
+
+  @Benchmark
+  public double doubleAnySign() {
+    return DoubleJuggler.generateRandomDouble(juggler);
+  }
+
+  @Benchmark
+  public double doublePositiveSmallerThan() {
+    return DoubleJuggler.generateRandomPositiveDoubleSmallerThan(juggler, 1.0);
+  }
+}
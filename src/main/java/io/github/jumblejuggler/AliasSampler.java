@@ -0,0 +1,217 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.function.IntSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing integers between {@code 0} and the number of weights given, each with a
+ * probability proportional to its weight.
+ *
+ * <p>Values are drawn with the alias method, in the variant of Vose: the weights are spread once,
+ * when the sampler is created, into a table of columns of equal height, each holding part of the
+ * weight of its own index and the rest of the weight of another one, its alias. A draw then picks a
+ * column uniformly and returns its index or its alias, which takes two random values whatever the
+ * number of weights.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * // Roll a loaded die, six twice as likely as the other faces
+ * AliasSampler die = AliasSampler.of(new double[] {1, 1, 1, 1, 1, 2});
+ * int face = die.nextInt() + 1;
+ * }</pre>
+ *
+ * <p>Instances are immutable, and are as thread-safe as the {@link JumbleJuggler} they are bound
+ * to, see {@link BoundedIntSampler}.
+ *
+ * @see WeightedCountrySampler
+ * @see BoundedIntSampler
+ */
+public final class AliasSampler implements IntSupplier {
+  private static final String NO_WEIGHT = "At least one weight must be given.";
+  private static final String BAD_WEIGHT =
+      "The weight at index %s is %s, but it must be finite and not negative.";
+  private static final String ZERO_WEIGHTS =
+      "The weights given add up to %s, but their sum must be finite and strictly positive.";
+
+  /** The context the values are drawn from. */
+  private final JumbleJuggler juggler;
+
+  /** The uniform draw of a column. */
+  private final BoundedIntSampler columns;
+
+  /** The probability that a column returns its own index rather than its alias. */
+  private final double[] probabilities;
+
+  /** The index a column returns otherwise. */
+  private final int[] aliases;
+
+  private AliasSampler(
+      JumbleJuggler juggler, BoundedIntSampler columns, double[] probabilities, int[] aliases) {
+    this.juggler = juggler;
+    this.columns = columns;
+    this.probabilities = probabilities;
+    this.aliases = aliases;
+  }
+
+  /**
+   * Creates a sampler of the indexes of {@code weights}, each drawn with a probability proportional
+   * to its weight.
+   *
+   * @param weights The weights of the values, by index.
+   * @return A new {@link AliasSampler}.
+   * @throws JumbleJugglerException if there is no weight, if a weight is negative or not finite, or
+   *     if the weights add up to zero.
+   */
+  public static AliasSampler of(double[] weights) throws JumbleJugglerException {
+    return of(JumbleJuggler.getDefault(), weights);
+  }
+
+  /**
+   * Creates a sampler of the indexes of {@code weights}, each drawn with a probability proportional
+   * to its weight.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param weights The weights of the values, by index.
+   * @return A new {@link AliasSampler}.
+   * @throws JumbleJugglerException if there is no weight, if a weight is negative or not finite, or
+   *     if the weights add up to zero.
+   */
+  public static AliasSampler of(JumbleJuggler juggler, double[] weights)
+      throws JumbleJugglerException {
+    int size = weights.length;
+    if (size == 0) {
+      throw new JumbleJugglerException(new IllegalArgumentException(NO_WEIGHT), AliasSampler.class);
+    }
+    double sum = 0;
+    int positive = 0;
+    for (int i = 0; i < size; i++) {
+      if (!(weights[i] >= 0) || weights[i] == Double.POSITIVE_INFINITY) {
+        throw new JumbleJugglerException(
+            new IllegalArgumentException(String.format(BAD_WEIGHT, i, weights[i])),
+            AliasSampler.class);
+      }
+      sum += weights[i];
+      positive = weights[i] > 0 ? i : positive;
+    }
+    if (!(sum > 0) || sum == Double.POSITIVE_INFINITY) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(ZERO_WEIGHTS, sum)), AliasSampler.class);
+    }
+
+    // The weights are scaled so that a column holds 1. The indexes under 1 are topped up with the
+    // excess of the ones over 1, which are then put back in the lists depending on what is left.
+    double[] probabilities = new double[size];
+    int[] aliases = new int[size];
+    int[] small = new int[size];
+    int[] large = new int[size];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < size; i++) {
+      probabilities[i] = weights[i] * size / sum;
+      if (probabilities[i] < 1) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+      aliases[less] = more;
+      probabilities[more] = (probabilities[more] + probabilities[less]) - 1;
+      if (probabilities[more] < 1) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    // What is left is 1 up to rounding errors, except for a zero weight, which must never be
+    // drawn and goes to an index with a weight.
+    while (largeCount > 0) {
+      int index = large[--largeCount];
+      probabilities[index] = 1;
+      aliases[index] = index;
+    }
+    while (smallCount > 0) {
+      int index = small[--smallCount];
+      probabilities[index] = weights[index] > 0 ? 1 : 0;
+      aliases[index] = weights[index] > 0 ? index : positive;
+    }
+    return new AliasSampler(juggler, BoundedIntSampler.of(juggler, size), probabilities, aliases);
+  }
+
+  /**
+   * Returns a sampler of the same weights drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return An {@link AliasSampler} sharing the tables of this one.
+   */
+  public AliasSampler withJuggler(JumbleJuggler juggler) {
+    return new AliasSampler(juggler, columns.withJuggler(juggler), probabilities, aliases);
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random index of the weights of this sampler.
+   */
+  public int nextInt() {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random index of the weights of this sampler.
+   */
+  @Override
+  public int getAsInt() {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random index of the weights of this sampler.
+   */
+  public int nextInt(JumbleJuggler juggler) {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random index of the weights of this sampler.
+   */
+  public int nextInt(RandomGenerator randomGenerator) {
+    int column = columns.nextInt(randomGenerator);
+    return randomGenerator.nextDouble() < probabilities[column] ? column : aliases[column];
+  }
+
+  /**
+   * Returns the number of weights of this sampler.
+   *
+   * @return The exclusive upper bound of the values.
+   */
+  public int size() {
+    return probabilities.length;
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return juggler;
+  }
+}
@@ -0,0 +1,199 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing uniformly distributed doubles from a fixed range.
+ *
+ * <p>The width of the range is computed and checked once, when the sampler is created, so a draw is
+ * one multiplication and one addition. It is also a {@link DoubleSupplier}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * BoundedDoubleSampler sampler = DoubleJuggler.between(-90.0, 90.0);
+ * double latitude = sampler.nextDouble();
+ * }</pre>
+ *
+ * <p>Instances are immutable and as thread-safe as the {@link JumbleJuggler} they are bound to.
+ *
+ * @see DoubleJuggler#between(double, double)
+ */
+public final class BoundedDoubleSampler implements DoubleSupplier {
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+  private static final String BAD_RANGE =
+      "The range between the minimum value %s and the maximum value %s given must be finite.";
+
+  /** The context the values are drawn from. */
+  private final JumbleJuggler juggler;
+
+  /** The inclusive lower bound of the values. */
+  private final double min;
+
+  /** The exclusive upper bound of the values. */
+  private final double max;
+
+  /** The width of the range, always finite. */
+  private final double range;
+
+  private BoundedDoubleSampler(JumbleJuggler juggler, double min, double max) {
+    this.juggler = juggler;
+    this.min = min;
+    this.max = max;
+    this.range = max - min;
+  }
+
+  /**
+   * Creates a sampler of the doubles between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedDoubleSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedDoubleSampler between(double min, double max) throws JumbleJugglerException {
+    return between(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Creates a sampler of the doubles between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedDoubleSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedDoubleSampler between(JumbleJuggler juggler, double min, double max)
+      throws JumbleJugglerException {
+    if (!(min < max)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)),
+          BoundedDoubleSampler.class);
+    }
+    if (Double.isInfinite(max - min)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_RANGE, min, max)),
+          BoundedDoubleSampler.class);
+    }
+    return new BoundedDoubleSampler(juggler, min, max);
+  }
+
+  /**
+   * Returns a sampler of the same range drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A {@link BoundedDoubleSampler} of the same range.
+   */
+  public BoundedDoubleSampler withJuggler(JumbleJuggler juggler) {
+    return new BoundedDoubleSampler(juggler, min, max);
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random double within the range of this sampler.
+   */
+  public double nextDouble() {
+    return nextDouble(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random double within the range of this sampler.
+   */
+  @Override
+  public double getAsDouble() {
+    return nextDouble(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random double within the range of this sampler.
+   */
+  public double nextDouble(JumbleJuggler juggler) {
+    return nextDouble(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * <p>Rounding can push the scaled value onto the maximum, in which case the largest double below
+   * it is returned instead.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random double within the range of this sampler.
+   */
+  public double nextDouble(RandomGenerator randomGenerator) {
+    double value = randomGenerator.nextDouble() * range + min;
+    return value < max ? value : Math.nextDown(max);
+  }
+
+  /**
+   * Fills an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   */
+  public void fill(double[] destination) {
+    fill(destination, 0, destination.length);
+  }
+
+  /**
+   * Fills a region of an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public void fill(double[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      destination[i] = nextDouble(randomGenerator);
+    }
+  }
+
+  /**
+   * Returns the inclusive lower bound of the values.
+   *
+   * @return The smallest value this sampler can return.
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the exclusive upper bound of the values.
+   *
+   * @return The upper bound of the values, which this sampler never returns.
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return juggler;
+  }
+}
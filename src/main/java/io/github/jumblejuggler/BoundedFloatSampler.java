@@ -0,0 +1,200 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing uniformly distributed floats from a fixed range.
+ *
+ * <p>The width of the range is computed and checked once, when the sampler is created, so a draw is
+ * one multiplication and one addition. As there is no {@code FloatSupplier}, the sampler is a
+ * {@link DoubleSupplier} whose values are always floats.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * BoundedFloatSampler sampler = FloatJuggler.between(0.0F, 1.0F);
+ * float opacity = sampler.nextFloat();
+ * }</pre>
+ *
+ * <p>Instances are immutable and as thread-safe as the {@link JumbleJuggler} they are bound to.
+ *
+ * @see FloatJuggler#between(float, float)
+ */
+public final class BoundedFloatSampler implements DoubleSupplier {
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+  private static final String BAD_RANGE =
+      "The range between the minimum value %s and the maximum value %s given must be finite.";
+
+  /** The context the values are drawn from. */
+  private final JumbleJuggler juggler;
+
+  /** The inclusive lower bound of the values. */
+  private final float min;
+
+  /** The exclusive upper bound of the values. */
+  private final float max;
+
+  /** The width of the range, always finite. */
+  private final float range;
+
+  private BoundedFloatSampler(JumbleJuggler juggler, float min, float max) {
+    this.juggler = juggler;
+    this.min = min;
+    this.max = max;
+    this.range = max - min;
+  }
+
+  /**
+   * Creates a sampler of the floats between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedFloatSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedFloatSampler between(float min, float max) throws JumbleJugglerException {
+    return between(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Creates a sampler of the floats between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedFloatSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedFloatSampler between(JumbleJuggler juggler, float min, float max)
+      throws JumbleJugglerException {
+    if (!(min < max)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)),
+          BoundedFloatSampler.class);
+    }
+    if (Float.isInfinite(max - min)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_RANGE, min, max)),
+          BoundedFloatSampler.class);
+    }
+    return new BoundedFloatSampler(juggler, min, max);
+  }
+
+  /**
+   * Returns a sampler of the same range drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A {@link BoundedFloatSampler} of the same range.
+   */
+  public BoundedFloatSampler withJuggler(JumbleJuggler juggler) {
+    return new BoundedFloatSampler(juggler, min, max);
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random float within the range of this sampler.
+   */
+  public float nextFloat() {
+    return nextFloat(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random float within the range of this sampler, widened to a double.
+   */
+  @Override
+  public double getAsDouble() {
+    return nextFloat(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random float within the range of this sampler.
+   */
+  public float nextFloat(JumbleJuggler juggler) {
+    return nextFloat(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * <p>Rounding can push the scaled value onto the maximum, in which case the largest float below
+   * it is returned instead.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random float within the range of this sampler.
+   */
+  public float nextFloat(RandomGenerator randomGenerator) {
+    float value = randomGenerator.nextFloat() * range + min;
+    return value < max ? value : Math.nextDown(max);
+  }
+
+  /**
+   * Fills an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   */
+  public void fill(float[] destination) {
+    fill(destination, 0, destination.length);
+  }
+
+  /**
+   * Fills a region of an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public void fill(float[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      destination[i] = nextFloat(randomGenerator);
+    }
+  }
+
+  /**
+   * Returns the inclusive lower bound of the values.
+   *
+   * @return The smallest value this sampler can return.
+   */
+  public float getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the exclusive upper bound of the values.
+   *
+   * @return The upper bound of the values, which this sampler never returns.
+   */
+  public float getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return juggler;
+  }
+}
@@ -0,0 +1,285 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing uniformly distributed integers from a fixed range.
+ *
+ * <p>Values are drawn with Lemire's multiply-shift method: a random 32 bit value is multiplied by
+ * the size of the range and the high half of the product is the result. The few draws that would
+ * bias the result are rejected, which needs a single comparison in the common case and never a
+ * division. The rejection threshold is computed once when the sampler is created, so picking from a
+ * list whose size does not change costs one multiplication per value.
+ *
+ * <p>A sampler validates its bounds once, when it is created, and draws from the {@link
+ * JumbleJuggler} it is bound to. It is also an {@link IntSupplier}, so it can be handed to any API
+ * taking one.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * // Pick from a fixed list
+ * BoundedIntSampler sampler = BoundedIntSampler.of(names.size());
+ * String name = names.get(sampler.nextInt());
+ *
+ * // Draw reproducible dice rolls
+ * BoundedIntSampler dice = IntegerJuggler.between(JumbleJuggler.withSeed(42L), 1, 7);
+ * int[] rolls = new int[100];
+ * dice.fill(rolls);
+ * }</pre>
+ *
+ * <p>Instances are immutable. They are as thread-safe as the {@link JumbleJuggler} they are bound
+ * to: samplers bound to the default context can be shared between threads, while a sampler bound to
+ * a seeded context should be rebound to a {@link JumbleJuggler#split() split} context with {@link
+ * #withJuggler(JumbleJuggler)} for each thread.
+ *
+ * @see IntegerJuggler#between(int, int)
+ * @see JumbleJuggler
+ */
+public final class BoundedIntSampler implements IntSupplier {
+  private static final String BAD_NEGATIVE =
+      "The value given is %s, but it must be strictly positive.";
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+  private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+
+  /** The context the values are drawn from. */
+  private final JumbleJuggler juggler;
+
+  /** The inclusive lower bound of the values. */
+  private final int min;
+
+  /** The number of values in the range, between 1 and 2^32 - 1. */
+  private final long range;
+
+  /** The low halves of the products under this threshold are rejected. */
+  private final long threshold;
+
+  private BoundedIntSampler(JumbleJuggler juggler, int min, long range, long threshold) {
+    this.juggler = juggler;
+    this.min = min;
+    this.range = range;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Creates a sampler of the integers between {@code 0} (included) and {@code bound} (excluded).
+   *
+   * @param bound The exclusive upper bound of the values.
+   * @return A new {@link BoundedIntSampler}.
+   * @throws JumbleJugglerException if {@code bound} is not strictly positive.
+   */
+  public static BoundedIntSampler of(int bound) throws JumbleJugglerException {
+    return of(JumbleJuggler.getDefault(), bound);
+  }
+
+  /**
+   * Creates a sampler of the integers between {@code 0} (included) and {@code bound} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param bound The exclusive upper bound of the values.
+   * @return A new {@link BoundedIntSampler}.
+   * @throws JumbleJugglerException if {@code bound} is not strictly positive.
+   */
+  public static BoundedIntSampler of(JumbleJuggler juggler, int bound)
+      throws JumbleJugglerException {
+    if (bound <= 0) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_NEGATIVE, bound)),
+          BoundedIntSampler.class);
+    }
+    return new BoundedIntSampler(juggler, 0, bound, rejectionThreshold(bound));
+  }
+
+  /**
+   * Creates a sampler of the integers between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedIntSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedIntSampler between(int min, int max) throws JumbleJugglerException {
+    return between(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Creates a sampler of the integers between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedIntSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedIntSampler between(JumbleJuggler juggler, int min, int max)
+      throws JumbleJugglerException {
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)),
+          BoundedIntSampler.class);
+    }
+    long range = (long) max - min;
+    return new BoundedIntSampler(juggler, min, range, rejectionThreshold(range));
+  }
+
+  /**
+   * Returns a sampler of the same range drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A {@link BoundedIntSampler} sharing the precomputed constants of this one.
+   */
+  public BoundedIntSampler withJuggler(JumbleJuggler juggler) {
+    return new BoundedIntSampler(juggler, min, range, threshold);
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random integer within the range of this sampler.
+   */
+  public int nextInt() {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random integer within the range of this sampler.
+   */
+  @Override
+  public int getAsInt() {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random integer within the range of this sampler.
+   */
+  public int nextInt(JumbleJuggler juggler) {
+    return nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random integer within the range of this sampler.
+   */
+  public int nextInt(RandomGenerator randomGenerator) {
+    long product = (randomGenerator.nextInt() & UNSIGNED_INT_MASK) * range;
+    while ((product & UNSIGNED_INT_MASK) < threshold) {
+      product = (randomGenerator.nextInt() & UNSIGNED_INT_MASK) * range;
+    }
+    return min + (int) (product >>> 32);
+  }
+
+  /**
+   * Fills an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   */
+  public void fill(int[] destination) {
+    fill(destination, 0, destination.length);
+  }
+
+  /**
+   * Fills a region of an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public void fill(int[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      destination[i] = nextInt(randomGenerator);
+    }
+  }
+
+  /**
+   * Returns the inclusive lower bound of the values.
+   *
+   * @return The smallest value this sampler can return.
+   */
+  public int getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the exclusive upper bound of the values.
+   *
+   * @return The value following the largest value this sampler can return.
+   */
+  public int getMax() {
+    return (int) (min + range);
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return juggler;
+  }
+
+  /**
+   * Draws an integer between {@code 0} (included) and {@code bound} (excluded).
+   *
+   * <p>The threshold is only computed when the first draw falls in the rejection zone, which is
+   * rare unless {@code bound} is close to 2^32.
+   *
+   * @throws IllegalArgumentException if {@code bound} is not strictly positive.
+   */
+  static int nextInt(RandomGenerator randomGenerator, int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException(String.format(BAD_NEGATIVE, bound));
+    }
+    return (int) nextUnsigned(randomGenerator, bound);
+  }
+
+  /**
+   * Draws an integer between {@code min} (included) and {@code max} (excluded).
+   *
+   * @throws IllegalArgumentException if the minimum value is not smaller than the maximum value.
+   */
+  static int nextInt(RandomGenerator randomGenerator, int min, int max) {
+    if (min >= max) {
+      throw new IllegalArgumentException(String.format(BAD_BOUND, min, max));
+    }
+    return min + (int) nextUnsigned(randomGenerator, (long) max - min);
+  }
+
+  private static long nextUnsigned(RandomGenerator randomGenerator, long range) {
+    long product = (randomGenerator.nextInt() & UNSIGNED_INT_MASK) * range;
+    long low = product & UNSIGNED_INT_MASK;
+    if (low < range) {
+      long threshold = rejectionThreshold(range);
+      while (low < threshold) {
+        product = (randomGenerator.nextInt() & UNSIGNED_INT_MASK) * range;
+        low = product & UNSIGNED_INT_MASK;
+      }
+    }
+    return product >>> 32;
+  }
+
+  /** Returns 2^32 mod {@code range}, the number of 32 bit values that would bias the result. */
+  private static long rejectionThreshold(long range) {
+    return (1L << 32) % range;
+  }
+}
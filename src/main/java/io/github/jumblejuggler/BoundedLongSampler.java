@@ -0,0 +1,223 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing uniformly distributed longs from a fixed range.
+ *
+ * <p>This is the 64 bit counterpart of {@link BoundedIntSampler}: a random 64 bit value is
+ * multiplied by the size of the range, the high half of the 128 bit product is the result and the
+ * draws that would bias it are rejected against a threshold computed once, when the sampler is
+ * created. It is also a {@link LongSupplier}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * BoundedLongSampler sampler = LongJuggler.between(1_000_000_000_000L, 10_000_000_000_000L);
+ * long accountId = sampler.nextLong();
+ * }</pre>
+ *
+ * <p>Instances are immutable and as thread-safe as the {@link JumbleJuggler} they are bound to.
+ *
+ * @see LongJuggler#between(long, long)
+ * @see BoundedIntSampler
+ */
+public final class BoundedLongSampler implements LongSupplier {
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+
+  /** The context the values are drawn from. */
+  private final JumbleJuggler juggler;
+
+  /** The inclusive lower bound of the values. */
+  private final long min;
+
+  /** The number of values in the range as an unsigned long, between 1 and 2^64 - 1. */
+  private final long range;
+
+  /** The low halves of the products under this unsigned threshold are rejected. */
+  private final long threshold;
+
+  private BoundedLongSampler(JumbleJuggler juggler, long min, long range, long threshold) {
+    this.juggler = juggler;
+    this.min = min;
+    this.range = range;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Creates a sampler of the longs between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedLongSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedLongSampler between(long min, long max) throws JumbleJugglerException {
+    return between(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Creates a sampler of the longs between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedLongSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedLongSampler between(JumbleJuggler juggler, long min, long max)
+      throws JumbleJugglerException {
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)),
+          BoundedLongSampler.class);
+    }
+    long range = max - min;
+    return new BoundedLongSampler(juggler, min, range, Long.remainderUnsigned(-range, range));
+  }
+
+  /**
+   * Returns a sampler of the same range drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A {@link BoundedLongSampler} sharing the precomputed constants of this one.
+   */
+  public BoundedLongSampler withJuggler(JumbleJuggler juggler) {
+    return new BoundedLongSampler(juggler, min, range, threshold);
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random long within the range of this sampler.
+   */
+  public long nextLong() {
+    return nextLong(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random long within the range of this sampler.
+   */
+  @Override
+  public long getAsLong() {
+    return nextLong(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random long within the range of this sampler.
+   */
+  public long nextLong(JumbleJuggler juggler) {
+    return nextLong(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random long within the range of this sampler.
+   */
+  public long nextLong(RandomGenerator randomGenerator) {
+    long value = randomGenerator.nextLong();
+    while (Long.compareUnsigned(value * range, threshold) < 0) {
+      value = randomGenerator.nextLong();
+    }
+    return min + unsignedMultiplyHigh(value, range);
+  }
+
+  /**
+   * Fills an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   */
+  public void fill(long[] destination) {
+    fill(destination, 0, destination.length);
+  }
+
+  /**
+   * Fills a region of an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public void fill(long[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      destination[i] = nextLong(randomGenerator);
+    }
+  }
+
+  /**
+   * Returns the inclusive lower bound of the values.
+   *
+   * @return The smallest value this sampler can return.
+   */
+  public long getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the exclusive upper bound of the values.
+   *
+   * @return The value following the largest value this sampler can return.
+   */
+  public long getMax() {
+    return min + range;
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return juggler;
+  }
+
+  /**
+   * Draws a long between {@code min} (included) and {@code max} (excluded).
+   *
+   * <p>The threshold is only computed when the first draw falls in the rejection zone.
+   *
+   * @throws IllegalArgumentException if the minimum value is not smaller than the maximum value.
+   */
+  static long nextLong(RandomGenerator randomGenerator, long min, long max) {
+    if (min >= max) {
+      throw new IllegalArgumentException(String.format(BAD_BOUND, min, max));
+    }
+    long range = max - min;
+    long value = randomGenerator.nextLong();
+    long low = value * range;
+    if (Long.compareUnsigned(low, range) < 0) {
+      long threshold = Long.remainderUnsigned(-range, range);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        value = randomGenerator.nextLong();
+        low = value * range;
+      }
+    }
+    return min + unsignedMultiplyHigh(value, range);
+  }
+
+  /** Returns the high half of the unsigned 128 bit product of {@code x} and {@code y}. */
+  private static long unsignedMultiplyHigh(long x, long y) {
+    return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+  }
+}
@@ -0,0 +1,175 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sampler drawing uniformly distributed shorts from a fixed range.
+ *
+ * <p>The values are drawn by a {@link BoundedIntSampler} of the same range. As there is no {@code
+ * ShortSupplier}, the sampler is an {@link IntSupplier} whose values always fit in a {@code short}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * BoundedShortSampler sampler = ShortJuggler.between((short) -100, (short) 100);
+ * short[] offsets = new short[64];
+ * sampler.fill(offsets);
+ * }</pre>
+ *
+ * <p>Instances are immutable and as thread-safe as the {@link JumbleJuggler} they are bound to.
+ *
+ * @see ShortJuggler#between(short, short)
+ * @see BoundedIntSampler
+ */
+public final class BoundedShortSampler implements IntSupplier {
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+
+  private final BoundedIntSampler sampler;
+
+  private BoundedShortSampler(BoundedIntSampler sampler) {
+    this.sampler = sampler;
+  }
+
+  /**
+   * Creates a sampler of the shorts between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedShortSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedShortSampler between(short min, short max) throws JumbleJugglerException {
+    return between(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Creates a sampler of the shorts between {@code min} (included) and {@code max} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound of the values.
+   * @param max The exclusive upper bound of the values.
+   * @return A new {@link BoundedShortSampler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedShortSampler between(JumbleJuggler juggler, short min, short max)
+      throws JumbleJugglerException {
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)),
+          BoundedShortSampler.class);
+    }
+    return new BoundedShortSampler(BoundedIntSampler.between(juggler, min, max));
+  }
+
+  /**
+   * Returns a sampler of the same range drawing from another context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A {@link BoundedShortSampler} sharing the precomputed constants of this one.
+   */
+  public BoundedShortSampler withJuggler(JumbleJuggler juggler) {
+    return new BoundedShortSampler(sampler.withJuggler(juggler));
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random short within the range of this sampler.
+   */
+  public short nextShort() {
+    return (short) sampler.nextInt();
+  }
+
+  /**
+   * Draws a value from the context of this sampler.
+   *
+   * @return A random short within the range of this sampler, widened to an integer.
+   */
+  @Override
+  public int getAsInt() {
+    return sampler.nextInt();
+  }
+
+  /**
+   * Draws a value from the given context.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random short within the range of this sampler.
+   */
+  public short nextShort(JumbleJuggler juggler) {
+    return (short) sampler.nextInt(juggler.getRandomGenerator());
+  }
+
+  /**
+   * Draws a value from the given generator.
+   *
+   * @param randomGenerator The {@link RandomGenerator} to draw from.
+   * @return A random short within the range of this sampler.
+   */
+  public short nextShort(RandomGenerator randomGenerator) {
+    return (short) sampler.nextInt(randomGenerator);
+  }
+
+  /**
+   * Fills an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   */
+  public void fill(short[] destination) {
+    fill(destination, 0, destination.length);
+  }
+
+  /**
+   * Fills a region of an array with values drawn from the context of this sampler.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public void fill(short[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    RandomGenerator randomGenerator = sampler.getJuggler().getRandomGenerator();
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      destination[i] = (short) sampler.nextInt(randomGenerator);
+    }
+  }
+
+  /**
+   * Returns the inclusive lower bound of the values.
+   *
+   * @return The smallest value this sampler can return.
+   */
+  public short getMin() {
+    return (short) sampler.getMin();
+  }
+
+  /**
+   * Returns the exclusive upper bound of the values.
+   *
+   * @return The value following the largest value this sampler can return.
+   */
+  public short getMax() {
+    return (short) sampler.getMax();
+  }
+
+  /**
+   * Returns the context the values are drawn from.
+   *
+   * @return The {@link JumbleJuggler} of this sampler.
+   */
+  public JumbleJuggler getJuggler() {
+    return sampler.getJuggler();
+  }
+}
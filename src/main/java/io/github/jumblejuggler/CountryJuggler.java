@@ -7,6 +7,16 @@ package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.constants.Country;
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Utility class for randomizing and retrieving information about countries.
@@ -14,6 +24,20 @@ import io.github.jumblejuggler.exceptions.JumbleJugglerException;
  * <p>This class provides methods to generate a random country and retrieve country information
  * based on ISO2 or ISO3 codes. It relies on the {@link Country} enum for country data.
  *
+ * <p>The ISO codes are looked up in arrays indexed by the letters of the codes, computed once from
+ * the {@link Country} enum, so a lookup takes any {@link CharSequence} or letters, in any case, and
+ * neither allocates nor hashes.
+ *
+ * <p>Country names are looked up in an index built once, keyed by the names normalised by {@link
+ * #normalizeName(CharSequence)}: in lower case, without accents, with the punctuation and spaces
+ * between words reduced to a single space. A name is then found in a hash map and the names
+ * starting with a prefix in a sorted array, by binary search.
+ *
+ * <p>Random countries can also be picked by continent, by currency or by any condition, from {@link
+ * CountrySelection selections} computed once. The selections by continent and by currency are built
+ * with the class, and the one of a predicate is returned by {@link #select(Predicate)} for the
+ * caller to keep, so a pick does not scan the countries.
+ *
  * <p>Example usage:
  *
  * <pre>{@code
@@ -33,6 +57,11 @@ import io.github.jumblejuggler.exceptions.JumbleJugglerException;
  * } catch (JumbleJugglerException e) {
  *     // Handle exception
  * }
+ *
+ * // Get a random European country with phone numbers
+ * Country european = CountryJuggler.selectByContinent("EU")
+ *     .filter(Country::isInGoogleLibPhoneNumber)
+ *     .getRandomCountry();
  * }</pre>
  *
  * <p>The class uses the {@link IntegerJuggler} class and relies on the {@link Country} enum,
@@ -41,6 +70,7 @@ import io.github.jumblejuggler.exceptions.JumbleJugglerException;
  *
  * @see Country
  * @see IntegerJuggler
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class CountryJuggler {
@@ -50,6 +80,49 @@ public class CountryJuggler {
       "The provided iso3 code is invalid. The iso3 code is a three-letter string only. Example: \"USA\"";
   private static final String COUNTRY_DOES_NOT_EXIST =
       "Based on the provided code, the country does not exist. Make sure you input the correct code.";
+  private static final BoundedIntSampler COUNTRY_SAMPLER =
+      BoundedIntSampler.of(Country.getCountries().size());
+  private static final String NO_COUNTRY_IN_CONTINENT =
+      "No country is in the continent \"%s\". The continent is a two-letter code. Example: \"EU\"";
+  private static final String NO_COUNTRY_WITH_CURRENCY =
+      "No country has the currency \"%s\". The currency is a three-letter code. Example: \"EUR\"";
+  private static final String NAME_DOES_NOT_EXIST =
+      "No country is named \"%s\". Make sure you input the correct name.";
+  private static final String NO_COUNTRY_MATCHING = "No country matches the given predicate.";
+  private static final int LETTERS = 26;
+
+  private static final CountrySelection ALL_COUNTRIES = CountrySelection.of(Country.values());
+  private static final CountrySelection NO_COUNTRIES = CountrySelection.of(new Country[0]);
+
+  /** The countries by continent code, in upper case. */
+  private static final Map<String, CountrySelection> CONTINENT_SELECTIONS =
+      indexBy(Country::getContinent);
+
+  /** The countries by currency code, in upper case. */
+  private static final Map<String, CountrySelection> CURRENCY_SELECTIONS =
+      indexBy(Country::getCurrency);
+
+  /** The countries by normalised name. */
+  private static final Map<String, Country> NAME_COUNTRIES = indexNames();
+
+  /** The normalised names of the countries, sorted. */
+  private static final String[] SORTED_NAMES =
+      NAME_COUNTRIES.keySet().stream().sorted().toArray(String[]::new);
+
+  /** The countries in the order of {@link #SORTED_NAMES}. */
+  private static final Country[] SORTED_NAME_COUNTRIES =
+      Arrays.stream(SORTED_NAMES).map(NAME_COUNTRIES::get).toArray(Country[]::new);
+
+  /** The countries by ISO2 code, at the index of the code in base 26. */
+  private static final Country[] ISO2_COUNTRIES = indexIso2Codes();
+
+  /** The countries by ISO3 code, at the index of the code in base 26. */
+  private static final Country[] ISO3_COUNTRIES = indexIso3Codes();
+
+  /** The result of a successful lookup of each country, by ordinal, created once. */
+  @SuppressWarnings("unchecked")
+  private static final Optional<Country>[] OPTIONAL_COUNTRIES =
+      Arrays.stream(Country.values()).map(Optional::of).toArray(Optional[]::new);
 
   private CountryJuggler() {}
 
@@ -60,49 +133,605 @@ public class CountryJuggler {
    * @throws JumbleJugglerException if an error occurs during the randomization process.
    */
   public static Country getRandomCountry() throws JumbleJugglerException {
-    return Country.getCountries()
-        .get(IntegerJuggler.generateRandomPositiveIntSmallerThan(Country.getCountries().size()));
+    return getRandomCountry(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates and returns a random country.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country} enum constant.
+   * @throws JumbleJugglerException if an error occurs during the randomization process.
+   */
+  public static Country getRandomCountry(JumbleJuggler juggler) throws JumbleJugglerException {
+    return Country.getCountries().get(COUNTRY_SAMPLER.nextInt(juggler));
+  }
+
+  /**
+   * Generates and returns a random country, drawn with a probability proportional to its
+   * population.
+   *
+   * @return A random {@link Country} enum constant.
+   * @see WeightedCountrySampler#byPopulation()
+   */
+  public static Country getRandomCountryByPopulation() {
+    return getRandomCountryByPopulation(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates and returns a random country, drawn with a probability proportional to its
+   * population.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country} enum constant.
+   * @see WeightedCountrySampler#byPopulation()
+   */
+  public static Country getRandomCountryByPopulation(JumbleJuggler juggler) {
+    return WeightedCountrySampler.byPopulation().pick(juggler);
+  }
+
+  /**
+   * Returns the selection of all the countries.
+   *
+   * @return A {@link CountrySelection} of every {@link Country}.
+   */
+  public static CountrySelection selectAll() {
+    return ALL_COUNTRIES;
+  }
+
+  /**
+   * Returns the selection of the countries in a continent.
+   *
+   * @param continent The continent code, as returned by {@link Country#getContinent()}, in any
+   *     case.
+   * @return The {@link CountrySelection} of the countries in the continent, empty if there is none.
+   */
+  public static CountrySelection selectByContinent(String continent) {
+    return CONTINENT_SELECTIONS.getOrDefault(continent.toUpperCase(Locale.ROOT), NO_COUNTRIES);
+  }
+
+  /**
+   * Returns the selection of the countries with a currency.
+   *
+   * @param currency The currency code, as returned by {@link Country#getCurrency()}, in any case.
+   * @return The {@link CountrySelection} of the countries with the currency, empty if there is
+   *     none.
+   */
+  public static CountrySelection selectByCurrency(String currency) {
+    return CURRENCY_SELECTIONS.getOrDefault(currency.toUpperCase(Locale.ROOT), NO_COUNTRIES);
+  }
+
+  /**
+   * Returns the selection of the countries matching a predicate.
+   *
+   * <p>The predicate is tested against every country on each call, and the selection is not kept.
+   * To pick many countries matching the same predicate, select them once and keep the selection.
+   *
+   * @param predicate The condition the countries must meet.
+   * @return A new {@link CountrySelection} of the countries matching the predicate.
+   */
+  public static CountrySelection select(Predicate<? super Country> predicate) {
+    return ALL_COUNTRIES.filter(predicate);
+  }
+
+  /**
+   * Generates and returns a random country of a continent.
+   *
+   * @param continent The continent code, as returned by {@link Country#getContinent()}, in any
+   *     case.
+   * @return A random {@link Country} of the continent.
+   * @throws JumbleJugglerException if no country is in the continent.
+   */
+  public static Country getRandomCountryInContinent(String continent)
+      throws JumbleJugglerException {
+    return getRandomCountryInContinent(JumbleJuggler.getDefault(), continent);
+  }
+
+  /**
+   * Generates and returns a random country of a continent.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param continent The continent code, as returned by {@link Country#getContinent()}, in any
+   *     case.
+   * @return A random {@link Country} of the continent.
+   * @throws JumbleJugglerException if no country is in the continent.
+   */
+  public static Country getRandomCountryInContinent(JumbleJuggler juggler, String continent)
+      throws JumbleJugglerException {
+    CountrySelection selection = selectByContinent(continent);
+    if (selection.isEmpty()) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(NO_COUNTRY_IN_CONTINENT, continent)),
+          CountryJuggler.class);
+    }
+    return selection.pick(juggler);
+  }
+
+  /**
+   * Generates and returns a random country of a continent, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountryInContinent(String)}, this method neither throws nor logs.
+   *
+   * @param continent The continent code, as returned by {@link Country#getContinent()}, in any
+   *     case.
+   * @return A random {@link Country} of the continent, or an empty {@link Optional} if no country
+   *     is in the continent.
+   */
+  public static Optional<Country> tryGetRandomCountryInContinent(String continent) {
+    return tryGetRandomCountryInContinent(JumbleJuggler.getDefault(), continent);
+  }
+
+  /**
+   * Generates and returns a random country of a continent, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountryInContinent(JumbleJuggler, String)}, this method neither
+   * throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param continent The continent code, as returned by {@link Country#getContinent()}, in any
+   *     case.
+   * @return A random {@link Country} of the continent, or an empty {@link Optional} if no country
+   *     is in the continent.
+   */
+  public static Optional<Country> tryGetRandomCountryInContinent(
+      JumbleJuggler juggler, String continent) {
+    if (continent == null) {
+      return Optional.empty();
+    }
+    return selectByContinent(continent).tryGetRandomCountry(juggler);
+  }
+
+  /**
+   * Generates and returns a random country with a currency.
+   *
+   * @param currency The currency code, as returned by {@link Country#getCurrency()}, in any case.
+   * @return A random {@link Country} with the currency.
+   * @throws JumbleJugglerException if no country has the currency.
+   */
+  public static Country getRandomCountryWithCurrency(String currency)
+      throws JumbleJugglerException {
+    return getRandomCountryWithCurrency(JumbleJuggler.getDefault(), currency);
+  }
+
+  /**
+   * Generates and returns a random country with a currency.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param currency The currency code, as returned by {@link Country#getCurrency()}, in any case.
+   * @return A random {@link Country} with the currency.
+   * @throws JumbleJugglerException if no country has the currency.
+   */
+  public static Country getRandomCountryWithCurrency(JumbleJuggler juggler, String currency)
+      throws JumbleJugglerException {
+    CountrySelection selection = selectByCurrency(currency);
+    if (selection.isEmpty()) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(NO_COUNTRY_WITH_CURRENCY, currency)),
+          CountryJuggler.class);
+    }
+    return selection.pick(juggler);
+  }
+
+  /**
+   * Generates and returns a random country with a currency, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountryWithCurrency(String)}, this method neither throws nor logs.
+   *
+   * @param currency The currency code, as returned by {@link Country#getCurrency()}, in any case.
+   * @return A random {@link Country} with the currency, or an empty {@link Optional} if no country
+   *     has the currency.
+   */
+  public static Optional<Country> tryGetRandomCountryWithCurrency(String currency) {
+    return tryGetRandomCountryWithCurrency(JumbleJuggler.getDefault(), currency);
+  }
+
+  /**
+   * Generates and returns a random country with a currency, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountryWithCurrency(JumbleJuggler, String)}, this method neither
+   * throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param currency The currency code, as returned by {@link Country#getCurrency()}, in any case.
+   * @return A random {@link Country} with the currency, or an empty {@link Optional} if no country
+   *     has the currency.
+   */
+  public static Optional<Country> tryGetRandomCountryWithCurrency(
+      JumbleJuggler juggler, String currency) {
+    if (currency == null) {
+      return Optional.empty();
+    }
+    return selectByCurrency(currency).tryGetRandomCountry(juggler);
+  }
+
+  /**
+   * Generates and returns a random country matching a predicate.
+   *
+   * <p>The predicate is tested against every country on each call. To pick many countries, keep the
+   * selection returned by {@link #select(Predicate)} instead.
+   *
+   * @param predicate The condition the country must meet.
+   * @return A random {@link Country} matching the predicate.
+   * @throws JumbleJugglerException if no country matches the predicate.
+   */
+  public static Country getRandomCountryMatching(Predicate<? super Country> predicate)
+      throws JumbleJugglerException {
+    return getRandomCountryMatching(JumbleJuggler.getDefault(), predicate);
+  }
+
+  /**
+   * Generates and returns a random country matching a predicate.
+   *
+   * <p>The predicate is tested against every country on each call. To pick many countries, keep the
+   * selection returned by {@link #select(Predicate)} instead.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param predicate The condition the country must meet.
+   * @return A random {@link Country} matching the predicate.
+   * @throws JumbleJugglerException if no country matches the predicate.
+   */
+  public static Country getRandomCountryMatching(
+      JumbleJuggler juggler, Predicate<? super Country> predicate) throws JumbleJugglerException {
+    CountrySelection selection = select(predicate);
+    if (selection.isEmpty()) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(NO_COUNTRY_MATCHING), CountryJuggler.class);
+    }
+    return selection.pick(juggler);
+  }
+
+  /**
+   * Retrieves a country based on its name.
+   *
+   * <p>The name is compared to the names of the countries, as returned by {@link
+   * Country#getCountryName()}, whatever its case, accents, punctuation and spaces. For instance,
+   * "curaçao", "CURACAO" and " Curaçao. " all name {@link Country#CW}.
+   *
+   * @param name The name of the country.
+   * @return The {@link Country} with the provided name.
+   * @throws JumbleJugglerException if no country has the provided name.
+   */
+  public static Country getCountryByName(CharSequence name) throws JumbleJugglerException {
+    Country country = NAME_COUNTRIES.get(normalizeName(name));
+    if (country == null) {
+      throw new JumbleJugglerException(
+          String.format(NAME_DOES_NOT_EXIST, name), CountryJuggler.class);
+    }
+    return country;
+  }
+
+  /**
+   * Retrieves a country based on its name, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByName(CharSequence)}, this method neither throws nor logs.
+   *
+   * @param name The name of the country.
+   * @return The {@link Country} with the provided name, or an empty {@link Optional} if no country
+   *     has the provided name.
+   */
+  public static Optional<Country> tryGetCountryByName(CharSequence name) {
+    if (name == null) {
+      return Optional.empty();
+    }
+    return optionalOf(NAME_COUNTRIES.get(normalizeName(name)));
+  }
+
+  /**
+   * Retrieves the countries whose names start with a prefix.
+   *
+   * <p>The prefix is normalised like the names given to {@link #getCountryByName(CharSequence)},
+   * and matches the start of the name. For instance, "united k" matches {@link Country#GB} and
+   * "Saint" matches the seven countries named after a saint.
+   *
+   * @param prefix The start of the names of the countries.
+   * @return An unmodifiable list of the countries whose names start with the prefix, sorted by
+   *     normalised name, empty if there is none.
+   */
+  public static List<Country> getCountriesByNamePrefix(CharSequence prefix) {
+    String normalized = normalizeName(prefix);
+    int start = Arrays.binarySearch(SORTED_NAMES, normalized);
+    start = start < 0 ? -start - 1 : start;
+    int end = start;
+    while (end < SORTED_NAMES.length && SORTED_NAMES[end].startsWith(normalized)) {
+      end++;
+    }
+    return List.of(Arrays.copyOfRange(SORTED_NAME_COUNTRIES, start, end));
   }
 
   /**
    * Retrieves a country based on its ISO2 code.
    *
-   * @param iso2Code The ISO2 code of the country (two letters).
+   * @param iso2Code The ISO2 code of the country (two letters, in any case).
    * @return The {@link Country} object corresponding to the provided ISO2 code.
    * @throws JumbleJugglerException if the provided ISO2 code is invalid or if the country does not
    *     exist.
    */
   public static Country getCountryByIso2Code(String iso2Code) throws JumbleJugglerException {
-    if (!iso2Code.matches("^[a-zA-Z]{2}$")) {
+    return getCountryByIso2Code((CharSequence) iso2Code);
+  }
+
+  /**
+   * Retrieves a country based on its ISO2 code, read from any character sequence without copying
+   * it.
+   *
+   * @param iso2Code The ISO2 code of the country (two letters, in any case).
+   * @return The {@link Country} object corresponding to the provided ISO2 code.
+   * @throws JumbleJugglerException if the provided ISO2 code is invalid or if the country does not
+   *     exist.
+   */
+  public static Country getCountryByIso2Code(CharSequence iso2Code) throws JumbleJugglerException {
+    if (iso2Code.length() != 2) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(ISO2_REGEX_ERROR), CountryJuggler.class);
     }
+    return getCountryByIso2Code(iso2Code.charAt(0), iso2Code.charAt(1));
+  }
 
-    Country country = Country.getIso2CountryMap().get(iso2Code.toUpperCase());
+  /**
+   * Retrieves a country based on the two letters of its ISO2 code.
+   *
+   * @param first The first letter of the ISO2 code, in any case.
+   * @param second The second letter of the ISO2 code, in any case.
+   * @return The {@link Country} object corresponding to the provided ISO2 code.
+   * @throws JumbleJugglerException if a character is not an ASCII letter or if the country does not
+   *     exist.
+   */
+  public static Country getCountryByIso2Code(char first, char second)
+      throws JumbleJugglerException {
+    int index = iso2Index(first, second);
+    if (index < 0) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(ISO2_REGEX_ERROR), CountryJuggler.class);
+    }
+    Country country = ISO2_COUNTRIES[index];
     if (country == null) {
       throw new JumbleJugglerException(COUNTRY_DOES_NOT_EXIST, CountryJuggler.class);
     }
     return country;
   }
 
+  /**
+   * Retrieves a country based on its ISO2 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso2Code(String)}, this method neither throws nor logs.
+   *
+   * @param iso2Code The ISO2 code of the country (two letters, in any case).
+   * @return The {@link Country} corresponding to the provided ISO2 code, or an empty {@link
+   *     Optional} if the code is invalid or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso2Code(String iso2Code) {
+    return tryGetCountryByIso2Code((CharSequence) iso2Code);
+  }
+
+  /**
+   * Retrieves a country based on its ISO2 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso2Code(CharSequence)}, this method neither throws nor logs.
+   *
+   * @param iso2Code The ISO2 code of the country (two letters, in any case).
+   * @return The {@link Country} corresponding to the provided ISO2 code, or an empty {@link
+   *     Optional} if the code is invalid or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso2Code(CharSequence iso2Code) {
+    if (iso2Code == null || iso2Code.length() != 2) {
+      return Optional.empty();
+    }
+    return tryGetCountryByIso2Code(iso2Code.charAt(0), iso2Code.charAt(1));
+  }
+
+  /**
+   * Retrieves a country based on the two letters of its ISO2 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso2Code(char, char)}, this method neither throws nor logs.
+   *
+   * @param first The first letter of the ISO2 code, in any case.
+   * @param second The second letter of the ISO2 code, in any case.
+   * @return The {@link Country} corresponding to the provided ISO2 code, or an empty {@link
+   *     Optional} if a character is not an ASCII letter or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso2Code(char first, char second) {
+    int index = iso2Index(first, second);
+    return index < 0 ? Optional.empty() : optionalOf(ISO2_COUNTRIES[index]);
+  }
+
   /**
    * Retrieves a country based on its ISO3 code.
    *
-   * @param iso3Code The ISO3 code of the country (three letters).
+   * @param iso3Code The ISO3 code of the country (three letters, in any case).
    * @return The {@link Country} object corresponding to the provided ISO3 code.
    * @throws JumbleJugglerException if the provided ISO3 code is invalid or if the country does not
    *     exist.
    */
   public static Country getCountryByIso3Code(String iso3Code) throws JumbleJugglerException {
-    if (!iso3Code.matches("^[a-zA-Z]{3}$")) {
+    return getCountryByIso3Code((CharSequence) iso3Code);
+  }
+
+  /**
+   * Retrieves a country based on its ISO3 code, read from any character sequence without copying
+   * it.
+   *
+   * @param iso3Code The ISO3 code of the country (three letters, in any case).
+   * @return The {@link Country} object corresponding to the provided ISO3 code.
+   * @throws JumbleJugglerException if the provided ISO3 code is invalid or if the country does not
+   *     exist.
+   */
+  public static Country getCountryByIso3Code(CharSequence iso3Code) throws JumbleJugglerException {
+    if (iso3Code.length() != 3) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(ISO3_REGEX_ERROR), CountryJuggler.class);
     }
+    return getCountryByIso3Code(iso3Code.charAt(0), iso3Code.charAt(1), iso3Code.charAt(2));
+  }
 
-    Country country = Country.getIso3CountryMap().get(iso3Code.toUpperCase());
+  /**
+   * Retrieves a country based on the three letters of its ISO3 code.
+   *
+   * @param first The first letter of the ISO3 code, in any case.
+   * @param second The second letter of the ISO3 code, in any case.
+   * @param third The third letter of the ISO3 code, in any case.
+   * @return The {@link Country} object corresponding to the provided ISO3 code.
+   * @throws JumbleJugglerException if a character is not an ASCII letter or if the country does not
+   *     exist.
+   */
+  public static Country getCountryByIso3Code(char first, char second, char third)
+      throws JumbleJugglerException {
+    int index = iso3Index(first, second, third);
+    if (index < 0) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(ISO3_REGEX_ERROR), CountryJuggler.class);
+    }
+    Country country = ISO3_COUNTRIES[index];
     if (country == null) {
       throw new JumbleJugglerException(COUNTRY_DOES_NOT_EXIST, CountryJuggler.class);
     }
     return country;
   }
+
+  /**
+   * Retrieves a country based on its ISO3 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso3Code(String)}, this method neither throws nor logs.
+   *
+   * @param iso3Code The ISO3 code of the country (three letters, in any case).
+   * @return The {@link Country} corresponding to the provided ISO3 code, or an empty {@link
+   *     Optional} if the code is invalid or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso3Code(String iso3Code) {
+    return tryGetCountryByIso3Code((CharSequence) iso3Code);
+  }
+
+  /**
+   * Retrieves a country based on its ISO3 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso3Code(CharSequence)}, this method neither throws nor logs.
+   *
+   * @param iso3Code The ISO3 code of the country (three letters, in any case).
+   * @return The {@link Country} corresponding to the provided ISO3 code, or an empty {@link
+   *     Optional} if the code is invalid or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso3Code(CharSequence iso3Code) {
+    if (iso3Code == null || iso3Code.length() != 3) {
+      return Optional.empty();
+    }
+    return tryGetCountryByIso3Code(iso3Code.charAt(0), iso3Code.charAt(1), iso3Code.charAt(2));
+  }
+
+  /**
+   * Retrieves a country based on the three letters of its ISO3 code, if there is one.
+   *
+   * <p>Unlike {@link #getCountryByIso3Code(char, char, char)}, this method neither throws nor logs.
+   *
+   * @param first The first letter of the ISO3 code, in any case.
+   * @param second The second letter of the ISO3 code, in any case.
+   * @param third The third letter of the ISO3 code, in any case.
+   * @return The {@link Country} corresponding to the provided ISO3 code, or an empty {@link
+   *     Optional} if a character is not an ASCII letter or if the country does not exist.
+   */
+  public static Optional<Country> tryGetCountryByIso3Code(char first, char second, char third) {
+    int index = iso3Index(first, second, third);
+    return index < 0 ? Optional.empty() : optionalOf(ISO3_COUNTRIES[index]);
+  }
+
+  /** Groups the countries by a code, skipping the ones without it. */
+  private static Map<String, CountrySelection> indexBy(Function<Country, String> code) {
+    Map<String, List<Country>> groups = new HashMap<>();
+    for (Country country : Country.values()) {
+      String key = code.apply(country);
+      if (!key.isEmpty()) {
+        groups.computeIfAbsent(key.toUpperCase(Locale.ROOT), k -> new ArrayList<>()).add(country);
+      }
+    }
+    Map<String, CountrySelection> selections = new HashMap<>();
+    groups.forEach(
+        (key, countries) ->
+            selections.put(key, CountrySelection.of(countries.toArray(Country[]::new))));
+    return Map.copyOf(selections);
+  }
+
+  /** Indexes the names, a name shared by several countries going to the first one. */
+  private static Map<String, Country> indexNames() {
+    Map<String, Country> names = new HashMap<>();
+    for (Country country : Country.values()) {
+      names.putIfAbsent(normalizeName(country.getCountryName()), country);
+    }
+    return Map.copyOf(names);
+  }
+
+  private static Country[] indexIso2Codes() {
+    Country[] countries = new Country[LETTERS * LETTERS];
+    for (Country country : Country.values()) {
+      String code = country.name();
+      countries[iso2Index(code.charAt(0), code.charAt(1))] = country;
+    }
+    return countries;
+  }
+
+  /** Indexes the ISO3 codes, a code shared by several countries going to the last one. */
+  private static Country[] indexIso3Codes() {
+    Country[] countries = new Country[LETTERS * LETTERS * LETTERS];
+    for (Country country : Country.values()) {
+      String code = country.getIso3();
+      countries[iso3Index(code.charAt(0), code.charAt(1), code.charAt(2))] = country;
+    }
+    return countries;
+  }
+
+  private static int iso2Index(char first, char second) {
+    int a = letterIndex(first);
+    int b = letterIndex(second);
+    return (a | b) < 0 ? -1 : a * LETTERS + b;
+  }
+
+  private static int iso3Index(char first, char second, char third) {
+    int a = letterIndex(first);
+    int b = letterIndex(second);
+    int c = letterIndex(third);
+    return (a | b | c) < 0 ? -1 : (a * LETTERS + b) * LETTERS + c;
+  }
+
+  /** Returns the index of an ASCII letter in the alphabet, whatever its case, or -1. */
+  private static int letterIndex(char c) {
+    int index = (c | 0x20) - 'a';
+    return index >= 0 && index < LETTERS ? index : -1;
+  }
+
+  /**
+   * Normalises a country name: the accents and apostrophes are removed, "&amp;" becomes "and", the
+   * letters are put in lower case and the other characters between words become a single space.
+   */
+  static String normalizeName(CharSequence name) {
+    CharSequence text = name;
+    for (int i = 0; i < name.length(); i++) {
+      if (name.charAt(i) >= 0x80) {
+        text = Normalizer.normalize(name, Normalizer.Form.NFD);
+        break;
+      }
+    }
+    StringBuilder normalized = new StringBuilder(text.length());
+    boolean separated = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '&') {
+        // "and" is a word of its own, even without spaces around the ampersand
+        if (normalized.length() > 0) {
+          normalized.append(' ');
+        }
+        normalized.append("and");
+        separated = true;
+      } else if (Character.isLetterOrDigit(c)) {
+        if (separated && normalized.length() > 0) {
+          normalized.append(' ');
+        }
+        separated = false;
+        normalized.append(Character.toLowerCase(c));
+      } else if (c != '\'' && c != '\u2019' && Character.getType(c) != Character.NON_SPACING_MARK) {
+        separated = true;
+      }
+    }
+    return normalized.toString();
+  }
+
+  private static Optional<Country> optionalOf(Country country) {
+    return country == null ? Optional.empty() : OPTIONAL_COUNTRIES[country.ordinal()];
+  }
 }
@@ -0,0 +1,173 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.constants.Country;
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable set of countries to pick random countries from.
+ *
+ * <p>A selection keeps its countries in an array, so picking one of them is a single draw, without
+ * scanning {@link Country#getCountries()}. Selections are obtained from {@link CountryJuggler},
+ * which computes the ones by continent and by currency once, and are narrowed with {@link
+ * #filter(Predicate)} and {@link #and(CountrySelection)}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * CountrySelection europeanWithPhones =
+ *     CountryJuggler.selectByContinent("EU").filter(Country::isInGoogleLibPhoneNumber);
+ * Country country = europeanWithPhones.getRandomCountry();
+ * }</pre>
+ *
+ * @see CountryJuggler#selectByContinent(String)
+ * @see CountryJuggler#selectByCurrency(String)
+ * @see CountryJuggler#select(Predicate)
+ */
+public final class CountrySelection {
+  private static final String NO_COUNTRY = "There is no country in the selection to pick from.";
+
+  private final Country[] countries;
+  private final Set<Country> set;
+
+  private CountrySelection(Country[] countries) {
+    this.countries = countries;
+    this.set =
+        countries.length == 0 ? Collections.emptySet() : EnumSet.copyOf(Arrays.asList(countries));
+  }
+
+  /** Returns the selection of the countries, in the order of the enum. */
+  static CountrySelection of(Country[] countries) {
+    Country[] sorted = countries.clone();
+    Arrays.sort(sorted);
+    return new CountrySelection(sorted);
+  }
+
+  /**
+   * Returns the number of countries of the selection.
+   *
+   * @return The number of countries.
+   */
+  public int size() {
+    return countries.length;
+  }
+
+  /**
+   * Returns {@code true} if the selection has no country.
+   *
+   * @return {@code true} if there is no country to pick from.
+   */
+  public boolean isEmpty() {
+    return countries.length == 0;
+  }
+
+  /**
+   * Returns {@code true} if a country is in the selection.
+   *
+   * @param country The country to look for.
+   * @return {@code true} if {@code country} can be picked from the selection.
+   */
+  public boolean contains(Country country) {
+    return set.contains(country);
+  }
+
+  /**
+   * Returns the countries of the selection.
+   *
+   * @return An unmodifiable list of the countries, in the order of the {@link Country} enum.
+   */
+  public List<Country> getCountries() {
+    return List.of(countries);
+  }
+
+  /**
+   * Returns the countries of this selection matching a predicate.
+   *
+   * <p>Only the countries of this selection are tested, once, when the new selection is created.
+   *
+   * @param predicate The condition the countries must meet.
+   * @return A new {@link CountrySelection}.
+   */
+  public CountrySelection filter(Predicate<? super Country> predicate) {
+    return new CountrySelection(Arrays.stream(countries).filter(predicate).toArray(Country[]::new));
+  }
+
+  /**
+   * Returns the countries in both this selection and another one.
+   *
+   * @param other The other selection.
+   * @return A new {@link CountrySelection}.
+   */
+  public CountrySelection and(CountrySelection other) {
+    return filter(other::contains);
+  }
+
+  /**
+   * Picks a random country of the selection.
+   *
+   * @return A random {@link Country} of the selection.
+   * @throws JumbleJugglerException if the selection is empty.
+   */
+  public Country getRandomCountry() throws JumbleJugglerException {
+    return getRandomCountry(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Picks a random country of the selection.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country} of the selection.
+   * @throws JumbleJugglerException if the selection is empty.
+   */
+  public Country getRandomCountry(JumbleJuggler juggler) throws JumbleJugglerException {
+    if (countries.length == 0) {
+      throw new JumbleJugglerException(
+          new IllegalStateException(NO_COUNTRY), CountrySelection.class);
+    }
+    return pick(juggler);
+  }
+
+  /**
+   * Picks a random country of the selection, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountry()}, this method neither throws nor logs.
+   *
+   * @return A random {@link Country} of the selection, or an empty {@link Optional} if the
+   *     selection is empty.
+   */
+  public Optional<Country> tryGetRandomCountry() {
+    return tryGetRandomCountry(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Picks a random country of the selection, if there is one.
+   *
+   * <p>Unlike {@link #getRandomCountry(JumbleJuggler)}, this method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country} of the selection, or an empty {@link Optional} if the
+   *     selection is empty.
+   */
+  public Optional<Country> tryGetRandomCountry(JumbleJuggler juggler) {
+    if (countries.length == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(pick(juggler));
+  }
+
+  /** Draws a country of the selection, which must not be empty. */
+  Country pick(JumbleJuggler juggler) {
+    return countries[BoundedIntSampler.nextInt(juggler.getRandomGenerator(), countries.length)];
+  }
+}
@@ -0,0 +1,288 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Utility class for generating strings of random decimal digits of any length.
+ *
+ * <p>This class writes random digits directly into a {@link StringBuilder}, a {@code char[]} or an
+ * ASCII {@code byte[]}, without going through a number and its string representation. It is meant
+ * for phone numbers, account numbers and other identifiers whose length can exceed the 19 digits of
+ * a {@code long}. Digits are drawn nine at a time from a single random integer.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * // Get 24 random digits, leading zeros included
+ * String accountNumber = DigitJuggler.generateRandomDigits(24);
+ *
+ * // Append a 10 digit number to an existing prefix
+ * StringBuilder reference = new StringBuilder("REF-");
+ * DigitJuggler.appendRandomDigitsWithoutLeadingZero(reference, 10);
+ * }</pre>
+ *
+ * <p>The class throws {@link JumbleJugglerException} when the number of digits requested is
+ * invalid.
+ *
+ * @see JumbleJuggler
+ * @see JumbleJugglerException
+ */
+public class DigitJuggler {
+  private static final String BAD_COUNT = "The count given is %s, but it must not be negative.";
+  private static final String BAD_COUNT_WITHOUT_LEADING_ZERO =
+      "The count given is %s, but it must be strictly positive.";
+  private static final int DIGITS_PER_DRAW = 9;
+  private static final BoundedIntSampler DRAW_SAMPLER =
+      BoundedIntSampler.of(IntegerJuggler.POWERS_OF_TEN[DIGITS_PER_DRAW]);
+  private static final BoundedIntSampler LEADING_DIGIT_SAMPLER = BoundedIntSampler.between(1, 10);
+
+  private DigitJuggler() {}
+
+  /**
+   * Generates a string of random digits, which may start with zeros.
+   *
+   * @param count The number of digits to generate.
+   * @return A string of {@code count} random digits.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static String generateRandomDigits(int count) throws JumbleJugglerException {
+    return generateRandomDigits(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Generates a string of random digits, which may start with zeros.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of digits to generate.
+   * @return A string of {@code count} random digits.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static String generateRandomDigits(JumbleJuggler juggler, int count)
+      throws JumbleJugglerException {
+    checkCount(count);
+    char[] digits = new char[count];
+    writeDigits(juggler.getRandomGenerator(), digits, 0, count);
+    return new String(digits);
+  }
+
+  /**
+   * Generates a string of random digits whose first digit is not zero.
+   *
+   * @param count The number of digits to generate.
+   * @return A string of {@code count} random digits representing a positive number.
+   * @throws JumbleJugglerException if {@code count} is not strictly positive.
+   */
+  public static String generateRandomDigitsWithoutLeadingZero(int count)
+      throws JumbleJugglerException {
+    return generateRandomDigitsWithoutLeadingZero(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Generates a string of random digits whose first digit is not zero.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of digits to generate.
+   * @return A string of {@code count} random digits representing a positive number.
+   * @throws JumbleJugglerException if {@code count} is not strictly positive.
+   */
+  public static String generateRandomDigitsWithoutLeadingZero(JumbleJuggler juggler, int count)
+      throws JumbleJugglerException {
+    checkCountWithoutLeadingZero(count);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    char[] digits = new char[count];
+    digits[0] = (char) ('0' + LEADING_DIGIT_SAMPLER.nextInt(randomGenerator));
+    writeDigits(randomGenerator, digits, 1, count - 1);
+    return new String(digits);
+  }
+
+  /**
+   * Appends random digits, which may start with zeros, to a {@link StringBuilder}.
+   *
+   * @param destination The builder to append to.
+   * @param count The number of digits to append.
+   * @return The {@code destination} builder.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static StringBuilder appendRandomDigits(StringBuilder destination, int count)
+      throws JumbleJugglerException {
+    return appendRandomDigits(JumbleJuggler.getDefault(), destination, count);
+  }
+
+  /**
+   * Appends random digits, which may start with zeros, to a {@link StringBuilder}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The builder to append to.
+   * @param count The number of digits to append.
+   * @return The {@code destination} builder.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static StringBuilder appendRandomDigits(
+      JumbleJuggler juggler, StringBuilder destination, int count) throws JumbleJugglerException {
+    checkCount(count);
+    appendDigits(juggler.getRandomGenerator(), destination, count);
+    return destination;
+  }
+
+  /**
+   * Appends random digits whose first digit is not zero to a {@link StringBuilder}.
+   *
+   * @param destination The builder to append to.
+   * @param count The number of digits to append.
+   * @return The {@code destination} builder.
+   * @throws JumbleJugglerException if {@code count} is not strictly positive.
+   */
+  public static StringBuilder appendRandomDigitsWithoutLeadingZero(
+      StringBuilder destination, int count) throws JumbleJugglerException {
+    return appendRandomDigitsWithoutLeadingZero(JumbleJuggler.getDefault(), destination, count);
+  }
+
+  /**
+   * Appends random digits whose first digit is not zero to a {@link StringBuilder}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The builder to append to.
+   * @param count The number of digits to append.
+   * @return The {@code destination} builder.
+   * @throws JumbleJugglerException if {@code count} is not strictly positive.
+   */
+  public static StringBuilder appendRandomDigitsWithoutLeadingZero(
+      JumbleJuggler juggler, StringBuilder destination, int count) throws JumbleJugglerException {
+    checkCountWithoutLeadingZero(count);
+    RandomGenerator randomGenerator = juggler.getRandomGenerator();
+    destination.ensureCapacity(destination.length() + count);
+    destination.append((char) ('0' + LEADING_DIGIT_SAMPLER.nextInt(randomGenerator)));
+    appendDigits(randomGenerator, destination, count - 1);
+    return destination;
+  }
+
+  /**
+   * Fills a region of a {@code char} array with random digits.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first digit.
+   * @param length The number of digits to write.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDigits(char[] destination, int offset, int length) {
+    fillWithRandomDigits(JumbleJuggler.getDefault(), destination, offset, length);
+  }
+
+  /**
+   * Fills a region of a {@code char} array with random digits.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first digit.
+   * @param length The number of digits to write.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDigits(
+      JumbleJuggler juggler, char[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    writeDigits(juggler.getRandomGenerator(), destination, offset, length);
+  }
+
+  /**
+   * Fills a region of a {@code byte} array with the ASCII codes of random digits.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first digit.
+   * @param length The number of digits to write.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDigits(byte[] destination, int offset, int length) {
+    fillWithRandomDigits(JumbleJuggler.getDefault(), destination, offset, length);
+  }
+
+  /**
+   * Fills a region of a {@code byte} array with the ASCII codes of random digits.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first digit.
+   * @param length The number of digits to write.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDigits(
+      JumbleJuggler juggler, byte[] destination, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    writeDigits(juggler.getRandomGenerator(), destination, offset, length);
+  }
+
+  private static void writeDigits(
+      RandomGenerator randomGenerator, char[] destination, int offset, int length) {
+    int end = offset + length;
+    int index = offset;
+    while (index < end) {
+      int digits = Math.min(DIGITS_PER_DRAW, end - index);
+      int value = nextValue(randomGenerator, digits);
+      for (int i = index + digits - 1; i >= index; i--) {
+        destination[i] = (char) ('0' + value % 10);
+        value /= 10;
+      }
+      index += digits;
+    }
+  }
+
+  private static void writeDigits(
+      RandomGenerator randomGenerator, byte[] destination, int offset, int length) {
+    int end = offset + length;
+    int index = offset;
+    while (index < end) {
+      int digits = Math.min(DIGITS_PER_DRAW, end - index);
+      int value = nextValue(randomGenerator, digits);
+      for (int i = index + digits - 1; i >= index; i--) {
+        destination[i] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+      index += digits;
+    }
+  }
+
+  private static void appendDigits(
+      RandomGenerator randomGenerator, StringBuilder destination, int count) {
+    char[] buffer = new char[DIGITS_PER_DRAW];
+    destination.ensureCapacity(destination.length() + count);
+    int remaining = count;
+    while (remaining > 0) {
+      int digits = Math.min(DIGITS_PER_DRAW, remaining);
+      writeDigits(randomGenerator, buffer, 0, digits);
+      destination.append(buffer, 0, digits);
+      remaining -= digits;
+    }
+  }
+
+  /** Draws a value holding exactly {@code digits} digits, leading zeros included. */
+  private static int nextValue(RandomGenerator randomGenerator, int digits) {
+    return digits == DIGITS_PER_DRAW
+        ? DRAW_SAMPLER.nextInt(randomGenerator)
+        : BoundedIntSampler.nextInt(randomGenerator, IntegerJuggler.POWERS_OF_TEN[digits]);
+  }
+
+  private static void checkCount(int count) throws JumbleJugglerException {
+    if (count < 0) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_COUNT, count)), DigitJuggler.class);
+    }
+  }
+
+  private static void checkCountWithoutLeadingZero(int count) throws JumbleJugglerException {
+    if (count < 1) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_COUNT_WITHOUT_LEADING_ZERO, count)),
+          DigitJuggler.class);
+    }
+  }
+}
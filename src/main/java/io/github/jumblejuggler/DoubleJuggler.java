@@ -6,7 +6,9 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
 
 /**
  * Utility class for generating random doubles between 0.0F and 1.0F with various constraints.
@@ -36,14 +38,21 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>The class throws {@link JumbleJugglerException} for exceptional cases, such as invalid
  * constraints or when a negative value is provided where only positive values are allowed.
  *
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class DoubleJuggler {
   private static final int[] NEGATIVE_POSITIVE_ONES = {-1, 1};
+  private static final BoundedIntSampler SIGN_SAMPLER =
+      BoundedIntSampler.of(NEGATIVE_POSITIVE_ONES.length);
   private static final String BAD_NEGATIVE =
       "The value given is %s, but it must be strictly positive.";
   private static final String BAD_POSITIVE =
       "The value given is %s, but it must be strictly negative.";
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+  private static final String BAD_RANGE =
+      "The range between the minimum value %s and the maximum value %s given must be finite.";
 
   private DoubleJuggler() {}
 
@@ -54,9 +63,19 @@ public class DoubleJuggler {
    * @return A randomly generated double.
    */
   public static double generateRandomDouble() {
-    return ThreadLocalRandom.current().nextDouble(Double.MAX_VALUE)
-        * NEGATIVE_POSITIVE_ONES[
-            IntegerJuggler.generateRandomPositiveIntSmallerThan(NEGATIVE_POSITIVE_ONES.length)];
+    return generateRandomDouble(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random double between {@link Double#MAX_VALUE} * {@code -1} (excluded) and {@link
+   * Double#MAX_VALUE} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated double.
+   */
+  public static double generateRandomDouble(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextDouble(Double.MAX_VALUE)
+        * NEGATIVE_POSITIVE_ONES[SIGN_SAMPLER.nextInt(juggler)];
   }
 
   /**
@@ -66,7 +85,18 @@ public class DoubleJuggler {
    * @return A randomly generated positive double.
    */
   public static double generateRandomPositiveDouble() {
-    return ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, Double.MAX_VALUE);
+    return generateRandomPositiveDouble(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random positive double grater than {@link Double#MIN_VALUE} (included) smaller than
+   * {@link Double#MAX_VALUE} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated positive double.
+   */
+  public static double generateRandomPositiveDouble(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextDouble(Double.MIN_VALUE, Double.MAX_VALUE);
   }
 
   /**
@@ -75,7 +105,17 @@ public class DoubleJuggler {
    * @return A randomly generated negative double.
    */
   public static double generateRandomNegativeDouble() {
-    return generateRandomPositiveDouble() * NEGATIVE_POSITIVE_ONES[0];
+    return generateRandomNegativeDouble(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random negative double.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated negative double.
+   */
+  public static double generateRandomNegativeDouble(JumbleJuggler juggler) {
+    return generateRandomPositiveDouble(juggler) * NEGATIVE_POSITIVE_ONES[0];
   }
 
   /**
@@ -85,15 +125,25 @@ public class DoubleJuggler {
    * @return A randomly generated double smaller than the specified maximum.
    */
   public static double generateRandomDoubleSmallerThan(double max) {
+    return generateRandomDoubleSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random double smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated double.
+   * @return A randomly generated double smaller than the specified maximum.
+   */
+  public static double generateRandomDoubleSmallerThan(JumbleJuggler juggler, double max) {
     if (max == 0) {
-      return generateRandomNegativeDouble();
+      return generateRandomNegativeDouble(juggler);
     } else {
       if (max < 0)
-        return ThreadLocalRandom.current().nextDouble(-max, Double.MAX_VALUE)
+        return juggler.getRandomGenerator().nextDouble(-max, Double.MAX_VALUE)
             * NEGATIVE_POSITIVE_ONES[0];
-      return ThreadLocalRandom.current().nextDouble(max)
-          * NEGATIVE_POSITIVE_ONES[
-              IntegerJuggler.generateRandomPositiveIntSmallerThan(NEGATIVE_POSITIVE_ONES.length)];
+      return juggler.getRandomGenerator().nextDouble(max)
+          * NEGATIVE_POSITIVE_ONES[SIGN_SAMPLER.nextInt(juggler)];
     }
   }
 
@@ -104,11 +154,22 @@ public class DoubleJuggler {
    * @return A randomly generated double greater than the specified minimum.
    */
   public static double generateRandomDoubleGreaterThan(double min) {
+    return generateRandomDoubleGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random double greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated double.
+   * @return A randomly generated double greater than the specified minimum.
+   */
+  public static double generateRandomDoubleGreaterThan(JumbleJuggler juggler, double min) {
     if (min == 0) {
-      return generateRandomPositiveDouble();
+      return generateRandomPositiveDouble(juggler);
     } else {
-      if (min < 0) return ThreadLocalRandom.current().nextDouble(-min, Double.MAX_VALUE) + min;
-      return ThreadLocalRandom.current().nextDouble(min, Double.MAX_VALUE);
+      if (min < 0) return juggler.getRandomGenerator().nextDouble(-min, Double.MAX_VALUE) + min;
+      return juggler.getRandomGenerator().nextDouble(min, Double.MAX_VALUE);
     }
   }
 
@@ -121,11 +182,57 @@ public class DoubleJuggler {
    */
   public static double generateRandomPositiveDoubleSmallerThan(double max)
       throws JumbleJugglerException {
+    return generateRandomPositiveDoubleSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive double smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive double.
+   * @return A randomly generated positive double smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is negative.
+   */
+  public static double generateRandomPositiveDoubleSmallerThan(JumbleJuggler juggler, double max)
+      throws JumbleJugglerException {
     if (max <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, max)), DoubleJuggler.class);
     }
-    return ThreadLocalRandom.current().nextDouble(max);
+    return juggler.getRandomGenerator().nextDouble(max);
+  }
+
+  /**
+   * Generates a random positive double smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveDoubleSmallerThan(double)}, this method neither throws
+   * nor logs.
+   *
+   * @param max The exclusive upper bound for the generated positive double.
+   * @return A randomly generated positive double smaller than the specified maximum, or an empty
+   *     {@link OptionalDouble} if the maximum value is not strictly positive and finite.
+   */
+  public static OptionalDouble tryGenerateRandomPositiveDoubleSmallerThan(double max) {
+    return tryGenerateRandomPositiveDoubleSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive double smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveDoubleSmallerThan(double)}, this method neither throws
+   * nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive double.
+   * @return A randomly generated positive double smaller than the specified maximum, or an empty
+   *     {@link OptionalDouble} if the maximum value is not strictly positive and finite.
+   */
+  public static OptionalDouble tryGenerateRandomPositiveDoubleSmallerThan(
+      JumbleJuggler juggler, double max) {
+    if (!(max > 0) || Double.isInfinite(max)) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(juggler.getRandomGenerator().nextDouble(max));
   }
 
   /**
@@ -137,11 +244,24 @@ public class DoubleJuggler {
    */
   public static double generateRandomPositiveDoubleGreaterThan(double min)
       throws JumbleJugglerException {
+    return generateRandomPositiveDoubleGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random positive double greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated positive double.
+   * @return A randomly generated positive double greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is negative.
+   */
+  public static double generateRandomPositiveDoubleGreaterThan(JumbleJuggler juggler, double min)
+      throws JumbleJugglerException {
     if (min <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, min)), DoubleJuggler.class);
     }
-    return generateRandomDoubleGreaterThan(min);
+    return generateRandomDoubleGreaterThan(juggler, min);
   }
 
   /**
@@ -153,11 +273,24 @@ public class DoubleJuggler {
    */
   public static double generateRandomNegativeDoubleSmallerThan(double max)
       throws JumbleJugglerException {
+    return generateRandomNegativeDoubleSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random negative double smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated negative double.
+   * @return A randomly generated negative double smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is positive.
+   */
+  public static double generateRandomNegativeDoubleSmallerThan(JumbleJuggler juggler, double max)
+      throws JumbleJugglerException {
     if (max >= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, max)), DoubleJuggler.class);
     }
-    return generateRandomDoubleSmallerThan(max);
+    return generateRandomDoubleSmallerThan(juggler, max);
   }
 
   /**
@@ -169,10 +302,325 @@ public class DoubleJuggler {
    */
   public static double generateRandomNegativeDoubleGreaterThan(double min)
       throws JumbleJugglerException {
+    return generateRandomNegativeDoubleGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative double greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative double.
+   * @return A randomly generated negative double greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is positive.
+   */
+  public static double generateRandomNegativeDoubleGreaterThan(JumbleJuggler juggler, double min)
+      throws JumbleJugglerException {
     if (min > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, min)), DoubleJuggler.class);
     }
-    return ThreadLocalRandom.current().nextDouble(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0];
+    return juggler.getRandomGenerator().nextDouble(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0];
+  }
+
+  /**
+   * Generates a random negative double greater than a specified minimum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomNegativeDoubleGreaterThan(double)}, this method neither throws
+   * nor logs.
+   *
+   * @param min The inclusive lower bound for the generated negative double.
+   * @return A randomly generated negative double greater than the specified minimum, or an empty
+   *     {@link OptionalDouble} if the minimum value is not strictly negative and finite.
+   */
+  public static OptionalDouble tryGenerateRandomNegativeDoubleGreaterThan(double min) {
+    return tryGenerateRandomNegativeDoubleGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative double greater than a specified minimum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomNegativeDoubleGreaterThan(double)}, this method neither throws
+   * nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative double.
+   * @return A randomly generated negative double greater than the specified minimum, or an empty
+   *     {@link OptionalDouble} if the minimum value is not strictly negative and finite.
+   */
+  public static OptionalDouble tryGenerateRandomNegativeDoubleGreaterThan(
+      JumbleJuggler juggler, double min) {
+    if (!(min < 0) || Double.isInfinite(min)) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(
+        juggler.getRandomGenerator().nextDouble(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0]);
+  }
+
+  /**
+   * Prepares a generator of random doubles between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @return A {@link BoundedDoubleSampler} drawing from {@link JumbleJuggler#getDefault()}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedDoubleSampler between(double min, double max) throws JumbleJugglerException {
+    return BoundedDoubleSampler.between(min, max);
+  }
+
+  /**
+   * Prepares a generator of random doubles between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @return A {@link BoundedDoubleSampler} drawing from {@code juggler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedDoubleSampler between(JumbleJuggler juggler, double min, double max)
+      throws JumbleJugglerException {
+    return BoundedDoubleSampler.between(juggler, min, max);
+  }
+
+  /**
+   * Fills an array with random doubles between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static void fillWithRandomDoublesBetween(double[] destination, double min, double max)
+      throws JumbleJugglerException {
+    fillWithRandomDoublesBetween(
+        JumbleJuggler.getDefault(), destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills an array with random doubles between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static void fillWithRandomDoublesBetween(
+      JumbleJuggler juggler, double[] destination, double min, double max)
+      throws JumbleJugglerException {
+    fillWithRandomDoublesBetween(juggler, destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random doubles between a specified minimum and maximum value.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDoublesBetween(
+      double[] destination, int offset, int length, double min, double max)
+      throws JumbleJugglerException {
+    fillWithRandomDoublesBetween(JumbleJuggler.getDefault(), destination, offset, length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random doubles between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomDoublesBetween(
+      JumbleJuggler juggler, double[] destination, int offset, int length, double min, double max)
+      throws JumbleJugglerException {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    if (!(min < max)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), DoubleJuggler.class);
+    }
+    if (Double.isInfinite(max - min)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_RANGE, min, max)), DoubleJuggler.class);
+    }
+
+    BoundedDoubleSampler.between(juggler, min, max).fill(destination, offset, length);
+  }
+
+  /**
+   * Returns a stream of {@code count} random doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream doubles(long count) throws JumbleJugglerException {
+    return doubles(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream doubles(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.doubles(
+        juggler,
+        count,
+        randomGenerator ->
+            randomGenerator.nextDouble(Double.MAX_VALUE)
+                * NEGATIVE_POSITIVE_ONES[SIGN_SAMPLER.nextInt(randomGenerator)],
+        DoubleJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random doubles between a specified minimum and maximum value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of doubles to generate.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @return A sequential {@link DoubleStream} of {@code count} random doubles.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value, or if the range between them is not finite.
+   */
+  public static DoubleStream doubles(long count, double min, double max)
+      throws JumbleJugglerException {
+    return doubles(JumbleJuggler.getDefault(), count, min, max);
+  }
+
+  /**
+   * Returns a stream of {@code count} random doubles between a specified minimum and maximum value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of doubles to generate.
+   * @param min The inclusive lower bound for the generated doubles.
+   * @param max The exclusive upper bound for the generated doubles.
+   * @return A sequential {@link DoubleStream} of {@code count} random doubles.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value, or if the range between them is not finite.
+   */
+  public static DoubleStream doubles(JumbleJuggler juggler, long count, double min, double max)
+      throws JumbleJugglerException {
+    if (!(min < max)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), DoubleJuggler.class);
+    }
+    if (Double.isInfinite(max - min)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_RANGE, min, max)), DoubleJuggler.class);
+    }
+    return JugglerSpliterators.doubles(
+        juggler, count, BoundedDoubleSampler.between(min, max)::nextDouble, DoubleJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random positive doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream positiveDoubles(long count) throws JumbleJugglerException {
+    return positiveDoubles(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random positive doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream positiveDoubles(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.doubles(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextDouble(Double.MIN_VALUE, Double.MAX_VALUE),
+        DoubleJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random negative doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream negativeDoubles(long count) throws JumbleJugglerException {
+    return negativeDoubles(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative doubles.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of doubles to generate.
+   * @return A sequential {@link DoubleStream} of {@code count} random negative doubles.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static DoubleStream negativeDoubles(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.doubles(
+        juggler,
+        count,
+        randomGenerator -> -randomGenerator.nextDouble(Double.MIN_VALUE, Double.MAX_VALUE),
+        DoubleJuggler.class);
   }
 }
@@ -6,7 +6,8 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Utility class for generating random floats between 0.0F and 1.0F with various constraints.
@@ -36,14 +37,21 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>The class throws {@link JumbleJugglerException} for exceptional cases, such as invalid
  * constraints or when a negative value is provided where only positive values are allowed.
  *
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class FloatJuggler {
   private static final int[] NEGATIVE_POSITIVE_ONES = {-1, 1};
+  private static final BoundedIntSampler SIGN_SAMPLER =
+      BoundedIntSampler.of(NEGATIVE_POSITIVE_ONES.length);
   private static final String BAD_NEGATIVE =
       "The value given is %s, but it must be strictly positive.";
   private static final String BAD_POSITIVE =
       "The value given is %s, but it must be strictly negative.";
+  private static final String BAD_BOUND =
+      "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
+  private static final String BAD_RANGE =
+      "The range between the minimum value %s and the maximum value %s given must be finite.";
 
   private FloatJuggler() {}
 
@@ -54,9 +62,19 @@ public class FloatJuggler {
    * @return A randomly generated float.
    */
   public static float generateRandomFloat() {
-    return ThreadLocalRandom.current().nextFloat(Float.MAX_VALUE)
-        * NEGATIVE_POSITIVE_ONES[
-            IntegerJuggler.generateRandomPositiveIntSmallerThan(NEGATIVE_POSITIVE_ONES.length)];
+    return generateRandomFloat(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random float between {@link Float#MAX_VALUE} * {@code -1} (excluded) and {@link
+   * Float#MAX_VALUE} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated float.
+   */
+  public static float generateRandomFloat(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextFloat(Float.MAX_VALUE)
+        * NEGATIVE_POSITIVE_ONES[SIGN_SAMPLER.nextInt(juggler)];
   }
 
   /**
@@ -66,7 +84,18 @@ public class FloatJuggler {
    * @return A randomly generated positive float.
    */
   public static float generateRandomPositiveFloat() {
-    return ThreadLocalRandom.current().nextFloat(Float.MIN_VALUE, Float.MAX_VALUE);
+    return generateRandomPositiveFloat(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random positive float grater than {@link Float#MIN_VALUE} (included) smaller than
+   * {@link Float#MAX_VALUE} (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated positive float.
+   */
+  public static float generateRandomPositiveFloat(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextFloat(Float.MIN_VALUE, Float.MAX_VALUE);
   }
 
   /**
@@ -75,7 +104,17 @@ public class FloatJuggler {
    * @return A randomly generated negative float.
    */
   public static float generateRandomNegativeFloat() {
-    return generateRandomPositiveFloat() * NEGATIVE_POSITIVE_ONES[0];
+    return generateRandomNegativeFloat(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random negative float.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated negative float.
+   */
+  public static float generateRandomNegativeFloat(JumbleJuggler juggler) {
+    return generateRandomPositiveFloat(juggler) * NEGATIVE_POSITIVE_ONES[0];
   }
 
   /**
@@ -85,15 +124,25 @@ public class FloatJuggler {
    * @return A randomly generated float smaller than the specified maximum.
    */
   public static float generateRandomFloatSmallerThan(float max) {
+    return generateRandomFloatSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random float smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated float.
+   * @return A randomly generated float smaller than the specified maximum.
+   */
+  public static float generateRandomFloatSmallerThan(JumbleJuggler juggler, float max) {
     if (max == 0) {
-      return generateRandomNegativeFloat();
+      return generateRandomNegativeFloat(juggler);
     } else {
       if (max < 0)
-        return ThreadLocalRandom.current().nextFloat(-max, Float.MAX_VALUE)
+        return juggler.getRandomGenerator().nextFloat(-max, Float.MAX_VALUE)
             * NEGATIVE_POSITIVE_ONES[0];
-      return ThreadLocalRandom.current().nextFloat(max)
-          * NEGATIVE_POSITIVE_ONES[
-              IntegerJuggler.generateRandomPositiveIntSmallerThan(NEGATIVE_POSITIVE_ONES.length)];
+      return juggler.getRandomGenerator().nextFloat(max)
+          * NEGATIVE_POSITIVE_ONES[SIGN_SAMPLER.nextInt(juggler)];
     }
   }
 
@@ -104,11 +153,22 @@ public class FloatJuggler {
    * @return A randomly generated float greater than the specified minimum.
    */
   public static float generateRandomFloatGreaterThan(float min) {
+    return generateRandomFloatGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random float greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated float.
+   * @return A randomly generated float greater than the specified minimum.
+   */
+  public static float generateRandomFloatGreaterThan(JumbleJuggler juggler, float min) {
     if (min == 0) {
-      return generateRandomPositiveFloat();
+      return generateRandomPositiveFloat(juggler);
     } else {
-      if (min < 0) return ThreadLocalRandom.current().nextFloat(-min, Float.MAX_VALUE) + min;
-      return ThreadLocalRandom.current().nextFloat(min, Float.MAX_VALUE);
+      if (min < 0) return juggler.getRandomGenerator().nextFloat(-min, Float.MAX_VALUE) + min;
+      return juggler.getRandomGenerator().nextFloat(min, Float.MAX_VALUE);
     }
   }
 
@@ -121,11 +181,57 @@ public class FloatJuggler {
    */
   public static float generateRandomPositiveFloatSmallerThan(float max)
       throws JumbleJugglerException {
+    return generateRandomPositiveFloatSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive float smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive float.
+   * @return A randomly generated positive float smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is negative.
+   */
+  public static float generateRandomPositiveFloatSmallerThan(JumbleJuggler juggler, float max)
+      throws JumbleJugglerException {
     if (max <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, max)), FloatJuggler.class);
     }
-    return ThreadLocalRandom.current().nextFloat(max);
+    return juggler.getRandomGenerator().nextFloat(max);
+  }
+
+  /**
+   * Generates a random positive float smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveFloatSmallerThan(float)}, this method neither throws
+   * nor logs.
+   *
+   * @param max The exclusive upper bound for the generated positive float.
+   * @return A randomly generated positive float smaller than the specified maximum, or an empty
+   *     {@link Optional} if the maximum value is not strictly positive and finite.
+   */
+  public static Optional<Float> tryGenerateRandomPositiveFloatSmallerThan(float max) {
+    return tryGenerateRandomPositiveFloatSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive float smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveFloatSmallerThan(float)}, this method neither throws
+   * nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive float.
+   * @return A randomly generated positive float smaller than the specified maximum, or an empty
+   *     {@link Optional} if the maximum value is not strictly positive and finite.
+   */
+  public static Optional<Float> tryGenerateRandomPositiveFloatSmallerThan(
+      JumbleJuggler juggler, float max) {
+    if (!(max > 0) || Float.isInfinite(max)) {
+      return Optional.empty();
+    }
+    return Optional.of(juggler.getRandomGenerator().nextFloat(max));
   }
 
   /**
@@ -137,11 +243,24 @@ public class FloatJuggler {
    */
   public static float generateRandomPositiveFloatGreaterThan(float min)
       throws JumbleJugglerException {
+    return generateRandomPositiveFloatGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random positive float greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated positive float.
+   * @return A randomly generated positive float greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is negative.
+   */
+  public static float generateRandomPositiveFloatGreaterThan(JumbleJuggler juggler, float min)
+      throws JumbleJugglerException {
     if (min <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, min)), FloatJuggler.class);
     }
-    return generateRandomFloatGreaterThan(min);
+    return generateRandomFloatGreaterThan(juggler, min);
   }
 
   /**
@@ -153,11 +272,24 @@ public class FloatJuggler {
    */
   public static float generateRandomNegativeFloatSmallerThan(float max)
       throws JumbleJugglerException {
+    return generateRandomNegativeFloatSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random negative float smaller than a specified maximum value (excluded).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated negative float.
+   * @return A randomly generated negative float smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is positive.
+   */
+  public static float generateRandomNegativeFloatSmallerThan(JumbleJuggler juggler, float max)
+      throws JumbleJugglerException {
     if (max >= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, max)), FloatJuggler.class);
     }
-    return generateRandomFloatSmallerThan(max);
+    return generateRandomFloatSmallerThan(juggler, max);
   }
 
   /**
@@ -169,10 +301,175 @@ public class FloatJuggler {
    */
   public static float generateRandomNegativeFloatGreaterThan(float min)
       throws JumbleJugglerException {
+    return generateRandomNegativeFloatGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative float greater than a specified minimum value (included).
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative float.
+   * @return A randomly generated negative float greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is positive.
+   */
+  public static float generateRandomNegativeFloatGreaterThan(JumbleJuggler juggler, float min)
+      throws JumbleJugglerException {
     if (min > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, min)), FloatJuggler.class);
     }
-    return ThreadLocalRandom.current().nextFloat(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0];
+    return juggler.getRandomGenerator().nextFloat(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0];
+  }
+
+  /**
+   * Generates a random negative float greater than a specified minimum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomNegativeFloatGreaterThan(float)}, this method neither throws
+   * nor logs.
+   *
+   * @param min The inclusive lower bound for the generated negative float.
+   * @return A randomly generated negative float greater than the specified minimum, or an empty
+   *     {@link Optional} if the minimum value is not strictly negative and finite.
+   */
+  public static Optional<Float> tryGenerateRandomNegativeFloatGreaterThan(float min) {
+    return tryGenerateRandomNegativeFloatGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative float greater than a specified minimum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomNegativeFloatGreaterThan(float)}, this method neither throws
+   * nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative float.
+   * @return A randomly generated negative float greater than the specified minimum, or an empty
+   *     {@link Optional} if the minimum value is not strictly negative and finite.
+   */
+  public static Optional<Float> tryGenerateRandomNegativeFloatGreaterThan(
+      JumbleJuggler juggler, float min) {
+    if (!(min < 0) || Float.isInfinite(min)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        juggler.getRandomGenerator().nextFloat(0.0F, -min) * NEGATIVE_POSITIVE_ONES[0]);
+  }
+
+  /**
+   * Prepares a generator of random floats between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @return A {@link BoundedFloatSampler} drawing from {@link JumbleJuggler#getDefault()}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedFloatSampler between(float min, float max) throws JumbleJugglerException {
+    return BoundedFloatSampler.between(min, max);
+  }
+
+  /**
+   * Prepares a generator of random floats between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @return A {@link BoundedFloatSampler} drawing from {@code juggler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static BoundedFloatSampler between(JumbleJuggler juggler, float min, float max)
+      throws JumbleJugglerException {
+    return BoundedFloatSampler.between(juggler, min, max);
+  }
+
+  /**
+   * Fills an array with random floats between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static void fillWithRandomFloatsBetween(float[] destination, float min, float max)
+      throws JumbleJugglerException {
+    fillWithRandomFloatsBetween(
+        JumbleJuggler.getDefault(), destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills an array with random floats between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   */
+  public static void fillWithRandomFloatsBetween(
+      JumbleJuggler juggler, float[] destination, float min, float max)
+      throws JumbleJugglerException {
+    fillWithRandomFloatsBetween(juggler, destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random floats between a specified minimum and maximum value.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomFloatsBetween(
+      float[] destination, int offset, int length, float min, float max)
+      throws JumbleJugglerException {
+    fillWithRandomFloatsBetween(JumbleJuggler.getDefault(), destination, offset, length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random floats between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated floats.
+   * @param max The exclusive upper bound for the generated floats.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value, or
+   *     if the range between them is not finite.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomFloatsBetween(
+      JumbleJuggler juggler, float[] destination, int offset, int length, float min, float max)
+      throws JumbleJugglerException {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    if (!(min < max)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), FloatJuggler.class);
+    }
+    if (Float.isInfinite(max - min)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_RANGE, min, max)), FloatJuggler.class);
+    }
+
+    BoundedFloatSampler.between(juggler, min, max).fill(destination, offset, length);
   }
 }
@@ -6,7 +6,9 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
 
 /**
  * Utility class for generating random integers with various constraints.
@@ -33,9 +35,14 @@ import java.util.concurrent.ThreadLocalRandom;
  * }
  * }</pre>
  *
+ * <p>Every method has an overload taking a {@link JumbleJuggler} as its first parameter to draw
+ * from a seeded or custom random source. The other overloads use {@link
+ * JumbleJuggler#getDefault()}.
+ *
  * <p>The class throws {@link JumbleJugglerException} for exceptional cases, such as invalid
  * constraints or when a negative value is provided where only positive values are allowed.
  *
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class IntegerJuggler {
@@ -44,6 +51,14 @@ public class IntegerJuggler {
   private static final String BAD_BOUND =
       "The minimum value given is %s, but it must be smaller than the maximum value given which is %s.";
 
+  private static final String BAD_LENGTH =
+      "The length given is %s, but it must be between 1 and 10.";
+
+  /** Powers of ten by exponent, the smallest integer of each length being at index length - 1. */
+  static final int[] POWERS_OF_TEN = {
+    1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+  };
+
   private IntegerJuggler() {}
 
   /**
@@ -52,7 +67,17 @@ public class IntegerJuggler {
    * @return A randomly generated integer.
    */
   public static int generateRandomInt() {
-    return ThreadLocalRandom.current().nextInt();
+    return generateRandomInt(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random integer.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated integer.
+   */
+  public static int generateRandomInt(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextInt();
   }
 
   /**
@@ -61,7 +86,17 @@ public class IntegerJuggler {
    * @return A randomly generated positive integer.
    */
   public static int generateRandomPositiveInt() {
-    return ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+    return generateRandomPositiveInt(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random positive integer.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated positive integer.
+   */
+  public static int generateRandomPositiveInt(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextInt(Integer.MAX_VALUE);
   }
 
   /**
@@ -70,7 +105,17 @@ public class IntegerJuggler {
    * @return A randomly generated negative integer.
    */
   public static int generateRandomNegativeInt() {
-    return ThreadLocalRandom.current().nextInt(Integer.MIN_VALUE, 0);
+    return generateRandomNegativeInt(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random negative integer.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated negative integer.
+   */
+  public static int generateRandomNegativeInt(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextInt(Integer.MIN_VALUE, 0);
   }
 
   /**
@@ -80,7 +125,18 @@ public class IntegerJuggler {
    * @return A randomly generated integer smaller than the specified maximum.
    */
   public static int generateRandomIntSmallerThan(int max) {
-    return ThreadLocalRandom.current().nextInt(Integer.MIN_VALUE, max);
+    return generateRandomIntSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random integer smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated integer.
+   * @return A randomly generated integer smaller than the specified maximum.
+   */
+  public static int generateRandomIntSmallerThan(JumbleJuggler juggler, int max) {
+    return juggler.getRandomGenerator().nextInt(Integer.MIN_VALUE, max);
   }
 
   /**
@@ -90,7 +146,18 @@ public class IntegerJuggler {
    * @return A randomly generated integer greater than the specified minimum.
    */
   public static int generateRandomIntGreaterThan(int min) {
-    return ThreadLocalRandom.current().nextInt(min, Integer.MAX_VALUE);
+    return generateRandomIntGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random integer greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated integer.
+   * @return A randomly generated integer greater than the specified minimum.
+   */
+  public static int generateRandomIntGreaterThan(JumbleJuggler juggler, int min) {
+    return juggler.getRandomGenerator().nextInt(min, Integer.MAX_VALUE);
   }
 
   /**
@@ -101,11 +168,57 @@ public class IntegerJuggler {
    * @throws JumbleJugglerException if the provided maximum value is negative.
    */
   public static int generateRandomPositiveIntSmallerThan(int max) throws JumbleJugglerException {
+    return generateRandomPositiveIntSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive integer smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive integer.
+   * @return A randomly generated positive integer smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is negative.
+   */
+  public static int generateRandomPositiveIntSmallerThan(JumbleJuggler juggler, int max)
+      throws JumbleJugglerException {
     if (max < 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, max)), IntegerJuggler.class);
     }
-    return ThreadLocalRandom.current().nextInt(max);
+    return BoundedIntSampler.nextInt(juggler.getRandomGenerator(), max);
+  }
+
+  /**
+   * Generates a random positive integer smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveIntSmallerThan(int)}, this method neither throws nor
+   * logs.
+   *
+   * @param max The exclusive upper bound for the generated positive integer.
+   * @return A randomly generated positive integer smaller than the specified maximum, or an empty
+   *     {@link OptionalInt} if the maximum value is not strictly positive.
+   */
+  public static OptionalInt tryGenerateRandomPositiveIntSmallerThan(int max) {
+    return tryGenerateRandomPositiveIntSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive integer smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveIntSmallerThan(int)}, this method neither throws nor
+   * logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive integer.
+   * @return A randomly generated positive integer smaller than the specified maximum, or an empty
+   *     {@link OptionalInt} if the maximum value is not strictly positive.
+   */
+  public static OptionalInt tryGenerateRandomPositiveIntSmallerThan(
+      JumbleJuggler juggler, int max) {
+    if (max <= 0) {
+      return OptionalInt.empty();
+    }
+    return OptionalInt.of(BoundedIntSampler.nextInt(juggler.getRandomGenerator(), max));
   }
 
   /**
@@ -116,11 +229,24 @@ public class IntegerJuggler {
    * @throws JumbleJugglerException if the provided minimum value is negative.
    */
   public static int generateRandomPositiveIntGreaterThan(int min) throws JumbleJugglerException {
+    return generateRandomPositiveIntGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random positive integer greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated positive integer.
+   * @return A randomly generated positive integer greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is negative.
+   */
+  public static int generateRandomPositiveIntGreaterThan(JumbleJuggler juggler, int min)
+      throws JumbleJugglerException {
     if (min < 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, min)), IntegerJuggler.class);
     }
-    return generateRandomIntGreaterThan(min);
+    return generateRandomIntGreaterThan(juggler, min);
   }
 
   /**
@@ -131,11 +257,24 @@ public class IntegerJuggler {
    * @throws JumbleJugglerException if the provided maximum value is positive.
    */
   public static int generateRandomNegativeIntSmallerThan(int max) throws JumbleJugglerException {
+    return generateRandomNegativeIntSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random negative integer smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated negative integer.
+   * @return A randomly generated negative integer smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is positive.
+   */
+  public static int generateRandomNegativeIntSmallerThan(JumbleJuggler juggler, int max)
+      throws JumbleJugglerException {
     if (max > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, max)), IntegerJuggler.class);
     }
-    return generateRandomIntSmallerThan(max);
+    return generateRandomIntSmallerThan(juggler, max);
   }
 
   /**
@@ -146,11 +285,24 @@ public class IntegerJuggler {
    * @throws JumbleJugglerException if the provided minimum value is positive.
    */
   public static int generateRandomNegativeIntGreaterThan(int min) throws JumbleJugglerException {
+    return generateRandomNegativeIntGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative integer greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative integer.
+   * @return A randomly generated negative integer greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is positive.
+   */
+  public static int generateRandomNegativeIntGreaterThan(JumbleJuggler juggler, int min)
+      throws JumbleJugglerException {
     if (min > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, min)), IntegerJuggler.class);
     }
-    return ThreadLocalRandom.current().nextInt(min, 0);
+    return juggler.getRandomGenerator().nextInt(min, 0);
   }
 
   /**
@@ -162,21 +314,416 @@ public class IntegerJuggler {
    * @throws JumbleJugglerException if the minimum value is greater than the maximum value.
    */
   public static int generateRandomIntBetween(int min, int max) throws JumbleJugglerException {
+    return generateRandomIntBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random integer between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated integer.
+   * @param max The exclusive upper bound for the generated integer.
+   * @return A randomly generated integer within the specified range.
+   * @throws JumbleJugglerException if the minimum value is greater than the maximum value.
+   */
+  public static int generateRandomIntBetween(JumbleJuggler juggler, int min, int max)
+      throws JumbleJugglerException {
     if (min > max) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_BOUND, min, max)), IntegerJuggler.class);
     }
-    return ThreadLocalRandom.current().nextInt(min, max);
+    return BoundedIntSampler.nextInt(juggler.getRandomGenerator(), min, max);
+  }
+
+  /**
+   * Generates a random integer between a specified minimum and maximum value, if the range is
+   * valid.
+   *
+   * <p>Unlike {@link #generateRandomIntBetween(int, int)}, this method neither throws nor logs.
+   *
+   * @param min The inclusive lower bound for the generated integer.
+   * @param max The exclusive upper bound for the generated integer.
+   * @return A randomly generated integer within the specified range, or an empty {@link
+   *     OptionalInt} if the minimum value is not smaller than the maximum value.
+   */
+  public static OptionalInt tryGenerateRandomIntBetween(int min, int max) {
+    return tryGenerateRandomIntBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random integer between a specified minimum and maximum value, if the range is
+   * valid.
+   *
+   * <p>Unlike {@link #generateRandomIntBetween(int, int)}, this method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated integer.
+   * @param max The exclusive upper bound for the generated integer.
+   * @return A randomly generated integer within the specified range, or an empty {@link
+   *     OptionalInt} if the minimum value is not smaller than the maximum value.
+   */
+  public static OptionalInt tryGenerateRandomIntBetween(JumbleJuggler juggler, int min, int max) {
+    if (min >= max) {
+      return OptionalInt.empty();
+    }
+    return OptionalInt.of(BoundedIntSampler.nextInt(juggler.getRandomGenerator(), min, max));
+  }
+
+  /**
+   * Generates a random positive integer with a specified length.
+   *
+   * @param length The length of the generated positive integer.
+   * @return A randomly generated positive integer with the specified length.
+   * @throws JumbleJugglerException if the length is not between 1 and 10.
+   */
+  public static int generateRandomPositiveIntWithLength(int length) throws JumbleJugglerException {
+    return generateRandomPositiveIntWithLength(JumbleJuggler.getDefault(), length);
   }
 
   /**
    * Generates a random positive integer with a specified length.
    *
+   * @param juggler The {@link JumbleJuggler} to draw from.
    * @param length The length of the generated positive integer.
    * @return A randomly generated positive integer with the specified length.
+   * @throws JumbleJugglerException if the length is not between 1 and 10.
+   */
+  public static int generateRandomPositiveIntWithLength(JumbleJuggler juggler, int length)
+      throws JumbleJugglerException {
+    checkLength(length);
+    return BoundedIntSampler.nextInt(
+        juggler.getRandomGenerator(), POWERS_OF_TEN[length - 1], upperBoundOfLength(length));
+  }
+
+  /**
+   * Generates a random positive integer with a specified length, if a integer can have that length.
+   *
+   * <p>Unlike {@link #generateRandomPositiveIntWithLength(int)}, this method neither throws nor
+   * logs.
+   *
+   * @param length The length of the generated positive integer.
+   * @return A randomly generated positive integer with the specified length, or an empty {@link
+   *     OptionalInt} if the length is not between 1 and 10.
+   */
+  public static OptionalInt tryGenerateRandomPositiveIntWithLength(int length) {
+    return tryGenerateRandomPositiveIntWithLength(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Generates a random positive integer with a specified length, if a integer can have that length.
+   *
+   * <p>Unlike {@link #generateRandomPositiveIntWithLength(int)}, this method neither throws nor
+   * logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param length The length of the generated positive integer.
+   * @return A randomly generated positive integer with the specified length, or an empty {@link
+   *     OptionalInt} if the length is not between 1 and 10.
+   */
+  public static OptionalInt tryGenerateRandomPositiveIntWithLength(
+      JumbleJuggler juggler, int length) {
+    if (length < 1 || length > POWERS_OF_TEN.length) {
+      return OptionalInt.empty();
+    }
+    return OptionalInt.of(
+        BoundedIntSampler.nextInt(
+            juggler.getRandomGenerator(), POWERS_OF_TEN[length - 1], upperBoundOfLength(length)));
+  }
+
+  /**
+   * Prepares a generator of random integers between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @return A {@link BoundedIntSampler} drawing from {@link JumbleJuggler#getDefault()}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedIntSampler between(int min, int max) throws JumbleJugglerException {
+    return BoundedIntSampler.between(min, max);
+  }
+
+  /**
+   * Prepares a generator of random integers between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @return A {@link BoundedIntSampler} drawing from {@code juggler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedIntSampler between(JumbleJuggler juggler, int min, int max)
+      throws JumbleJugglerException {
+    return BoundedIntSampler.between(juggler, min, max);
+  }
+
+  /**
+   * Fills an array with random integers between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomIntsBetween(int[] destination, int min, int max)
+      throws JumbleJugglerException {
+    fillWithRandomIntsBetween(
+        JumbleJuggler.getDefault(), destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills an array with random integers between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomIntsBetween(
+      JumbleJuggler juggler, int[] destination, int min, int max) throws JumbleJugglerException {
+    fillWithRandomIntsBetween(juggler, destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random integers between a specified minimum and maximum value.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomIntsBetween(
+      int[] destination, int offset, int length, int min, int max) throws JumbleJugglerException {
+    fillWithRandomIntsBetween(JumbleJuggler.getDefault(), destination, offset, length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random integers between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomIntsBetween(
+      JumbleJuggler juggler, int[] destination, int offset, int length, int min, int max)
+      throws JumbleJugglerException {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), IntegerJuggler.class);
+    }
+
+    BoundedIntSampler.between(juggler, min, max).fill(destination, offset, length);
+  }
+
+  /**
+   * Returns a stream of {@code count} random integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static IntStream ints(long count) throws JumbleJugglerException {
+    return ints(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static IntStream ints(JumbleJuggler juggler, long count) throws JumbleJugglerException {
+    return JugglerSpliterators.ints(
+        juggler, count, randomGenerator -> randomGenerator.nextInt(), IntegerJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random integers between a specified minimum and maximum
+   * value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of integers to generate.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @return A sequential {@link IntStream} of {@code count} random integers.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value.
+   */
+  public static IntStream ints(long count, int min, int max) throws JumbleJugglerException {
+    return ints(JumbleJuggler.getDefault(), count, min, max);
+  }
+
+  /**
+   * Returns a stream of {@code count} random integers between a specified minimum and maximum
+   * value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of integers to generate.
+   * @param min The inclusive lower bound for the generated integers.
+   * @param max The exclusive upper bound for the generated integers.
+   * @return A sequential {@link IntStream} of {@code count} random integers.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value.
+   */
+  public static IntStream ints(JumbleJuggler juggler, long count, int min, int max)
+      throws JumbleJugglerException {
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), IntegerJuggler.class);
+    }
+    return JugglerSpliterators.ints(
+        juggler, count, BoundedIntSampler.between(min, max)::nextInt, IntegerJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random positive integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static IntStream positiveInts(long count) throws JumbleJugglerException {
+    return positiveInts(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random positive integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static IntStream positiveInts(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.ints(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextInt(Integer.MAX_VALUE),
+        IntegerJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random negative integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static IntStream negativeInts(long count) throws JumbleJugglerException {
+    return negativeInts(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative integers.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of integers to generate.
+   * @return A sequential {@link IntStream} of {@code count} random negative integers.
+   * @throws JumbleJugglerException if {@code count} is negative.
    */
-  public static int generateRandomPositiveIntWithLength(int length) {
-    return ThreadLocalRandom.current().nextInt((9 * (int) Math.pow(10, length - 1d)) - 1)
-        + (int) Math.pow(10, length - 1d);
+  public static IntStream negativeInts(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.ints(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextInt(Integer.MIN_VALUE, 0),
+        IntegerJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive integers with a specified length.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of integers to generate.
+   * @param length The length of the generated positive integers.
+   * @return A sequential {@link IntStream} of {@code count} random positive integers.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the length is not between 1
+   *     and 10.
+   */
+  public static IntStream positiveIntsWithLength(long count, int length)
+      throws JumbleJugglerException {
+    return positiveIntsWithLength(JumbleJuggler.getDefault(), count, length);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive integers with a specified length.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of integers to generate.
+   * @param length The length of the generated positive integers.
+   * @return A sequential {@link IntStream} of {@code count} random positive integers.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the length is not between 1
+   *     and 10.
+   */
+  public static IntStream positiveIntsWithLength(JumbleJuggler juggler, long count, int length)
+      throws JumbleJugglerException {
+    checkLength(length);
+    BoundedIntSampler sampler =
+        BoundedIntSampler.between(POWERS_OF_TEN[length - 1], upperBoundOfLength(length));
+    return JugglerSpliterators.ints(juggler, count, sampler::nextInt, IntegerJuggler.class);
+  }
+
+  private static void checkLength(int length) throws JumbleJugglerException {
+    if (length < 1 || length > POWERS_OF_TEN.length) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_LENGTH, length)), IntegerJuggler.class);
+    }
+  }
+
+  /** Returns the exclusive upper bound of the integers of the given length. */
+  private static int upperBoundOfLength(int length) {
+    return length < POWERS_OF_TEN.length ? POWERS_OF_TEN[length] : Integer.MAX_VALUE;
   }
 }
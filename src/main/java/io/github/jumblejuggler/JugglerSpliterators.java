@@ -0,0 +1,237 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterators backing the bounded primitive streams of the numeric jugglers.
+ *
+ * <p>Each spliterator covers a fixed range of indexes and is {@link Spliterator#SIZED} and {@link
+ * Spliterator#SUBSIZED}. Splitting halves the range and hands the prefix a context derived with
+ * {@link JumbleJuggler#split()}, so the parts of a parallel stream never share a generator.
+ */
+final class JugglerSpliterators {
+  private static final String BAD_COUNT = "The count given is %s, but it must not be negative.";
+  private static final int CHARACTERISTICS =
+      Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  private JugglerSpliterators() {}
+
+  static IntStream ints(
+      JumbleJuggler juggler, long count, ToIntFunction<RandomGenerator> generator, Class<?> source)
+      throws JumbleJugglerException {
+    checkCount(count, source);
+    return StreamSupport.intStream(new IntSpliterator(juggler, 0L, count, generator), false);
+  }
+
+  static LongStream longs(
+      JumbleJuggler juggler, long count, ToLongFunction<RandomGenerator> generator, Class<?> source)
+      throws JumbleJugglerException {
+    checkCount(count, source);
+    return StreamSupport.longStream(new LongSpliterator(juggler, 0L, count, generator), false);
+  }
+
+  static DoubleStream doubles(
+      JumbleJuggler juggler,
+      long count,
+      ToDoubleFunction<RandomGenerator> generator,
+      Class<?> source)
+      throws JumbleJugglerException {
+    checkCount(count, source);
+    return StreamSupport.doubleStream(new DoubleSpliterator(juggler, 0L, count, generator), false);
+  }
+
+  private static void checkCount(long count, Class<?> source) throws JumbleJugglerException {
+    if (count < 0L) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_COUNT, count)), source);
+    }
+  }
+
+  private static final class IntSpliterator implements Spliterator.OfInt {
+    private final JumbleJuggler juggler;
+    private final long fence;
+    private final ToIntFunction<RandomGenerator> generator;
+    private long index;
+
+    private IntSpliterator(
+        JumbleJuggler juggler, long index, long fence, ToIntFunction<RandomGenerator> generator) {
+      this.juggler = juggler;
+      this.index = index;
+      this.fence = fence;
+      this.generator = generator;
+    }
+
+    @Override
+    public IntSpliterator trySplit() {
+      long start = index;
+      long middle = (start + fence) >>> 1;
+      if (middle <= start) {
+        return null;
+      }
+      index = middle;
+      return new IntSpliterator(juggler.split(), start, middle, generator);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsInt(juggler.getRandomGenerator()));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      RandomGenerator randomGenerator = juggler.getRandomGenerator();
+      long end = fence;
+      for (long i = index; i < end; i++) {
+        action.accept(generator.applyAsInt(randomGenerator));
+      }
+      index = end;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+
+  private static final class LongSpliterator implements Spliterator.OfLong {
+    private final JumbleJuggler juggler;
+    private final long fence;
+    private final ToLongFunction<RandomGenerator> generator;
+    private long index;
+
+    private LongSpliterator(
+        JumbleJuggler juggler, long index, long fence, ToLongFunction<RandomGenerator> generator) {
+      this.juggler = juggler;
+      this.index = index;
+      this.fence = fence;
+      this.generator = generator;
+    }
+
+    @Override
+    public LongSpliterator trySplit() {
+      long start = index;
+      long middle = (start + fence) >>> 1;
+      if (middle <= start) {
+        return null;
+      }
+      index = middle;
+      return new LongSpliterator(juggler.split(), start, middle, generator);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsLong(juggler.getRandomGenerator()));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      RandomGenerator randomGenerator = juggler.getRandomGenerator();
+      long end = fence;
+      for (long i = index; i < end; i++) {
+        action.accept(generator.applyAsLong(randomGenerator));
+      }
+      index = end;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+
+  private static final class DoubleSpliterator implements Spliterator.OfDouble {
+    private final JumbleJuggler juggler;
+    private final long fence;
+    private final ToDoubleFunction<RandomGenerator> generator;
+    private long index;
+
+    private DoubleSpliterator(
+        JumbleJuggler juggler,
+        long index,
+        long fence,
+        ToDoubleFunction<RandomGenerator> generator) {
+      this.juggler = juggler;
+      this.index = index;
+      this.fence = fence;
+      this.generator = generator;
+    }
+
+    @Override
+    public DoubleSpliterator trySplit() {
+      long start = index;
+      long middle = (start + fence) >>> 1;
+      if (middle <= start) {
+        return null;
+      }
+      index = middle;
+      return new DoubleSpliterator(juggler.split(), start, middle, generator);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(generator.applyAsDouble(juggler.getRandomGenerator()));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      RandomGenerator randomGenerator = juggler.getRandomGenerator();
+      long end = fence;
+      for (long i = index; i < end; i++) {
+        action.accept(generator.applyAsDouble(randomGenerator));
+      }
+      index = end;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random source shared by every juggler.
+ *
+ * <p>A {@code JumbleJuggler} wraps the {@link RandomGenerator} the jugglers draw from. Every
+ * juggler method has an overload taking a {@code JumbleJuggler} as its first parameter; the
+ * overloads without it run against {@link #getDefault()}, which is backed by {@link
+ * ThreadLocalRandom}.
+ *
+ * <p>Seeded contexts make generated data reproducible. A seeded context is not thread-safe: give
+ * each worker its own context by calling {@link #split()}, which derives an independent stream
+ * without any contention between the workers.
+ *
+ * <p>The generator algorithm can be chosen by name, using any algorithm known to {@link
+ * RandomGeneratorFactory} (for example {@code "Xoshiro256PlusPlus"}, {@code "L64X128MixRandom"} or
+ * {@code "SplittableRandom"}) or {@value #THREAD_LOCAL_RANDOM}. Setting the {@value
+ * #ALGORITHM_PROPERTY} system property changes the algorithm of the default context and of {@link
+ * #withSeed(long)} for the whole JVM.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * // Reproduce the same data on every run
+ * JumbleJuggler juggler = JumbleJuggler.withSeed(42L);
+ * int randomInt = IntegerJuggler.generateRandomIntBetween(juggler, 10, 50);
+ * String randomWord = WordJuggler.getRandomDictionaryWord(juggler);
+ *
+ * // Hand an independent stream to another thread
+ * JumbleJuggler workerJuggler = juggler.split();
+ *
+ * // Pick the generator algorithm
+ * JumbleJuggler fastJuggler = JumbleJuggler.withAlgorithm("Xoshiro256PlusPlus", 42L);
+ * }</pre>
+ *
+ * @see RandomGenerator
+ * @see RandomGeneratorFactory
+ * @see ThreadLocalRandom
+ */
+public final class JumbleJuggler {
+  /** System property naming the algorithm of the default context. */
+  public static final String ALGORITHM_PROPERTY = "jumblejuggler.random.algorithm";
+
+  /** Algorithm name selecting {@link ThreadLocalRandom}, which cannot be seeded. */
+  public static final String THREAD_LOCAL_RANDOM = "ThreadLocalRandom";
+
+  private static final String DEFAULT_SEEDED_ALGORITHM = "SplittableRandom";
+  private static final String BAD_ALGORITHM =
+      "The random generator algorithm given is %s, but it is not available.";
+  private static final String BAD_SEEDED_ALGORITHM =
+      "The random generator algorithm given is %s, but it cannot be seeded.";
+
+  /** The odd increment of SplitMix64, the fractional part of the golden ratio. */
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private static final Logger logger = Logger.getLogger(JumbleJuggler.class.getName());
+  private static final Map<String, RandomGeneratorFactory<RandomGenerator>> FACTORIES =
+      new ConcurrentHashMap<>();
+  private static final JumbleJuggler DEFAULT = createDefault();
+
+  /** The algorithm name, as given to {@link #withAlgorithm(String)}. */
+  private final String algorithm;
+
+  /** The wrapped generator, {@code null} when the generator is looked up per thread. */
+  private final RandomGenerator randomGenerator;
+
+  /** Per thread generators of the default context, {@code null} for {@link ThreadLocalRandom}. */
+  private final ThreadLocal<RandomGenerator> threadLocalGenerator;
+
+  private JumbleJuggler(
+      String algorithm,
+      RandomGenerator randomGenerator,
+      ThreadLocal<RandomGenerator> threadLocalGenerator) {
+    this.algorithm = algorithm;
+    this.randomGenerator = randomGenerator;
+    this.threadLocalGenerator = threadLocalGenerator;
+  }
+
+  /**
+   * Returns the default context used by the juggler methods that do not take a context.
+   *
+   * <p>It is backed by {@link ThreadLocalRandom}, or by one generator per thread of the algorithm
+   * named by the {@value #ALGORITHM_PROPERTY} system property. It is safe to share between threads
+   * and cannot be seeded.
+   *
+   * @return The default {@link JumbleJuggler}.
+   */
+  public static JumbleJuggler getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Creates a reproducible context seeded with {@code seed}.
+   *
+   * <p>The context uses the algorithm named by the {@value #ALGORITHM_PROPERTY} system property
+   * when it can be seeded and is not stochastic, and {@link SplittableRandom} otherwise, as for
+   * {@value #THREAD_LOCAL_RANDOM} or {@code "SecureRandom"}.
+   *
+   * @param seed The initial seed.
+   * @return A new {@link JumbleJuggler} producing the same values for the same seed.
+   */
+  public static JumbleJuggler withSeed(long seed) {
+    return seeded(DEFAULT.algorithm, seed);
+  }
+
+  /**
+   * Creates a reproducible context for one of the streams of {@code seed}.
+   *
+   * <p>Each stream is seeded with a mix of {@code seed} and {@code stream}, so the contexts of the
+   * streams of a seed are independent from each other and any one of them is created directly,
+   * without creating the ones before it. This makes the {@code stream}-th chunk of a large output
+   * reproducible on its own.
+   *
+   * @param seed The initial seed.
+   * @param stream The index of the stream.
+   * @return A new {@link JumbleJuggler} producing the same values for the same seed and stream.
+   * @see #withSeed(long)
+   */
+  public static JumbleJuggler withSeed(long seed, long stream) {
+    return withSeed(streamSeed(seed, stream));
+  }
+
+  /**
+   * Creates a context using the named algorithm, seeded by the algorithm's own default seeding.
+   *
+   * <p>Giving {@value #THREAD_LOCAL_RANDOM} returns a context backed by {@link ThreadLocalRandom}
+   * whatever the {@value #ALGORITHM_PROPERTY} system property says.
+   *
+   * @param algorithm The name of the algorithm, as known to {@link RandomGeneratorFactory}.
+   * @return A new {@link JumbleJuggler} using {@code algorithm}.
+   * @throws JumbleJugglerException if the algorithm is not available.
+   */
+  public static JumbleJuggler withAlgorithm(String algorithm) throws JumbleJugglerException {
+    if (THREAD_LOCAL_RANDOM.equals(algorithm)) {
+      return new JumbleJuggler(THREAD_LOCAL_RANDOM, null, null);
+    }
+    return new JumbleJuggler(algorithm, getFactory(algorithm).create(), null);
+  }
+
+  /**
+   * Creates a reproducible context using the named algorithm seeded with {@code seed}.
+   *
+   * @param algorithm The name of the algorithm, as known to {@link RandomGeneratorFactory}.
+   * @param seed The initial seed.
+   * @return A new {@link JumbleJuggler} producing the same values for the same algorithm and seed.
+   * @throws JumbleJugglerException if the algorithm is not available or cannot be seeded, as is the
+   *     case of {@value #THREAD_LOCAL_RANDOM} and of the stochastic algorithms, such as {@code
+   *     "SecureRandom"}, which would ignore the seed.
+   */
+  public static JumbleJuggler withAlgorithm(String algorithm, long seed)
+      throws JumbleJugglerException {
+    if (THREAD_LOCAL_RANDOM.equals(algorithm) || getFactory(algorithm).isStochastic()) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_SEEDED_ALGORITHM, algorithm)),
+          JumbleJuggler.class);
+    }
+    return new JumbleJuggler(algorithm, getFactory(algorithm).create(seed), null);
+  }
+
+  /**
+   * Creates a reproducible context using the named algorithm for one of the streams of {@code
+   * seed}.
+   *
+   * <p>The streams are mixed as by {@link #withSeed(long, long)}, but the algorithm does not depend
+   * on the {@value #ALGORITHM_PROPERTY} system property, so the values are the same on every JVM.
+   *
+   * @param algorithm The name of the algorithm, as known to {@link RandomGeneratorFactory}.
+   * @param seed The initial seed.
+   * @param stream The index of the stream.
+   * @return A new {@link JumbleJuggler} producing the same values for the same algorithm, seed and
+   *     stream.
+   * @throws JumbleJugglerException if the algorithm is not available or cannot be seeded.
+   * @see #withAlgorithm(String, long)
+   */
+  public static JumbleJuggler withAlgorithm(String algorithm, long seed, long stream)
+      throws JumbleJugglerException {
+    return withAlgorithm(algorithm, streamSeed(seed, stream));
+  }
+
+  /**
+   * Creates a context drawing from the given generator.
+   *
+   * <p>The generator is used as is, so the returned context is only as thread-safe as the generator
+   * itself.
+   *
+   * @param randomGenerator The generator to draw from.
+   * @return A new {@link JumbleJuggler} backed by {@code randomGenerator}.
+   * @throws JumbleJugglerException if {@code randomGenerator} is {@code null}.
+   */
+  public static JumbleJuggler of(RandomGenerator randomGenerator) throws JumbleJugglerException {
+    if (randomGenerator == null) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException("The random generator given must not be null."),
+          JumbleJuggler.class);
+    }
+    return new JumbleJuggler(randomGenerator.getClass().getSimpleName(), randomGenerator, null);
+  }
+
+  /**
+   * Returns the generator backing this context.
+   *
+   * <p>For the default context this is the {@link ThreadLocalRandom} of the calling thread, so the
+   * returned value must not be handed to other threads.
+   *
+   * @return The {@link RandomGenerator} to draw from.
+   */
+  public RandomGenerator getRandomGenerator() {
+    if (randomGenerator != null) {
+      return randomGenerator;
+    }
+    return threadLocalGenerator == null ? ThreadLocalRandom.current() : threadLocalGenerator.get();
+  }
+
+  /**
+   * Returns the name of the algorithm backing this context.
+   *
+   * <p>For contexts created with {@link #of(RandomGenerator)} this is the simple class name of the
+   * generator.
+   *
+   * @return The algorithm name.
+   */
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Returns {@code true} if this context looks its generator up per thread, as the default context
+   * does.
+   *
+   * @return {@code true} for per thread contexts, {@code false} for contexts holding one generator.
+   */
+  public boolean isDefault() {
+    return randomGenerator == null;
+  }
+
+  /**
+   * Derives a new context whose stream is independent from this one.
+   *
+   * <p>Splitting a seeded context is deterministic: the same sequence of calls on the same seed
+   * always yields the same split contexts. Generators implementing {@link
+   * RandomGenerator.SplittableGenerator} are split natively and {@link
+   * RandomGenerator.JumpableGenerator jumpable} ones hand over their current state before jumping
+   * ahead. Any other generator seeds a new generator of the same algorithm, or a {@link
+   * SplittableRandom} when the algorithm is unknown, from its next value. Splitting the default
+   * context returns the default context, since it is already independent per thread.
+   *
+   * @return A new {@link JumbleJuggler} meant to be used by a single other thread.
+   */
+  public JumbleJuggler split() {
+    if (randomGenerator == null) {
+      return this;
+    }
+    if (randomGenerator instanceof RandomGenerator.SplittableGenerator splittableGenerator) {
+      return new JumbleJuggler(algorithm, splittableGenerator.split(), null);
+    }
+    if (randomGenerator instanceof RandomGenerator.JumpableGenerator jumpableGenerator) {
+      return new JumbleJuggler(algorithm, jumpableGenerator.copyAndJump(), null);
+    }
+    RandomGeneratorFactory<RandomGenerator> factory = FACTORIES.get(algorithm);
+    if (factory != null) {
+      return new JumbleJuggler(algorithm, factory.create(randomGenerator.nextLong()), null);
+    }
+    return new JumbleJuggler(
+        DEFAULT_SEEDED_ALGORITHM, new SplittableRandom(randomGenerator.nextLong()), null);
+  }
+
+  /**
+   * Creates a context of {@code algorithm} seeded with {@code seed}, or of {@link SplittableRandom}
+   * if the algorithm cannot be seeded or is stochastic.
+   */
+  static JumbleJuggler seeded(String algorithm, long seed) throws JumbleJugglerException {
+    if (THREAD_LOCAL_RANDOM.equals(algorithm) || getFactory(algorithm).isStochastic()) {
+      return new JumbleJuggler(DEFAULT_SEEDED_ALGORITHM, new SplittableRandom(seed), null);
+    }
+    return new JumbleJuggler(algorithm, getFactory(algorithm).create(seed), null);
+  }
+
+  /** Returns the seed of a stream of {@code seed}, independent from the ones of other streams. */
+  private static long streamSeed(long seed, long stream) {
+    return mix64(mix64(seed) + (stream + 1L) * GOLDEN_GAMMA);
+  }
+
+  /** The finaliser of SplitMix64, spreading the bits of {@code z} over the whole result. */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static RandomGeneratorFactory<RandomGenerator> getFactory(String algorithm)
+      throws JumbleJugglerException {
+    RandomGeneratorFactory<RandomGenerator> factory = FACTORIES.get(algorithm);
+    if (factory != null) {
+      return factory;
+    }
+    try {
+      factory = RandomGeneratorFactory.of(algorithm);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_ALGORITHM, algorithm), e),
+          JumbleJuggler.class);
+    }
+    FACTORIES.putIfAbsent(algorithm, factory);
+    return factory;
+  }
+
+  private static JumbleJuggler createDefault() {
+    String algorithm = System.getProperty(ALGORITHM_PROPERTY, THREAD_LOCAL_RANDOM);
+    if (THREAD_LOCAL_RANDOM.equals(algorithm)) {
+      return new JumbleJuggler(THREAD_LOCAL_RANDOM, null, null);
+    }
+    try {
+      RandomGeneratorFactory<RandomGenerator> factory = getFactory(algorithm);
+      return new JumbleJuggler(algorithm, null, ThreadLocal.withInitial(factory::create));
+    } catch (JumbleJugglerException e) {
+      logger.warning(
+          String.format("Falling back to %s for the default context.", THREAD_LOCAL_RANDOM));
+      return new JumbleJuggler(THREAD_LOCAL_RANDOM, null, null);
+    }
+  }
+}
@@ -6,7 +6,9 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
 
 /**
  * Utility class for generating random longs with various constraints.
@@ -36,6 +38,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>The class throws {@link JumbleJugglerException} for exceptional cases, such as invalid
  * constraints or when a negative value is provided where only positive values are allowed.
  *
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class LongJuggler {
@@ -45,6 +48,32 @@ public class LongJuggler {
       "The minimum value given is %s, but it must be smaller than the maximum value given"
           + " which is %s.";
 
+  private static final String BAD_LENGTH =
+      "The length given is %s, but it must be between 1 and 19.";
+
+  /** Powers of ten by exponent, the smallest long of each length being at index length - 1. */
+  static final long[] POWERS_OF_TEN = {
+    1L,
+    10L,
+    100L,
+    1_000L,
+    10_000L,
+    100_000L,
+    1_000_000L,
+    10_000_000L,
+    100_000_000L,
+    1_000_000_000L,
+    10_000_000_000L,
+    100_000_000_000L,
+    1_000_000_000_000L,
+    10_000_000_000_000L,
+    100_000_000_000_000L,
+    1_000_000_000_000_000L,
+    10_000_000_000_000_000L,
+    100_000_000_000_000_000L,
+    1_000_000_000_000_000_000L
+  };
+
   private LongJuggler() {}
 
   /**
@@ -53,7 +82,17 @@ public class LongJuggler {
    * @return A randomly generated long.
    */
   public static long generateRandomLong() {
-    return ThreadLocalRandom.current().nextLong();
+    return generateRandomLong(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random long.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated long.
+   */
+  public static long generateRandomLong(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextLong();
   }
 
   /**
@@ -62,7 +101,17 @@ public class LongJuggler {
    * @return A randomly generated positive long.
    */
   public static long generateRandomPositiveLong() {
-    return ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+    return generateRandomPositiveLong(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random positive long.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated positive long.
+   */
+  public static long generateRandomPositiveLong(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextLong(Long.MAX_VALUE);
   }
 
   /**
@@ -71,7 +120,17 @@ public class LongJuggler {
    * @return A randomly generated negative long.
    */
   public static long generateRandomNegativeLong() {
-    return ThreadLocalRandom.current().nextLong(Long.MIN_VALUE, 0L);
+    return generateRandomNegativeLong(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random negative long.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated negative long.
+   */
+  public static long generateRandomNegativeLong(JumbleJuggler juggler) {
+    return juggler.getRandomGenerator().nextLong(Long.MIN_VALUE, 0L);
   }
 
   /**
@@ -81,7 +140,18 @@ public class LongJuggler {
    * @return A randomly generated long smaller than the specified maximum.
    */
   public static long generateRandomLongSmallerThan(long max) {
-    return ThreadLocalRandom.current().nextLong(Long.MIN_VALUE, max);
+    return generateRandomLongSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random long smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated long.
+   * @return A randomly generated long smaller than the specified maximum.
+   */
+  public static long generateRandomLongSmallerThan(JumbleJuggler juggler, long max) {
+    return juggler.getRandomGenerator().nextLong(Long.MIN_VALUE, max);
   }
 
   /**
@@ -91,7 +161,18 @@ public class LongJuggler {
    * @return A randomly generated long greater than the specified minimum.
    */
   public static long generateRandomLongGreaterThan(long min) {
-    return ThreadLocalRandom.current().nextLong(min, Long.MAX_VALUE);
+    return generateRandomLongGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random long greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated long.
+   * @return A randomly generated long greater than the specified minimum.
+   */
+  public static long generateRandomLongGreaterThan(JumbleJuggler juggler, long min) {
+    return juggler.getRandomGenerator().nextLong(min, Long.MAX_VALUE);
   }
 
   /**
@@ -102,11 +183,57 @@ public class LongJuggler {
    * @throws JumbleJugglerException if the provided maximum value is negative.
    */
   public static long generateRandomPositiveLongSmallerThan(long max) throws JumbleJugglerException {
+    return generateRandomPositiveLongSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive long smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive long.
+   * @return A randomly generated positive long smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is negative.
+   */
+  public static long generateRandomPositiveLongSmallerThan(JumbleJuggler juggler, long max)
+      throws JumbleJugglerException {
     if (max < 0L) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, max)), LongJuggler.class);
     }
-    return ThreadLocalRandom.current().nextLong(max);
+    return juggler.getRandomGenerator().nextLong(max);
+  }
+
+  /**
+   * Generates a random positive long smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveLongSmallerThan(long)}, this method neither throws nor
+   * logs.
+   *
+   * @param max The exclusive upper bound for the generated positive long.
+   * @return A randomly generated positive long smaller than the specified maximum, or an empty
+   *     {@link OptionalLong} if the maximum value is not strictly positive.
+   */
+  public static OptionalLong tryGenerateRandomPositiveLongSmallerThan(long max) {
+    return tryGenerateRandomPositiveLongSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive long smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveLongSmallerThan(long)}, this method neither throws nor
+   * logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive long.
+   * @return A randomly generated positive long smaller than the specified maximum, or an empty
+   *     {@link OptionalLong} if the maximum value is not strictly positive.
+   */
+  public static OptionalLong tryGenerateRandomPositiveLongSmallerThan(
+      JumbleJuggler juggler, long max) {
+    if (max <= 0L) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(juggler.getRandomGenerator().nextLong(max));
   }
 
   /**
@@ -117,11 +244,24 @@ public class LongJuggler {
    * @throws JumbleJugglerException if the provided minimum value is negative.
    */
   public static long generateRandomPositiveLongGreaterThan(long min) throws JumbleJugglerException {
+    return generateRandomPositiveLongGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random positive long greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated positive long.
+   * @return A randomly generated positive long greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is negative.
+   */
+  public static long generateRandomPositiveLongGreaterThan(JumbleJuggler juggler, long min)
+      throws JumbleJugglerException {
     if (min < 0L) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, min)), LongJuggler.class);
     }
-    return generateRandomLongGreaterThan(min);
+    return generateRandomLongGreaterThan(juggler, min);
   }
 
   /**
@@ -132,11 +272,24 @@ public class LongJuggler {
    * @throws JumbleJugglerException if the provided maximum value is positive.
    */
   public static long generateRandomNegativeLongSmallerThan(long max) throws JumbleJugglerException {
+    return generateRandomNegativeLongSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random negative long smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated negative long.
+   * @return A randomly generated negative long smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is positive.
+   */
+  public static long generateRandomNegativeLongSmallerThan(JumbleJuggler juggler, long max)
+      throws JumbleJugglerException {
     if (max > 0L) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, max)), LongJuggler.class);
     }
-    return generateRandomLongSmallerThan(max);
+    return generateRandomLongSmallerThan(juggler, max);
   }
 
   /**
@@ -147,11 +300,24 @@ public class LongJuggler {
    * @throws JumbleJugglerException if the provided minimum value is positive.
    */
   public static long generateRandomNegativeLongGreaterThan(long min) throws JumbleJugglerException {
+    return generateRandomNegativeLongGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative long greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative long.
+   * @return A randomly generated negative long greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is positive.
+   */
+  public static long generateRandomNegativeLongGreaterThan(JumbleJuggler juggler, long min)
+      throws JumbleJugglerException {
     if (min > 0L) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, min)), LongJuggler.class);
     }
-    return ThreadLocalRandom.current().nextLong(min, 0L);
+    return juggler.getRandomGenerator().nextLong(min, 0L);
   }
 
   /**
@@ -163,11 +329,58 @@ public class LongJuggler {
    * @throws JumbleJugglerException if the minimum value is greater than the maximum value.
    */
   public static long generateRandomLongBetween(long min, long max) throws JumbleJugglerException {
+    return generateRandomLongBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random long between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated long.
+   * @param max The exclusive upper bound for the generated long.
+   * @return A randomly generated long within the specified range.
+   * @throws JumbleJugglerException if the minimum value is greater than the maximum value.
+   */
+  public static long generateRandomLongBetween(JumbleJuggler juggler, long min, long max)
+      throws JumbleJugglerException {
     if (min > max) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_BOUND, min, max)), LongJuggler.class);
     }
-    return ThreadLocalRandom.current().nextLong(min, max);
+    return BoundedLongSampler.nextLong(juggler.getRandomGenerator(), min, max);
+  }
+
+  /**
+   * Generates a random long between a specified minimum and maximum value, if the range is valid.
+   *
+   * <p>Unlike {@link #generateRandomLongBetween(long, long)}, this method neither throws nor logs.
+   *
+   * @param min The inclusive lower bound for the generated long.
+   * @param max The exclusive upper bound for the generated long.
+   * @return A randomly generated long within the specified range, or an empty {@link OptionalLong}
+   *     if the minimum value is not smaller than the maximum value.
+   */
+  public static OptionalLong tryGenerateRandomLongBetween(long min, long max) {
+    return tryGenerateRandomLongBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random long between a specified minimum and maximum value, if the range is valid.
+   *
+   * <p>Unlike {@link #generateRandomLongBetween(long, long)}, this method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated long.
+   * @param max The exclusive upper bound for the generated long.
+   * @return A randomly generated long within the specified range, or an empty {@link OptionalLong}
+   *     if the minimum value is not smaller than the maximum value.
+   */
+  public static OptionalLong tryGenerateRandomLongBetween(
+      JumbleJuggler juggler, long min, long max) {
+    if (min >= max) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(BoundedLongSampler.nextLong(juggler.getRandomGenerator(), min, max));
   }
 
   /**
@@ -175,9 +388,364 @@ public class LongJuggler {
    *
    * @param length The length of the generated positive long.
    * @return A randomly generated positive long with the specified length.
+   * @throws JumbleJugglerException if the length is not between 1 and 19.
    */
-  public static long generateRandomPositiveLongWithLength(long length) {
-    return ThreadLocalRandom.current().nextLong((9L * (long) Math.pow(10L, length - 1d)) - 1L)
-        + (long) Math.pow(10L, length - 1d);
+  public static long generateRandomPositiveLongWithLength(long length)
+      throws JumbleJugglerException {
+    return generateRandomPositiveLongWithLength(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Generates a random positive long with a specified length.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param length The length of the generated positive long.
+   * @return A randomly generated positive long with the specified length.
+   * @throws JumbleJugglerException if the length is not between 1 and 19.
+   */
+  public static long generateRandomPositiveLongWithLength(JumbleJuggler juggler, long length)
+      throws JumbleJugglerException {
+    checkLength(length);
+    return BoundedLongSampler.nextLong(
+        juggler.getRandomGenerator(),
+        POWERS_OF_TEN[(int) length - 1],
+        upperBoundOfLength((int) length));
+  }
+
+  /**
+   * Generates a random positive long with a specified length, if a long can have that length.
+   *
+   * <p>Unlike {@link #generateRandomPositiveLongWithLength(long)}, this method neither throws nor
+   * logs.
+   *
+   * @param length The length of the generated positive long.
+   * @return A randomly generated positive long with the specified length, or an empty {@link
+   *     OptionalLong} if the length is not between 1 and 19.
+   */
+  public static OptionalLong tryGenerateRandomPositiveLongWithLength(long length) {
+    return tryGenerateRandomPositiveLongWithLength(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Generates a random positive long with a specified length, if a long can have that length.
+   *
+   * <p>Unlike {@link #generateRandomPositiveLongWithLength(long)}, this method neither throws nor
+   * logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param length The length of the generated positive long.
+   * @return A randomly generated positive long with the specified length, or an empty {@link
+   *     OptionalLong} if the length is not between 1 and 19.
+   */
+  public static OptionalLong tryGenerateRandomPositiveLongWithLength(
+      JumbleJuggler juggler, long length) {
+    if (length < 1L || length > POWERS_OF_TEN.length) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(
+        BoundedLongSampler.nextLong(
+            juggler.getRandomGenerator(),
+            POWERS_OF_TEN[(int) length - 1],
+            upperBoundOfLength((int) length)));
+  }
+
+  /**
+   * Prepares a generator of random longs between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @return A {@link BoundedLongSampler} drawing from {@link JumbleJuggler#getDefault()}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedLongSampler between(long min, long max) throws JumbleJugglerException {
+    return BoundedLongSampler.between(min, max);
+  }
+
+  /**
+   * Prepares a generator of random longs between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @return A {@link BoundedLongSampler} drawing from {@code juggler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedLongSampler between(JumbleJuggler juggler, long min, long max)
+      throws JumbleJugglerException {
+    return BoundedLongSampler.between(juggler, min, max);
+  }
+
+  /**
+   * Fills an array with random longs between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomLongsBetween(long[] destination, long min, long max)
+      throws JumbleJugglerException {
+    fillWithRandomLongsBetween(
+        JumbleJuggler.getDefault(), destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills an array with random longs between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomLongsBetween(
+      JumbleJuggler juggler, long[] destination, long min, long max) throws JumbleJugglerException {
+    fillWithRandomLongsBetween(juggler, destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random longs between a specified minimum and maximum value.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomLongsBetween(
+      long[] destination, int offset, int length, long min, long max)
+      throws JumbleJugglerException {
+    fillWithRandomLongsBetween(JumbleJuggler.getDefault(), destination, offset, length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random longs between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomLongsBetween(
+      JumbleJuggler juggler, long[] destination, int offset, int length, long min, long max)
+      throws JumbleJugglerException {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), LongJuggler.class);
+    }
+
+    BoundedLongSampler.between(juggler, min, max).fill(destination, offset, length);
+  }
+
+  /**
+   * Returns a stream of {@code count} random longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream longs(long count) throws JumbleJugglerException {
+    return longs(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream longs(JumbleJuggler juggler, long count) throws JumbleJugglerException {
+    return JugglerSpliterators.longs(
+        juggler, count, randomGenerator -> randomGenerator.nextLong(), LongJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random longs between a specified minimum and maximum value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of longs to generate.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @return A sequential {@link LongStream} of {@code count} random longs.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value.
+   */
+  public static LongStream longs(long count, long min, long max) throws JumbleJugglerException {
+    return longs(JumbleJuggler.getDefault(), count, min, max);
+  }
+
+  /**
+   * Returns a stream of {@code count} random longs between a specified minimum and maximum value.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of longs to generate.
+   * @param min The inclusive lower bound for the generated longs.
+   * @param max The exclusive upper bound for the generated longs.
+   * @return A sequential {@link LongStream} of {@code count} random longs.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the minimum value is not
+   *     smaller than the maximum value.
+   */
+  public static LongStream longs(JumbleJuggler juggler, long count, long min, long max)
+      throws JumbleJugglerException {
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), LongJuggler.class);
+    }
+    return JugglerSpliterators.longs(
+        juggler, count, BoundedLongSampler.between(min, max)::nextLong, LongJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random positive longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream positiveLongs(long count) throws JumbleJugglerException {
+    return positiveLongs(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random positive longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream positiveLongs(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.longs(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextLong(Long.MAX_VALUE),
+        LongJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random negative longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream negativeLongs(long count) throws JumbleJugglerException {
+    return negativeLongs(JumbleJuggler.getDefault(), count);
+  }
+
+  /**
+   * Returns a stream of {@code count} random negative longs.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of longs to generate.
+   * @return A sequential {@link LongStream} of {@code count} random negative longs.
+   * @throws JumbleJugglerException if {@code count} is negative.
+   */
+  public static LongStream negativeLongs(JumbleJuggler juggler, long count)
+      throws JumbleJugglerException {
+    return JugglerSpliterators.longs(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextLong(Long.MIN_VALUE, 01L),
+        LongJuggler.class);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive longs with a specified length.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param count The number of longs to generate.
+   * @param length The length of the generated positive longs.
+   * @return A sequential {@link LongStream} of {@code count} random positive longs.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the length is not between 1
+   *     and 19.
+   */
+  public static LongStream positiveLongsWithLength(long count, long length)
+      throws JumbleJugglerException {
+    return positiveLongsWithLength(JumbleJuggler.getDefault(), count, length);
+  }
+
+  /**
+   * Returns a stream of {@code count} random positive longs with a specified length.
+   *
+   * <p>The stream is sized and splits its random source, so it can be made parallel without the
+   * parts contending for a generator.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param count The number of longs to generate.
+   * @param length The length of the generated positive longs.
+   * @return A sequential {@link LongStream} of {@code count} random positive longs.
+   * @throws JumbleJugglerException if {@code count} is negative, or if the length is not between 1
+   *     and 19.
+   */
+  public static LongStream positiveLongsWithLength(JumbleJuggler juggler, long count, long length)
+      throws JumbleJugglerException {
+    checkLength(length);
+    long origin = POWERS_OF_TEN[(int) length - 1];
+    long bound = upperBoundOfLength((int) length);
+    return JugglerSpliterators.longs(
+        juggler,
+        count,
+        randomGenerator -> randomGenerator.nextLong(origin, bound),
+        LongJuggler.class);
+  }
+
+  private static void checkLength(long length) throws JumbleJugglerException {
+    if (length < 1L || length > POWERS_OF_TEN.length) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_LENGTH, length)), LongJuggler.class);
+    }
+  }
+
+  /** Returns the exclusive upper bound of the longs of the given length. */
+  private static long upperBoundOfLength(int length) {
+    return length < POWERS_OF_TEN.length ? POWERS_OF_TEN[length] : Long.MAX_VALUE;
   }
 }
@@ -0,0 +1,224 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lorem Ipsum document of a given length, generated on demand from a seed.
+ *
+ * <p>The document is cut into blocks of {@value #BLOCK_SIZE} characters, the last one being
+ * shorter. Each block is a paragraph ended by a line feed, generated from its own stream of the
+ * seed, see {@link JumbleJuggler#withAlgorithm(String, long, long)}, always of {@link
+ * java.util.SplittableRandom}. A block is only generated when {@link #charAt(int)}, {@link
+ * #getChars(int, int, char[], int)} or a {@link #openReader() reader} touches it, and the {@value
+ * #CACHED_BLOCKS} blocks touched last are kept. The heap used by a document is then bounded by its
+ * cache, whatever its length, and its content only depends on its seed and length, whatever the
+ * {@value JumbleJuggler#ALGORITHM_PROPERTY} system property.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * LoremIpsumDocument document = LoremIpsumJuggler.generateRandomDocumentWithSeed(42L, 500_000_000);
+ * char c = document.charAt(123_456_789);
+ * try (BufferedReader reader = new BufferedReader(document.openReader())) {
+ *     // Parse the document line by line
+ * }
+ * }</pre>
+ *
+ * <p>A document can be shared between threads. Its {@link #toString()} materialises the whole
+ * document, which defeats its purpose for a long one.
+ *
+ * @see LoremIpsumJuggler#generateRandomDocumentWithSeed(long, int)
+ */
+public final class LoremIpsumDocument implements CharSequence {
+  /** Number of characters of a block. */
+  public static final int BLOCK_SIZE = 1 << 16;
+
+  /** Number of blocks kept once generated. */
+  public static final int CACHED_BLOCKS = 16;
+
+  private final Blocks blocks;
+
+  /** The position of this document in the blocks, not zero for a subsequence. */
+  private final int offset;
+
+  private final int length;
+
+  LoremIpsumDocument(long seed, int length) {
+    this(new Blocks(seed, length), 0, length);
+  }
+
+  private LoremIpsumDocument(Blocks blocks, int offset, int length) {
+    this.blocks = blocks;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Returns the seed the document is generated from.
+   *
+   * @return The seed of the document, or of the document this subsequence is part of.
+   */
+  public long getSeed() {
+    return blocks.seed;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    Objects.checkIndex(index, length);
+    int position = offset + index;
+    return blocks.get(position / BLOCK_SIZE)[position % BLOCK_SIZE];
+  }
+
+  /**
+   * Returns a part of the document, which shares the blocks and cache of the document.
+   *
+   * @param start The start index, inclusive.
+   * @param end The end index, exclusive.
+   * @return A {@link LoremIpsumDocument} of the characters between {@code start} and {@code end}.
+   */
+  @Override
+  public LoremIpsumDocument subSequence(int start, int end) {
+    Objects.checkFromToIndex(start, end, length);
+    return new LoremIpsumDocument(blocks, offset + start, end - start);
+  }
+
+  /**
+   * Copies characters of the document into an array, a block at a time.
+   *
+   * @param srcBegin The index of the first character to copy.
+   * @param srcEnd The index after the last character to copy.
+   * @param dst The array to copy to.
+   * @param dstBegin The index in {@code dst} of the first character copied.
+   * @throws IndexOutOfBoundsException if the range is out of the document or of {@code dst}.
+   */
+  public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+    Objects.checkFromToIndex(srcBegin, srcEnd, length);
+    Objects.checkFromIndexSize(dstBegin, srcEnd - srcBegin, dst.length);
+    int position = offset + srcBegin;
+    int end = offset + srcEnd;
+    while (position < end) {
+      char[] block = blocks.get(position / BLOCK_SIZE);
+      int start = position % BLOCK_SIZE;
+      int count = Math.min(block.length - start, end - position);
+      System.arraycopy(block, start, dst, dstBegin, count);
+      position += count;
+      dstBegin += count;
+    }
+  }
+
+  /**
+   * Returns a reader of the document, from its first character.
+   *
+   * @return A new {@link Reader}, which does not need to be closed.
+   */
+  public Reader openReader() {
+    return new Reader() {
+      private int position;
+
+      @Override
+      public int read(char[] cbuf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+          return 0;
+        }
+        if (position >= length) {
+          return -1;
+        }
+        int count = Math.min(len, length - position);
+        getChars(position, position + count, cbuf, off);
+        position += count;
+        return count;
+      }
+
+      @Override
+      public long skip(long n) {
+        long count = Math.max(0L, Math.min(n, length - position));
+        position += (int) count;
+        return count;
+      }
+
+      @Override
+      public boolean ready() {
+        return true;
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
+
+  @Override
+  public String toString() {
+    char[] chars = new char[length];
+    getChars(0, length, chars, 0);
+    return new String(chars);
+  }
+
+  /** The blocks of a document and the cache of the ones touched last. */
+  private static final class Blocks {
+    private final long seed;
+    private final int length;
+    private final Map<Integer, char[]> cache =
+        new LinkedHashMap<>(CACHED_BLOCKS * 2, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Integer, char[]> eldest) {
+            return size() > CACHED_BLOCKS;
+          }
+        };
+
+    /** The block touched last, read without locking by sequential accesses. */
+    private Block last;
+
+    private Blocks(long seed, int length) {
+      this.seed = seed;
+      this.length = length;
+    }
+
+    private char[] get(int index) {
+      Block block = last;
+      if (block != null && block.index() == index) {
+        return block.chars();
+      }
+      char[] chars;
+      synchronized (cache) {
+        chars = cache.get(index);
+      }
+      if (chars == null) {
+        chars = generate(index);
+        synchronized (cache) {
+          char[] cached = cache.putIfAbsent(index, chars);
+          chars = cached == null ? chars : cached;
+        }
+      }
+      last = new Block(index, chars);
+      return chars;
+    }
+
+    private char[] generate(int index) {
+      int blockLength = (int) Math.min(BLOCK_SIZE, (long) length - (long) index * BLOCK_SIZE);
+      StringBuilder block = new StringBuilder(blockLength);
+      LoremIpsumJuggler.appendBlock(
+          JumbleJuggler.withAlgorithm(LoremIpsumJuggler.SEEDED_ALGORITHM, seed, index),
+          block,
+          blockLength);
+      char[] chars = new char[blockLength];
+      block.getChars(0, blockLength, chars, 0);
+      return chars;
+    }
+  }
+
+  private record Block(int index, char[] chars) {}
+}
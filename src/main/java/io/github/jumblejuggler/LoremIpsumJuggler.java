@@ -6,11 +6,17 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import io.github.jumblejuggler.utils.EncodedWords;
 import io.github.jumblejuggler.utils.LoremIpsumUtil;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjLongConsumer;
 
 /**
  * Utility class for generating random Lorem Ipsum text.
@@ -49,6 +55,13 @@ import java.util.regex.Pattern;
  * } catch (JumbleJugglerException e) {
  *     // Handle exception
  * }
+ *
+ * // Write a thousand paragraphs to a file, one per line
+ * try (Writer writer = Files.newBufferedWriter(path)) {
+ *     LoremIpsumJuggler.writeRandomParagraphs(writer, 1000);
+ * } catch (IOException | JumbleJugglerException e) {
+ *     // Handle exception
+ * }
  * }</pre>
  *
  * <p>The class uses the {@link IntegerJuggler} class and throws {@link JumbleJugglerException} for
@@ -56,15 +69,45 @@ import java.util.regex.Pattern;
  *
  * @see LoremIpsumUtil
  * @see IntegerJuggler
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class LoremIpsumJuggler {
   private static final List<String> WORDS = LoremIpsumUtil.getInstance().getWords();
-  private static final Character[] PUNCTUATIONS = {'.', '!', '?'};
+  private static final EncodedWords ENCODED_WORDS = LoremIpsumUtil.getInstance().getEncodedWords();
+  private static final char[] PUNCTUATIONS = {'.', '!', '?'};
+  private static final BoundedIntSampler WORD_SAMPLER = BoundedIntSampler.of(WORDS.size());
+  private static final BoundedIntSampler PUNCTUATION_SAMPLER =
+      BoundedIntSampler.of(PUNCTUATIONS.length);
   private static final int MIN_WORDS = 10;
   private static final int MAX_WORDS = 20;
   private static final int MIN_SENTENCES = 3;
   private static final int MAX_SENTENCES = 5;
+  private static final String BAD_COUNT =
+      "The number of paragraphs given is %s, but it must not be negative.";
+  private static final String BAD_SIZE = "The size given is %s, but it must not be negative.";
+  private static final String NO_TEXT_OF_SIZE =
+      "No text of size %s can be made of the Lorem Ipsum words.";
+  private static final LoremIpsumSizer CHAR_SIZER = charSizer();
+  private static final LoremIpsumSizer BYTE_SIZER = byteSizer();
+
+  /** Number of paragraphs generated from the same stream by the bulk methods. */
+  private static final int PARAGRAPHS_PER_CHUNK = 256;
+
+  /**
+   * The algorithm of the streams of the seeded bulk generation, fixed so that the output does not
+   * depend on the {@value JumbleJuggler#ALGORITHM_PROPERTY} system property.
+   */
+  static final String SEEDED_ALGORITHM = "SplittableRandom";
+
+  /** Number of paragraphs standing for a stream written until the thread is interrupted. */
+  private static final long UNBOUNDED = -1L;
+
+  private static final int AVERAGE_WORD_LENGTH =
+      (int) Math.ceil(WORDS.stream().mapToInt(String::length).average().orElse(0));
+
+  /** Largest initial capacity of a buffer, the largest array size supported by most VMs. */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
   private LoremIpsumJuggler() {}
 
@@ -78,8 +121,22 @@ public class LoremIpsumJuggler {
    * @see IntegerJuggler#generateRandomIntBetween(int, int)
    */
   public static String generateRandomSentence() throws JumbleJugglerException {
+    return generateRandomSentence(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum sentence containing a number of words between {@link
+   * #MIN_WORDS} and {@link #MAX_WORDS}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return the generated sentence as {@link String}
+   * @throws JumbleJugglerException if the length of {@link #PUNCTUATIONS} is negative, which is not
+   *     possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomSentence(JumbleJuggler juggler) throws JumbleJugglerException {
     return generateRandomParagraphWithSentencesOfWords(
-        1, IntegerJuggler.generateRandomIntBetween(MIN_WORDS, MAX_WORDS));
+        juggler, 1, IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS));
   }
 
   /**
@@ -93,12 +150,27 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomSentenceOfWords(int wordsNumber)
       throws JumbleJugglerException {
+    return generateRandomSentenceOfWords(JumbleJuggler.getDefault(), wordsNumber);
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum sentence composed of an amount of words specified by
+   * {@code wordsNumber}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param wordsNumber number of words in the sentence
+   * @return the generated sentence as {@link String}
+   * @throws JumbleJugglerException if {@code wordsNumber} is negative or equal to zero or the
+   *     length of {@link #PUNCTUATIONS} is negative, which is not possible.
+   */
+  public static String generateRandomSentenceOfWords(JumbleJuggler juggler, int wordsNumber)
+      throws JumbleJugglerException {
     if (wordsNumber <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The number of words provided needs to be positive"),
           LoremIpsumJuggler.class);
     }
-    return generateRandomParagraphWithSentencesOfWords(1, wordsNumber);
+    return generateRandomParagraphWithSentencesOfWords(juggler, 1, wordsNumber);
   }
 
   /**
@@ -114,13 +186,30 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomSentenceOfWordsBetween(int minWords, int maxWords)
       throws JumbleJugglerException {
+    return generateRandomSentenceOfWordsBetween(JumbleJuggler.getDefault(), minWords, maxWords);
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum sentence composed of an amount of words between {@code
+   * minWords} and {@code maxWords}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param minWords minimum number of words in the sentence
+   * @param maxWords maximum number of words in the sentence
+   * @return the generated sentence as {@link String}
+   * @throws JumbleJugglerException if {@code minWords} or {@code maxWords} are less or equal to
+   *     zero or the length of {@link #PUNCTUATIONS} is negative, which is not possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomSentenceOfWordsBetween(
+      JumbleJuggler juggler, int minWords, int maxWords) throws JumbleJugglerException {
     if (minWords <= 0 || maxWords <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The integers provided should to be positive"),
           LoremIpsumJuggler.class);
     }
     return generateRandomParagraphWithSentencesOfWords(
-        1, IntegerJuggler.generateRandomIntBetween(minWords, maxWords));
+        juggler, 1, IntegerJuggler.generateRandomIntBetween(juggler, minWords, maxWords));
   }
 
   /**
@@ -134,9 +223,26 @@ public class LoremIpsumJuggler {
    * @see IntegerJuggler#generateRandomIntBetween(int, int)
    */
   public static String generateRandomParagraph() throws JumbleJugglerException {
+    return generateRandomParagraph(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum paragraph composed of an amount of sentences varying
+   * between {@link #MIN_SENTENCES} and {@link #MAX_SENTENCES}. Each sentence containing an amount
+   * between {@link #MIN_WORDS} and {@link #MAX_WORDS} words.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return the generated paragraph as {@link String}
+   * @throws JumbleJugglerException if the length of {@link #PUNCTUATIONS} is negative, which is not
+   *     possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomParagraph(JumbleJuggler juggler)
+      throws JumbleJugglerException {
     return generateRandomParagraphWithSentencesOfWords(
-        IntegerJuggler.generateRandomIntBetween(MIN_SENTENCES, MAX_SENTENCES),
-        IntegerJuggler.generateRandomIntBetween(MIN_WORDS, MAX_WORDS));
+        juggler,
+        IntegerJuggler.generateRandomIntBetween(juggler, MIN_SENTENCES, MAX_SENTENCES),
+        IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS));
   }
 
   /**
@@ -152,6 +258,23 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomParagraphWithSentences(int sentencesNumber)
       throws JumbleJugglerException {
+    return generateRandomParagraphWithSentences(JumbleJuggler.getDefault(), sentencesNumber);
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum paragraph composed of an amount of sentences specified
+   * by {@code sentencesNumber}. Each sentence contains an amount of words between {@link
+   * #MIN_WORDS} and {@link #MAX_WORDS}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param sentencesNumber number of sentences in the paragraph
+   * @return the generated paragraph as {@link String}
+   * @throws JumbleJugglerException if {@code sentencesNumber} is less or equal to zero or the
+   *     length of {@link #PUNCTUATIONS} is negative, which is not possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomParagraphWithSentences(
+      JumbleJuggler juggler, int sentencesNumber) throws JumbleJugglerException {
     if (sentencesNumber <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The number of sentences provided needs to be positive"),
@@ -159,7 +282,9 @@ public class LoremIpsumJuggler {
     }
 
     return generateRandomParagraphWithSentencesOfWords(
-        sentencesNumber, IntegerJuggler.generateRandomIntBetween(MIN_WORDS, MAX_WORDS));
+        juggler,
+        sentencesNumber,
+        IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS));
   }
 
   /**
@@ -177,6 +302,26 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomParagraphWithSentencesBetween(
       int minSentences, int maxSentences) throws JumbleJugglerException {
+    return generateRandomParagraphWithSentencesBetween(
+        JumbleJuggler.getDefault(), minSentences, maxSentences);
+  }
+
+  /**
+   * Generates one Lorem Ipsum paragraph composed of an amount of sentences varying between {@code
+   * minSentences} and {@code maxSentences}. Each sentence contains an amount of words between
+   * {@link #MIN_WORDS} and {@link #MAX_WORDS}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param minSentences The minimum number of sentences in the paragraph.
+   * @param maxSentences The maximum number of sentences in the paragraph.
+   * @return The generated paragraph as {@link String}.
+   * @throws JumbleJugglerException If {@code minSentences} or {@code maxSentences} is less than or
+   *     equal to zero, or if the length of {@link #PUNCTUATIONS} is negative, which is not
+   *     possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomParagraphWithSentencesBetween(
+      JumbleJuggler juggler, int minSentences, int maxSentences) throws JumbleJugglerException {
     if (minSentences <= 0 || maxSentences <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The integers provided should to be positive"),
@@ -184,8 +329,9 @@ public class LoremIpsumJuggler {
     }
 
     return generateRandomParagraphWithSentencesOfWords(
-        IntegerJuggler.generateRandomIntBetween(minSentences, maxSentences),
-        IntegerJuggler.generateRandomIntBetween(MIN_WORDS, MAX_WORDS));
+        juggler,
+        IntegerJuggler.generateRandomIntBetween(juggler, minSentences, maxSentences),
+        IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS));
   }
 
   /**
@@ -203,6 +349,27 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomParagraphWithSentencesOfWordsBetween(
       int sentencesNumber, int minWords, int maxWords) throws JumbleJugglerException {
+    return generateRandomParagraphWithSentencesOfWordsBetween(
+        JumbleJuggler.getDefault(), sentencesNumber, minWords, maxWords);
+  }
+
+  /**
+   * Generates one Lorem Ipsum paragraph composed of {@code sentencesNumber} amount of sentences.
+   * Each sentence contains an amount of words between {@code minWords} and {@code maxWords}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param sentencesNumber The number of sentences in the paragraph.
+   * @param minWords The minimum number of words in each sentence.
+   * @param maxWords The maximum number of words in each sentence.
+   * @return The generated paragraph as {@link String}.
+   * @throws JumbleJugglerException If {@code sentencesNumber}, {@code minWords}, or {@code
+   *     maxWords} is less than or equal to zero, or if the length of {@link #PUNCTUATIONS} is
+   *     negative, which is not possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomParagraphWithSentencesOfWordsBetween(
+      JumbleJuggler juggler, int sentencesNumber, int minWords, int maxWords)
+      throws JumbleJugglerException {
     if (sentencesNumber <= 0 || minWords <= 0 || maxWords <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The integers provided should to be positive"),
@@ -210,7 +377,9 @@ public class LoremIpsumJuggler {
     }
 
     return generateRandomParagraphWithSentencesOfWords(
-        sentencesNumber, IntegerJuggler.generateRandomIntBetween(minWords, maxWords));
+        juggler,
+        sentencesNumber,
+        IntegerJuggler.generateRandomIntBetween(juggler, minWords, maxWords));
   }
 
   /**
@@ -231,6 +400,29 @@ public class LoremIpsumJuggler {
   public static String generateRandomParagraphWithSentencesBetweenMadeOfWordsBetween(
       int minSentences, int maxSentences, int minWords, int maxWords)
       throws JumbleJugglerException {
+    return generateRandomParagraphWithSentencesBetweenMadeOfWordsBetween(
+        JumbleJuggler.getDefault(), minSentences, maxSentences, minWords, maxWords);
+  }
+
+  /**
+   * Generates one Lorem Ipsum paragraph composed of an amount of sentences varying between {@code
+   * minSentences} and {@code maxSentences}. Each sentence contains an amount of words between
+   * {@code minWords} and {@code maxWords}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param minSentences The minimum number of sentences in the paragraph.
+   * @param maxSentences The maximum number of sentences in the paragraph.
+   * @param minWords The minimum number of words in each sentence.
+   * @param maxWords The maximum number of words in each sentence.
+   * @return The generated paragraph as {@link String}.
+   * @throws JumbleJugglerException If {@code minSentences}, {@code maxSentences}, {@code minWords},
+   *     or {@code maxWords} is less than or equal to zero, or if the length of {@link
+   *     #PUNCTUATIONS} is negative, which is not possible.
+   * @see IntegerJuggler#generateRandomIntBetween(int, int)
+   */
+  public static String generateRandomParagraphWithSentencesBetweenMadeOfWordsBetween(
+      JumbleJuggler juggler, int minSentences, int maxSentences, int minWords, int maxWords)
+      throws JumbleJugglerException {
     if (minSentences <= 0 || maxSentences <= 0 || minWords <= 0 || maxWords <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The integers provided should to be positive"),
@@ -238,8 +430,9 @@ public class LoremIpsumJuggler {
     }
 
     return generateRandomParagraphWithSentencesOfWords(
-        IntegerJuggler.generateRandomIntBetween(minSentences, maxSentences),
-        IntegerJuggler.generateRandomIntBetween(minWords, maxWords));
+        juggler,
+        IntegerJuggler.generateRandomIntBetween(juggler, minSentences, maxSentences),
+        IntegerJuggler.generateRandomIntBetween(juggler, minWords, maxWords));
   }
 
   /**
@@ -254,77 +447,774 @@ public class LoremIpsumJuggler {
    */
   public static String generateRandomParagraphWithSentencesOfWords(
       int sentencesNumber, int wordsNumber) throws JumbleJugglerException {
+    return generateRandomParagraphWithSentencesOfWords(
+        JumbleJuggler.getDefault(), sentencesNumber, wordsNumber);
+  }
+
+  /**
+   * Method used to generate one Lorem Ipsum paragraph composed of {@code sentencesNumber} amount of
+   * sentences. Each sentence contains {@code wordsNumber} amount of words.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param sentencesNumber number of sentences in the paragraph
+   * @param wordsNumber number of words in each sentence
+   * @return the generated sentence as {@link String}
+   * @throws JumbleJugglerException if {@code sentencesNumber} or {@code wordsNumber} are less or
+   *     equal to zero or the length of {@link #PUNCTUATIONS} is negative which is not possible
+   */
+  public static String generateRandomParagraphWithSentencesOfWords(
+      JumbleJuggler juggler, int sentencesNumber, int wordsNumber) throws JumbleJugglerException {
     if (sentencesNumber <= 0 || wordsNumber <= 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException("The integers provided should to be positive"),
           LoremIpsumJuggler.class);
     }
-    StringBuilder paragraph = new StringBuilder();
+    StringBuilder paragraph = new StringBuilder(estimateLength(sentencesNumber, wordsNumber));
+    try {
+      appendParagraph(juggler, LoremIpsumSink.of(paragraph, WORDS), sentencesNumber, wordsNumber);
+    } catch (IOException e) {
+      // The sink of a StringBuilder never writes to an output
+      throw new UncheckedIOException(e);
+    }
+    return paragraph.append(' ').toString();
+  }
 
-    for (int i = 0; i < sentencesNumber; i++) {
-      List<StringBuilder> sentenceWords = getRandomWords(wordsNumber);
-      paragraph.append(constructSentence(sentenceWords, i == sentencesNumber - 1)).append(" ");
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs, each one made as by {@link
+   * #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through a buffer of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The output is flushed at the end, if it is {@link java.io.Flushable},
+   * but not closed.
+   *
+   * @param out The {@link Appendable} to append the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(Appendable out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeRandomParagraphs(JumbleJuggler.getDefault(), out, paragraphsNumber);
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs, each one made as by {@link
+   * #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through a buffer of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The output is flushed at the end, if it is {@link java.io.Flushable},
+   * but not closed.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link Appendable} to append the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(
+      JumbleJuggler juggler, Appendable out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, WORDS), checkCount(paragraphsNumber));
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs, each one made as by {@link
+   * #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through a buffer of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The writer is flushed at the end, but not closed.
+   *
+   * @param out The {@link Writer} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(Writer out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeRandomParagraphs(JumbleJuggler.getDefault(), out, paragraphsNumber);
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs, each one made as by {@link
+   * #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through a buffer of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The writer is flushed at the end, but not closed.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link Writer} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(JumbleJuggler juggler, Writer out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, WORDS), checkCount(paragraphsNumber));
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs encoded in UTF-8, each one made as by
+   * {@link #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through buffers of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The stream is flushed at the end, but not closed.
+   *
+   * @param out The {@link OutputStream} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(OutputStream out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeRandomParagraphs(JumbleJuggler.getDefault(), out, paragraphsNumber);
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs encoded in UTF-8, each one made as by
+   * {@link #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through buffers of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The stream is flushed at the end, but not closed.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link OutputStream} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(
+      JumbleJuggler juggler, OutputStream out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, ENCODED_WORDS), checkCount(paragraphsNumber));
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs encoded in UTF-8, each one made as by
+   * {@link #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through buffers of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The channel is not closed.
+   *
+   * @param out The {@link WritableByteChannel} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(WritableByteChannel out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeRandomParagraphs(JumbleJuggler.getDefault(), out, paragraphsNumber);
+  }
+
+  /**
+   * Writes {@code paragraphsNumber} Lorem Ipsum paragraphs encoded in UTF-8, each one made as by
+   * {@link #generateRandomParagraph()} and written on its own line.
+   *
+   * <p>The paragraphs go through buffers of fixed size, so the memory used does not depend on
+   * {@code paragraphsNumber}. The channel is not closed.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link WritableByteChannel} to write the paragraphs to.
+   * @param paragraphsNumber The number of paragraphs to write.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void writeRandomParagraphs(
+      JumbleJuggler juggler, WritableByteChannel out, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, ENCODED_WORDS), checkCount(paragraphsNumber));
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(Appendable, long)} does, until
+   * the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param out The {@link Appendable} to append the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(Appendable out)
+      throws IOException, JumbleJugglerException {
+    streamRandomParagraphs(JumbleJuggler.getDefault(), out);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(Appendable, long)} does, until
+   * the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link Appendable} to append the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(JumbleJuggler juggler, Appendable out)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, WORDS), UNBOUNDED);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(Writer, long)} does, until the
+   * current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param out The {@link Writer} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(Writer out) throws IOException, JumbleJugglerException {
+    streamRandomParagraphs(JumbleJuggler.getDefault(), out);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(Writer, long)} does, until the
+   * current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link Writer} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(JumbleJuggler juggler, Writer out)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, WORDS), UNBOUNDED);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(OutputStream, long)} does,
+   * until the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param out The {@link OutputStream} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(OutputStream out)
+      throws IOException, JumbleJugglerException {
+    streamRandomParagraphs(JumbleJuggler.getDefault(), out);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(OutputStream, long)} does,
+   * until the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link OutputStream} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(JumbleJuggler juggler, OutputStream out)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, ENCODED_WORDS), UNBOUNDED);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(WritableByteChannel, long)}
+   * does, until the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set. An
+   * interruptible channel is closed by the interrupt, and then fails instead.
+   *
+   * @param out The {@link WritableByteChannel} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(WritableByteChannel out)
+      throws IOException, JumbleJugglerException {
+    streamRandomParagraphs(JumbleJuggler.getDefault(), out);
+  }
+
+  /**
+   * Writes Lorem Ipsum paragraphs, as {@link #writeRandomParagraphs(WritableByteChannel, long)}
+   * does, until the current thread is interrupted or {@code out} fails.
+   *
+   * <p>The method returns once the thread is interrupted, with its interrupt status still set. An
+   * interruptible channel is closed by the interrupt, and then fails instead.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param out The {@link WritableByteChannel} to write the paragraphs to.
+   * @throws IOException if {@code out} fails.
+   * @throws JumbleJugglerException if the paragraphs cannot be generated, which is not possible.
+   */
+  public static void streamRandomParagraphs(JumbleJuggler juggler, WritableByteChannel out)
+      throws IOException, JumbleJugglerException {
+    writeParagraphs(juggler, LoremIpsumSink.of(out, ENCODED_WORDS), UNBOUNDED);
+  }
+
+  /**
+   * Generates Lorem Ipsum text of exactly {@code length} characters.
+   *
+   * <p>The text is made of sentences of between {@link #MIN_WORDS} and {@link #MAX_WORDS} words,
+   * the last one being shortened or lengthened so that its period is the last character. No text is
+   * generated beyond {@code length}.
+   *
+   * @param length The number of characters of the text.
+   * @return The generated text as {@link String}, empty if {@code length} is zero.
+   * @throws JumbleJugglerException if {@code length} is negative, or too small for a word and a
+   *     period, as 1 is.
+   */
+  public static String generateRandomTextOfLength(int length) throws JumbleJugglerException {
+    return generateRandomTextOfLength(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Generates Lorem Ipsum text of exactly {@code length} characters.
+   *
+   * <p>The text is made of sentences of between {@link #MIN_WORDS} and {@link #MAX_WORDS} words,
+   * the last one being shortened or lengthened so that its period is the last character. No text is
+   * generated beyond {@code length}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param length The number of characters of the text.
+   * @return The generated text as {@link String}, empty if {@code length} is zero.
+   * @throws JumbleJugglerException if {@code length} is negative, or too small for a word and a
+   *     period, as 1 is.
+   */
+  public static String generateRandomTextOfLength(JumbleJuggler juggler, int length)
+      throws JumbleJugglerException {
+    checkSize(CHAR_SIZER, length);
+    StringBuilder text = new StringBuilder(length);
+    try {
+      appendText(juggler, LoremIpsumSink.of(text, WORDS), CHAR_SIZER, length);
+    } catch (IOException e) {
+      // The sink of a StringBuilder never writes to an output
+      throw new UncheckedIOException(e);
     }
+    return text.toString();
+  }
 
-    return capitalizeTheFirstLetterOfSentence(paragraph);
+  /**
+   * Generates Lorem Ipsum text of exactly {@code size} bytes once encoded in UTF-8.
+   *
+   * <p>The words are copied already encoded, and the text ends as the one of {@link
+   * #generateRandomTextOfLength(int)} does.
+   *
+   * @param size The number of bytes of the text.
+   * @return The generated text encoded in UTF-8, empty if {@code size} is zero.
+   * @throws JumbleJugglerException if {@code size} is negative, or too small for a word and a
+   *     period, as 1 is.
+   */
+  public static byte[] generateRandomTextOfSize(int size) throws JumbleJugglerException {
+    return generateRandomTextOfSize(JumbleJuggler.getDefault(), size);
+  }
+
+  /**
+   * Generates Lorem Ipsum text of exactly {@code size} bytes once encoded in UTF-8.
+   *
+   * <p>The words are copied already encoded, and the text ends as the one of {@link
+   * #generateRandomTextOfLength(int)} does.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param size The number of bytes of the text.
+   * @return The generated text encoded in UTF-8, empty if {@code size} is zero.
+   * @throws JumbleJugglerException if {@code size} is negative, or too small for a word and a
+   *     period, as 1 is.
+   */
+  public static byte[] generateRandomTextOfSize(JumbleJuggler juggler, int size)
+      throws JumbleJugglerException {
+    checkSize(BYTE_SIZER, size);
+    byte[] text = new byte[size];
+    putText(juggler, ByteBuffer.wrap(text));
+    return text;
+  }
+
+  /**
+   * Fills the remaining bytes of a buffer, heap or direct, with Lorem Ipsum text encoded in UTF-8.
+   *
+   * <p>The text is written from the position of {@code target} up to its limit, where the position
+   * is left, and ends as the one of {@link #generateRandomTextOfLength(int)} does.
+   *
+   * @param target The {@link ByteBuffer} to fill.
+   * @throws JumbleJugglerException if the remaining bytes of {@code target} are too few for a word
+   *     and a period, as 1 is.
+   */
+  public static void putRandomText(ByteBuffer target) throws JumbleJugglerException {
+    putRandomText(JumbleJuggler.getDefault(), target);
   }
 
-  private static List<StringBuilder> getRandomWords(int wordsNumber) throws JumbleJugglerException {
-    List<StringBuilder> sentenceWords = new ArrayList<>();
+  /**
+   * Fills the remaining bytes of a buffer, heap or direct, with Lorem Ipsum text encoded in UTF-8.
+   *
+   * <p>The text is written from the position of {@code target} up to its limit, where the position
+   * is left, and ends as the one of {@link #generateRandomTextOfLength(int)} does.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param target The {@link ByteBuffer} to fill.
+   * @throws JumbleJugglerException if the remaining bytes of {@code target} are too few for a word
+   *     and a period, as 1 is.
+   */
+  public static void putRandomText(JumbleJuggler juggler, ByteBuffer target)
+      throws JumbleJugglerException {
+    checkSize(BYTE_SIZER, target.remaining());
+    putText(juggler, target);
+  }
 
-    for (int i = 0; i < wordsNumber; i++) {
-      sentenceWords.add(
-          new StringBuilder()
-              .append(
-                  WORDS.get(IntegerJuggler.generateRandomPositiveIntSmallerThan(WORDS.size()))));
+  private static void putText(JumbleJuggler juggler, ByteBuffer target)
+      throws JumbleJugglerException {
+    try {
+      appendText(juggler, LoremIpsumSink.of(target, ENCODED_WORDS), BYTE_SIZER, target.remaining());
+    } catch (IOException e) {
+      // The sink of a ByteBuffer never writes to an output
+      throw new UncheckedIOException(e);
     }
-    return sentenceWords;
   }
 
-  private static String constructSentence(List<StringBuilder> sentenceWords, boolean isLastSentence)
+  /**
+   * Generates {@code paragraphsNumber} Lorem Ipsum paragraphs in parallel, from a seed drawn from
+   * the default context.
+   *
+   * @param paragraphsNumber The number of paragraphs to generate.
+   * @return The generated paragraphs.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   * @see #generateRandomParagraphsWithSeed(long, int)
+   */
+  public static String[] generateRandomParagraphs(int paragraphsNumber)
+      throws JumbleJugglerException {
+    return generateRandomParagraphs(JumbleJuggler.getDefault(), paragraphsNumber);
+  }
+
+  /**
+   * Generates {@code paragraphsNumber} Lorem Ipsum paragraphs in parallel, from a seed drawn from
+   * {@code juggler}, so a seeded context gives the same paragraphs on every machine, as long as it
+   * uses the same algorithm.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw the seed from.
+   * @param paragraphsNumber The number of paragraphs to generate.
+   * @return The generated paragraphs.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   * @see #generateRandomParagraphsWithSeed(long, int)
+   */
+  public static String[] generateRandomParagraphs(JumbleJuggler juggler, int paragraphsNumber)
+      throws JumbleJugglerException {
+    return generateRandomParagraphsWithSeed(
+        juggler.getRandomGenerator().nextLong(), paragraphsNumber);
+  }
+
+  /**
+   * Generates {@code paragraphsNumber} Lorem Ipsum paragraphs in parallel from {@code seed}, each
+   * one made as by {@link #generateRandomParagraph()}.
+   *
+   * <p>The paragraphs are cut into chunks of {@value #PARAGRAPHS_PER_CHUNK}, each generated from
+   * its own stream of the seed, see {@link JumbleJuggler#withAlgorithm(String, long, long)}, always
+   * of {@link java.util.SplittableRandom}. The chunks are spread over the fork/join pool the method
+   * is called from, or the common pool, and the result only depends on the seed and {@code
+   * paragraphsNumber}, whatever the number of cores and the {@value
+   * JumbleJuggler#ALGORITHM_PROPERTY} system property.
+   *
+   * @param seed The seed the paragraphs are generated from.
+   * @param paragraphsNumber The number of paragraphs to generate.
+   * @return The generated paragraphs.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static String[] generateRandomParagraphsWithSeed(long seed, int paragraphsNumber)
+      throws JumbleJugglerException {
+    String[] paragraphs = new String[(int) checkCount(paragraphsNumber)];
+    forEachRandomParagraphWithSeed(
+        seed, paragraphsNumber, (paragraph, index) -> paragraphs[(int) index] = paragraph);
+    return paragraphs;
+  }
+
+  /**
+   * Generates {@code paragraphsNumber} Lorem Ipsum paragraphs in parallel from {@code seed}, as
+   * {@link #generateRandomParagraphsWithSeed(long, int)} does, and hands each one to {@code sink}
+   * with its index.
+   *
+   * <p>The sink is called from several threads at once, in no particular order, so it must be
+   * thread-safe. The paragraph of each index only depends on the seed, which lets the sink store or
+   * write the paragraphs where they belong. The method returns once the sink has been called for
+   * all the paragraphs.
+   *
+   * @param seed The seed the paragraphs are generated from.
+   * @param paragraphsNumber The number of paragraphs to generate.
+   * @param sink The consumer of each paragraph and its index.
+   * @throws JumbleJugglerException if {@code paragraphsNumber} is negative.
+   */
+  public static void forEachRandomParagraphWithSeed(
+      long seed, long paragraphsNumber, ObjLongConsumer<String> sink)
       throws JumbleJugglerException {
-    sentenceWords
-        .get(sentenceWords.size() - 1)
-        .append(
-            sentenceWords.size() > IntegerJuggler.generateRandomIntBetween(3, 10) || isLastSentence
-                ? "."
-                : ",");
-
-    StringBuilder sentence = new StringBuilder();
-    for (StringBuilder sentenceWord : sentenceWords) {
-      sentence.append(sentenceWord.toString()).append(" ");
+    checkCount(paragraphsNumber);
+    long chunks =
+        paragraphsNumber / PARAGRAPHS_PER_CHUNK
+            + (paragraphsNumber % PARAGRAPHS_PER_CHUNK == 0L ? 0L : 1L);
+    new ParagraphsTask(seed, paragraphsNumber, sink, 0L, chunks).invoke();
+  }
+
+  /**
+   * Returns a Lorem Ipsum document of {@code length} characters, generated on demand from a seed
+   * drawn from the default context.
+   *
+   * @param length The number of characters of the document.
+   * @return A new {@link LoremIpsumDocument}.
+   * @throws JumbleJugglerException if {@code length} is negative.
+   * @see #generateRandomDocumentWithSeed(long, int)
+   */
+  public static LoremIpsumDocument generateRandomDocument(int length)
+      throws JumbleJugglerException {
+    return generateRandomDocument(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Returns a Lorem Ipsum document of {@code length} characters, generated on demand from a seed
+   * drawn from {@code juggler}.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw the seed from.
+   * @param length The number of characters of the document.
+   * @return A new {@link LoremIpsumDocument}.
+   * @throws JumbleJugglerException if {@code length} is negative.
+   * @see #generateRandomDocumentWithSeed(long, int)
+   */
+  public static LoremIpsumDocument generateRandomDocument(JumbleJuggler juggler, int length)
+      throws JumbleJugglerException {
+    return generateRandomDocumentWithSeed(juggler.getRandomGenerator().nextLong(), length);
+  }
+
+  /**
+   * Returns a Lorem Ipsum document of {@code length} characters, generated on demand from {@code
+   * seed}.
+   *
+   * <p>Nothing is generated until the document is read, and only the blocks read are, so the
+   * document can be far larger than the heap. Two documents of the same seed and length have the
+   * same content.
+   *
+   * @param seed The seed the document is generated from.
+   * @param length The number of characters of the document.
+   * @return A new {@link LoremIpsumDocument}.
+   * @throws JumbleJugglerException if {@code length} is negative.
+   */
+  public static LoremIpsumDocument generateRandomDocumentWithSeed(long seed, int length)
+      throws JumbleJugglerException {
+    if (length < 0) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_SIZE, length)), LoremIpsumJuggler.class);
     }
+    return new LoremIpsumDocument(seed, length);
+  }
 
-    // Remove the trailing space
-    if (sentence.length() > 1) {
-      sentence.setLength(sentence.length() - 1);
+  /**
+   * Appends exactly {@code length} characters to a block of a {@link LoremIpsumDocument}: a text as
+   * the one of {@link #generateRandomTextOfLength(int)}, followed by a line feed. If no text is one
+   * character shorter than the block, the text is shortened and followed by more line feeds.
+   */
+  static void appendBlock(JumbleJuggler juggler, StringBuilder block, int length) {
+    int textLength = Math.max(0, length - 1);
+    while (!canMake(CHAR_SIZER, textLength)) {
+      textLength--;
     }
+    try {
+      appendText(juggler, LoremIpsumSink.of(block, WORDS), CHAR_SIZER, textLength);
+    } catch (IOException e) {
+      // The sink of a StringBuilder never writes to an output
+      throw new UncheckedIOException(e);
+    }
+    block.append("\n".repeat(length - textLength));
+  }
 
-    return sentence.toString();
+  /** Returns {@code true} if a text of {@code size} units of the sizer can be made. */
+  private static boolean canMake(LoremIpsumSizer sizer, long size) {
+    return size == 0L || size > sizer.getThreshold() || sizer.canFill(size - 1L);
   }
 
-  private static String capitalizeTheFirstLetterOfSentence(StringBuilder paragraph)
-      throws JumbleJugglerException {
-    Pattern pattern = Pattern.compile("\\.\\s*\\w");
-    Matcher matcher = pattern.matcher(capitalizeFirstLetterOfParagraph(paragraph));
-    StringBuilder sb = new StringBuilder();
-
-    while (matcher.find()) {
-      String replacement =
-          matcher
-              .group()
-              .toUpperCase()
-              .replace(
-                  '.',
-                  PUNCTUATIONS[
-                      IntegerJuggler.generateRandomPositiveIntSmallerThan(PUNCTUATIONS.length)]);
-      matcher.appendReplacement(sb, replacement);
+  private static void checkSize(LoremIpsumSizer sizer, long size) throws JumbleJugglerException {
+    if (size < 0L) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_SIZE, size)), LoremIpsumJuggler.class);
+    }
+    if (!canMake(sizer, size)) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(NO_TEXT_OF_SIZE, size)),
+          LoremIpsumJuggler.class);
+    }
+  }
+
+  private static long checkCount(long paragraphsNumber) throws JumbleJugglerException {
+    if (paragraphsNumber < 0L) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_COUNT, paragraphsNumber)),
+          LoremIpsumJuggler.class);
     }
-    matcher.appendTail(sb);
-    return sb.toString();
+    return paragraphsNumber;
   }
 
-  private static String capitalizeFirstLetterOfParagraph(StringBuilder paragraph) {
-    return Character.toUpperCase(paragraph.charAt(0)) + paragraph.substring(1);
+  /**
+   * Writes paragraphs to the sink, one per line, {@code paragraphsNumber} of them or, if it is
+   * {@link #UNBOUNDED}, until the current thread is interrupted.
+   */
+  private static void writeParagraphs(
+      JumbleJuggler juggler, LoremIpsumSink sink, long paragraphsNumber)
+      throws IOException, JumbleJugglerException {
+    for (long i = 0L;
+        paragraphsNumber == UNBOUNDED
+            ? !Thread.currentThread().isInterrupted()
+            : i < paragraphsNumber;
+        i++) {
+      appendParagraph(
+          juggler,
+          sink,
+          IntegerJuggler.generateRandomIntBetween(juggler, MIN_SENTENCES, MAX_SENTENCES),
+          IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS));
+      sink.append('\n');
+    }
+    sink.finish();
+  }
+
+  /**
+   * Appends a paragraph to the sink in a single forward pass, draining the sink as it fills up.
+   *
+   * <p>A sentence ends with a comma or, if it has more words than a random threshold between 3 and
+   * 10 or is the last one, with a period. The period of a sentence followed by another one is
+   * swapped for one of the {@link #PUNCTUATIONS}, and the sentence after it, as the first one, is
+   * capitalised. Words and sentences are separated by a space.
+   */
+  private static void appendParagraph(
+      JumbleJuggler juggler, LoremIpsumSink sink, int sentencesNumber, int wordsNumber)
+      throws IOException, JumbleJugglerException {
+    boolean capitalize = true;
+    for (int i = 0; i < sentencesNumber; i++) {
+      for (int j = 0; j < wordsNumber; j++) {
+        if (i > 0 || j > 0) {
+          sink.append(' ');
+        }
+        sink.word(WORD_SAMPLER.nextInt(juggler), capitalize);
+        capitalize = false;
+      }
+      boolean isLastSentence = i == sentencesNumber - 1;
+      boolean endsWithPeriod =
+          wordsNumber > IntegerJuggler.generateRandomIntBetween(juggler, 3, 10) || isLastSentence;
+      if (!endsWithPeriod) {
+        sink.append(',');
+      } else if (isLastSentence) {
+        sink.append('.');
+      } else {
+        sink.append(PUNCTUATIONS[PUNCTUATION_SAMPLER.nextInt(juggler)]);
+        capitalize = true;
+      }
+    }
+  }
+
+  /**
+   * Appends text of exactly {@code size} units of the sizer to the sink, where {@link
+   * #checkSize(LoremIpsumSizer, long)} accepts {@code size}.
+   *
+   * <p>Random words are written, in sentences as in a paragraph, while the size left is above the
+   * threshold of the sizer. The words of the ending are then drawn among the ones whose lengths add
+   * up exactly to the size left, followed by a period.
+   */
+  private static void appendText(
+      JumbleJuggler juggler, LoremIpsumSink sink, LoremIpsumSizer sizer, long size)
+      throws IOException, JumbleJugglerException {
+    if (size == 0L) {
+      return;
+    }
+    long left = size;
+    boolean first = true;
+    boolean capitalize = true;
+    int sentenceWords = IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS);
+    while (left > sizer.getThreshold()) {
+      if (!first) {
+        sink.append(' ');
+        left--;
+      }
+      int rank = WORD_SAMPLER.nextInt(juggler);
+      sink.word(rank, capitalize);
+      left -= sizer.length(rank, capitalize);
+      first = false;
+      capitalize = false;
+      if (--sentenceWords == 0) {
+        sink.append(PUNCTUATIONS[PUNCTUATION_SAMPLER.nextInt(juggler)]);
+        left--;
+        capitalize = true;
+        sentenceWords = IntegerJuggler.generateRandomIntBetween(juggler, MIN_WORDS, MAX_WORDS);
+      }
+    }
+    // The words of the ending and the spaces between them, before the period
+    int ending = (int) left - 1;
+    if (!first) {
+      sink.append(' ');
+      ending--;
+    }
+    while (true) {
+      int rank = sizer.nextRank(juggler.getRandomGenerator(), ending);
+      sink.word(rank, capitalize);
+      ending -= sizer.length(rank, capitalize);
+      capitalize = false;
+      if (ending == 0) {
+        break;
+      }
+      sink.append(' ');
+      ending--;
+    }
+    sink.append('.');
+  }
+
+  private static LoremIpsumSizer charSizer() {
+    int[] lengths = WORDS.stream().mapToInt(String::length).toArray();
+    return LoremIpsumSizer.of(lengths, lengths);
+  }
+
+  private static LoremIpsumSizer byteSizer() {
+    int[] lengths = new int[ENCODED_WORDS.size()];
+    int[] capitalizedLengths = new int[ENCODED_WORDS.size()];
+    for (int rank = 0; rank < lengths.length; rank++) {
+      lengths[rank] = ENCODED_WORDS.length(rank);
+      capitalizedLengths[rank] = ENCODED_WORDS.capitalizedLength(rank);
+    }
+    return LoremIpsumSizer.of(lengths, capitalizedLengths);
+  }
+
+  /** Returns the capacity holding a paragraph of average words without growing. */
+  private static int estimateLength(int sentencesNumber, int wordsNumber) {
+    long length =
+        (long) sentencesNumber * wordsNumber * (AVERAGE_WORD_LENGTH + 1) + sentencesNumber;
+    return (int) Math.min(length, MAX_CAPACITY);
+  }
+
+  /** Task generating the paragraphs of a range of chunks, halving the range while it is large. */
+  private static final class ParagraphsTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final long seed;
+    private final long paragraphsNumber;
+    private final ObjLongConsumer<String> sink;
+    private final long fromChunk;
+    private final long toChunk;
+
+    private ParagraphsTask(
+        long seed,
+        long paragraphsNumber,
+        ObjLongConsumer<String> sink,
+        long fromChunk,
+        long toChunk) {
+      this.seed = seed;
+      this.paragraphsNumber = paragraphsNumber;
+      this.sink = sink;
+      this.fromChunk = fromChunk;
+      this.toChunk = toChunk;
+    }
+
+    @Override
+    protected void compute() {
+      if (toChunk - fromChunk > 1L) {
+        long middle = (fromChunk + toChunk) >>> 1;
+        invokeAll(
+            new ParagraphsTask(seed, paragraphsNumber, sink, fromChunk, middle),
+            new ParagraphsTask(seed, paragraphsNumber, sink, middle, toChunk));
+        return;
+      }
+      for (long chunk = fromChunk; chunk < toChunk; chunk++) {
+        JumbleJuggler juggler = JumbleJuggler.withAlgorithm(SEEDED_ALGORITHM, seed, chunk);
+        long end = Math.min(paragraphsNumber, (chunk + 1L) * PARAGRAPHS_PER_CHUNK);
+        for (long index = chunk * PARAGRAPHS_PER_CHUNK; index < end; index++) {
+          sink.accept(generateRandomParagraph(juggler), index);
+        }
+      }
+    }
   }
 }
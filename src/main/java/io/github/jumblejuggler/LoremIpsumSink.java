@@ -0,0 +1,220 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.utils.EncodedWords;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * Destination of the text generated by {@link LoremIpsumJuggler}.
+ *
+ * <p>The text is written a word or an ASCII character at a time into a buffer. A sink writing to an
+ * output drains the buffer into it once it holds {@value #BUFFER_SIZE} characters or bytes, so the
+ * memory used by a stream does not depend on its length. The sinks of a {@link String} and of a
+ * {@link ByteBuffer} never drain their buffer.
+ *
+ * <p>The sinks of byte outputs copy the words from an {@link EncodedWords} table, so the text is
+ * never encoded.
+ */
+abstract class LoremIpsumSink {
+  /** Number of buffered characters or bytes from which the buffer is drained. */
+  static final int BUFFER_SIZE = 8192;
+
+  private LoremIpsumSink() {}
+
+  /** Returns a sink keeping all the text in {@code buffer}. */
+  static LoremIpsumSink of(StringBuilder buffer, List<String> words) {
+    return new CharSink(buffer, Integer.MAX_VALUE, words) {
+      @Override
+      void drain() {}
+    };
+  }
+
+  /** Returns a sink appending the text to {@code out}. */
+  static LoremIpsumSink of(Appendable out, List<String> words) {
+    return new CharSink(new StringBuilder(BUFFER_SIZE * 2), BUFFER_SIZE, words) {
+      @Override
+      void drain() throws IOException {
+        out.append(buffer);
+      }
+
+      @Override
+      void flushOutput() throws IOException {
+        if (out instanceof Flushable flushable) {
+          flushable.flush();
+        }
+      }
+    };
+  }
+
+  /** Returns a sink writing the text to {@code out}. */
+  static LoremIpsumSink of(Writer out, List<String> words) {
+    char[] chars = new char[BUFFER_SIZE * 2];
+    return new CharSink(new StringBuilder(chars.length), BUFFER_SIZE, words) {
+      @Override
+      void drain() throws IOException {
+        for (int start = 0; start < buffer.length(); start += chars.length) {
+          int end = Math.min(buffer.length(), start + chars.length);
+          buffer.getChars(start, end, chars, 0);
+          out.write(chars, 0, end - start);
+        }
+      }
+
+      @Override
+      void flushOutput() throws IOException {
+        out.flush();
+      }
+    };
+  }
+
+  /** Returns a sink putting all the text in {@code target}, encoded in UTF-8. */
+  static LoremIpsumSink of(ByteBuffer target, EncodedWords words) {
+    return new ByteSink(target, Integer.MAX_VALUE, words) {
+      @Override
+      void drain() {}
+    };
+  }
+
+  /** Returns a sink writing the text to {@code out}, encoded in UTF-8. */
+  static LoremIpsumSink of(OutputStream out, EncodedWords words) {
+    return new ByteSink(ByteBuffer.allocate(BUFFER_SIZE * 2), BUFFER_SIZE, words) {
+      @Override
+      void drain() throws IOException {
+        out.write(bytes.array(), bytes.arrayOffset(), bytes.position());
+      }
+
+      @Override
+      void flushOutput() throws IOException {
+        out.flush();
+      }
+    };
+  }
+
+  /**
+   * Returns a sink writing the text to {@code out}, encoded in UTF-8. The buffer is direct, which
+   * spares the channel a copy.
+   */
+  static LoremIpsumSink of(WritableByteChannel out, EncodedWords words) {
+    return new ByteSink(ByteBuffer.allocateDirect(BUFFER_SIZE * 2), BUFFER_SIZE, words) {
+      @Override
+      void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+          out.write(bytes);
+        }
+      }
+    };
+  }
+
+  /** Writes the word of rank {@code rank}, capitalised or not. */
+  abstract void word(int rank, boolean capitalized) throws IOException;
+
+  /** Writes an ASCII character. */
+  abstract void append(char c);
+
+  /** Drains the buffer whatever its length and flushes the output, at the end of the text. */
+  abstract void finish() throws IOException;
+
+  /** Writes the content of the buffer to the output. */
+  abstract void drain() throws IOException;
+
+  /** Flushes the output, if it can be flushed. */
+  void flushOutput() throws IOException {}
+
+  /** Sink buffering the text as characters. */
+  private abstract static class CharSink extends LoremIpsumSink {
+    final StringBuilder buffer;
+    private final int limit;
+    private final List<String> words;
+
+    private CharSink(StringBuilder buffer, int limit, List<String> words) {
+      this.buffer = buffer;
+      this.limit = limit;
+      this.words = words;
+    }
+
+    @Override
+    void word(int rank, boolean capitalized) throws IOException {
+      String word = words.get(rank);
+      if (capitalized && !word.isEmpty()) {
+        buffer.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+      } else {
+        buffer.append(word);
+      }
+      if (buffer.length() >= limit) {
+        drain();
+        buffer.setLength(0);
+      }
+    }
+
+    @Override
+    void append(char c) {
+      buffer.append(c);
+    }
+
+    @Override
+    void finish() throws IOException {
+      if (limit != Integer.MAX_VALUE) {
+        drain();
+        buffer.setLength(0);
+        flushOutput();
+      }
+    }
+  }
+
+  /** Sink buffering the text as UTF-8 bytes, copied from an {@link EncodedWords} table. */
+  private abstract static class ByteSink extends LoremIpsumSink {
+    final ByteBuffer bytes;
+    private final int limit;
+    private final EncodedWords words;
+
+    private ByteSink(ByteBuffer bytes, int limit, EncodedWords words) {
+      this.bytes = bytes;
+      this.limit = limit;
+      this.words = words;
+    }
+
+    @Override
+    void word(int rank, boolean capitalized) throws IOException {
+      int length = capitalized ? words.capitalizedLength(rank) : words.length(rank);
+      if (limit != Integer.MAX_VALUE && bytes.remaining() < length + 1) {
+        drainAndClear();
+      }
+      if (capitalized) {
+        words.putCapitalized(rank, bytes);
+      } else {
+        words.put(rank, bytes);
+      }
+      if (bytes.position() >= limit) {
+        drainAndClear();
+      }
+    }
+
+    @Override
+    void append(char c) {
+      bytes.put((byte) c);
+    }
+
+    @Override
+    void finish() throws IOException {
+      if (limit != Integer.MAX_VALUE) {
+        drainAndClear();
+        flushOutput();
+      }
+    }
+
+    private void drainAndClear() throws IOException {
+      drain();
+      bytes.clear();
+    }
+  }
+}
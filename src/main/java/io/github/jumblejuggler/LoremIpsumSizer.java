@@ -0,0 +1,139 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lengths of the Lorem Ipsum words in a unit, characters or UTF-8 bytes, used to end a text at an
+ * exact size.
+ *
+ * <p>A text of a given size is made of random words until the size left is under {@link
+ * #getThreshold()}, then ended by a few words whose lengths add up exactly to what is left. The
+ * ending only takes words whose capitalised and lowercase forms have the same length. Which sizes
+ * the ending can make up is computed once, and the threshold is set so that the size left is always
+ * one of them.
+ */
+final class LoremIpsumSizer {
+  private final int[] lengths;
+  private final int[] capitalizedLengths;
+
+  /** The ranks of the words of the ending, by length. */
+  private final int[][] ranksByLength;
+
+  /** Whether words joined by spaces can make up each size, up to {@link #start} if found. */
+  private final boolean[] fillable;
+
+  /** The size from which every size is fillable, or -1 if there is none. */
+  private final int start;
+
+  private final int threshold;
+
+  private LoremIpsumSizer(
+      int[] lengths,
+      int[] capitalizedLengths,
+      int[][] ranksByLength,
+      boolean[] fillable,
+      int start,
+      int threshold) {
+    this.lengths = lengths;
+    this.capitalizedLengths = capitalizedLengths;
+    this.ranksByLength = ranksByLength;
+    this.fillable = fillable;
+    this.start = start;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Returns the sizer of words whose forms have the given lengths.
+   *
+   * @param lengths The length of the lowercase form of each word, by rank.
+   * @param capitalizedLengths The length of the capitalised form of each word, by rank.
+   */
+  static LoremIpsumSizer of(int[] lengths, int[] capitalizedLengths) {
+    int maxLength = 0;
+    int maxAnyLength = 0;
+    for (int rank = 0; rank < lengths.length; rank++) {
+      maxAnyLength = Math.max(maxAnyLength, Math.max(lengths[rank], capitalizedLengths[rank]));
+      if (lengths[rank] == capitalizedLengths[rank]) {
+        maxLength = Math.max(maxLength, lengths[rank]);
+      }
+    }
+    List<List<Integer>> ranks = new ArrayList<>();
+    for (int length = 0; length <= maxLength; length++) {
+      ranks.add(new ArrayList<>());
+    }
+    for (int rank = 0; rank < lengths.length; rank++) {
+      if (lengths[rank] == capitalizedLengths[rank] && lengths[rank] > 0) {
+        ranks.get(lengths[rank]).add(rank);
+      }
+    }
+    int[][] ranksByLength = new int[maxLength + 1][];
+    for (int length = 0; length <= maxLength; length++) {
+      ranksByLength[length] = ranks.get(length).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Once maxLength + 1 sizes in a row are fillable, every larger size is fillable too, by adding
+    // a space and a word to one of them. Such a window is found under this bound if it exists.
+    int bound = (maxLength + 1) * (maxLength + 3) + 1;
+    boolean[] fillable = new boolean[bound + 1];
+    int window = 0;
+    int start = -1;
+    for (int size = 1; size <= bound && start < 0; size++) {
+      for (int length = 1; length <= Math.min(size, maxLength) && !fillable[size]; length++) {
+        fillable[size] =
+            ranksByLength[length].length > 0
+                && (size == length || (size - length - 1 > 0 && fillable[size - length - 1]));
+      }
+      window = fillable[size] ? window + 1 : 0;
+      if (window == maxLength + 1) {
+        start = size - maxLength;
+      }
+    }
+    // Before the ending, a space, the longest word and a punctuation may be written from a size
+    // left just above the threshold, and the ending itself takes a space and a period.
+    int threshold = start < 0 ? Integer.MAX_VALUE : start + maxAnyLength + 4;
+    return new LoremIpsumSizer(
+        lengths, capitalizedLengths, ranksByLength, fillable, start, threshold);
+  }
+
+  /** Returns the length of the word of rank {@code rank} in the form used. */
+  int length(int rank, boolean capitalized) {
+    return capitalized ? capitalizedLengths[rank] : lengths[rank];
+  }
+
+  /** Returns the size left under which the text is ended. */
+  int getThreshold() {
+    return threshold;
+  }
+
+  /** Returns {@code true} if words joined by spaces can make up exactly {@code size}. */
+  boolean canFill(long size) {
+    if (size <= 0) {
+      return false;
+    }
+    return (start >= 0 && size >= start) || (size < fillable.length && fillable[(int) size]);
+  }
+
+  /**
+   * Draws the rank of the next word of an ending of {@code size}, which {@link #canFill(long)}
+   * accepts. The rest of the ending is then made up of the size left minus the word and a space, if
+   * it is not empty.
+   */
+  int nextRank(RandomGenerator randomGenerator, int size) {
+    int[] candidates = new int[ranksByLength.length];
+    int count = 0;
+    for (int length = 1; length < ranksByLength.length && length <= size; length++) {
+      if (ranksByLength[length].length > 0 && (length == size || canFill(size - length - 1))) {
+        candidates[count++] = length;
+      }
+    }
+    int[] ranks = ranksByLength[candidates[BoundedIntSampler.nextInt(randomGenerator, count)]];
+    return ranks[BoundedIntSampler.nextInt(randomGenerator, ranks.length)];
+  }
+}
@@ -6,9 +6,13 @@
 package io.github.jumblejuggler;
 
 import com.google.i18n.phonenumbers.PhoneNumberUtil;
-import com.google.i18n.phonenumbers.Phonenumber;
 import io.github.jumblejuggler.constants.Country;
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Logger;
 
 /**
@@ -35,6 +39,10 @@ import java.util.logging.Logger;
  * } catch (JumbleJugglerException e) {
  *     // Handle exception
  * }
+ *
+ * // Get a random phone number of a country drawn by population
+ * String weightedPhoneNumber = PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+ *     WeightedCountrySampler.byPopulation(), PhoneNumberType.MOBILE, PhoneNumberFormat.E164);
  * }</pre>
  *
  * <p>The class uses the {@link CountryJuggler} class, {@link IntegerJuggler} class, and Google's
@@ -43,12 +51,21 @@ import java.util.logging.Logger;
  *
  * @see CountryJuggler
  * @see IntegerJuggler
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  * @see <a href="https://github.com/google/libphonenumber">libphonenumber</a>
  */
 public class PhoneNumberJuggler {
   private static final Logger logger = Logger.getLogger(PhoneNumberJuggler.class.getName());
   private static final PhoneNumberUtil PHONE_NUMBER_UTIL = PhoneNumberUtil.getInstance();
+  private static final String NOT_IN_REGISTRY =
+      "The iso2 code provided belongs to %s but is not in the phone registry of google's libphonenumber.";
+  private static final String NO_REGION_FOR_TYPE =
+      "No country in the phone registry of google's libphonenumber has %s phone numbers.";
+  private static final String NO_WEIGHTED_REGION_FOR_TYPE =
+      "No country with a weight in the phone registry of google's libphonenumber has %s phone numbers.";
+  private static final Map<PhoneNumberUtil.PhoneNumberType, Templates> TEMPLATES_BY_TYPE =
+      new ConcurrentHashMap<>();
 
   private PhoneNumberJuggler() {}
 
@@ -58,18 +75,183 @@ public class PhoneNumberJuggler {
    * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
    * @param phoneNumberFormat The desired format of the phone number.
    * @return A randomly generated phone number formatted according to the specified criteria.
+   * @throws JumbleJugglerException if no country has phone numbers of the given type.
    */
   public static String getRandomPhoneNumberWithFormatAndType(
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
+      throws JumbleJugglerException {
+    return getRandomPhoneNumberWithFormatAndType(
+        JumbleJuggler.getDefault(), phoneNumberType, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format.
+   *
+   * <p>The country is picked among the countries having phone numbers of the given type in the
+   * registry of libphonenumber.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria.
+   * @throws JumbleJugglerException if no country has phone numbers of the given type.
+   */
+  public static String getRandomPhoneNumberWithFormatAndType(
+      JumbleJuggler juggler,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
+      throws JumbleJugglerException {
+    Templates templates = getTemplates(phoneNumberType);
+    if (templates.isEmpty()) {
+      throw new JumbleJugglerException(
+          String.format(NO_REGION_FOR_TYPE, phoneNumberType), PhoneNumberJuggler.class);
+    }
+    return templates.getRandom(juggler).generate(juggler, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format, if any country has phone
+   * numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatAndType(PhoneNumberUtil.PhoneNumberType,
+   * PhoneNumberUtil.PhoneNumberFormat)}, this method neither throws nor logs.
+   *
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria, or an
+   *     empty {@link Optional} if no country has phone numbers of the given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatAndType(
       PhoneNumberUtil.PhoneNumberType phoneNumberType,
       PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
-    Phonenumber.PhoneNumber randomPhoneNumber;
-    try {
-      randomPhoneNumber = getRandomPhoneNumber(phoneNumberType);
-    } catch (JumbleJugglerException e) {
-      return getRandomPhoneNumberWithFormatAndType(phoneNumberType, phoneNumberFormat);
+    return tryGetRandomPhoneNumberWithFormatAndType(
+        JumbleJuggler.getDefault(), phoneNumberType, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format, if any country has phone
+   * numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatAndType(JumbleJuggler,
+   * PhoneNumberUtil.PhoneNumberType, PhoneNumberUtil.PhoneNumberFormat)}, this method neither
+   * throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria, or an
+   *     empty {@link Optional} if no country has phone numbers of the given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatAndType(
+      JumbleJuggler juggler,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    Templates templates = getTemplates(phoneNumberType);
+    if (templates.isEmpty()) {
+      return Optional.empty();
     }
+    return Optional.of(templates.getRandom(juggler).generate(juggler, phoneNumberFormat));
+  }
 
-    return formatRandomPhoneNumber(phoneNumberFormat, randomPhoneNumber);
+  /**
+   * Generates a random phone number with a specified type and format, for a country drawn by a
+   * weighted sampler.
+   *
+   * @param countries The {@link WeightedCountrySampler} drawing the country, such as {@link
+   *     WeightedCountrySampler#byPopulation()}.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria.
+   * @throws JumbleJugglerException if no country with a weight has phone numbers of the given type.
+   */
+  public static String getRandomPhoneNumberWithFormatAndType(
+      WeightedCountrySampler countries,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
+      throws JumbleJugglerException {
+    return getRandomPhoneNumberWithFormatAndType(
+        JumbleJuggler.getDefault(), countries, phoneNumberType, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format, for a country drawn by a
+   * weighted sampler.
+   *
+   * <p>The country is drawn among the countries of the sampler having phone numbers of the given
+   * type in the registry of libphonenumber, with their weights. These countries are found once per
+   * sampler and type.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param countries The {@link WeightedCountrySampler} drawing the country, such as {@link
+   *     WeightedCountrySampler#byPopulation()}.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria.
+   * @throws JumbleJugglerException if no country with a weight has phone numbers of the given type.
+   */
+  public static String getRandomPhoneNumberWithFormatAndType(
+      JumbleJuggler juggler,
+      WeightedCountrySampler countries,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
+      throws JumbleJugglerException {
+    WeightedCountrySampler regions = withExampleNumber(countries, phoneNumberType);
+    if (regions.isEmpty()) {
+      throw new JumbleJugglerException(
+          String.format(NO_WEIGHTED_REGION_FOR_TYPE, phoneNumberType), PhoneNumberJuggler.class);
+    }
+    return getTemplate(regions.pick(juggler), phoneNumberType).generate(juggler, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format, for a country drawn by a
+   * weighted sampler, if any of its countries has phone numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatAndType(WeightedCountrySampler,
+   * PhoneNumberUtil.PhoneNumberType, PhoneNumberUtil.PhoneNumberFormat)}, this method neither
+   * throws nor logs.
+   *
+   * @param countries The {@link WeightedCountrySampler} drawing the country.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria, or an
+   *     empty {@link Optional} if no country with a weight has phone numbers of the given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatAndType(
+      WeightedCountrySampler countries,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    return tryGetRandomPhoneNumberWithFormatAndType(
+        JumbleJuggler.getDefault(), countries, phoneNumberType, phoneNumberFormat);
+  }
+
+  /**
+   * Generates a random phone number with a specified type and format, for a country drawn by a
+   * weighted sampler, if any of its countries has phone numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatAndType(JumbleJuggler, WeightedCountrySampler,
+   * PhoneNumberUtil.PhoneNumberType, PhoneNumberUtil.PhoneNumberFormat)}, this method neither
+   * throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param countries The {@link WeightedCountrySampler} drawing the country.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number formatted according to the specified criteria, or an
+   *     empty {@link Optional} if no country with a weight has phone numbers of the given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatAndType(
+      JumbleJuggler juggler,
+      WeightedCountrySampler countries,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    WeightedCountrySampler regions = withExampleNumber(countries, phoneNumberType);
+    if (regions.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        getTemplate(regions.pick(juggler), phoneNumberType).generate(juggler, phoneNumberFormat));
   }
 
   /**
@@ -86,69 +268,160 @@ public class PhoneNumberJuggler {
       PhoneNumberUtil.PhoneNumberType phoneNumberType,
       PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
       throws JumbleJugglerException {
-    Phonenumber.PhoneNumber randomPhoneNumber =
-        getRandomPhoneNumberByCountryCode(
-            CountryJuggler.getCountryByIso2Code(countryCode).name(), phoneNumberType);
-
-    return formatRandomPhoneNumber(phoneNumberFormat, randomPhoneNumber);
+    return getRandomPhoneNumberWithFormatByCountryCodeAndType(
+        JumbleJuggler.getDefault(), countryCode, phoneNumberType, phoneNumberFormat);
   }
 
-  private static Phonenumber.PhoneNumber getRandomPhoneNumber(
-      PhoneNumberUtil.PhoneNumberType phoneNumberType) throws JumbleJugglerException {
-    return randomizePhoneNumber(
-        getExampleNumberForType(CountryJuggler.getRandomCountry().name(), phoneNumberType));
+  /**
+   * Generates a random phone number for a specific country with a specified type and format.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param countryCode The ISO2 code of the country.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number for the specified country and formatted accordingly.
+   * @throws JumbleJugglerException if an error occurs during the randomization process.
+   */
+  public static String getRandomPhoneNumberWithFormatByCountryCodeAndType(
+      JumbleJuggler juggler,
+      String countryCode,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat)
+      throws JumbleJugglerException {
+    Country country = CountryJuggler.getCountryByIso2Code(countryCode);
+    PhoneNumberTemplate template = getTemplate(country, phoneNumberType);
+    if (template == null) {
+      String error = String.format(NOT_IN_REGISTRY, country);
+      logger.warning(error);
+      throw new JumbleJugglerException(error, PhoneNumberJuggler.class);
+    }
+
+    return template.generate(juggler, phoneNumberFormat);
   }
 
-  private static Phonenumber.PhoneNumber getRandomPhoneNumberByCountryCode(
-      String countryCode, PhoneNumberUtil.PhoneNumberType phoneNumberType)
-      throws JumbleJugglerException {
-    return randomizePhoneNumber(getExampleNumberForType(countryCode, phoneNumberType));
+  /**
+   * Generates a random phone number for a specific country with a specified type and format, if the
+   * country exists and has phone numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatByCountryCodeAndType(String,
+   * PhoneNumberUtil.PhoneNumberType, PhoneNumberUtil.PhoneNumberFormat)}, this method neither
+   * throws nor logs.
+   *
+   * @param countryCode The ISO2 code of the country.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number for the specified country and formatted accordingly,
+   *     or an empty {@link Optional} if the country does not exist or has no phone numbers of the
+   *     given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatByCountryCodeAndType(
+      String countryCode,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    return tryGetRandomPhoneNumberWithFormatByCountryCodeAndType(
+        JumbleJuggler.getDefault(), countryCode, phoneNumberType, phoneNumberFormat);
   }
 
-  private static Phonenumber.PhoneNumber getExampleNumberForType(
-      String iso2, PhoneNumberUtil.PhoneNumberType phoneNumberType) throws JumbleJugglerException {
-    Phonenumber.PhoneNumber phoneNumber =
-        PHONE_NUMBER_UTIL.getExampleNumberForType(iso2, phoneNumberType);
+  /**
+   * Generates a random phone number for a specific country with a specified type and format, if the
+   * country exists and has phone numbers of that type.
+   *
+   * <p>Unlike {@link #getRandomPhoneNumberWithFormatByCountryCodeAndType(JumbleJuggler, String,
+   * PhoneNumberUtil.PhoneNumberType, PhoneNumberUtil.PhoneNumberFormat)}, this method neither
+   * throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param countryCode The ISO2 code of the country.
+   * @param phoneNumberType The type of phone number (e.g., mobile, fixed line).
+   * @param phoneNumberFormat The desired format of the phone number.
+   * @return A randomly generated phone number for the specified country and formatted accordingly,
+   *     or an empty {@link Optional} if the country does not exist or has no phone numbers of the
+   *     given type.
+   */
+  public static Optional<String> tryGetRandomPhoneNumberWithFormatByCountryCodeAndType(
+      JumbleJuggler juggler,
+      String countryCode,
+      PhoneNumberUtil.PhoneNumberType phoneNumberType,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    return CountryJuggler.tryGetCountryByIso2Code(countryCode)
+        .map(country -> getTemplate(country, phoneNumberType))
+        .map(template -> template.generate(juggler, phoneNumberFormat));
+  }
 
-    if (phoneNumber != null) {
-      return phoneNumber;
-    }
+  /** Returns the template of a country, or {@code null} if it has no example number of the type. */
+  private static PhoneNumberTemplate getTemplate(
+      Country country, PhoneNumberUtil.PhoneNumberType phoneNumberType) {
+    return getTemplates(phoneNumberType).get(country);
+  }
 
-    String error =
-        String.format(
-            "The iso2 code provided belongs to %s but is not in the phone registry of"
-                + " google's libphonenumber.",
-            Country.valueOf(iso2));
-    logger.warning(error);
-    throw new JumbleJugglerException(error, PhoneNumberJuggler.class);
+  /** Returns the countries of a sampler having an example number of the given type. */
+  private static WeightedCountrySampler withExampleNumber(
+      WeightedCountrySampler countries, PhoneNumberUtil.PhoneNumberType phoneNumberType) {
+    Templates templates = getTemplates(phoneNumberType);
+    return countries.restrict(phoneNumberType, templates::hasExampleNumber);
   }
 
-  private static Phonenumber.PhoneNumber randomizePhoneNumber(Phonenumber.PhoneNumber phoneNumber) {
-    String[] rcf3966Array =
-        PHONE_NUMBER_UTIL.format(phoneNumber, PhoneNumberUtil.PhoneNumberFormat.RFC3966).split("-");
-    String areaCode = rcf3966Array[1];
-    String randomLocalNumber = generateRandomLocalNumber(rcf3966Array);
-    phoneNumber.setNationalNumber(Long.parseLong(areaCode + randomLocalNumber));
-    return phoneNumber;
+  private static Templates getTemplates(PhoneNumberUtil.PhoneNumberType phoneNumberType) {
+    return TEMPLATES_BY_TYPE.computeIfAbsent(phoneNumberType, Templates::new);
   }
 
-  private static String generateRandomLocalNumber(String[] rcf3966) {
-    StringBuilder localNumberBuilder = new StringBuilder();
+  /**
+   * The templates of the phone numbers of a type. The countries having an example number of the
+   * type, which are the ones a random phone number of that type can be made for, are found once,
+   * and the template of a country is compiled the first time it is used.
+   */
+  private static final class Templates {
+    private final PhoneNumberUtil.PhoneNumberType phoneNumberType;
+    private final Country[] countries;
+    private final boolean[] hasExampleNumber;
+    private final AtomicReferenceArray<PhoneNumberTemplate> templates;
+
+    private Templates(PhoneNumberUtil.PhoneNumberType phoneNumberType) {
+      this.phoneNumberType = phoneNumberType;
+      // libphonenumber logs a warning when asked for the example of a region it does not know, so
+      // only the regions it supports are asked
+      Set<String> supportedRegions = PHONE_NUMBER_UTIL.getSupportedRegions();
+      this.countries =
+          Country.getCountries().stream()
+              .filter(Country::isInGoogleLibPhoneNumber)
+              .filter(country -> supportedRegions.contains(country.name()))
+              .filter(
+                  country ->
+                      PHONE_NUMBER_UTIL.getExampleNumberForType(country.name(), phoneNumberType)
+                          != null)
+              .toArray(Country[]::new);
+      this.hasExampleNumber = new boolean[Country.values().length];
+      for (Country country : countries) {
+        hasExampleNumber[country.ordinal()] = true;
+      }
+      this.templates = new AtomicReferenceArray<>(hasExampleNumber.length);
+    }
 
-    for (int i = 2; i < rcf3966.length; i++) {
-      localNumberBuilder.append(rcf3966[i]);
+    private boolean isEmpty() {
+      return countries.length == 0;
     }
 
-    return localNumberBuilder.toString().isEmpty()
-        ? ""
-        : String.valueOf(
-            LongJuggler.generateRandomPositiveLongWithLength(
-                localNumberBuilder.toString().length()));
-  }
+    private boolean hasExampleNumber(Country country) {
+      return hasExampleNumber[country.ordinal()];
+    }
+
+    private PhoneNumberTemplate get(Country country) {
+      if (!hasExampleNumber[country.ordinal()]) {
+        return null;
+      }
+      PhoneNumberTemplate template = templates.get(country.ordinal());
+      if (template == null) {
+        template = PhoneNumberTemplate.of(country.name(), phoneNumberType);
+        if (!templates.compareAndSet(country.ordinal(), null, template)) {
+          template = templates.get(country.ordinal());
+        }
+      }
+      return template;
+    }
 
-  private static String formatRandomPhoneNumber(
-      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat,
-      Phonenumber.PhoneNumber randomPhoneNumber) {
-    return PHONE_NUMBER_UTIL.format(randomPhoneNumber, phoneNumberFormat);
+    private PhoneNumberTemplate getRandom(JumbleJuggler juggler) {
+      return get(
+          countries[BoundedIntSampler.nextInt(juggler.getRandomGenerator(), countries.length)]);
+    }
   }
 }
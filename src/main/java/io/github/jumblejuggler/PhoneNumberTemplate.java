@@ -0,0 +1,215 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+import java.util.Arrays;
+
+/**
+ * Template of the random phone numbers of a country and a type, compiled once from the example
+ * number of libphonenumber.
+ *
+ * <p>A random number keeps the first group of digits of the example, such as an area code or a
+ * mobile prefix, and draws the other digits, the first of them not being zero. For each format, the
+ * example is formatted once and the positions of its national digits are kept, so that formatting a
+ * random number is copying its digits into the formatted example. A format is only compiled if
+ * libphonenumber formats a few numbers of the template the same way, otherwise the random numbers
+ * are formatted by libphonenumber.
+ */
+final class PhoneNumberTemplate {
+  private static final PhoneNumberUtil PHONE_NUMBER_UTIL = PhoneNumberUtil.getInstance();
+  private static final PhoneNumberUtil.PhoneNumberFormat[] FORMATS =
+      PhoneNumberUtil.PhoneNumberFormat.values();
+
+  /** The digit drawn digits take when they are not the ones checked. */
+  private static final char FILLING_DIGIT = '5';
+
+  private final Phonenumber.PhoneNumber example;
+
+  /** The national digits kept from the example. */
+  private final char[] prefix;
+
+  /** The number of national digits drawn after the prefix. */
+  private final int localDigits;
+
+  /** The formatted example, by format ordinal, or {@code null} if it is not compiled. */
+  private final char[][] patterns;
+
+  /** The positions of the national digits in each pattern. */
+  private final int[][] positions;
+
+  private PhoneNumberTemplate(
+      Phonenumber.PhoneNumber example,
+      char[] prefix,
+      int localDigits,
+      char[][] patterns,
+      int[][] positions) {
+    this.example = example;
+    this.prefix = prefix;
+    this.localDigits = localDigits;
+    this.patterns = patterns;
+    this.positions = positions;
+  }
+
+  /**
+   * Compiles the template of a country and a type.
+   *
+   * @param iso2 The ISO2 code of the country.
+   * @param phoneNumberType The type of the phone numbers.
+   * @return The template, or {@code null} if libphonenumber does not support the country or has no
+   *     example number of the type for it.
+   */
+  static PhoneNumberTemplate of(String iso2, PhoneNumberUtil.PhoneNumberType phoneNumberType) {
+    // libphonenumber logs a warning when asked for the example of a region it does not know
+    if (!PHONE_NUMBER_UTIL.getSupportedRegions().contains(iso2)) {
+      return null;
+    }
+    Phonenumber.PhoneNumber example =
+        PHONE_NUMBER_UTIL.getExampleNumberForType(iso2, phoneNumberType);
+    if (example == null) {
+      return null;
+    }
+    // The first group of the RFC3966 format is kept and the next ones are drawn, as in
+    // "tel:+33-1-23-45-67-89".
+    String[] groups =
+        PHONE_NUMBER_UTIL.format(example, PhoneNumberUtil.PhoneNumberFormat.RFC3966).split("-");
+    char[] prefix = groups[1].toCharArray();
+    int localDigits = 0;
+    for (int i = 2; i < groups.length; i++) {
+      localDigits += groups[i].length();
+    }
+
+    char[][] patterns = new char[FORMATS.length][];
+    int[][] positions = new int[FORMATS.length][];
+    String national = PHONE_NUMBER_UTIL.getNationalSignificantNumber(example);
+    if (national.length() == prefix.length + localDigits) {
+      for (PhoneNumberUtil.PhoneNumberFormat format : FORMATS) {
+        char[] pattern = PHONE_NUMBER_UTIL.format(example, format).toCharArray();
+        int[] digitPositions = nationalDigitPositions(pattern, national);
+        if (digitPositions != null
+            && formatsLikeLibPhoneNumber(
+                example, prefix, localDigits, format, pattern, digitPositions)) {
+          patterns[format.ordinal()] = pattern;
+          positions[format.ordinal()] = digitPositions;
+        }
+      }
+    }
+    return new PhoneNumberTemplate(example, prefix, localDigits, patterns, positions);
+  }
+
+  /**
+   * Generates a random phone number of the template.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param phoneNumberFormat The format of the phone number.
+   * @return The formatted phone number.
+   */
+  String generate(JumbleJuggler juggler, PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat) {
+    char[] digits = Arrays.copyOf(prefix, prefix.length + localDigits);
+    if (localDigits > 0) {
+      digits[prefix.length] =
+          (char) ('0' + BoundedIntSampler.nextInt(juggler.getRandomGenerator(), 1, 10));
+      DigitJuggler.fillWithRandomDigits(juggler, digits, prefix.length + 1, localDigits - 1);
+    }
+    return format(phoneNumberFormat, digits);
+  }
+
+  /** Formats the national digits of a number of the template. */
+  private String format(PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat, char[] digits) {
+    char[] pattern = patterns[phoneNumberFormat.ordinal()];
+    if (pattern == null) {
+      return PHONE_NUMBER_UTIL.format(toPhoneNumber(example, digits), phoneNumberFormat);
+    }
+    return new String(fill(pattern, positions[phoneNumberFormat.ordinal()], digits));
+  }
+
+  /** Returns the example with the given national digits. */
+  private static Phonenumber.PhoneNumber toPhoneNumber(
+      Phonenumber.PhoneNumber example, char[] digits) {
+    Phonenumber.PhoneNumber phoneNumber = new Phonenumber.PhoneNumber().mergeFrom(example);
+    phoneNumber.setNationalNumber(Long.parseLong(new String(digits)));
+    return phoneNumber;
+  }
+
+  /**
+   * Returns {@code true} if a pattern formats the numbers of a template like libphonenumber, which
+   * chooses a layout from the leading digits of a number. The numbers checked take every value of
+   * the two first digits drawn, then of each other digit drawn, so the pattern is only kept if the
+   * layout does not depend on the digits drawn.
+   */
+  private static boolean formatsLikeLibPhoneNumber(
+      Phonenumber.PhoneNumber example,
+      char[] prefix,
+      int localDigits,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat,
+      char[] pattern,
+      int[] digitPositions) {
+    char[] digits = Arrays.copyOf(prefix, prefix.length + localDigits);
+    Arrays.fill(digits, prefix.length, digits.length, FILLING_DIGIT);
+    int first = prefix.length;
+    for (char leading = '1'; leading <= '9' && localDigits > 0; leading++) {
+      digits[first] = leading;
+      for (char second = '0'; second <= '9' && (second == '0' || localDigits > 1); second++) {
+        if (localDigits > 1) {
+          digits[first + 1] = second;
+        }
+        if (!formatsLikeLibPhoneNumber(
+            example, phoneNumberFormat, pattern, digitPositions, digits)) {
+          return false;
+        }
+      }
+    }
+    Arrays.fill(digits, prefix.length, digits.length, FILLING_DIGIT);
+    for (int position = first + 2; position < digits.length; position++) {
+      for (char digit = '0'; digit <= '9'; digit++) {
+        digits[position] = digit;
+        if (!formatsLikeLibPhoneNumber(
+            example, phoneNumberFormat, pattern, digitPositions, digits)) {
+          return false;
+        }
+      }
+      digits[position] = FILLING_DIGIT;
+    }
+    return true;
+  }
+
+  private static boolean formatsLikeLibPhoneNumber(
+      Phonenumber.PhoneNumber example,
+      PhoneNumberUtil.PhoneNumberFormat phoneNumberFormat,
+      char[] pattern,
+      int[] digitPositions,
+      char[] digits) {
+    String expected = PHONE_NUMBER_UTIL.format(toPhoneNumber(example, digits), phoneNumberFormat);
+    return expected.equals(new String(fill(pattern, digitPositions, digits)));
+  }
+
+  private static char[] fill(char[] pattern, int[] digitPositions, char[] digits) {
+    char[] formatted = pattern.clone();
+    for (int i = 0; i < digits.length; i++) {
+      formatted[digitPositions[i]] = digits[i];
+    }
+    return formatted;
+  }
+
+  /**
+   * Returns the positions of the national digits in a formatted number, which are its last digits,
+   * or {@code null} if they are not found there.
+   */
+  private static int[] nationalDigitPositions(char[] formatted, String national) {
+    int[] digitPositions = new int[national.length()];
+    int digit = national.length() - 1;
+    for (int i = formatted.length - 1; i >= 0 && digit >= 0; i--) {
+      if (Character.isDigit(formatted[i])) {
+        if (formatted[i] != national.charAt(digit)) {
+          return null;
+        }
+        digitPositions[digit--] = i;
+      }
+    }
+    return digit < 0 ? digitPositions : null;
+  }
+}
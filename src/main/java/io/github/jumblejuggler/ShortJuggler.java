@@ -6,7 +6,8 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Utility class for generating random shorts with various constrashorts.
@@ -36,6 +37,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>The class throws {@link JumbleJugglerException} for exceptional cases, such as invalid
  * constrashorts or when a negative value is provided where only positive values are allowed.
  *
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class ShortJuggler {
@@ -52,7 +54,17 @@ public class ShortJuggler {
    * @return A randomly generated short.
    */
   public static short generateRandomShort() {
-    return (short) ThreadLocalRandom.current().nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
+    return generateRandomShort(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random short.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated short.
+   */
+  public static short generateRandomShort(JumbleJuggler juggler) {
+    return (short) juggler.getRandomGenerator().nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
   }
 
   /**
@@ -61,7 +73,17 @@ public class ShortJuggler {
    * @return A randomly generated positive short.
    */
   public static short generateRandomPositiveShort() {
-    return (short) ThreadLocalRandom.current().nextInt(Short.MAX_VALUE);
+    return generateRandomPositiveShort(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random positive short.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated positive short.
+   */
+  public static short generateRandomPositiveShort(JumbleJuggler juggler) {
+    return (short) juggler.getRandomGenerator().nextInt(Short.MAX_VALUE);
   }
 
   /**
@@ -70,7 +92,17 @@ public class ShortJuggler {
    * @return A randomly generated negative short.
    */
   public static short generateRandomNegativeShort() {
-    return (short) ThreadLocalRandom.current().nextInt(Short.MIN_VALUE, 0);
+    return generateRandomNegativeShort(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates a random negative short.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A randomly generated negative short.
+   */
+  public static short generateRandomNegativeShort(JumbleJuggler juggler) {
+    return (short) juggler.getRandomGenerator().nextInt(Short.MIN_VALUE, 0);
   }
 
   /**
@@ -80,7 +112,18 @@ public class ShortJuggler {
    * @return A randomly generated short smaller than the specified maximum.
    */
   public static short generateRandomShortSmallerThan(short max) {
-    return (short) ThreadLocalRandom.current().nextInt(Short.MIN_VALUE, max);
+    return generateRandomShortSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random short smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated short.
+   * @return A randomly generated short smaller than the specified maximum.
+   */
+  public static short generateRandomShortSmallerThan(JumbleJuggler juggler, short max) {
+    return (short) juggler.getRandomGenerator().nextInt(Short.MIN_VALUE, max);
   }
 
   /**
@@ -90,7 +133,18 @@ public class ShortJuggler {
    * @return A randomly generated short greater than the specified minimum.
    */
   public static short generateRandomShortGreaterThan(short min) {
-    return (short) ThreadLocalRandom.current().nextInt(min, Short.MAX_VALUE);
+    return generateRandomShortGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random short greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated short.
+   * @return A randomly generated short greater than the specified minimum.
+   */
+  public static short generateRandomShortGreaterThan(JumbleJuggler juggler, short min) {
+    return (short) juggler.getRandomGenerator().nextInt(min, Short.MAX_VALUE);
   }
 
   /**
@@ -102,11 +156,57 @@ public class ShortJuggler {
    */
   public static short generateRandomPositiveShortSmallerThan(short max)
       throws JumbleJugglerException {
+    return generateRandomPositiveShortSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive short smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive short.
+   * @return A randomly generated positive short smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is negative.
+   */
+  public static short generateRandomPositiveShortSmallerThan(JumbleJuggler juggler, short max)
+      throws JumbleJugglerException {
     if (max < 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, max)), ShortJuggler.class);
     }
-    return (short) ThreadLocalRandom.current().nextInt(max);
+    return (short) juggler.getRandomGenerator().nextInt(max);
+  }
+
+  /**
+   * Generates a random positive short smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveShortSmallerThan(short)}, this method neither throws
+   * nor logs.
+   *
+   * @param max The exclusive upper bound for the generated positive short.
+   * @return A randomly generated positive short smaller than the specified maximum, or an empty
+   *     {@link Optional} if the maximum value is not strictly positive.
+   */
+  public static Optional<Short> tryGenerateRandomPositiveShortSmallerThan(short max) {
+    return tryGenerateRandomPositiveShortSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random positive short smaller than a specified maximum value, if there is one.
+   *
+   * <p>Unlike {@link #generateRandomPositiveShortSmallerThan(short)}, this method neither throws
+   * nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated positive short.
+   * @return A randomly generated positive short smaller than the specified maximum, or an empty
+   *     {@link Optional} if the maximum value is not strictly positive.
+   */
+  public static Optional<Short> tryGenerateRandomPositiveShortSmallerThan(
+      JumbleJuggler juggler, short max) {
+    if (max <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of((short) BoundedIntSampler.nextInt(juggler.getRandomGenerator(), max));
   }
 
   /**
@@ -118,11 +218,24 @@ public class ShortJuggler {
    */
   public static short generateRandomPositiveShortGreaterThan(short min)
       throws JumbleJugglerException {
+    return generateRandomPositiveShortGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random positive short greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated positive short.
+   * @return A randomly generated positive short greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is negative.
+   */
+  public static short generateRandomPositiveShortGreaterThan(JumbleJuggler juggler, short min)
+      throws JumbleJugglerException {
     if (min < 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_NEGATIVE, min)), ShortJuggler.class);
     }
-    return generateRandomShortGreaterThan(min);
+    return generateRandomShortGreaterThan(juggler, min);
   }
 
   /**
@@ -134,11 +247,24 @@ public class ShortJuggler {
    */
   public static short generateRandomNegativeShortSmallerThan(short max)
       throws JumbleJugglerException {
+    return generateRandomNegativeShortSmallerThan(JumbleJuggler.getDefault(), max);
+  }
+
+  /**
+   * Generates a random negative short smaller than a specified maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param max The exclusive upper bound for the generated negative short.
+   * @return A randomly generated negative short smaller than the specified maximum.
+   * @throws JumbleJugglerException if the provided maximum value is positive.
+   */
+  public static short generateRandomNegativeShortSmallerThan(JumbleJuggler juggler, short max)
+      throws JumbleJugglerException {
     if (max > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, max)), ShortJuggler.class);
     }
-    return generateRandomShortSmallerThan(max);
+    return generateRandomShortSmallerThan(juggler, max);
   }
 
   /**
@@ -150,11 +276,24 @@ public class ShortJuggler {
    */
   public static short generateRandomNegativeShortGreaterThan(short min)
       throws JumbleJugglerException {
+    return generateRandomNegativeShortGreaterThan(JumbleJuggler.getDefault(), min);
+  }
+
+  /**
+   * Generates a random negative short greater than a specified minimum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated negative short.
+   * @return A randomly generated negative short greater than the specified minimum.
+   * @throws JumbleJugglerException if the provided minimum value is positive.
+   */
+  public static short generateRandomNegativeShortGreaterThan(JumbleJuggler juggler, short min)
+      throws JumbleJugglerException {
     if (min > 0) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_POSITIVE, min)), ShortJuggler.class);
     }
-    return (short) ThreadLocalRandom.current().nextInt(min, 0);
+    return (short) juggler.getRandomGenerator().nextInt(min, 0);
   }
 
   /**
@@ -167,10 +306,167 @@ public class ShortJuggler {
    */
   public static short generateRandomShortBetween(short min, short max)
       throws JumbleJugglerException {
+    return generateRandomShortBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random short between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated short.
+   * @param max The exclusive upper bound for the generated short.
+   * @return A randomly generated short within the specified range.
+   * @throws JumbleJugglerException if the minimum value is greater than the maximum value.
+   */
+  public static short generateRandomShortBetween(JumbleJuggler juggler, short min, short max)
+      throws JumbleJugglerException {
     if (min > max) {
       throw new JumbleJugglerException(
           new IllegalArgumentException(String.format(BAD_BOUND, min, max)), ShortJuggler.class);
     }
-    return (short) ThreadLocalRandom.current().nextInt(min, max);
+    return (short) juggler.getRandomGenerator().nextInt(min, max);
+  }
+
+  /**
+   * Generates a random short between a specified minimum and maximum value, if the range is valid.
+   *
+   * <p>Unlike {@link #generateRandomShortBetween(short, short)}, this method neither throws nor
+   * logs.
+   *
+   * @param min The inclusive lower bound for the generated short.
+   * @param max The exclusive upper bound for the generated short.
+   * @return A randomly generated short within the specified range, or an empty {@link Optional} if
+   *     the minimum value is not smaller than the maximum value.
+   */
+  public static Optional<Short> tryGenerateRandomShortBetween(short min, short max) {
+    return tryGenerateRandomShortBetween(JumbleJuggler.getDefault(), min, max);
+  }
+
+  /**
+   * Generates a random short between a specified minimum and maximum value, if the range is valid.
+   *
+   * <p>Unlike {@link #generateRandomShortBetween(short, short)}, this method neither throws nor
+   * logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated short.
+   * @param max The exclusive upper bound for the generated short.
+   * @return A randomly generated short within the specified range, or an empty {@link Optional} if
+   *     the minimum value is not smaller than the maximum value.
+   */
+  public static Optional<Short> tryGenerateRandomShortBetween(
+      JumbleJuggler juggler, short min, short max) {
+    if (min >= max) {
+      return Optional.empty();
+    }
+    return Optional.of((short) BoundedIntSampler.nextInt(juggler.getRandomGenerator(), min, max));
+  }
+
+  /**
+   * Prepares a generator of random shorts between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @return A {@link BoundedShortSampler} drawing from {@link JumbleJuggler#getDefault()}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedShortSampler between(short min, short max) throws JumbleJugglerException {
+    return BoundedShortSampler.between(min, max);
+  }
+
+  /**
+   * Prepares a generator of random shorts between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated and the constants of the generator computed once, so drawing from
+   * the returned sampler in a loop does no further checks.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @return A {@link BoundedShortSampler} drawing from {@code juggler}.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static BoundedShortSampler between(JumbleJuggler juggler, short min, short max)
+      throws JumbleJugglerException {
+    return BoundedShortSampler.between(juggler, min, max);
+  }
+
+  /**
+   * Fills an array with random shorts between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomShortsBetween(short[] destination, short min, short max)
+      throws JumbleJugglerException {
+    fillWithRandomShortsBetween(
+        JumbleJuggler.getDefault(), destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills an array with random shorts between a specified minimum and maximum value.
+   *
+   * <p>The bounds are validated once for the whole array.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   */
+  public static void fillWithRandomShortsBetween(
+      JumbleJuggler juggler, short[] destination, short min, short max)
+      throws JumbleJugglerException {
+    fillWithRandomShortsBetween(juggler, destination, 0, destination.length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random shorts between a specified minimum and maximum value.
+   *
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomShortsBetween(
+      short[] destination, int offset, int length, short min, short max)
+      throws JumbleJugglerException {
+    fillWithRandomShortsBetween(JumbleJuggler.getDefault(), destination, offset, length, min, max);
+  }
+
+  /**
+   * Fills a region of an array with random shorts between a specified minimum and maximum value.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param destination The array to fill.
+   * @param offset The index of the first element to fill.
+   * @param length The number of elements to fill.
+   * @param min The inclusive lower bound for the generated shorts.
+   * @param max The exclusive upper bound for the generated shorts.
+   * @throws JumbleJugglerException if the minimum value is not smaller than the maximum value.
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of
+   *     {@code destination}.
+   */
+  public static void fillWithRandomShortsBetween(
+      JumbleJuggler juggler, short[] destination, int offset, int length, short min, short max)
+      throws JumbleJugglerException {
+    Objects.checkFromIndexSize(offset, length, destination.length);
+    if (min >= max) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, min, max)), ShortJuggler.class);
+    }
+
+    BoundedShortSampler.between(juggler, min, max).fill(destination, offset, length);
   }
 }
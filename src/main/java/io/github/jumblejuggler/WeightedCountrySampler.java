@@ -0,0 +1,253 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import io.github.jumblejuggler.constants.Country;
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Sampler drawing countries, each with a probability proportional to its weight.
+ *
+ * <p>The countries with a strictly positive weight are put in an {@link AliasSampler} once, when
+ * the sampler is created, so a draw takes the same time whatever the weights. The weights are
+ * either the populations of the countries, see {@link #byPopulation()}, or given by the caller.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * // India is drawn about 125000 times as often as Tuvalu
+ * Country country = WeightedCountrySampler.byPopulation().getRandomCountry();
+ *
+ * // Half of the countries are French, the other half are Belgian
+ * WeightedCountrySampler sampler =
+ *     WeightedCountrySampler.of(Map.of(Country.FR, 1.0, Country.BE, 1.0));
+ *
+ * // Phone numbers follow the same skew
+ * String phoneNumber = PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+ *     sampler, PhoneNumberType.MOBILE, PhoneNumberFormat.INTERNATIONAL);
+ * }</pre>
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ *
+ * @see AliasSampler
+ * @see CountryJuggler#getRandomCountryByPopulation()
+ * @see PhoneNumberJuggler
+ */
+public final class WeightedCountrySampler {
+  private static final String BAD_LENGTH =
+      "%s weights are given, but there must be one for each of the %s countries.";
+  private static final String BAD_WEIGHT =
+      "The weight of %s is %s, but it must be finite and not negative.";
+  private static final String NO_WEIGHT =
+      "At least one country must have a strictly positive weight.";
+  private static final String NO_COUNTRY = "There is no country with a weight to pick from.";
+  private static final Country[] COUNTRIES = Country.values();
+
+  private static final WeightedCountrySampler BY_POPULATION =
+      new WeightedCountrySampler(populations());
+
+  /** The weight of each country, by ordinal. */
+  private final double[] weights;
+
+  /** The countries with a strictly positive weight, drawn by {@link #sampler}. */
+  private final Country[] countries;
+
+  /** The draw of an index of {@link #countries}, or {@code null} if there is none. */
+  private final AliasSampler sampler;
+
+  /** The samplers restricted by {@link #restrict(Object, Predicate)}, by key. */
+  private final Map<Object, WeightedCountrySampler> restrictions = new ConcurrentHashMap<>();
+
+  private WeightedCountrySampler(double[] weights) {
+    this.weights = weights;
+    int count = 0;
+    for (double weight : weights) {
+      count += weight > 0 ? 1 : 0;
+    }
+    this.countries = new Country[count];
+    double[] positiveWeights = new double[count];
+    count = 0;
+    for (Country country : COUNTRIES) {
+      if (weights[country.ordinal()] > 0) {
+        countries[count] = country;
+        positiveWeights[count++] = weights[country.ordinal()];
+      }
+    }
+    this.sampler = count == 0 ? null : AliasSampler.of(positiveWeights);
+  }
+
+  /**
+   * Returns the sampler weighting each country by its population.
+   *
+   * @return The {@link WeightedCountrySampler} of {@link Country#getPopulation()}, created once.
+   */
+  public static WeightedCountrySampler byPopulation() {
+    return BY_POPULATION;
+  }
+
+  /**
+   * Creates a sampler of the countries of a map, each drawn with a probability proportional to its
+   * weight. The countries missing from the map are never drawn.
+   *
+   * @param weights The weights of the countries.
+   * @return A new {@link WeightedCountrySampler}.
+   * @throws JumbleJugglerException if a weight is negative or not finite, or if no weight is
+   *     strictly positive.
+   */
+  public static WeightedCountrySampler of(Map<Country, Double> weights)
+      throws JumbleJugglerException {
+    double[] weightsByOrdinal = new double[COUNTRIES.length];
+    weights.forEach((country, weight) -> weightsByOrdinal[country.ordinal()] = weight);
+    return create(weightsByOrdinal);
+  }
+
+  /**
+   * Creates a sampler of the countries, each drawn with a probability proportional to its weight.
+   *
+   * @param weightsByOrdinal The weights of the countries, at the {@link Country#ordinal() ordinal}
+   *     of each country.
+   * @return A new {@link WeightedCountrySampler}.
+   * @throws JumbleJugglerException if there is not one weight per country, if a weight is negative
+   *     or not finite, or if no weight is strictly positive.
+   */
+  public static WeightedCountrySampler of(double[] weightsByOrdinal) throws JumbleJugglerException {
+    if (weightsByOrdinal.length != COUNTRIES.length) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(
+              String.format(BAD_LENGTH, weightsByOrdinal.length, COUNTRIES.length)),
+          WeightedCountrySampler.class);
+    }
+    return create(weightsByOrdinal.clone());
+  }
+
+  private static WeightedCountrySampler create(double[] weights) {
+    boolean positive = false;
+    for (Country country : COUNTRIES) {
+      double weight = weights[country.ordinal()];
+      if (!(weight >= 0) || weight == Double.POSITIVE_INFINITY) {
+        throw new JumbleJugglerException(
+            new IllegalArgumentException(String.format(BAD_WEIGHT, country, weight)),
+            WeightedCountrySampler.class);
+      }
+      positive |= weight > 0;
+    }
+    if (!positive) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(NO_WEIGHT), WeightedCountrySampler.class);
+    }
+    return new WeightedCountrySampler(weights);
+  }
+
+  /**
+   * Returns the weight of a country.
+   *
+   * @param country The country.
+   * @return The weight of {@code country}, {@code 0} if it is never drawn.
+   */
+  public double getWeight(Country country) {
+    return weights[country.ordinal()];
+  }
+
+  /**
+   * Returns {@code true} if no country can be drawn, which only happens to a filtered sampler.
+   *
+   * @return {@code true} if no country has a strictly positive weight.
+   */
+  public boolean isEmpty() {
+    return sampler == null;
+  }
+
+  /**
+   * Returns a sampler of the countries matching a predicate, keeping their weights.
+   *
+   * @param predicate The condition the countries must meet.
+   * @return A new {@link WeightedCountrySampler}, which may be {@link #isEmpty() empty}.
+   */
+  public WeightedCountrySampler filter(Predicate<? super Country> predicate) {
+    double[] filtered = new double[COUNTRIES.length];
+    for (Country country : countries) {
+      if (predicate.test(country)) {
+        filtered[country.ordinal()] = weights[country.ordinal()];
+      }
+    }
+    return new WeightedCountrySampler(filtered);
+  }
+
+  /**
+   * Returns this sampler filtered by a predicate, filtering only once for a given key. The
+   * predicate must always give the same result for a given key.
+   */
+  WeightedCountrySampler restrict(Object key, Predicate<? super Country> predicate) {
+    return restrictions.computeIfAbsent(key, k -> filter(predicate));
+  }
+
+  /**
+   * Draws a random country.
+   *
+   * @return A random {@link Country}, drawn with a probability proportional to its weight.
+   * @throws JumbleJugglerException if no country can be drawn.
+   */
+  public Country getRandomCountry() throws JumbleJugglerException {
+    return getRandomCountry(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Draws a random country.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country}, drawn with a probability proportional to its weight.
+   * @throws JumbleJugglerException if no country can be drawn.
+   */
+  public Country getRandomCountry(JumbleJuggler juggler) throws JumbleJugglerException {
+    if (sampler == null) {
+      throw new JumbleJugglerException(
+          new IllegalStateException(NO_COUNTRY), WeightedCountrySampler.class);
+    }
+    return pick(juggler);
+  }
+
+  /**
+   * Draws a random country, if one can be drawn.
+   *
+   * <p>Unlike {@link #getRandomCountry()}, this method neither throws nor logs.
+   *
+   * @return A random {@link Country}, drawn with a probability proportional to its weight, or an
+   *     empty {@link Optional} if no country can be drawn.
+   */
+  public Optional<Country> tryGetRandomCountry() {
+    return tryGetRandomCountry(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Draws a random country, if one can be drawn.
+   *
+   * <p>Unlike {@link #getRandomCountry(JumbleJuggler)}, this method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random {@link Country}, drawn with a probability proportional to its weight, or an
+   *     empty {@link Optional} if no country can be drawn.
+   */
+  public Optional<Country> tryGetRandomCountry(JumbleJuggler juggler) {
+    return sampler == null ? Optional.empty() : Optional.of(pick(juggler));
+  }
+
+  /** Draws a country, the sampler must not be empty. */
+  Country pick(JumbleJuggler juggler) {
+    return countries[sampler.nextInt(juggler.getRandomGenerator())];
+  }
+
+  private static double[] populations() {
+    double[] populations = new double[COUNTRIES.length];
+    for (Country country : COUNTRIES) {
+      populations[country.ordinal()] = country.getPopulation();
+    }
+    return populations;
+  }
+}
@@ -6,9 +6,11 @@
 package io.github.jumblejuggler;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import io.github.jumblejuggler.utils.WordDictionary;
+import io.github.jumblejuggler.utils.WordLengthIndex;
+import io.github.jumblejuggler.utils.WordRanks;
 import io.github.jumblejuggler.utils.WordsUtil;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Utility class for randomizing English words.
@@ -30,6 +32,9 @@ import java.util.Map;
  *     // Handle exception
  * }
  *
+ * // Get a random English word of 5 to 7 letters
+ * String mediumWord = WordJuggler.getRandomDictionaryWordOfLengthBetween(5, 8);
+ *
  * // Get a random English word starting with a specific string
  * try {
  *     String wordStartingWithPrefix = WordJuggler.getRandomDictionaryWordStartingWithString("pre");
@@ -42,12 +47,20 @@ import java.util.Map;
  * for invalid input or if the requested words do not exist.
  *
  * @see IntegerJuggler
+ * @see JumbleJuggler
  * @see JumbleJugglerException
  */
 public class WordJuggler {
-  private static final List<String> words = WordsUtil.getInstance().getWords();
-  private static final Map<Character, List<String>> wordsAlphabeticallyMap =
-      WordsUtil.getInstance().getWordsSortedMap();
+  private static final String BAD_LENGTH =
+      "The length given is %s, but it must be strictly positive.";
+  private static final String BAD_BOUND =
+      "The minimum length given is %s, but it must be smaller than the maximum length given which is %s.";
+  private static final String NO_WORD_OF_LENGTH = "No Words have a length between %s and %s";
+  private static final String NO_WORD_ENDING = "No Words end with \"%s\"";
+  private static final String NO_WORD_CONTAINING = "No Words contain \"%s\"";
+  private static final String NO_WORD_MATCHING = "No Words match \"%s\"";
+  private static final WordsUtil wordsUtil = WordsUtil.getInstance();
+  private static final WordDictionary dictionary = wordsUtil.getDictionary();
 
   private WordJuggler() {}
 
@@ -58,7 +71,20 @@ public class WordJuggler {
    * @throws JumbleJugglerException If an error occurs during the randomization process.
    */
   public static String getRandomDictionaryWord() throws JumbleJugglerException {
-    return words.get(IntegerJuggler.generateRandomPositiveIntSmallerThan(words.size()));
+    return getRandomDictionaryWord(JumbleJuggler.getDefault());
+  }
+
+  /**
+   * Generates and returns a random English word from the dictionary.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @return A random English word as {@link String}.
+   * @throws JumbleJugglerException If an error occurs during the randomization process.
+   */
+  public static String getRandomDictionaryWord(JumbleJuggler juggler)
+      throws JumbleJugglerException {
+    return dictionary.get(
+        BoundedIntSampler.nextInt(juggler.getRandomGenerator(), dictionary.size()));
   }
 
   /**
@@ -71,19 +97,61 @@ public class WordJuggler {
    */
   public static String getRandomDictionaryWordStartingWithCharacter(char character)
       throws JumbleJugglerException {
-    List<String> wordsStartingWithCharacter =
-        wordsAlphabeticallyMap.get(Character.toUpperCase(character));
+    return getRandomDictionaryWordStartingWithCharacter(JumbleJuggler.getDefault(), character);
+  }
 
-    if (wordsStartingWithCharacter != null && !wordsStartingWithCharacter.isEmpty()) {
-      return wordsStartingWithCharacter.get(
-          IntegerJuggler.generateRandomPositiveIntSmallerThan(wordsStartingWithCharacter.size()));
+  /**
+   * Retrieves and returns a random English word starting with a specific character.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param character The character with which the word should start.
+   * @return A random English word starting with the specified character as {@link String}.
+   * @throws JumbleJugglerException If the specified character is not in the English alphabet or if
+   *     no words start with the provided character.
+   */
+  public static String getRandomDictionaryWordStartingWithCharacter(
+      JumbleJuggler juggler, char character) throws JumbleJugglerException {
+    String word = pickWordStartingWithCharacter(juggler, character);
+    if (word != null) {
+      return word;
     }
-
     throw new JumbleJugglerException(
         String.format("The character \"%s\" given is not in the English alphabet", character),
         WordJuggler.class);
   }
 
+  /**
+   * Retrieves and returns a random English word starting with a specific character, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordStartingWithCharacter(char)}, this method neither
+   * throws nor logs.
+   *
+   * @param character The character with which the word should start.
+   * @return A random English word starting with the specified character, or an empty {@link
+   *     Optional} if no words start with it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordStartingWithCharacter(char character) {
+    return tryGetRandomDictionaryWordStartingWithCharacter(JumbleJuggler.getDefault(), character);
+  }
+
+  /**
+   * Retrieves and returns a random English word starting with a specific character, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordStartingWithCharacter(JumbleJuggler, char)}, this
+   * method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param character The character with which the word should start.
+   * @return A random English word starting with the specified character, or an empty {@link
+   *     Optional} if no words start with it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordStartingWithCharacter(
+      JumbleJuggler juggler, char character) {
+    return Optional.ofNullable(pickWordStartingWithCharacter(juggler, character));
+  }
+
   /**
    * Retrieves and returns a random English word starting with a specific string prefix.
    *
@@ -93,14 +161,430 @@ public class WordJuggler {
    */
   public static String getRandomDictionaryWordStartingWithString(String prefix)
       throws JumbleJugglerException {
-    List<String> wordsStartingWithString =
-        words.parallelStream().filter(word -> word.startsWith(prefix.toUpperCase())).toList();
+    return getRandomDictionaryWordStartingWithString(JumbleJuggler.getDefault(), prefix);
+  }
 
-    if (!wordsStartingWithString.isEmpty()) {
-      return wordsStartingWithString.get(
-          IntegerJuggler.generateRandomPositiveIntSmallerThan(wordsStartingWithString.size()));
+  /**
+   * Retrieves and returns a random English word starting with a specific string prefix.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param prefix The string prefix with which the word should start.
+   * @return A random English word starting with the specified string prefix as {@link String}.
+   * @throws JumbleJugglerException If no words start with the provided string prefix.
+   */
+  public static String getRandomDictionaryWordStartingWithString(
+      JumbleJuggler juggler, String prefix) throws JumbleJugglerException {
+    String word = pickWordStartingWithString(juggler, prefix);
+    if (word != null) {
+      return word;
     }
     throw new JumbleJugglerException(
         String.format("No Words start with \"%s\"", prefix), WordJuggler.class);
   }
+
+  /**
+   * Retrieves and returns a random English word starting with a specific string prefix, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordStartingWithString(String)}, this method neither
+   * throws nor logs.
+   *
+   * @param prefix The string prefix with which the word should start.
+   * @return A random English word starting with the specified string prefix, or an empty {@link
+   *     Optional} if no words start with it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordStartingWithString(String prefix) {
+    return tryGetRandomDictionaryWordStartingWithString(JumbleJuggler.getDefault(), prefix);
+  }
+
+  /**
+   * Retrieves and returns a random English word starting with a specific string prefix, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordStartingWithString(JumbleJuggler, String)}, this
+   * method neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param prefix The string prefix with which the word should start.
+   * @return A random English word starting with the specified string prefix, or an empty {@link
+   *     Optional} if no words start with it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordStartingWithString(
+      JumbleJuggler juggler, String prefix) {
+    return Optional.ofNullable(pickWordStartingWithString(juggler, prefix));
+  }
+
+  /**
+   * Retrieves and returns a random English word of a specific length.
+   *
+   * <p>The word is picked among the words of that length only, without any retry.
+   *
+   * @param length The number of characters of the word.
+   * @return A random English word of {@code length} characters as {@link String}.
+   * @throws JumbleJugglerException If the length is not strictly positive or if no words have that
+   *     length.
+   */
+  public static String getRandomDictionaryWordOfLength(int length) throws JumbleJugglerException {
+    return getRandomDictionaryWordOfLength(JumbleJuggler.getDefault(), length);
+  }
+
+  /**
+   * Retrieves and returns a random English word of a specific length.
+   *
+   * <p>The word is picked among the words of that length only, without any retry.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param length The number of characters of the word.
+   * @return A random English word of {@code length} characters as {@link String}.
+   * @throws JumbleJugglerException If the length is not strictly positive or if no words have that
+   *     length.
+   */
+  public static String getRandomDictionaryWordOfLength(JumbleJuggler juggler, int length)
+      throws JumbleJugglerException {
+    if (length < 1) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_LENGTH, length)), WordJuggler.class);
+    }
+    // The upper bound is clamped to the longest words, so that it does not overflow
+    int maxLength = Math.min(length, wordsUtil.getLengthIndex().getMaxLength()) + 1;
+    String word = pickWordOfLengthBetween(juggler, length, maxLength);
+    if (word != null) {
+      return word;
+    }
+    throw new JumbleJugglerException(
+        String.format(NO_WORD_OF_LENGTH, length, length + 1L), WordJuggler.class);
+  }
+
+  /**
+   * Retrieves and returns a random English word whose length is between {@code minLength}
+   * (included) and {@code maxLength} (excluded).
+   *
+   * <p>The word is picked uniformly among the words of those lengths, without any retry.
+   *
+   * @param minLength The inclusive lower bound of the number of characters of the word.
+   * @param maxLength The exclusive upper bound of the number of characters of the word.
+   * @return A random English word of the specified length range as {@link String}.
+   * @throws JumbleJugglerException If the minimum length is not strictly positive or not smaller
+   *     than the maximum length, or if no words have a length within the range.
+   */
+  public static String getRandomDictionaryWordOfLengthBetween(int minLength, int maxLength)
+      throws JumbleJugglerException {
+    return getRandomDictionaryWordOfLengthBetween(JumbleJuggler.getDefault(), minLength, maxLength);
+  }
+
+  /**
+   * Retrieves and returns a random English word whose length is between {@code minLength}
+   * (included) and {@code maxLength} (excluded).
+   *
+   * <p>The word is picked uniformly among the words of those lengths, without any retry.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param minLength The inclusive lower bound of the number of characters of the word.
+   * @param maxLength The exclusive upper bound of the number of characters of the word.
+   * @return A random English word of the specified length range as {@link String}.
+   * @throws JumbleJugglerException If the minimum length is not strictly positive or not smaller
+   *     than the maximum length, or if no words have a length within the range.
+   */
+  public static String getRandomDictionaryWordOfLengthBetween(
+      JumbleJuggler juggler, int minLength, int maxLength) throws JumbleJugglerException {
+    if (minLength < 1) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_LENGTH, minLength)), WordJuggler.class);
+    }
+    if (minLength >= maxLength) {
+      throw new JumbleJugglerException(
+          new IllegalArgumentException(String.format(BAD_BOUND, minLength, maxLength)),
+          WordJuggler.class);
+    }
+    String word = pickWordOfLengthBetween(juggler, minLength, maxLength);
+    if (word != null) {
+      return word;
+    }
+    throw new JumbleJugglerException(
+        String.format(NO_WORD_OF_LENGTH, minLength, maxLength), WordJuggler.class);
+  }
+
+  /**
+   * Retrieves and returns a random English word whose length is between {@code minLength}
+   * (included) and {@code maxLength} (excluded), if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordOfLengthBetween(int, int)}, this method neither throws
+   * nor logs.
+   *
+   * @param minLength The inclusive lower bound of the number of characters of the word.
+   * @param maxLength The exclusive upper bound of the number of characters of the word.
+   * @return A random English word of the specified length range, or an empty {@link Optional} if
+   *     the range is invalid or if no words have a length within it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordOfLengthBetween(
+      int minLength, int maxLength) {
+    return tryGetRandomDictionaryWordOfLengthBetween(
+        JumbleJuggler.getDefault(), minLength, maxLength);
+  }
+
+  /**
+   * Retrieves and returns a random English word whose length is between {@code minLength}
+   * (included) and {@code maxLength} (excluded), if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordOfLengthBetween(JumbleJuggler, int, int)}, this method
+   * neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param minLength The inclusive lower bound of the number of characters of the word.
+   * @param maxLength The exclusive upper bound of the number of characters of the word.
+   * @return A random English word of the specified length range, or an empty {@link Optional} if
+   *     the range is invalid or if no words have a length within it.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordOfLengthBetween(
+      JumbleJuggler juggler, int minLength, int maxLength) {
+    if (minLength < 1 || minLength >= maxLength) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(pickWordOfLengthBetween(juggler, minLength, maxLength));
+  }
+
+  /**
+   * Retrieves and returns a random English word ending with a specific string suffix.
+   *
+   * <p>The word is picked among the words sharing the suffix, found by binary search in an index of
+   * the words read from the end.
+   *
+   * @param suffix The string suffix with which the word should end.
+   * @return A random English word ending with the specified string suffix as {@link String}.
+   * @throws JumbleJugglerException If no words end with the provided string suffix.
+   */
+  public static String getRandomDictionaryWordEndingWithString(String suffix)
+      throws JumbleJugglerException {
+    return getRandomDictionaryWordEndingWithString(JumbleJuggler.getDefault(), suffix);
+  }
+
+  /**
+   * Retrieves and returns a random English word ending with a specific string suffix.
+   *
+   * <p>The word is picked among the words sharing the suffix, found by binary search in an index of
+   * the words read from the end.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param suffix The string suffix with which the word should end.
+   * @return A random English word ending with the specified string suffix as {@link String}.
+   * @throws JumbleJugglerException If no words end with the provided string suffix.
+   */
+  public static String getRandomDictionaryWordEndingWithString(JumbleJuggler juggler, String suffix)
+      throws JumbleJugglerException {
+    String word = pickWordIn(juggler, wordsUtil.getPatternIndex().endingWith(suffix.toUpperCase()));
+    if (word != null) {
+      return word;
+    }
+    throw new JumbleJugglerException(String.format(NO_WORD_ENDING, suffix), WordJuggler.class);
+  }
+
+  /**
+   * Retrieves and returns a random English word ending with a specific string suffix, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordEndingWithString(String)}, this method neither throws
+   * nor logs.
+   *
+   * @param suffix The string suffix with which the word should end.
+   * @return A random English word ending with the specified string suffix, or an empty {@link
+   *     Optional} if no words end with the provided string suffix.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordEndingWithString(String suffix) {
+    return tryGetRandomDictionaryWordEndingWithString(JumbleJuggler.getDefault(), suffix);
+  }
+
+  /**
+   * Retrieves and returns a random English word ending with a specific string suffix, if there is
+   * one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordEndingWithString(JumbleJuggler, String)}, this method
+   * neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param suffix The string suffix with which the word should end.
+   * @return A random English word ending with the specified string suffix, or an empty {@link
+   *     Optional} if no words end with the provided string suffix.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordEndingWithString(
+      JumbleJuggler juggler, String suffix) {
+    return Optional.ofNullable(
+        pickWordIn(juggler, wordsUtil.getPatternIndex().endingWith(suffix.toUpperCase())));
+  }
+
+  /**
+   * Retrieves and returns a random English word containing a specific string.
+   *
+   * <p>The candidates are found with an index of the trigrams of the words, and the result of each
+   * query is cached.
+   *
+   * @param substring The string the word should contain.
+   * @return A random English word containing the specified string as {@link String}.
+   * @throws JumbleJugglerException If no words contain the provided string.
+   */
+  public static String getRandomDictionaryWordContainingString(String substring)
+      throws JumbleJugglerException {
+    return getRandomDictionaryWordContainingString(JumbleJuggler.getDefault(), substring);
+  }
+
+  /**
+   * Retrieves and returns a random English word containing a specific string.
+   *
+   * <p>The candidates are found with an index of the trigrams of the words, and the result of each
+   * query is cached.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param substring The string the word should contain.
+   * @return A random English word containing the specified string as {@link String}.
+   * @throws JumbleJugglerException If no words contain the provided string.
+   */
+  public static String getRandomDictionaryWordContainingString(
+      JumbleJuggler juggler, String substring) throws JumbleJugglerException {
+    String word =
+        pickWordIn(juggler, wordsUtil.getPatternIndex().containing(substring.toUpperCase()));
+    if (word != null) {
+      return word;
+    }
+    throw new JumbleJugglerException(
+        String.format(NO_WORD_CONTAINING, substring), WordJuggler.class);
+  }
+
+  /**
+   * Retrieves and returns a random English word containing a specific string, if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordContainingString(String)}, this method neither throws
+   * nor logs.
+   *
+   * @param substring The string the word should contain.
+   * @return A random English word containing the specified string, or an empty {@link Optional} if
+   *     no words contain the provided string.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordContainingString(String substring) {
+    return tryGetRandomDictionaryWordContainingString(JumbleJuggler.getDefault(), substring);
+  }
+
+  /**
+   * Retrieves and returns a random English word containing a specific string, if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordContainingString(JumbleJuggler, String)}, this method
+   * neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param substring The string the word should contain.
+   * @return A random English word containing the specified string, or an empty {@link Optional} if
+   *     no words contain the provided string.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordContainingString(
+      JumbleJuggler juggler, String substring) {
+    return Optional.ofNullable(
+        pickWordIn(juggler, wordsUtil.getPatternIndex().containing(substring.toUpperCase())));
+  }
+
+  /**
+   * Retrieves and returns a random English word matching a wildcard pattern.
+   *
+   * <p>The pattern has the length of the word, for example {@code "?A??E"} for the words of five
+   * letters whose second letter is {@code A} and last letter is {@code E}. The candidates are found
+   * with an index of the trigrams of the words, and the result of each pattern is cached.
+   *
+   * @param pattern The pattern the word should match, where {@code ?} stands for any single
+   *     character.
+   * @return A random English word matching the specified pattern as {@link String}.
+   * @throws JumbleJugglerException If no words match the provided pattern.
+   */
+  public static String getRandomDictionaryWordMatchingPattern(String pattern)
+      throws JumbleJugglerException {
+    return getRandomDictionaryWordMatchingPattern(JumbleJuggler.getDefault(), pattern);
+  }
+
+  /**
+   * Retrieves and returns a random English word matching a wildcard pattern.
+   *
+   * <p>The pattern has the length of the word, for example {@code "?A??E"} for the words of five
+   * letters whose second letter is {@code A} and last letter is {@code E}. The candidates are found
+   * with an index of the trigrams of the words, and the result of each pattern is cached.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param pattern The pattern the word should match, where {@code ?} stands for any single
+   *     character.
+   * @return A random English word matching the specified pattern as {@link String}.
+   * @throws JumbleJugglerException If no words match the provided pattern.
+   */
+  public static String getRandomDictionaryWordMatchingPattern(JumbleJuggler juggler, String pattern)
+      throws JumbleJugglerException {
+    String word = pickWordIn(juggler, wordsUtil.getPatternIndex().matching(pattern.toUpperCase()));
+    if (word != null) {
+      return word;
+    }
+    throw new JumbleJugglerException(String.format(NO_WORD_MATCHING, pattern), WordJuggler.class);
+  }
+
+  /**
+   * Retrieves and returns a random English word matching a wildcard pattern, if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordMatchingPattern(String)}, this method neither throws
+   * nor logs.
+   *
+   * @param pattern The pattern the word should match, where {@code ?} stands for any single
+   *     character.
+   * @return A random English word matching the specified pattern, or an empty {@link Optional} if
+   *     no words match the provided pattern.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordMatchingPattern(String pattern) {
+    return tryGetRandomDictionaryWordMatchingPattern(JumbleJuggler.getDefault(), pattern);
+  }
+
+  /**
+   * Retrieves and returns a random English word matching a wildcard pattern, if there is one.
+   *
+   * <p>Unlike {@link #getRandomDictionaryWordMatchingPattern(JumbleJuggler, String)}, this method
+   * neither throws nor logs.
+   *
+   * @param juggler The {@link JumbleJuggler} to draw from.
+   * @param pattern The pattern the word should match, where {@code ?} stands for any single
+   *     character.
+   * @return A random English word matching the specified pattern, or an empty {@link Optional} if
+   *     no words match the provided pattern.
+   */
+  public static Optional<String> tryGetRandomDictionaryWordMatchingPattern(
+      JumbleJuggler juggler, String pattern) {
+    return Optional.ofNullable(
+        pickWordIn(juggler, wordsUtil.getPatternIndex().matching(pattern.toUpperCase())));
+  }
+
+  private static String pickWordOfLengthBetween(
+      JumbleJuggler juggler, int minLength, int maxLength) {
+    WordLengthIndex index = wordsUtil.getLengthIndex();
+    WordDictionary.PrefixRange range = index.range(minLength, maxLength);
+    if (range.isEmpty()) {
+      return null;
+    }
+    return dictionary.get(
+        index.rankAt(
+            range.from() + BoundedIntSampler.nextInt(juggler.getRandomGenerator(), range.size())));
+  }
+
+  private static String pickWordIn(JumbleJuggler juggler, WordRanks ranks) {
+    if (ranks.isEmpty()) {
+      return null;
+    }
+    return dictionary.get(
+        ranks.rankAt(BoundedIntSampler.nextInt(juggler.getRandomGenerator(), ranks.size())));
+  }
+
+  private static String pickWordStartingWithCharacter(JumbleJuggler juggler, char character) {
+    return pickWordInRange(
+        juggler, wordsUtil.getPrefixRange(String.valueOf(Character.toUpperCase(character))));
+  }
+
+  private static String pickWordStartingWithString(JumbleJuggler juggler, String prefix) {
+    return pickWordInRange(juggler, wordsUtil.getPrefixRange(prefix.toUpperCase()));
+  }
+
+  private static String pickWordInRange(JumbleJuggler juggler, WordDictionary.PrefixRange range) {
+    if (range.isEmpty()) {
+      return null;
+    }
+    return dictionary.get(
+        range.from() + BoundedIntSampler.nextInt(juggler.getRandomGenerator(), range.size()));
+  }
 }
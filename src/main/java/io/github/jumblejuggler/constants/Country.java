@@ -13,99 +13,99 @@ import java.util.Map;
 
 /**
  * The {@code Country} enum represents different countries along with their relevant information,
- * such as name, alpha3 code, currency code, flag unicode, capital city, continent, and whether this
- * country has a GoogleLibNumber. Each country is represented as a constant in the enum, providing a
- * convenient way to access country-specific details.
+ * such as name, alpha3 code, currency code, flag unicode, capital city, continent, whether this
+ * country has a GoogleLibNumber, and population. Each country is represented as a constant in the
+ * enum, providing a convenient way to access country-specific details.
  */
 public enum Country {
-  AD("Andorra", "ATG", "🇦🇩", "EUR", "Andorra la Vella", "EU", true),
-  AE("United Arab Emirates", "ARE", "🇦🇪", "AED", "Abu Dhabi", "AS", true),
-  AF("Afghanistan", "AFG", "🇦🇫", "AFN", "Kabul", "AS", true),
-  AG("Antigua and Barbuda", "ATG", "🇦🇬", "XCD", "St. John's", "NA", true),
-  AI("Anguilla", "AIA", "🇦🇮", "XCD", "The Valley", "NA", true),
-  AL("Albania", "ALB", "🇦🇱", "ALL", "Tirana", "EU", true),
-  AM("Armenia", "ARM", "🇦🇲", "AMD", "Yerevan", "AS", true),
-  AO("Angola", "AGO", "🇦🇴", "AOA", "Luanda", "AF", true),
-  AQ("Antarctica", "ATA", "🇦🇶", "", "", "AN", false),
-  AR("Argentina", "ARG", "🇦🇷", "ARS", "Buenos Aires", "SA", true),
-  AS("American Samoa", "ASM", "🇦🇸", "USD", "Pago Pago", "OC", true),
-  AT("Austria", "AUT", "🇦🇹", "EUR", "Vienna", "EU", true),
-  AU("Australia", "AUS", "🇦🇺", "AUD", "Canberra", "OC", true),
-  AW("Aruba", "ABW", "🇦🇼", "AWG", "Oranjestad", "NA", true),
-  AX("Aland Islands", "ALA", "🇦🇽", "EUR", "Mariehamn", "EU", true),
-  AZ("Azerbaijan", "AZE", "🇦🇿", "AZN", "Baku", "AS", true),
-  BA("Bosnia and Herzegovina", "BIH", "🇧🇦", "BAM", "Sarajevo", "EU", true),
-  BB("Barbados", "BRB", "🇧🇧", "BBD", "Bridgetown", "NA", true),
-  BD("Bangladesh", "BGD", "🇧🇩", "BDT", "Dhaka", "AS", true),
-  BE("Belgium", "BEL", "🇧🇪", "EUR", "Brussels", "EU", true),
-  BF("Burkina Faso", "BFA", "🇧🇫", "XOF", "Ouagadougou", "AF", true),
-  BG("Bulgaria", "BGR", "🇧🇬", "BGN", "Sofia", "EU", true),
-  BH("Bahrain", "BHR", "🇧🇭", "BHD", "Manama", "AS", true),
-  BI("Burundi", "BDI", "🇧🇮", "BIF", "Bujumbura", "AF", true),
-  BJ("Benin", "BEN", "🇧🇯", "XOF", "Porto-Novo", "AF", true),
-  BL("Saint Barthelemy", "BLM", "🇧🇱", "EUR", "Gustavia", "NA", true),
-  BM("Bermuda", "BMU", "🇧🇲", "BMD", "Hamilton", "NA", true),
-  BN("Brunei", "BRN", "🇧🇳", "BND", "Bandar Seri Begawan", "AS", true),
-  BO("Bolivia", "BOL", "🇧🇴", "BOB", "Sucre", "SA", true),
-  BQ("Bonaire, Saint Eustatius and Saba", "BES", "🇧🇶", "USD", "", "NA", true),
-  BR("Brazil", "BRA", "🇧🇷", "BRL", "Brasilia", "SA", true),
-  BS("Bahamas", "BHS", "🇧🇸", "BSD", "Nassau", "NA", true),
-  BT("Bhutan", "BTN", "🇧🇹", "BTN", "Thimphu", "AS", true),
-  BW("Botswana", "BWA", "🇧🇼", "BWP", "Gaborone", "AF", true),
-  BY("Belarus", "BLR", "🇧🇾", "BYR", "Minsk", "EU", true),
-  BZ("Belize", "BLZ", "🇧🇿", "BZD", "Belmopan", "NA", true),
-  CA("Canada", "CAN", "🇨🇦", "CAD", "Ottawa", "NA", true),
-  CC("Cocos Islands", "CCK", "🇨🇨", "AUD", "West Island", "AS", true),
-  CD("Democratic Republic of the Congo", "COD", "🇨🇩", "CDF", "Kinshasa", "AF", true),
-  CF("Central African Republic", "CAF", "🇨🇫", "XAF", "Bangui", "AF", true),
-  CG("Republic of the Congo", "COG", "🇨🇬", "XAF", "Brazzaville", "AF", true),
-  CH("Switzerland", "CHE", "🇨🇭", "CHF", "Bern", "EU", true),
-  CI("Ivory Coast", "CIV", "🇨🇮", "XOF", "Yamoussoukro", "AF", true),
-  CK("Cook Islands", "COK", "🇨🇰", "NZD", "Avarua", "OC", true),
-  CL("Chile", "CHL", "🇨🇱", "CLP", "Santiago", "SA", true),
-  CM("Cameroon", "CMR", "🇨🇲", "XAF", "Yaounde", "AF", true),
-  CN("China", "CHN", "🇨🇳", "CNY", "Beijing", "AS", true),
-  CO("Colombia", "COL", "🇨🇴", "COP", "Bogota", "SA", true),
-  CR("Costa Rica", "CRI", "🇨🇷", "CRC", "San Jose", "NA", true),
-  CU("Cuba", "CUB", "🇨🇺", "CUP", "Havana", "NA", true),
-  CV("Cape Verde", "CPV", "🇨🇻", "CVE", "Praia", "AF", true),
-  CW("Curacao", "CUW", "🇨🇼", "ANG", "Willemstad", "NA", true),
-  CX("Christmas Island", "CXR", "🇨🇽", "AUD", "Flying Fish Cove", "AS", true),
-  CY("Cyprus", "CYP", "🇨🇾", "EUR", "Nicosia", "AS", true),
-  CZ("Czech Republic", "CZE", "🇨🇿", "CZK", "Prague", "EU", true),
-  DE("Germany", "DEU", "🇩🇪", "EUR", "Berlin", "EU", true),
-  DJ("Djibouti", "DJI", "🇩🇯", "DJF", "Djibouti", "AF", true),
-  DK("Denmark", "DNK", "🇩🇰", "DKK", "Copenhagen", "EU", true),
-  DM("Dominica", "DMA", "🇩🇲", "XCD", "Roseau", "NA", true),
-  DO("Dominican Republic", "DOM", "🇩🇴", "DOP", "Santo Domingo", "NA", true),
-  DZ("Algeria", "DZA", "🇩🇿", "DZD", "Algiers", "AF", true),
-  EC("Ecuador", "ECU", "🇪🇨", "USD", "Quito", "SA", true),
-  EE("Estonia", "EST", "🇪🇪", "EUR", "Tallinn", "EU", true),
-  EG("Egypt", "EGY", "🇪🇬", "EGP", "Cairo", "AF", true),
-  EH("Western Sahara", "ESH", "🇪🇭", "MAD", "El-Aaiun", "AF", true),
-  ER("Eritrea", "ERI", "🇪🇷", "ERN", "Asmara", "AF", true),
-  ES("Spain", "ESP", "🇪🇸", "EUR", "Madrid", "EU", true),
-  ET("Ethiopia", "ETH", "🇪🇹", "ETB", "Addis Ababa", "AF", true),
-  FI("Finland", "FIN", "🇫🇮", "EUR", "Helsinki", "EU", true),
-  FJ("Fiji", "FJI", "🇫🇯", "FJD", "Suva", "OC", true),
-  FK("Falkland Islands", "FLK", "🇫🇰", "FKP", "Stanley", "SA", true),
-  FM("Micronesia", "FSM", "🇫🇲", "USD", "Palikir", "OC", true),
-  FO("Faroe Islands", "FRO", "🇫🇴", "DKK", "Torshavn", "EU", true),
-  FR("France", "FRA", "🇫🇷", "EUR", "Paris", "EU", true),
-  GA("Gabon", "GAB", "🇬🇦", "XAF", "Libreville", "AF", true),
-  GB("United Kingdom", "GBR", "🇬🇧", "GBP", "London", "EU", true),
-  GD("Grenada", "GRD", "🇬🇩", "XCD", "St. George's", "NA", true),
-  GE("Georgia", "GEO", "🇬🇪", "GEL", "Tbilisi", "AS", true),
-  GF("French Guiana", "GUF", "🇬🇫", "EUR", "Cayenne", "SA", true),
-  GG("Guernsey", "GGY", "🇬🇬", "GBP", "St Peter Port", "EU", true),
-  GH("Ghana", "GHA", "🇬🇭", "GHS", "Accra", "AF", true),
-  GI("Gibraltar", "GIB", "🇬🇮", "GIP", "Gibraltar", "EU", true),
-  GL("Greenland", "GRL", "🇬🇱", "DKK", "Nuuk", "NA", true),
-  GM("Gambia", "GMB", "🇬🇲", "GMD", "Banjul", "AF", true),
-  GN("Guinea", "GIN", "🇬🇳", "GNF", "Conakry", "AF", true),
-  GP("Guadeloupe", "GLP", "🇬🇵", "EUR", "Basse-Terre", "NA", true),
-  GQ("Equatorial Guinea", "GNQ", "🇬🇶", "XAF", "Malabo", "AF", true),
-  GR("Greece", "GRC", "🇬🇷", "EUR", "Athens", "EU", true),
+  AD("Andorra", "ATG", "🇦🇩", "EUR", "Andorra la Vella", "EU", true, 79_824),
+  AE("United Arab Emirates", "ARE", "🇦🇪", "AED", "Abu Dhabi", "AS", true, 9_441_129),
+  AF("Afghanistan", "AFG", "🇦🇫", "AFN", "Kabul", "AS", true, 41_128_771),
+  AG("Antigua and Barbuda", "ATG", "🇦🇬", "XCD", "St. John's", "NA", true, 93_763),
+  AI("Anguilla", "AIA", "🇦🇮", "XCD", "The Valley", "NA", true, 15_857),
+  AL("Albania", "ALB", "🇦🇱", "ALL", "Tirana", "EU", true, 2_842_321),
+  AM("Armenia", "ARM", "🇦🇲", "AMD", "Yerevan", "AS", true, 2_780_469),
+  AO("Angola", "AGO", "🇦🇴", "AOA", "Luanda", "AF", true, 35_588_987),
+  AQ("Antarctica", "ATA", "🇦🇶", "", "", "AN", false, 0),
+  AR("Argentina", "ARG", "🇦🇷", "ARS", "Buenos Aires", "SA", true, 45_510_318),
+  AS("American Samoa", "ASM", "🇦🇸", "USD", "Pago Pago", "OC", true, 44_273),
+  AT("Austria", "AUT", "🇦🇹", "EUR", "Vienna", "EU", true, 8_939_617),
+  AU("Australia", "AUS", "🇦🇺", "AUD", "Canberra", "OC", true, 26_177_413),
+  AW("Aruba", "ABW", "🇦🇼", "AWG", "Oranjestad", "NA", true, 106_445),
+  AX("Aland Islands", "ALA", "🇦🇽", "EUR", "Mariehamn", "EU", true, 30_129),
+  AZ("Azerbaijan", "AZE", "🇦🇿", "AZN", "Baku", "AS", true, 10_358_074),
+  BA("Bosnia and Herzegovina", "BIH", "🇧🇦", "BAM", "Sarajevo", "EU", true, 3_233_526),
+  BB("Barbados", "BRB", "🇧🇧", "BBD", "Bridgetown", "NA", true, 281_635),
+  BD("Bangladesh", "BGD", "🇧🇩", "BDT", "Dhaka", "AS", true, 171_186_372),
+  BE("Belgium", "BEL", "🇧🇪", "EUR", "Brussels", "EU", true, 11_655_930),
+  BF("Burkina Faso", "BFA", "🇧🇫", "XOF", "Ouagadougou", "AF", true, 22_673_762),
+  BG("Bulgaria", "BGR", "🇧🇬", "BGN", "Sofia", "EU", true, 6_781_953),
+  BH("Bahrain", "BHR", "🇧🇭", "BHD", "Manama", "AS", true, 1_472_233),
+  BI("Burundi", "BDI", "🇧🇮", "BIF", "Bujumbura", "AF", true, 12_889_576),
+  BJ("Benin", "BEN", "🇧🇯", "XOF", "Porto-Novo", "AF", true, 13_352_864),
+  BL("Saint Barthelemy", "BLM", "🇧🇱", "EUR", "Gustavia", "NA", true, 10_967),
+  BM("Bermuda", "BMU", "🇧🇲", "BMD", "Hamilton", "NA", true, 64_184),
+  BN("Brunei", "BRN", "🇧🇳", "BND", "Bandar Seri Begawan", "AS", true, 449_002),
+  BO("Bolivia", "BOL", "🇧🇴", "BOB", "Sucre", "SA", true, 12_224_110),
+  BQ("Bonaire, Saint Eustatius and Saba", "BES", "🇧🇶", "USD", "", "NA", true, 29_418),
+  BR("Brazil", "BRA", "🇧🇷", "BRL", "Brasilia", "SA", true, 215_313_498),
+  BS("Bahamas", "BHS", "🇧🇸", "BSD", "Nassau", "NA", true, 409_984),
+  BT("Bhutan", "BTN", "🇧🇹", "BTN", "Thimphu", "AS", true, 782_455),
+  BW("Botswana", "BWA", "🇧🇼", "BWP", "Gaborone", "AF", true, 2_630_296),
+  BY("Belarus", "BLR", "🇧🇾", "BYR", "Minsk", "EU", true, 9_534_954),
+  BZ("Belize", "BLZ", "🇧🇿", "BZD", "Belmopan", "NA", true, 405_272),
+  CA("Canada", "CAN", "🇨🇦", "CAD", "Ottawa", "NA", true, 38_454_327),
+  CC("Cocos Islands", "CCK", "🇨🇨", "AUD", "West Island", "AS", true, 593),
+  CD("Democratic Republic of the Congo", "COD", "🇨🇩", "CDF", "Kinshasa", "AF", true, 99_010_212),
+  CF("Central African Republic", "CAF", "🇨🇫", "XAF", "Bangui", "AF", true, 5_579_144),
+  CG("Republic of the Congo", "COG", "🇨🇬", "XAF", "Brazzaville", "AF", true, 5_970_424),
+  CH("Switzerland", "CHE", "🇨🇭", "CHF", "Bern", "EU", true, 8_740_472),
+  CI("Ivory Coast", "CIV", "🇨🇮", "XOF", "Yamoussoukro", "AF", true, 28_160_542),
+  CK("Cook Islands", "COK", "🇨🇰", "NZD", "Avarua", "OC", true, 17_011),
+  CL("Chile", "CHL", "🇨🇱", "CLP", "Santiago", "SA", true, 19_603_733),
+  CM("Cameroon", "CMR", "🇨🇲", "XAF", "Yaounde", "AF", true, 27_914_536),
+  CN("China", "CHN", "🇨🇳", "CNY", "Beijing", "AS", true, 1_425_887_337),
+  CO("Colombia", "COL", "🇨🇴", "COP", "Bogota", "SA", true, 51_874_024),
+  CR("Costa Rica", "CRI", "🇨🇷", "CRC", "San Jose", "NA", true, 5_180_829),
+  CU("Cuba", "CUB", "🇨🇺", "CUP", "Havana", "NA", true, 11_212_191),
+  CV("Cape Verde", "CPV", "🇨🇻", "CVE", "Praia", "AF", true, 593_149),
+  CW("Curacao", "CUW", "🇨🇼", "ANG", "Willemstad", "NA", true, 191_163),
+  CX("Christmas Island", "CXR", "🇨🇽", "AUD", "Flying Fish Cove", "AS", true, 1_692),
+  CY("Cyprus", "CYP", "🇨🇾", "EUR", "Nicosia", "AS", true, 1_251_488),
+  CZ("Czech Republic", "CZE", "🇨🇿", "CZK", "Prague", "EU", true, 10_493_986),
+  DE("Germany", "DEU", "🇩🇪", "EUR", "Berlin", "EU", true, 83_369_843),
+  DJ("Djibouti", "DJI", "🇩🇯", "DJF", "Djibouti", "AF", true, 1_120_849),
+  DK("Denmark", "DNK", "🇩🇰", "DKK", "Copenhagen", "EU", true, 5_882_261),
+  DM("Dominica", "DMA", "🇩🇲", "XCD", "Roseau", "NA", true, 72_737),
+  DO("Dominican Republic", "DOM", "🇩🇴", "DOP", "Santo Domingo", "NA", true, 11_228_821),
+  DZ("Algeria", "DZA", "🇩🇿", "DZD", "Algiers", "AF", true, 44_903_225),
+  EC("Ecuador", "ECU", "🇪🇨", "USD", "Quito", "SA", true, 18_001_000),
+  EE("Estonia", "EST", "🇪🇪", "EUR", "Tallinn", "EU", true, 1_326_062),
+  EG("Egypt", "EGY", "🇪🇬", "EGP", "Cairo", "AF", true, 110_990_103),
+  EH("Western Sahara", "ESH", "🇪🇭", "MAD", "El-Aaiun", "AF", true, 575_986),
+  ER("Eritrea", "ERI", "🇪🇷", "ERN", "Asmara", "AF", true, 3_684_032),
+  ES("Spain", "ESP", "🇪🇸", "EUR", "Madrid", "EU", true, 47_558_630),
+  ET("Ethiopia", "ETH", "🇪🇹", "ETB", "Addis Ababa", "AF", true, 123_379_924),
+  FI("Finland", "FIN", "🇫🇮", "EUR", "Helsinki", "EU", true, 5_540_745),
+  FJ("Fiji", "FJI", "🇫🇯", "FJD", "Suva", "OC", true, 929_766),
+  FK("Falkland Islands", "FLK", "🇫🇰", "FKP", "Stanley", "SA", true, 3_780),
+  FM("Micronesia", "FSM", "🇫🇲", "USD", "Palikir", "OC", true, 114_164),
+  FO("Faroe Islands", "FRO", "🇫🇴", "DKK", "Torshavn", "EU", true, 53_090),
+  FR("France", "FRA", "🇫🇷", "EUR", "Paris", "EU", true, 64_626_628),
+  GA("Gabon", "GAB", "🇬🇦", "XAF", "Libreville", "AF", true, 2_388_992),
+  GB("United Kingdom", "GBR", "🇬🇧", "GBP", "London", "EU", true, 67_508_936),
+  GD("Grenada", "GRD", "🇬🇩", "XCD", "St. George's", "NA", true, 125_438),
+  GE("Georgia", "GEO", "🇬🇪", "GEL", "Tbilisi", "AS", true, 3_744_385),
+  GF("French Guiana", "GUF", "🇬🇫", "EUR", "Cayenne", "SA", true, 304_557),
+  GG("Guernsey", "GGY", "🇬🇬", "GBP", "St Peter Port", "EU", true, 63_301),
+  GH("Ghana", "GHA", "🇬🇭", "GHS", "Accra", "AF", true, 33_475_870),
+  GI("Gibraltar", "GIB", "🇬🇮", "GIP", "Gibraltar", "EU", true, 32_649),
+  GL("Greenland", "GRL", "🇬🇱", "DKK", "Nuuk", "NA", true, 56_466),
+  GM("Gambia", "GMB", "🇬🇲", "GMD", "Banjul", "AF", true, 2_705_992),
+  GN("Guinea", "GIN", "🇬🇳", "GNF", "Conakry", "AF", true, 13_859_341),
+  GP("Guadeloupe", "GLP", "🇬🇵", "EUR", "Basse-Terre", "NA", true, 395_752),
+  GQ("Equatorial Guinea", "GNQ", "🇬🇶", "XAF", "Malabo", "AF", true, 1_674_908),
+  GR("Greece", "GRC", "🇬🇷", "EUR", "Athens", "EU", true, 10_384_971),
   GS(
       "South Georgia and the South Sandwich Islands",
       "SGS",
@@ -113,167 +113,168 @@ public enum Country {
       "GBP",
       "Grytviken",
       "AN",
-      false),
-  GT("Guatemala", "GTM", "🇬🇹", "GTQ", "Guatemala City", "NA", true),
-  GU("Guam", "GUM", "🇬🇺", "USD", "Hagatna", "OC", true),
-  GW("Guinea-Bissau", "GNB", "🇬🇼", "XOF", "Bissau", "AF", true),
-  GY("Guyana", "GUY", "🇬🇾", "GYD", "Georgetown", "SA", true),
-  HK("Hong Kong", "HKG", "🇭🇰", "HKD", "Hong Kong", "AS", true),
-  HM("Heard Island and McDonald Islands", "HMD", "🇭🇲", "AUD", "", "AN", false),
-  HN("Honduras", "HND", "🇭🇳", "HNL", "Tegucigalpa", "NA", true),
-  HR("Croatia", "HRV", "🇭🇷", "HRK", "Zagreb", "EU", true),
-  HT("Haiti", "HTI", "🇭🇹", "HTG", "Port-au-Prince", "NA", true),
-  HU("Hungary", "HUN", "🇭🇺", "HUF", "Budapest", "EU", true),
-  ID("Indonesia", "IDN", "🇮🇩", "IDR", "Jakarta", "AS", true),
-  IE("Ireland", "IRL", "🇮🇪", "EUR", "Dublin", "EU", true),
-  IL("Israel", "ISR", "🇮🇱", "ILS", "Jerusalem", "AS", true),
-  IM("Isle of Man", "IMN", "🇮🇲", "GBP", "Douglas, Isle of Man", "EU", true),
-  IN("India", "IND", "🇮🇳", "INR", "New Delhi", "AS", true),
-  IO("British Indian Ocean Territory", "IOT", "🇮🇴", "USD", "Diego Garcia", "AS", true),
-  IQ("Iraq", "IRQ", "🇮🇶", "IQD", "Baghdad", "AS", true),
-  IR("Iran", "IRN", "🇮🇷", "IRR", "Tehran", "AS", true),
-  IS("Iceland", "ISL", "🇮🇸", "ISK", "Reykjavik", "EU", true),
-  IT("Italy", "ITA", "🇮🇹", "EUR", "Rome", "EU", true),
-  JE("Jersey", "JEY", "🇯🇪", "GBP", "Saint Helier", "EU", true),
-  JM("Jamaica", "JAM", "🇯🇲", "JMD", "Kingston", "NA", true),
-  JO("Jordan", "JOR", "🇯🇴", "JOD", "Amman", "AS", true),
-  JP("Japan", "JPN", "🇯🇵", "JPY", "Tokyo", "AS", true),
-  KE("Kenya", "KEN", "🇰🇪", "KES", "Nairobi", "AF", true),
-  KG("Kyrgyzstan", "KGZ", "🇰🇬", "KGS", "Bishkek", "AS", true),
-  KH("Cambodia", "KHM", "🇰🇭", "KHR", "Phnom Penh", "AS", true),
-  KI("Kiribati", "KIR", "🇰🇮", "AUD", "Tarawa", "OC", true),
-  KM("Comoros", "COM", "🇰🇲", "KMF", "Moroni", "AF", true),
-  KN("Saint Kitts and Nevis", "KNA", "🇰🇳", "XCD", "Basseterre", "NA", true),
-  KP("North Korea", "PRK", "🇰🇵", "KPW", "Pyongyang", "AS", true),
-  KR("South Korea", "KOR", "🇰🇷", "KRW", "Seoul", "AS", true),
-  KW("Kuwait", "KWT", "🇰🇼", "KWD", "Kuwait City", "AS", true),
-  KY("Cayman Islands", "CYM", "🇰🇾", "KYD", "George Town", "NA", true),
-  KZ("Kazakhstan", "KAZ", "🇰🇿", "KZT", "Nur-Sultan", "AS", true),
-  LA("Laos", "LAO", "🇱🇦", "LAK", "Vientiane", "AS", true),
-  LB("Lebanon", "LBN", "🇱🇧", "LBP", "Beirut", "AS", true),
-  LC("Saint Lucia", "LCA", "🇱🇨", "XCD", "Castries", "NA", true),
-  LI("Liechtenstein", "LIE", "🇱🇮", "CHF", "Vaduz", "EU", true),
-  LK("Sri Lanka", "LKA", "🇱🇰", "LKR", "Colombo", "AS", true),
-  LR("Liberia", "LBR", "🇱🇷", "LRD", "Monrovia", "AF", true),
-  LS("Lesotho", "LSO", "🇱🇸", "LSL", "Maseru", "AF", true),
-  LT("Lithuania", "LTU", "🇱🇹", "LTL", "Vilnius", "EU", true),
-  LU("Luxembourg", "LUX", "🇱🇺", "EUR", "Luxembourg", "EU", true),
-  LV("Latvia", "LVA", "🇱🇻", "EUR", "Riga", "EU", true),
-  LY("Libya", "LBY", "🇱🇾", "LYD", "Tripolis", "AF", true),
-  MA("Morocco", "MAR", "🇲🇦", "MAD", "Rabat", "AF", true),
-  MC("Monaco", "MCO", "🇲🇨", "EUR", "Monaco", "EU", true),
-  MD("Moldova", "MDA", "🇲🇩", "MDL", "Chisinau", "EU", true),
-  ME("Montenegro", "MNE", "🇲🇪", "EUR", "Podgorica", "EU", true),
-  MF("Saint Martin", "MAF", "🇲🇫", "EUR", "Marigot", "NA", true),
-  MG("Madagascar", "MDG", "🇲🇬", "MGA", "Antananarivo", "AF", true),
-  MH("Marshall Islands", "MHL", "🇲🇭", "USD", "Majuro", "OC", true),
-  MK("Macedonia", "MKD", "🇲🇰", "MKD", "Skopje", "EU", true),
-  ML("Mali", "MLI", "🇲🇱", "XOF", "Bamako", "AF", true),
-  MM("Myanmar", "MMR", "🇲🇲", "MMK", "Nay Pyi Taw", "AS", true),
-  MN("Mongolia", "MNG", "🇲🇳", "MNT", "Ulan Bator", "AS", true),
-  MO("Macao", "MAC", "🇲🇴", "MOP", "Macao", "AS", true),
-  MP("Northern Mariana Islands", "MNP", "🇲🇵", "USD", "Saipan", "OC", true),
-  MQ("Martinique", "MTQ", "🇲🇶", "EUR", "Fort-de-France", "NA", true),
-  MR("Mauritania", "MRT", "🇲🇷", "MRO", "Nouakchott", "AF", true),
-  MS("Montserrat", "MSR", "🇲🇸", "XCD", "Plymouth", "NA", true),
-  MT("Malta", "MLT", "🇲🇹", "EUR", "Valletta", "EU", true),
-  MU("Mauritius", "MUS", "🇲🇺", "MUR", "Port Louis", "AF", true),
-  MV("Maldives", "MDV", "🇲🇻", "MVR", "Male", "AS", true),
-  MW("Malawi", "MWI", "🇲🇼", "MWK", "Lilongwe", "AF", true),
-  MX("Mexico", "MEX", "🇲🇽", "MXN", "Mexico City", "NA", true),
-  MY("Malaysia", "MYS", "🇲🇾", "MYR", "Kuala Lumpur", "AS", true),
-  MZ("Mozambique", "MOZ", "🇲🇿", "MZN", "Maputo", "AF", true),
-  NA("Namibia", "NAM", "🇳🇦", "NAD", "Windhoek", "AF", true),
-  NC("New Caledonia", "NCL", "🇳🇨", "XPF", "Noumea", "OC", true),
-  NE("Niger", "NER", "🇳🇪", "XOF", "Niamey", "AF", true),
-  NF("Norfolk Island", "NFK", "🇳🇫", "AUD", "Kingston", "OC", true),
-  NG("Nigeria", "NGA", "🇳🇬", "NGN", "Abuja", "AF", true),
-  NI("Nicaragua", "NIC", "🇳🇮", "NIO", "Managua", "NA", true),
-  NL("Netherlands", "NLD", "🇳🇱", "EUR", "Amsterdam", "EU", true),
-  NO("Norway", "NOR", "🇳🇴", "NOK", "Oslo", "EU", true),
-  NP("Nepal", "NPL", "🇳🇵", "NPR", "Kathmandu", "AS", true),
-  NR("Nauru", "NRU", "🇳🇷", "AUD", "Yaren", "OC", true),
-  NU("Niue", "NIU", "🇳🇺", "NZD", "Alofi", "OC", true),
-  NZ("New Zealand", "NZL", "🇳🇿", "NZD", "Wellington", "OC", true),
-  OM("Oman", "OMN", "🇴🇲", "OMR", "Muscat", "AS", true),
-  PA("Panama", "PAN", "🇵🇦", "PAB", "Panama City", "NA", true),
-  PE("Peru", "PER", "🇵🇪", "PEN", "Lima", "SA", true),
-  PF("French Polynesia", "PYF", "🇵🇫", "XPF", "Papeete", "OC", true),
-  PG("Papua New Guinea", "PNG", "🇵🇬", "PGK", "Port Moresby", "OC", true),
-  PH("Philippines", "PHL", "🇵🇭", "PHP", "Manila", "AS", true),
-  PK("Pakistan", "PAK", "🇵🇰", "PKR", "Islamabad", "AS", true),
-  PL("Poland", "POL", "🇵🇱", "PLN", "Warsaw", "EU", true),
-  PM("Saint Pierre and Miquelon", "SPM", "🇵🇲", "EUR", "Saint-Pierre", "NA", true),
-  PN("Pitcairn", "PCN", "🇵🇳", "NZD", "Adamstown", "OC", false),
-  PR("Puerto Rico", "PRI", "🇵🇷", "USD", "San Juan", "NA", true),
-  PS("Palestinian Territory", "PSE", "🇵🇸", "ILS", "East Jerusalem", "AS", true),
-  PT("Portugal", "PRT", "🇵🇹", "EUR", "Lisbon", "EU", true),
-  PW("Palau", "PLW", "🇵🇼", "USD", "Melekeok", "OC", true),
-  PY("Paraguay", "PRY", "🇵🇾", "PYG", "Asuncion", "SA", true),
-  QA("Qatar", "QAT", "🇶🇦", "QAR", "Doha", "AS", true),
-  RE("Reunion", "REU", "🇷🇪", "EUR", "Saint-Denis", "AF", true),
-  RO("Romania", "ROU", "🇷🇴", "RON", "Bucharest", "EU", true),
-  RS("Serbia", "SRB", "🇷🇸", "RSD", "Belgrade", "EU", true),
-  RU("Russia", "RUS", "🇷🇺", "RUB", "Moscow", "EU", true),
-  RW("Rwanda", "RWA", "🇷🇼", "RWF", "Kigali", "AF", true),
-  SA("Saudi Arabia", "SAU", "🇸🇦", "SAR", "Riyadh", "AS", true),
-  SB("Solomon Islands", "SLB", "🇸🇧", "SBD", "Honiara", "OC", true),
-  SC("Seychelles", "SYC", "🇸🇨", "SCR", "Victoria", "AF", true),
-  SD("Sudan", "SDN", "🇸🇩", "SDG", "Khartoum", "AF", true),
-  SE("Sweden", "SWE", "🇸🇪", "SEK", "Stockholm", "EU", true),
-  SG("Singapore", "SGP", "🇸🇬", "SGD", "Singapore", "AS", true),
-  SH("Saint Helena", "SHN", "🇸🇭", "SHP", "Jamestown", "AF", true),
-  SI("Slovenia", "SVN", "🇸🇮", "EUR", "Ljubljana", "EU", true),
-  SJ("Svalbard and Jan Mayen", "SJM", "🇸🇯", "NOK", "Longyearbyen", "EU", true),
-  SK("Slovakia", "SVK", "🇸🇰", "EUR", "Bratislava", "EU", true),
-  SL("Sierra Leone", "SLE", "🇸🇱", "SLL", "Freetown", "AF", true),
-  SM("San Marino", "SMR", "🇸🇲", "EUR", "San Marino", "EU", true),
-  SN("Senegal", "SEN", "🇸🇳", "XOF", "Dakar", "AF", true),
-  SO("Somalia", "SOM", "🇸🇴", "SOS", "Mogadishu", "AF", true),
-  SR("Suriname", "SUR", "🇸🇷", "SRD", "Paramaribo", "SA", true),
-  SS("South Sudan", "SSD", "🇸🇸", "SSP", "Juba", "AF", true),
-  ST("Sao Tome and Principe", "STP", "🇸🇹", "STN", "Sao Tome", "AF", true),
-  SV("El Salvador", "SLV", "🇸🇻", "USD", "San Salvador", "NA", true),
-  SX("Sint Maarten", "SXM", "🇸🇽", "ANG", "Philipsburg", "NA", true),
-  SY("Syria", "SYR", "🇸🇾", "SYP", "Damascus", "AS", true),
-  SZ("Swaziland", "SWZ", "🇸🇿", "SZL", "Mbabane", "AF", true),
-  TC("Turks and Caicos Islands", "TCA", "🇹🇨", "USD", "Cockburn Town", "NA", true),
-  TD("Chad", "TCD", "🇹🇩", "XAF", "N'Djamena", "AF", true),
-  TF("French Southern Territories", "ATF", "🇹🇫", "EUR", "Port-aux-Francais", "AN", false),
-  TG("Togo", "TGO", "🇹🇬", "XOF", "Lome", "AF", true),
-  TH("Thailand", "THA", "🇹🇭", "THB", "Bangkok", "AS", true),
-  TJ("Tajikistan", "TJK", "🇹🇯", "TJS", "Dushanbe", "AS", true),
-  TK("Tokelau", "TKL", "🇹🇰", "NZD", "", "OC", true),
-  TL("East Timor", "TLS", "🇹🇱", "USD", "Dili", "OC", true),
-  TM("Turkmenistan", "TKM", "🇹🇲", "TMT", "Ashgabat", "AS", true),
-  TN("Tunisia", "TUN", "🇹🇳", "TND", "Tunis", "AF", true),
-  TO("Tonga", "TON", "🇹🇴", "TOP", "Nuku'alofa", "OC", true),
-  TR("Turkey", "TUR", "🇹🇷", "TRY", "Ankara", "AS", true),
-  TT("Trinidad and Tobago", "TTO", "🇹🇹", "TTD", "Port of Spain", "NA", true),
-  TV("Tuvalu", "TUV", "🇹🇻", "AUD", "Funafuti", "OC", true),
-  TW("Taiwan", "TWN", "🇹🇼", "TWD", "Taipei", "AS", true),
-  TZ("Tanzania", "TZA", "🇹🇿", "TZS", "Dodoma", "AF", true),
-  UA("Ukraine", "UKR", "🇺🇦", "UAH", "Kiev", "EU", true),
-  UG("Uganda", "UGA", "🇺🇬", "UGX", "Kampala", "AF", true),
-  UM("United States Minor Outlying Islands", "UMI", "🇺🇲", "USD", "", "OC", false),
-  US("United States", "USA", "🇺🇸", "USD", "Washington", "NA", true),
-  UY("Uruguay", "URY", "🇺🇾", "UYU", "Montevideo", "SA", true),
-  UZ("Uzbekistan", "UZB", "🇺🇿", "UZS", "Tashkent", "AS", true),
-  VA("Vatican", "VAT", "🇻🇦", "EUR", "Vatican City", "EU", true),
-  VC("Saint Vincent and the Grenadines", "VCT", "🇻🇨", "XCD", "Kingstown", "NA", true),
-  VE("Venezuela", "VEN", "🇻🇪", "VEF", "Caracas", "SA", true),
-  VG("British Virgin Islands", "VGB", "🇻🇬", "USD", "Road Town", "NA", true),
-  VI("U.S. Virgin Islands", "VIR", "🇻🇮", "USD", "Charlotte Amalie", "NA", true),
-  VN("Vietnam", "VNM", "🇻🇳", "VND", "Hanoi", "AS", true),
-  VU("Vanuatu", "VUT", "🇻🇺", "VUV", "Port Vila", "OC", true),
-  WF("Wallis and Futuna", "WLF", "🇼🇫", "XPF", "Mata Utu", "OC", true),
-  WS("Samoa", "WSM", "🇼🇸", "WST", "Apia", "OC", true),
-  XK("Kosovo", "XKX", "🇽🇰", "EUR", "Pristina", "EU", true),
-  YE("Yemen", "YEM", "🇾🇪", "YER", "Sanaa", "AS", true),
-  YT("Mayotte", "MYT", "🇾🇹", "EUR", "Mamoudzou", "AF", true),
-  ZA("South Africa", "ZAF", "🇿🇦", "ZAR", "Pretoria", "AF", true),
-  ZM("Zambia", "ZMB", "🇿🇲", "ZMK", "Lusaka", "AF", true),
-  ZW("Zimbabwe", "ZWE", "🇿🇼", "ZWL", "Harare", "AF", true);
+      false,
+      0),
+  GT("Guatemala", "GTM", "🇬🇹", "GTQ", "Guatemala City", "NA", true, 17_357_886),
+  GU("Guam", "GUM", "🇬🇺", "USD", "Hagatna", "OC", true, 171_774),
+  GW("Guinea-Bissau", "GNB", "🇬🇼", "XOF", "Bissau", "AF", true, 2_105_566),
+  GY("Guyana", "GUY", "🇬🇾", "GYD", "Georgetown", "SA", true, 808_726),
+  HK("Hong Kong", "HKG", "🇭🇰", "HKD", "Hong Kong", "AS", true, 7_488_865),
+  HM("Heard Island and McDonald Islands", "HMD", "🇭🇲", "AUD", "", "AN", false, 0),
+  HN("Honduras", "HND", "🇭🇳", "HNL", "Tegucigalpa", "NA", true, 10_432_860),
+  HR("Croatia", "HRV", "🇭🇷", "HRK", "Zagreb", "EU", true, 4_030_358),
+  HT("Haiti", "HTI", "🇭🇹", "HTG", "Port-au-Prince", "NA", true, 11_584_996),
+  HU("Hungary", "HUN", "🇭🇺", "HUF", "Budapest", "EU", true, 9_967_308),
+  ID("Indonesia", "IDN", "🇮🇩", "IDR", "Jakarta", "AS", true, 275_501_339),
+  IE("Ireland", "IRL", "🇮🇪", "EUR", "Dublin", "EU", true, 5_023_109),
+  IL("Israel", "ISR", "🇮🇱", "ILS", "Jerusalem", "AS", true, 9_038_309),
+  IM("Isle of Man", "IMN", "🇮🇲", "GBP", "Douglas, Isle of Man", "EU", true, 84_519),
+  IN("India", "IND", "🇮🇳", "INR", "New Delhi", "AS", true, 1_417_173_173),
+  IO("British Indian Ocean Territory", "IOT", "🇮🇴", "USD", "Diego Garcia", "AS", true, 0),
+  IQ("Iraq", "IRQ", "🇮🇶", "IQD", "Baghdad", "AS", true, 44_496_122),
+  IR("Iran", "IRN", "🇮🇷", "IRR", "Tehran", "AS", true, 88_550_570),
+  IS("Iceland", "ISL", "🇮🇸", "ISK", "Reykjavik", "EU", true, 372_899),
+  IT("Italy", "ITA", "🇮🇹", "EUR", "Rome", "EU", true, 59_037_474),
+  JE("Jersey", "JEY", "🇯🇪", "GBP", "Saint Helier", "EU", true, 110_778),
+  JM("Jamaica", "JAM", "🇯🇲", "JMD", "Kingston", "NA", true, 2_827_377),
+  JO("Jordan", "JOR", "🇯🇴", "JOD", "Amman", "AS", true, 11_285_869),
+  JP("Japan", "JPN", "🇯🇵", "JPY", "Tokyo", "AS", true, 123_951_692),
+  KE("Kenya", "KEN", "🇰🇪", "KES", "Nairobi", "AF", true, 54_027_487),
+  KG("Kyrgyzstan", "KGZ", "🇰🇬", "KGS", "Bishkek", "AS", true, 6_630_623),
+  KH("Cambodia", "KHM", "🇰🇭", "KHR", "Phnom Penh", "AS", true, 16_767_842),
+  KI("Kiribati", "KIR", "🇰🇮", "AUD", "Tarawa", "OC", true, 131_232),
+  KM("Comoros", "COM", "🇰🇲", "KMF", "Moroni", "AF", true, 836_774),
+  KN("Saint Kitts and Nevis", "KNA", "🇰🇳", "XCD", "Basseterre", "NA", true, 47_657),
+  KP("North Korea", "PRK", "🇰🇵", "KPW", "Pyongyang", "AS", true, 26_069_416),
+  KR("South Korea", "KOR", "🇰🇷", "KRW", "Seoul", "AS", true, 51_815_810),
+  KW("Kuwait", "KWT", "🇰🇼", "KWD", "Kuwait City", "AS", true, 4_268_873),
+  KY("Cayman Islands", "CYM", "🇰🇾", "KYD", "George Town", "NA", true, 68_706),
+  KZ("Kazakhstan", "KAZ", "🇰🇿", "KZT", "Nur-Sultan", "AS", true, 19_397_998),
+  LA("Laos", "LAO", "🇱🇦", "LAK", "Vientiane", "AS", true, 7_529_475),
+  LB("Lebanon", "LBN", "🇱🇧", "LBP", "Beirut", "AS", true, 5_489_739),
+  LC("Saint Lucia", "LCA", "🇱🇨", "XCD", "Castries", "NA", true, 179_857),
+  LI("Liechtenstein", "LIE", "🇱🇮", "CHF", "Vaduz", "EU", true, 39_327),
+  LK("Sri Lanka", "LKA", "🇱🇰", "LKR", "Colombo", "AS", true, 21_832_143),
+  LR("Liberia", "LBR", "🇱🇷", "LRD", "Monrovia", "AF", true, 5_302_681),
+  LS("Lesotho", "LSO", "🇱🇸", "LSL", "Maseru", "AF", true, 2_305_825),
+  LT("Lithuania", "LTU", "🇱🇹", "LTL", "Vilnius", "EU", true, 2_750_055),
+  LU("Luxembourg", "LUX", "🇱🇺", "EUR", "Luxembourg", "EU", true, 647_599),
+  LV("Latvia", "LVA", "🇱🇻", "EUR", "Riga", "EU", true, 1_850_651),
+  LY("Libya", "LBY", "🇱🇾", "LYD", "Tripolis", "AF", true, 6_812_341),
+  MA("Morocco", "MAR", "🇲🇦", "MAD", "Rabat", "AF", true, 37_457_971),
+  MC("Monaco", "MCO", "🇲🇨", "EUR", "Monaco", "EU", true, 36_469),
+  MD("Moldova", "MDA", "🇲🇩", "MDL", "Chisinau", "EU", true, 3_272_996),
+  ME("Montenegro", "MNE", "🇲🇪", "EUR", "Podgorica", "EU", true, 627_082),
+  MF("Saint Martin", "MAF", "🇲🇫", "EUR", "Marigot", "NA", true, 31_791),
+  MG("Madagascar", "MDG", "🇲🇬", "MGA", "Antananarivo", "AF", true, 29_611_714),
+  MH("Marshall Islands", "MHL", "🇲🇭", "USD", "Majuro", "OC", true, 41_569),
+  MK("Macedonia", "MKD", "🇲🇰", "MKD", "Skopje", "EU", true, 2_093_599),
+  ML("Mali", "MLI", "🇲🇱", "XOF", "Bamako", "AF", true, 22_593_590),
+  MM("Myanmar", "MMR", "🇲🇲", "MMK", "Nay Pyi Taw", "AS", true, 54_179_306),
+  MN("Mongolia", "MNG", "🇲🇳", "MNT", "Ulan Bator", "AS", true, 3_398_366),
+  MO("Macao", "MAC", "🇲🇴", "MOP", "Macao", "AS", true, 695_168),
+  MP("Northern Mariana Islands", "MNP", "🇲🇵", "USD", "Saipan", "OC", true, 49_551),
+  MQ("Martinique", "MTQ", "🇲🇶", "EUR", "Fort-de-France", "NA", true, 367_507),
+  MR("Mauritania", "MRT", "🇲🇷", "MRO", "Nouakchott", "AF", true, 4_736_139),
+  MS("Montserrat", "MSR", "🇲🇸", "XCD", "Plymouth", "NA", true, 4_390),
+  MT("Malta", "MLT", "🇲🇹", "EUR", "Valletta", "EU", true, 533_286),
+  MU("Mauritius", "MUS", "🇲🇺", "MUR", "Port Louis", "AF", true, 1_299_469),
+  MV("Maldives", "MDV", "🇲🇻", "MVR", "Male", "AS", true, 523_787),
+  MW("Malawi", "MWI", "🇲🇼", "MWK", "Lilongwe", "AF", true, 20_405_317),
+  MX("Mexico", "MEX", "🇲🇽", "MXN", "Mexico City", "NA", true, 127_504_125),
+  MY("Malaysia", "MYS", "🇲🇾", "MYR", "Kuala Lumpur", "AS", true, 33_938_221),
+  MZ("Mozambique", "MOZ", "🇲🇿", "MZN", "Maputo", "AF", true, 32_969_518),
+  NA("Namibia", "NAM", "🇳🇦", "NAD", "Windhoek", "AF", true, 2_567_012),
+  NC("New Caledonia", "NCL", "🇳🇨", "XPF", "Noumea", "OC", true, 289_950),
+  NE("Niger", "NER", "🇳🇪", "XOF", "Niamey", "AF", true, 26_207_977),
+  NF("Norfolk Island", "NFK", "🇳🇫", "AUD", "Kingston", "OC", true, 2_188),
+  NG("Nigeria", "NGA", "🇳🇬", "NGN", "Abuja", "AF", true, 218_541_212),
+  NI("Nicaragua", "NIC", "🇳🇮", "NIO", "Managua", "NA", true, 6_948_392),
+  NL("Netherlands", "NLD", "🇳🇱", "EUR", "Amsterdam", "EU", true, 17_564_014),
+  NO("Norway", "NOR", "🇳🇴", "NOK", "Oslo", "EU", true, 5_434_319),
+  NP("Nepal", "NPL", "🇳🇵", "NPR", "Kathmandu", "AS", true, 30_547_580),
+  NR("Nauru", "NRU", "🇳🇷", "AUD", "Yaren", "OC", true, 12_668),
+  NU("Niue", "NIU", "🇳🇺", "NZD", "Alofi", "OC", true, 1_934),
+  NZ("New Zealand", "NZL", "🇳🇿", "NZD", "Wellington", "OC", true, 5_185_288),
+  OM("Oman", "OMN", "🇴🇲", "OMR", "Muscat", "AS", true, 4_576_298),
+  PA("Panama", "PAN", "🇵🇦", "PAB", "Panama City", "NA", true, 4_408_581),
+  PE("Peru", "PER", "🇵🇪", "PEN", "Lima", "SA", true, 34_049_588),
+  PF("French Polynesia", "PYF", "🇵🇫", "XPF", "Papeete", "OC", true, 306_279),
+  PG("Papua New Guinea", "PNG", "🇵🇬", "PGK", "Port Moresby", "OC", true, 10_142_619),
+  PH("Philippines", "PHL", "🇵🇭", "PHP", "Manila", "AS", true, 115_559_009),
+  PK("Pakistan", "PAK", "🇵🇰", "PKR", "Islamabad", "AS", true, 235_824_862),
+  PL("Poland", "POL", "🇵🇱", "PLN", "Warsaw", "EU", true, 39_857_145),
+  PM("Saint Pierre and Miquelon", "SPM", "🇵🇲", "EUR", "Saint-Pierre", "NA", true, 5_862),
+  PN("Pitcairn", "PCN", "🇵🇳", "NZD", "Adamstown", "OC", false, 47),
+  PR("Puerto Rico", "PRI", "🇵🇷", "USD", "San Juan", "NA", true, 3_252_407),
+  PS("Palestinian Territory", "PSE", "🇵🇸", "ILS", "East Jerusalem", "AS", true, 5_250_072),
+  PT("Portugal", "PRT", "🇵🇹", "EUR", "Lisbon", "EU", true, 10_270_865),
+  PW("Palau", "PLW", "🇵🇼", "USD", "Melekeok", "OC", true, 18_055),
+  PY("Paraguay", "PRY", "🇵🇾", "PYG", "Asuncion", "SA", true, 6_780_744),
+  QA("Qatar", "QAT", "🇶🇦", "QAR", "Doha", "AS", true, 2_695_122),
+  RE("Reunion", "REU", "🇷🇪", "EUR", "Saint-Denis", "AF", true, 974_052),
+  RO("Romania", "ROU", "🇷🇴", "RON", "Bucharest", "EU", true, 19_659_267),
+  RS("Serbia", "SRB", "🇷🇸", "RSD", "Belgrade", "EU", true, 7_221_365),
+  RU("Russia", "RUS", "🇷🇺", "RUB", "Moscow", "EU", true, 144_713_314),
+  RW("Rwanda", "RWA", "🇷🇼", "RWF", "Kigali", "AF", true, 13_776_698),
+  SA("Saudi Arabia", "SAU", "🇸🇦", "SAR", "Riyadh", "AS", true, 36_408_820),
+  SB("Solomon Islands", "SLB", "🇸🇧", "SBD", "Honiara", "OC", true, 724_273),
+  SC("Seychelles", "SYC", "🇸🇨", "SCR", "Victoria", "AF", true, 107_118),
+  SD("Sudan", "SDN", "🇸🇩", "SDG", "Khartoum", "AF", true, 46_874_204),
+  SE("Sweden", "SWE", "🇸🇪", "SEK", "Stockholm", "EU", true, 10_549_347),
+  SG("Singapore", "SGP", "🇸🇬", "SGD", "Singapore", "AS", true, 5_975_689),
+  SH("Saint Helena", "SHN", "🇸🇭", "SHP", "Jamestown", "AF", true, 5_314),
+  SI("Slovenia", "SVN", "🇸🇮", "EUR", "Ljubljana", "EU", true, 2_119_844),
+  SJ("Svalbard and Jan Mayen", "SJM", "🇸🇯", "NOK", "Longyearbyen", "EU", true, 2_530),
+  SK("Slovakia", "SVK", "🇸🇰", "EUR", "Bratislava", "EU", true, 5_643_453),
+  SL("Sierra Leone", "SLE", "🇸🇱", "SLL", "Freetown", "AF", true, 8_605_718),
+  SM("San Marino", "SMR", "🇸🇲", "EUR", "San Marino", "EU", true, 33_660),
+  SN("Senegal", "SEN", "🇸🇳", "XOF", "Dakar", "AF", true, 17_316_449),
+  SO("Somalia", "SOM", "🇸🇴", "SOS", "Mogadishu", "AF", true, 17_597_511),
+  SR("Suriname", "SUR", "🇸🇷", "SRD", "Paramaribo", "SA", true, 618_040),
+  SS("South Sudan", "SSD", "🇸🇸", "SSP", "Juba", "AF", true, 10_913_164),
+  ST("Sao Tome and Principe", "STP", "🇸🇹", "STN", "Sao Tome", "AF", true, 227_380),
+  SV("El Salvador", "SLV", "🇸🇻", "USD", "San Salvador", "NA", true, 6_336_392),
+  SX("Sint Maarten", "SXM", "🇸🇽", "ANG", "Philipsburg", "NA", true, 44_175),
+  SY("Syria", "SYR", "🇸🇾", "SYP", "Damascus", "AS", true, 22_125_249),
+  SZ("Swaziland", "SWZ", "🇸🇿", "SZL", "Mbabane", "AF", true, 1_201_670),
+  TC("Turks and Caicos Islands", "TCA", "🇹🇨", "USD", "Cockburn Town", "NA", true, 45_703),
+  TD("Chad", "TCD", "🇹🇩", "XAF", "N'Djamena", "AF", true, 17_723_315),
+  TF("French Southern Territories", "ATF", "🇹🇫", "EUR", "Port-aux-Francais", "AN", false, 0),
+  TG("Togo", "TGO", "🇹🇬", "XOF", "Lome", "AF", true, 8_848_699),
+  TH("Thailand", "THA", "🇹🇭", "THB", "Bangkok", "AS", true, 71_697_030),
+  TJ("Tajikistan", "TJK", "🇹🇯", "TJS", "Dushanbe", "AS", true, 9_952_787),
+  TK("Tokelau", "TKL", "🇹🇰", "NZD", "", "OC", true, 1_871),
+  TL("East Timor", "TLS", "🇹🇱", "USD", "Dili", "OC", true, 1_341_296),
+  TM("Turkmenistan", "TKM", "🇹🇲", "TMT", "Ashgabat", "AS", true, 6_430_770),
+  TN("Tunisia", "TUN", "🇹🇳", "TND", "Tunis", "AF", true, 12_356_117),
+  TO("Tonga", "TON", "🇹🇴", "TOP", "Nuku'alofa", "OC", true, 106_858),
+  TR("Turkey", "TUR", "🇹🇷", "TRY", "Ankara", "AS", true, 85_341_241),
+  TT("Trinidad and Tobago", "TTO", "🇹🇹", "TTD", "Port of Spain", "NA", true, 1_531_044),
+  TV("Tuvalu", "TUV", "🇹🇻", "AUD", "Funafuti", "OC", true, 11_312),
+  TW("Taiwan", "TWN", "🇹🇼", "TWD", "Taipei", "AS", true, 23_893_394),
+  TZ("Tanzania", "TZA", "🇹🇿", "TZS", "Dodoma", "AF", true, 65_497_748),
+  UA("Ukraine", "UKR", "🇺🇦", "UAH", "Kiev", "EU", true, 39_701_739),
+  UG("Uganda", "UGA", "🇺🇬", "UGX", "Kampala", "AF", true, 47_249_585),
+  UM("United States Minor Outlying Islands", "UMI", "🇺🇲", "USD", "", "OC", false, 0),
+  US("United States", "USA", "🇺🇸", "USD", "Washington", "NA", true, 338_289_857),
+  UY("Uruguay", "URY", "🇺🇾", "UYU", "Montevideo", "SA", true, 3_422_794),
+  UZ("Uzbekistan", "UZB", "🇺🇿", "UZS", "Tashkent", "AS", true, 34_627_652),
+  VA("Vatican", "VAT", "🇻🇦", "EUR", "Vatican City", "EU", true, 510),
+  VC("Saint Vincent and the Grenadines", "VCT", "🇻🇨", "XCD", "Kingstown", "NA", true, 103_948),
+  VE("Venezuela", "VEN", "🇻🇪", "VEF", "Caracas", "SA", true, 28_301_696),
+  VG("British Virgin Islands", "VGB", "🇻🇬", "USD", "Road Town", "NA", true, 31_305),
+  VI("U.S. Virgin Islands", "VIR", "🇻🇮", "USD", "Charlotte Amalie", "NA", true, 99_465),
+  VN("Vietnam", "VNM", "🇻🇳", "VND", "Hanoi", "AS", true, 98_186_856),
+  VU("Vanuatu", "VUT", "🇻🇺", "VUV", "Port Vila", "OC", true, 326_740),
+  WF("Wallis and Futuna", "WLF", "🇼🇫", "XPF", "Mata Utu", "OC", true, 11_572),
+  WS("Samoa", "WSM", "🇼🇸", "WST", "Apia", "OC", true, 222_382),
+  XK("Kosovo", "XKX", "🇽🇰", "EUR", "Pristina", "EU", true, 1_761_985),
+  YE("Yemen", "YEM", "🇾🇪", "YER", "Sanaa", "AS", true, 33_696_614),
+  YT("Mayotte", "MYT", "🇾🇹", "EUR", "Mamoudzou", "AF", true, 326_101),
+  ZA("South Africa", "ZAF", "🇿🇦", "ZAR", "Pretoria", "AF", true, 59_893_885),
+  ZM("Zambia", "ZMB", "🇿🇲", "ZMK", "Lusaka", "AF", true, 20_017_675),
+  ZW("Zimbabwe", "ZWE", "🇿🇼", "ZWL", "Harare", "AF", true, 16_320_537);
 
   private final String countryName;
   private final String iso3;
@@ -282,6 +283,7 @@ public enum Country {
   private final String capital;
   private final String continent;
   private final boolean isInGoogleLibPhoneNumber; // For testing only
+  private final long population;
   private static final List<Country> COUNTRIES = new ArrayList<>();
   private static final Map<String, Country> ISO2_COUNTRY_MAP = new HashMap<>();
   private static final Map<String, Country> ISO3_COUNTRY_MAP = new HashMap<>();
@@ -301,7 +303,8 @@ public enum Country {
       String currency,
       String capital,
       String continent,
-      boolean isInGoogleLibPhoneNumber) {
+      boolean isInGoogleLibPhoneNumber,
+      long population) {
     this.countryName = countryName;
     this.iso3 = iso3;
     this.unicode = unicode;
@@ -309,6 +312,7 @@ public enum Country {
     this.capital = capital;
     this.continent = continent;
     this.isInGoogleLibPhoneNumber = isInGoogleLibPhoneNumber;
+    this.population = population;
   }
 
   /**
@@ -375,6 +379,15 @@ public enum Country {
     return isInGoogleLibPhoneNumber;
   }
 
+  /**
+   * Returns the approximate population of the country, as estimated by the United Nations for 2022.
+   *
+   * @return The number of inhabitants, {@code 0} for a territory without permanent population.
+   */
+  public long getPopulation() {
+    return population;
+  }
+
   public static List<Country> getCountries() {
     return COUNTRIES;
   }
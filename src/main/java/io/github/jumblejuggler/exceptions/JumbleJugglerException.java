@@ -5,6 +5,7 @@
 */
 package io.github.jumblejuggler.exceptions;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -24,10 +25,26 @@ import java.util.logging.Logger;
  * }</pre>
  *
  * <p>The class logs the exception message using the Java Logger associated with the provided class.
+ * Logging can be turned off with the {@value #LOGGING_PROPERTY} system property or {@link
+ * #setLoggingEnabled(boolean)}, and the capture of the stack trace with the {@value
+ * #STACK_TRACE_PROPERTY} system property or {@link #setStackTraceEnabled(boolean)}. Code expecting
+ * invalid input on a hot path should rather use the {@code try*} methods of the jugglers, which
+ * return an empty optional instead of throwing.
  *
  * @see RuntimeException
  */
 public class JumbleJugglerException extends RuntimeException {
+  /** System property turning the logging of the exceptions off when set to {@code false}. */
+  public static final String LOGGING_PROPERTY = "jumblejuggler.exception.logging";
+
+  /** System property turning the capture of the stack traces off when set to {@code false}. */
+  public static final String STACK_TRACE_PROPERTY = "jumblejuggler.exception.stackTrace";
+
+  private static volatile boolean loggingEnabled =
+      Boolean.parseBoolean(System.getProperty(LOGGING_PROPERTY, "true"));
+  private static volatile boolean stackTraceEnabled =
+      Boolean.parseBoolean(System.getProperty(STACK_TRACE_PROPERTY, "true"));
+
   /**
    * Constructs a new JumbleJugglerException with the specified error message and associated class.
    *
@@ -35,8 +52,8 @@ public class JumbleJugglerException extends RuntimeException {
    * @param aClass The class associated with the exception.
    */
   public JumbleJugglerException(String message, Class<?> aClass) {
-    super(message);
-    Logger.getLogger(aClass.getName()).severe(message);
+    super(message, null, true, stackTraceEnabled);
+    log(message, aClass);
   }
 
   /**
@@ -46,7 +63,56 @@ public class JumbleJugglerException extends RuntimeException {
    * @param aClass The class associated with the exception.
    */
   public JumbleJugglerException(Throwable throwable, Class<?> aClass) {
-    super(throwable.getMessage(), throwable);
-    Logger.getLogger(aClass.getName()).severe(throwable.getMessage());
+    super(throwable.getMessage(), throwable, true, stackTraceEnabled);
+    log(throwable.getMessage(), aClass);
+  }
+
+  /**
+   * Returns {@code true} if new exceptions log their message.
+   *
+   * @return {@code true} if logging is enabled.
+   */
+  public static boolean isLoggingEnabled() {
+    return loggingEnabled;
+  }
+
+  /**
+   * Turns the logging of new exceptions on or off, overriding the {@value #LOGGING_PROPERTY}
+   * system property.
+   *
+   * @param enabled {@code false} to stop logging the exceptions.
+   */
+  public static void setLoggingEnabled(boolean enabled) {
+    loggingEnabled = enabled;
+  }
+
+  /**
+   * Returns {@code true} if new exceptions capture their stack trace.
+   *
+   * @return {@code true} if the capture of the stack traces is enabled.
+   */
+  public static boolean isStackTraceEnabled() {
+    return stackTraceEnabled;
+  }
+
+  /**
+   * Turns the capture of the stack trace of new exceptions on or off, overriding the {@value
+   * #STACK_TRACE_PROPERTY} system property. Without a stack trace an exception is much cheaper to
+   * create, but tells where it was thrown from only through its message.
+   *
+   * @param enabled {@code false} to stop capturing the stack traces.
+   */
+  public static void setStackTraceEnabled(boolean enabled) {
+    stackTraceEnabled = enabled;
+  }
+
+  private static void log(String message, Class<?> aClass) {
+    if (!loggingEnabled) {
+      return;
+    }
+    Logger logger = Logger.getLogger(aClass.getName());
+    if (logger.isLoggable(Level.SEVERE)) {
+      logger.severe(message);
+    }
   }
 }
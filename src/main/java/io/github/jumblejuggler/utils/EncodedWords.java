@@ -0,0 +1,158 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Table of words encoded in UTF-8, in lowercase and capitalised forms.
+ *
+ * <p>The bytes of all the forms are kept in a single array, the lowercase form of each word being
+ * followed by its capitalised form. Writing a word to a {@link ByteBuffer}, heap or direct, is then
+ * a bulk copy, without any encoding.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * EncodedWords words = LoremIpsumUtil.getInstance().getEncodedWords();
+ * ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+ * words.putCapitalized(0, buffer);
+ * buffer.put((byte) ' ');
+ * words.put(1, buffer);
+ * }</pre>
+ *
+ * @see LoremIpsumUtil#getEncodedWords()
+ * @see WordsUtil#getEncodedWords()
+ */
+public final class EncodedWords {
+  private final byte[] bytes;
+
+  /**
+   * The start of the lowercase form of word {@code i} at {@code 2 * i}, of its capitalised form at
+   * {@code 2 * i + 1}, and the end of the array.
+   */
+  private final int[] offsets;
+
+  private EncodedWords(byte[] bytes, int[] offsets) {
+    this.bytes = bytes;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Encodes a list of words.
+   *
+   * <p>The lowercase form of a word is the word in lowercase, its capitalised form the same with
+   * the first code point in uppercase.
+   *
+   * @param words The words to encode, in the order of their ranks.
+   * @return A new {@link EncodedWords}.
+   */
+  public static EncodedWords of(List<String> words) {
+    byte[][] forms = new byte[words.size() * 2][];
+    int length = 0;
+    for (int rank = 0; rank < words.size(); rank++) {
+      String lowercase = words.get(rank).toLowerCase(Locale.ROOT);
+      int first = lowercase.isEmpty() ? 0 : Character.charCount(lowercase.codePointAt(0));
+      String capitalized =
+          lowercase.substring(0, first).toUpperCase(Locale.ROOT) + lowercase.substring(first);
+      forms[rank * 2] = lowercase.getBytes(StandardCharsets.UTF_8);
+      forms[rank * 2 + 1] = capitalized.getBytes(StandardCharsets.UTF_8);
+      length += forms[rank * 2].length + forms[rank * 2 + 1].length;
+    }
+    byte[] bytes = new byte[length];
+    int[] offsets = new int[forms.length + 1];
+    for (int form = 0; form < forms.length; form++) {
+      System.arraycopy(forms[form], 0, bytes, offsets[form], forms[form].length);
+      offsets[form + 1] = offsets[form] + forms[form].length;
+    }
+    return new EncodedWords(bytes, offsets);
+  }
+
+  /**
+   * Returns the number of words.
+   *
+   * @return The number of words of the table.
+   */
+  public int size() {
+    return offsets.length / 2;
+  }
+
+  /**
+   * Returns the number of bytes of the lowercase form of a word.
+   *
+   * @param rank The rank of the word.
+   * @return The length of the encoded word.
+   * @throws IndexOutOfBoundsException if {@code rank} is out of the table.
+   */
+  public int length(int rank) {
+    return formLength(form(rank, false));
+  }
+
+  /**
+   * Returns the number of bytes of the capitalised form of a word.
+   *
+   * @param rank The rank of the word.
+   * @return The length of the encoded word.
+   * @throws IndexOutOfBoundsException if {@code rank} is out of the table.
+   */
+  public int capitalizedLength(int rank) {
+    return formLength(form(rank, true));
+  }
+
+  /**
+   * Copies the lowercase form of a word into a buffer, at its position.
+   *
+   * @param rank The rank of the word.
+   * @param target The buffer to write to, whose position is moved past the word.
+   * @throws IndexOutOfBoundsException if {@code rank} is out of the table.
+   * @throws BufferOverflowException if the word does not fit in the remaining bytes of {@code
+   *     target}.
+   */
+  public void put(int rank, ByteBuffer target) {
+    putForm(form(rank, false), target);
+  }
+
+  /**
+   * Copies the capitalised form of a word into a buffer, at its position.
+   *
+   * @param rank The rank of the word.
+   * @param target The buffer to write to, whose position is moved past the word.
+   * @throws IndexOutOfBoundsException if {@code rank} is out of the table.
+   * @throws BufferOverflowException if the word does not fit in the remaining bytes of {@code
+   *     target}.
+   */
+  public void putCapitalized(int rank, ByteBuffer target) {
+    putForm(form(rank, true), target);
+  }
+
+  /**
+   * Returns an estimate of the heap memory retained by the table.
+   *
+   * @return The estimated number of bytes.
+   */
+  public long getMemoryFootprint() {
+    return 16L + bytes.length + 16L + 4L * offsets.length;
+  }
+
+  private int form(int rank, boolean capitalized) {
+    if (rank < 0 || rank >= size()) {
+      throw new IndexOutOfBoundsException(rank);
+    }
+    return capitalized ? rank * 2 + 1 : rank * 2;
+  }
+
+  private int formLength(int form) {
+    return offsets[form + 1] - offsets[form];
+  }
+
+  private void putForm(int form, ByteBuffer target) {
+    target.put(bytes, offsets[form], formLength(form));
+  }
+}
@@ -0,0 +1,191 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link WordDictionary} keeping its words front coded in a single byte array.
+ *
+ * <p>The UTF-8 encoded words are sorted and cut in buckets of {@value #BUCKET_SIZE}. The first word
+ * of a bucket is stored whole, as its length followed by its bytes. Each following word is stored
+ * as the length of the prefix it shares with the previous word, the length of the rest and the
+ * bytes of the rest. Lengths are unsigned variable-length integers, so a word of a typical
+ * dictionary costs a handful of bytes instead of a {@link String} and its array.
+ *
+ * <p>A word is read by decoding its bucket from the start. A prefix range is found by a binary
+ * search over the first words of the buckets, followed by a scan of a single bucket.
+ */
+final class FrontCodedWordDictionary implements WordDictionary {
+  private static final int BUCKET_SIZE = 16;
+  private static final int ARRAY_HEADER_BYTES = 16;
+
+  private final int size;
+
+  /** The buckets of front coded words, one after the other. */
+  private final byte[] data;
+
+  /** The index in {@link #data} of the first byte of each bucket. */
+  private final int[] offsets;
+
+  /** The length in bytes of the longest word, which is the size of the decoding buffers. */
+  private final int maxLength;
+
+  FrontCodedWordDictionary(Collection<String> words) {
+    byte[][] encoded =
+        words.stream().map(word -> word.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+    Arrays.sort(encoded, Arrays::compareUnsigned);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int[] bucketOffsets = new int[(encoded.length + BUCKET_SIZE - 1) / BUCKET_SIZE];
+    int longest = 0;
+    for (int i = 0; i < encoded.length; i++) {
+      byte[] word = encoded[i];
+      longest = Math.max(longest, word.length);
+      if (i % BUCKET_SIZE == 0) {
+        bucketOffsets[i / BUCKET_SIZE] = out.size();
+        writeVarint(out, word.length);
+        out.write(word, 0, word.length);
+      } else {
+        byte[] previous = encoded[i - 1];
+        int mismatch = Arrays.mismatch(previous, word);
+        int shared = mismatch < 0 ? word.length : Math.min(mismatch, word.length);
+        writeVarint(out, shared);
+        writeVarint(out, word.length - shared);
+        out.write(word, shared, word.length - shared);
+      }
+    }
+    this.size = encoded.length;
+    this.data = out.toByteArray();
+    this.offsets = bucketOffsets;
+    this.maxLength = longest;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String get(int index) {
+    Objects.checkIndex(index, size);
+    Decoder decoder = new Decoder();
+    decoder.startBucket(index / BUCKET_SIZE);
+    for (int i = index % BUCKET_SIZE; i > 0; i--) {
+      decoder.next();
+    }
+    return new String(decoder.buffer, 0, decoder.length, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public PrefixRange prefixRange(String prefix) {
+    byte[] encodedPrefix = prefix.getBytes(StandardCharsets.UTF_8);
+    Decoder decoder = new Decoder();
+    int from = search(decoder, encodedPrefix, false);
+    int to = search(decoder, encodedPrefix, true);
+    return new PrefixRange(from, to);
+  }
+
+  @Override
+  public long getMemoryFootprint() {
+    return align(ARRAY_HEADER_BYTES + (long) data.length)
+        + align(ARRAY_HEADER_BYTES + 4L * offsets.length);
+  }
+
+  /**
+   * Returns the rank of the first word that is not before the prefix, the words before the prefix
+   * being the words smaller than it and, when {@code upper} is {@code true}, the words starting
+   * with it.
+   */
+  private int search(Decoder decoder, byte[] prefix, boolean upper) {
+    int low = 0;
+    int high = offsets.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      decoder.startBucket(middle);
+      if (decoder.isBefore(prefix, upper)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    if (low == 0) {
+      return 0;
+    }
+    int bucket = low - 1;
+    int index = bucket * BUCKET_SIZE;
+    int end = Math.min(index + BUCKET_SIZE, size);
+    decoder.startBucket(bucket);
+    index++;
+    while (index < end) {
+      decoder.next();
+      if (!decoder.isBefore(prefix, upper)) {
+        break;
+      }
+      index++;
+    }
+    return index;
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  /** Cursor decoding the words of a bucket one after the other. */
+  private final class Decoder {
+    private final byte[] buffer = new byte[maxLength];
+    private int length;
+    private int position;
+
+    void startBucket(int bucket) {
+      position = offsets[bucket];
+      length = readVarint();
+      System.arraycopy(data, position, buffer, 0, length);
+      position += length;
+    }
+
+    void next() {
+      int shared = readVarint();
+      int rest = readVarint();
+      System.arraycopy(data, position, buffer, shared, rest);
+      position += rest;
+      length = shared + rest;
+    }
+
+    boolean isBefore(byte[] prefix, boolean upper) {
+      if (Arrays.compareUnsigned(buffer, 0, length, prefix, 0, prefix.length) < 0) {
+        return true;
+      }
+      return upper
+          && length >= prefix.length
+          && Arrays.equals(buffer, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private int readVarint() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[position++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      return value;
+    }
+  }
+}
@@ -9,8 +9,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,8 +37,10 @@ import java.util.logging.Logger;
  * method. If an error occurs while loading the words from the JSON file, a {@code RuntimeException}
  * is thrown.
  *
- * <p>The default file path for the JSON file is "src/main/java/resources/lorem-ipsum.json". If
- * needed, you can customize the file path by modifying the {@code filePath} variable in the code.
+ * <p>The words are read from the {@code /io/github/jumblejuggler/lorem-ipsum.bin} classpath
+ * resource, a {@link WordPack} packed from "src/main/java/resources/lorem-ipsum.json" at build
+ * time. When the resource is missing, as when running from the sources, the JSON file is parsed
+ * instead.
  *
  * <p>Example usage:
  *
@@ -59,16 +61,23 @@ public class LoremIpsumUtil {
     private static final LoremIpsumUtil INSTANCE = new LoremIpsumUtil();
   }
 
-  private final List<String> words = new ArrayList<>();
+  /** The classpath resource of the words packed at build time. */
+  private static final String LOREM_IPSUM_RESOURCE = "/io/github/jumblejuggler/lorem-ipsum.bin";
+
+  private final List<String> words;
+  private volatile EncodedWords encodedWords;
 
   /**
    * Private constructor that loads words from the file.
    *
-   * <p>It is called during the initialization of the singleton instance.
+   * <p>It is called during the initialization of the singleton instance. With the mapped storage of
+   * {@link WordPack#STORAGE_PROPERTY}, the words are read from the mapped pack instead.
    */
   private LoremIpsumUtil() {
     try {
-      loadWordsFromFile();
+      Optional<List<String>> mapped =
+          WordPack.isMappedStorage() ? WordPack.mapWords(LOREM_IPSUM_RESOURCE) : Optional.empty();
+      this.words = mapped.isPresent() ? mapped.get() : loadWordsFromFile();
     } catch (IOException e) {
       logger.log(Level.SEVERE, e.getMessage(), e);
       throw new RuntimeException(e);
@@ -94,12 +103,39 @@ public class LoremIpsumUtil {
   }
 
   /**
-   * Loads Lorem Ipsum words from the JSON file into {@link #words}.
+   * Returns the Lorem Ipsum words encoded in UTF-8, in lowercase and capitalised forms, in the
+   * order of {@link #getWords()}.
+   *
+   * <p>The table is only built on the first call.
    *
+   * @return The {@link EncodedWords} of the words.
+   */
+  public EncodedWords getEncodedWords() {
+    EncodedWords encoded = encodedWords;
+    if (encoded == null) {
+      synchronized (this) {
+        encoded = encodedWords;
+        if (encoded == null) {
+          encoded = encodedWords = EncodedWords.of(words);
+        }
+      }
+    }
+    return encoded;
+  }
+
+  /**
+   * Loads Lorem Ipsum words from the {@link WordPack} packed at build time, or from the JSON file
+   * if there is none on the classpath.
+   *
+   * @return The words, in the order of the file.
    * @throws IOException if an error occurred while reading the JSON file.
    */
-  private void loadWordsFromFile() throws IOException {
+  private static List<String> loadWordsFromFile() throws IOException {
+    Optional<WordPack> pack = WordPack.load(LOREM_IPSUM_RESOURCE);
+    if (pack.isPresent()) {
+      return pack.get().getWords();
+    }
     String filePath = "src/main/java/resources/lorem-ipsum.json";
-    this.words.addAll(new ObjectMapper().readValue(new File(filePath), new TypeReference<>() {}));
+    return new ObjectMapper().readValue(new File(filePath), new TypeReference<>() {});
   }
 }
@@ -0,0 +1,120 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link WordDictionary} reading a memory-mapped {@link WordPack} in place.
+ *
+ * <p>The words stay in the mapped file, outside of the heap: reading a word decodes its bytes into
+ * a new {@link String}, and a prefix range is found by binary searches comparing the bytes of the
+ * words with those of the prefix, without decoding them. Only absolute reads are made on the mapped
+ * buffer, so the dictionary can be read by several threads at once.
+ *
+ * <p>A pack that is not sorted can still be read by rank, but has no prefix ranges.
+ */
+final class MappedWordPack implements WordDictionary {
+  private final ByteBuffer buffer;
+  private final WordPack.Layout layout;
+
+  MappedWordPack(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    this.layout = WordPack.Layout.of(buffer);
+  }
+
+  boolean isSorted() {
+    return layout.sorted();
+  }
+
+  @Override
+  public int size() {
+    return layout.count();
+  }
+
+  @Override
+  public String get(int index) {
+    Objects.checkIndex(index, layout.count());
+    int from = start(index);
+    byte[] bytes = new byte[start(index + 1) - from];
+    buffer.get(from, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if the pack is not sorted.
+   */
+  @Override
+  public PrefixRange prefixRange(String prefix) {
+    if (!layout.sorted()) {
+      throw new IllegalStateException("The word pack is not sorted.");
+    }
+    byte[] encodedPrefix = prefix.getBytes(StandardCharsets.UTF_8);
+    return new PrefixRange(search(encodedPrefix, false), search(encodedPrefix, true));
+  }
+
+  /**
+   * Returns 0, the words being in the mapped file rather than on the heap.
+   *
+   * @return 0
+   */
+  @Override
+  public long getMemoryFootprint() {
+    return 0;
+  }
+
+  /**
+   * Returns the rank of the first word that is not before the prefix, the words before the prefix
+   * being the words smaller than it and, when {@code upper} is {@code true}, the words starting
+   * with it.
+   */
+  private int search(byte[] prefix, boolean upper) {
+    int low = 0;
+    int high = layout.count();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compare(middle, prefix);
+      if (comparison < 0 || (upper && comparison == 0)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares a word with a prefix: negative if the word is smaller than the prefix without starting
+   * with it, 0 if it starts with it, positive if it is greater without starting with it.
+   */
+  private int compare(int index, byte[] prefix) {
+    int from = start(index);
+    int length = start(index + 1) - from;
+    int common = Math.min(length, prefix.length);
+    for (int i = 0; i < common; i++) {
+      int difference = Byte.toUnsignedInt(buffer.get(from + i)) - Byte.toUnsignedInt(prefix[i]);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return length < prefix.length ? -1 : 0;
+  }
+
+  /** Returns the position in the buffer of the first byte of a word. */
+  private int start(int index) {
+    return layout.dataPosition() + buffer.getInt(layout.offsetsPosition() + Integer.BYTES * index);
+  }
+}
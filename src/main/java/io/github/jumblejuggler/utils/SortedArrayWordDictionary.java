@@ -0,0 +1,78 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link WordDictionary} keeping its words in a sorted array of strings.
+ *
+ * <p>The bounds of a prefix range are found by two binary searches: in a sorted array, the words
+ * smaller than the prefix come first, then the words starting with it, then the words greater than
+ * it.
+ */
+final class SortedArrayWordDictionary implements WordDictionary {
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int REFERENCE_BYTES = 4;
+  private static final int STRING_BYTES = 24;
+
+  private final String[] words;
+
+  SortedArrayWordDictionary(Collection<String> words) {
+    this.words = words.toArray(new String[0]);
+    Arrays.sort(this.words);
+  }
+
+  @Override
+  public int size() {
+    return words.length;
+  }
+
+  @Override
+  public String get(int index) {
+    return words[index];
+  }
+
+  @Override
+  public PrefixRange prefixRange(String prefix) {
+    int low = 0;
+    int high = words.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (words[middle].compareTo(prefix) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    int from = low;
+    high = words.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (words[middle].startsWith(prefix)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return new PrefixRange(from, low);
+  }
+
+  @Override
+  public long getMemoryFootprint() {
+    long footprint = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * words.length);
+    for (String word : words) {
+      int bytes = word.chars().allMatch(c -> c < 0x100) ? word.length() : 2 * word.length();
+      footprint += STRING_BYTES + align(ARRAY_HEADER_BYTES + bytes);
+    }
+    return footprint;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
@@ -0,0 +1,117 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.util.Collection;
+
+/**
+ * Sorted, immutable set of words that can be read by rank.
+ *
+ * <p>The words sharing a prefix form a contiguous range of ranks, so picking a random word starting
+ * with a prefix is a matter of picking a random rank in {@link #prefixRange(String)}.
+ *
+ * <p>Two backends are available:
+ *
+ * <ul>
+ *   <li>{@link #sortedArray(Collection)} keeps one {@link String} per word. Reading a word is an
+ *       array access.
+ *   <li>{@link #frontCoded(Collection)} keeps the UTF-8 bytes of the words in a single array, each
+ *       word storing only what differs from the previous one. It takes a fraction of the memory,
+ *       but reading a word decodes it into a new {@link String}.
+ * </ul>
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * WordDictionary dictionary = WordDictionary.frontCoded(List.of("NAB", "NAP", "NAY", "NO"));
+ * WordDictionary.PrefixRange range = dictionary.prefixRange("NA"); // [0, 3)
+ * String word = dictionary.get(range.from() + 1); // "NAP"
+ * }</pre>
+ *
+ * @see WordsUtil#getDictionary()
+ */
+public interface WordDictionary {
+
+  /**
+   * Creates a dictionary keeping one {@link String} per word.
+   *
+   * @param words The words of the dictionary, in any order.
+   * @return A new {@link WordDictionary} of the words in their natural order.
+   */
+  static WordDictionary sortedArray(Collection<String> words) {
+    return new SortedArrayWordDictionary(words);
+  }
+
+  /**
+   * Creates a dictionary keeping the words front coded in a single byte array.
+   *
+   * @param words The words of the dictionary, in any order.
+   * @return A new {@link WordDictionary} of the words in the order of their UTF-8 bytes, which is
+   *     their natural order unless they hold characters outside of the Basic Multilingual Plane.
+   */
+  static WordDictionary frontCoded(Collection<String> words) {
+    return new FrontCodedWordDictionary(words);
+  }
+
+  /**
+   * Returns the number of words in the dictionary.
+   *
+   * @return The number of words.
+   */
+  int size();
+
+  /**
+   * Returns the word of a rank.
+   *
+   * @param index The rank of the word, between 0 (included) and {@link #size()} (excluded).
+   * @return The word of rank {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is out of the dictionary.
+   */
+  String get(int index);
+
+  /**
+   * Returns the range of ranks of the words starting with a prefix.
+   *
+   * @param prefix The prefix the words start with.
+   * @return The {@link PrefixRange} of the words starting with {@code prefix}, which is empty if
+   *     there is none.
+   */
+  PrefixRange prefixRange(String prefix);
+
+  /**
+   * Returns an estimate of the heap memory retained by the dictionary, assuming a 64 bit JVM with
+   * compressed references and compact strings.
+   *
+   * @return The estimated number of bytes.
+   */
+  long getMemoryFootprint();
+
+  /**
+   * Range of the ranks of the words sharing a prefix.
+   *
+   * @param from The rank of the first word of the range, included.
+   * @param to The rank following the last word of the range.
+   */
+  record PrefixRange(int from, int to) {
+    /**
+     * Returns the number of words in the range.
+     *
+     * @return {@code to - from}
+     */
+    public int size() {
+      return to - from;
+    }
+
+    /**
+     * Returns {@code true} if no word starts with the prefix.
+     *
+     * @return {@code true} if the range is empty.
+     */
+    public boolean isEmpty() {
+      return from == to;
+    }
+  }
+}
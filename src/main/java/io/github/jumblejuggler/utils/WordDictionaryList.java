@@ -0,0 +1,28 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/** Unmodifiable list view of the words of a {@link WordDictionary}, which holds no copy of them. */
+final class WordDictionaryList extends AbstractList<String> implements RandomAccess {
+  private final WordDictionary dictionary;
+
+  WordDictionaryList(WordDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  @Override
+  public String get(int index) {
+    return dictionary.get(index);
+  }
+
+  @Override
+  public int size() {
+    return dictionary.size();
+  }
+}
@@ -0,0 +1,102 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import io.github.jumblejuggler.utils.WordDictionary.PrefixRange;
+
+/**
+ * Index of the words of a {@link WordDictionary} by length.
+ *
+ * <p>The ranks of the words are kept in a single array, ordered by the length of the words, so the
+ * words whose length is within a range are at contiguous positions of the index. Picking a random
+ * word of a length range is then a matter of picking a random position in {@link #range(int, int)},
+ * without any retry. The index costs one {@code int} per word.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * WordLengthIndex index = WordLengthIndex.of(dictionary);
+ * PrefixRange fiveLetterWords = index.range(5, 6);
+ * String word = dictionary.get(index.rankAt(fiveLetterWords.from()));
+ * }</pre>
+ *
+ * @see WordsUtil#getLengthIndex()
+ */
+public final class WordLengthIndex {
+  /** The ranks of the words, ordered by length, then by rank. */
+  private final int[] ranks;
+
+  /** The position in {@link #ranks} of the first word of each length, plus the end of the array. */
+  private final int[] lengthStarts;
+
+  private WordLengthIndex(int[] ranks, int[] lengthStarts) {
+    this.ranks = ranks;
+    this.lengthStarts = lengthStarts;
+  }
+
+  /**
+   * Indexes the words of a dictionary by their length in {@code char}s.
+   *
+   * @param dictionary The dictionary to index.
+   * @return A new {@link WordLengthIndex}.
+   */
+  public static WordLengthIndex of(WordDictionary dictionary) {
+    int size = dictionary.size();
+    int[] lengths = new int[size];
+    int maxLength = 0;
+    for (int rank = 0; rank < size; rank++) {
+      lengths[rank] = dictionary.get(rank).length();
+      maxLength = Math.max(maxLength, lengths[rank]);
+    }
+    int[] lengthStarts = new int[maxLength + 2];
+    for (int length : lengths) {
+      lengthStarts[length + 1]++;
+    }
+    for (int length = 1; length < lengthStarts.length; length++) {
+      lengthStarts[length] += lengthStarts[length - 1];
+    }
+    int[] next = lengthStarts.clone();
+    int[] ranks = new int[size];
+    for (int rank = 0; rank < size; rank++) {
+      ranks[next[lengths[rank]]++] = rank;
+    }
+    return new WordLengthIndex(ranks, lengthStarts);
+  }
+
+  /**
+   * Returns the positions in the index of the words whose length is between {@code minLength}
+   * (included) and {@code maxLength} (excluded).
+   *
+   * @param minLength The inclusive lower bound of the lengths.
+   * @param maxLength The exclusive upper bound of the lengths.
+   * @return The {@link PrefixRange} of positions of the words, to be read with {@link
+   *     #rankAt(int)}, which is empty if there is none.
+   */
+  public PrefixRange range(int minLength, int maxLength) {
+    int from = lengthStarts[Math.max(0, Math.min(minLength, getMaxLength() + 1))];
+    int to = lengthStarts[Math.max(0, Math.min(maxLength, getMaxLength() + 1))];
+    return new PrefixRange(from, Math.max(from, to));
+  }
+
+  /**
+   * Returns the rank in the dictionary of the word at a position of the index.
+   *
+   * @param position The position in the index.
+   * @return The rank of the word, to be read with {@link WordDictionary#get(int)}.
+   */
+  public int rankAt(int position) {
+    return ranks[position];
+  }
+
+  /**
+   * Returns the length of the longest word.
+   *
+   * @return The largest length of the index.
+   */
+  public int getMaxLength() {
+    return lengthStarts.length - 2;
+  }
+}
@@ -0,0 +1,377 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import io.github.jumblejuggler.utils.WordDictionary.PrefixRange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Binary, precompiled form of a word list, loaded from the classpath.
+ *
+ * <p>The JSON datasets are packed at build time by {@link WordPackCompiler}, so that loading a word
+ * list is a single bulk read of a resource instead of a JSON parse. A pack is laid out as follows,
+ * integers being big-endian:
+ *
+ * <pre>
+ * int     magic, "JJWP"
+ * int     version
+ * byte    flags, 1 if the words are sorted
+ * int     number of words n
+ * int[]   if sorted, 129 ranks: the words starting with the ASCII character c have the ranks
+ *         between entry c (included) and entry c + 1 (excluded)
+ * int[]   n + 1 offsets: word i is made of the bytes between offset i (included) and offset i + 1
+ *         (excluded) of the data
+ * byte[]  the data, the UTF-8 bytes of the words one after the other
+ * </pre>
+ *
+ * <p>The offsets give access to any word without reading the ones before it, so a pack can also be
+ * used in place, memory-mapped, by {@link #mapDictionary(String)} and {@link #mapWords(String)}.
+ * The mapped pages are shared by all the processes mapping the same file and are not on the heap.
+ * Setting the {@value #STORAGE_PROPERTY} system property to {@value #MAPPED} selects that storage
+ * for the dictionaries of the library.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * Optional<WordPack> pack = WordPack.load("/io/github/jumblejuggler/lorem-ipsum.bin");
+ * List<String> words = pack.orElseThrow().getWords();
+ * }</pre>
+ *
+ * @see WordPackCompiler
+ */
+public final class WordPack {
+  /** System property choosing where the dictionaries are stored. */
+  public static final String STORAGE_PROPERTY = "jumblejuggler.storage";
+
+  /** Value of {@link #STORAGE_PROPERTY} keeping the dictionaries on the heap, the default. */
+  public static final String HEAP = "heap";
+
+  /** Value of {@link #STORAGE_PROPERTY} memory-mapping the dictionaries. */
+  public static final String MAPPED = "mapped";
+
+  /**
+   * System property giving the directory where the packs of a jar are copied to be mapped, by
+   * default {@code jumblejuggler} in the temporary directory.
+   */
+  public static final String STORAGE_DIRECTORY_PROPERTY = "jumblejuggler.storage.directory";
+
+  private static final Logger logger = Logger.getLogger(WordPack.class.getName());
+  private static final int MAGIC = 0x4A4A5750;
+  private static final int VERSION = 2;
+  private static final int SORTED = 1;
+  private static final int ASCII_CHARACTERS = 128;
+
+  private final List<String> words;
+
+  /** The first rank of the words of each starting ASCII character, {@code null} if not sorted. */
+  private final int[] letterIndex;
+
+  private WordPack(List<String> words, int[] letterIndex) {
+    this.words = Collections.unmodifiableList(words);
+    this.letterIndex = letterIndex;
+  }
+
+  /**
+   * Creates a pack of words.
+   *
+   * @param words The words to pack.
+   * @param sorted {@code true} to sort the words in the order of their UTF-8 bytes and index them
+   *     by their first character, {@code false} to keep them in the given order.
+   * @return A new {@link WordPack}.
+   */
+  public static WordPack of(List<String> words, boolean sorted) {
+    List<String> copy = new ArrayList<>(words);
+    if (!sorted) {
+      return new WordPack(copy, null);
+    }
+    copy.sort(UTF8_ORDER);
+    int[] letterIndex = new int[ASCII_CHARACTERS + 1];
+    int rank = 0;
+    for (int c = 0; c <= ASCII_CHARACTERS; c++) {
+      while (rank < copy.size() && firstCharacter(copy.get(rank)) < c) {
+        rank++;
+      }
+      letterIndex[c] = rank;
+    }
+    return new WordPack(copy, letterIndex);
+  }
+
+  /**
+   * Loads a pack from the classpath.
+   *
+   * @param resource The absolute name of the resource.
+   * @return The {@link WordPack}, or an empty {@link Optional} if there is no such resource.
+   * @throws IOException if the resource cannot be read or is not a pack.
+   */
+  public static Optional<WordPack> load(String resource) throws IOException {
+    try (InputStream in = WordPack.class.getResourceAsStream(resource)) {
+      return in == null ? Optional.empty() : Optional.of(read(in));
+    }
+  }
+
+  /**
+   * Reads a pack in a single bulk read.
+   *
+   * @param in The stream to read, which is not closed.
+   * @return The {@link WordPack} read.
+   * @throws IOException if the stream cannot be read or is not a pack.
+   */
+  public static WordPack read(InputStream in) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+    Layout layout = Layout.of(buffer);
+    int[] letterIndex = null;
+    if (layout.sorted()) {
+      letterIndex = new int[ASCII_CHARACTERS + 1];
+      buffer.position(layout.letterIndexPosition()).asIntBuffer().get(letterIndex);
+    }
+    List<String> words = new ArrayList<>(layout.count());
+    try {
+      for (int i = 0; i < layout.count(); i++) {
+        int from =
+            layout.dataPosition() + buffer.getInt(layout.offsetsPosition() + Integer.BYTES * i);
+        int to =
+            layout.dataPosition()
+                + buffer.getInt(layout.offsetsPosition() + Integer.BYTES * (i + 1));
+        words.add(new String(buffer.array(), from, to - from, StandardCharsets.UTF_8));
+      }
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException("The word pack given is corrupted.", e);
+    }
+    return new WordPack(words, letterIndex);
+  }
+
+  /**
+   * Maps a sorted pack of the classpath as a dictionary.
+   *
+   * <p>A pack of a directory of the classpath is mapped in place. A pack of a jar is first copied
+   * to the {@value #STORAGE_DIRECTORY_PROPERTY} directory, under a name made of its checksum, so
+   * that all the processes using the same jar map the same file.
+   *
+   * @param resource The absolute name of the resource.
+   * @return The {@link WordDictionary} reading the mapped pack, or an empty {@link Optional} if
+   *     there is no such resource.
+   * @throws IOException if the resource cannot be copied or mapped, is not a pack or is not sorted.
+   */
+  public static Optional<WordDictionary> mapDictionary(String resource) throws IOException {
+    Optional<MappedWordPack> pack = map(resource);
+    if (pack.isPresent() && !pack.get().isSorted()) {
+      throw new IOException(String.format("The word pack %s is not sorted.", resource));
+    }
+    return pack.map(WordDictionary.class::cast);
+  }
+
+  /**
+   * Maps a pack of the classpath as a list of words, in the order of the pack.
+   *
+   * @param resource The absolute name of the resource.
+   * @return The unmodifiable list reading the mapped pack, or an empty {@link Optional} if there is
+   *     no such resource.
+   * @throws IOException if the resource cannot be copied or mapped, or is not a pack.
+   * @see #mapDictionary(String)
+   */
+  public static Optional<List<String>> mapWords(String resource) throws IOException {
+    return map(resource).map(WordDictionaryList::new);
+  }
+
+  /**
+   * Returns {@code true} if the {@value #STORAGE_PROPERTY} system property selects the mapped
+   * storage.
+   *
+   * @return {@code true} if the dictionaries are to be mapped.
+   */
+  public static boolean isMappedStorage() {
+    String storage = System.getProperty(STORAGE_PROPERTY, HEAP);
+    if (!MAPPED.equals(storage) && !HEAP.equals(storage)) {
+      logger.warning(
+          String.format(
+              "Unknown storage \"%s\" given for %s, using \"%s\" instead.",
+              storage, STORAGE_PROPERTY, HEAP));
+    }
+    return MAPPED.equals(storage);
+  }
+
+  private static Optional<MappedWordPack> map(String resource) throws IOException {
+    URL url = WordPack.class.getResource(resource);
+    if (url == null) {
+      return Optional.empty();
+    }
+    Path file;
+    if ("file".equals(url.getProtocol())) {
+      try {
+        file = Path.of(url.toURI());
+      } catch (URISyntaxException e) {
+        throw new IOException(e);
+      }
+    } else {
+      file = copyToStorageDirectory(resource, url);
+    }
+    return Optional.of(new MappedWordPack(file));
+  }
+
+  private static Path copyToStorageDirectory(String resource, URL url) throws IOException {
+    byte[] bytes;
+    try (InputStream in = url.openStream()) {
+      bytes = in.readAllBytes();
+    }
+    CRC32 checksum = new CRC32();
+    checksum.update(bytes);
+    String name = resource.substring(resource.lastIndexOf('/') + 1);
+    Path directory =
+        Path.of(
+            System.getProperty(
+                STORAGE_DIRECTORY_PROPERTY,
+                Path.of(System.getProperty("java.io.tmpdir"), "jumblejuggler").toString()));
+    Path file = directory.resolve(String.format("%08x-%s", checksum.getValue(), name));
+    if (Files.isRegularFile(file) && Files.size(file) == bytes.length) {
+      return file;
+    }
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, name, ".tmp");
+    try {
+      Files.write(temporary, bytes);
+      Files.move(
+          temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+    return file;
+  }
+
+  /**
+   * Writes the pack.
+   *
+   * @param out The stream to write to, which is not closed.
+   * @throws IOException if the stream cannot be written.
+   */
+  public void write(OutputStream out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ByteBuffer header = ByteBuffer.allocate(3 * Integer.BYTES + 1);
+    header.putInt(MAGIC).putInt(VERSION).put((byte) (isSorted() ? SORTED : 0)).putInt(words.size());
+    bytes.write(header.array());
+    if (isSorted()) {
+      ByteBuffer index = ByteBuffer.allocate(Integer.BYTES * letterIndex.length);
+      index.asIntBuffer().put(letterIndex);
+      bytes.write(index.array());
+    }
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    ByteBuffer offsets = ByteBuffer.allocate(Integer.BYTES * (words.size() + 1));
+    for (String word : words) {
+      offsets.putInt(data.size());
+      data.write(word.getBytes(StandardCharsets.UTF_8));
+    }
+    offsets.putInt(data.size());
+    bytes.write(offsets.array());
+    data.writeTo(bytes);
+    bytes.writeTo(out);
+  }
+
+  /**
+   * Returns the words of the pack.
+   *
+   * @return The unmodifiable list of the words, in the order of their UTF-8 bytes if the pack is
+   *     sorted.
+   */
+  public List<String> getWords() {
+    return words;
+  }
+
+  /**
+   * Returns {@code true} if the words are sorted and indexed by their first character.
+   *
+   * @return {@code true} if the pack is sorted.
+   */
+  public boolean isSorted() {
+    return letterIndex != null;
+  }
+
+  /**
+   * Returns the range of the words starting with an ASCII character, read from the index of the
+   * pack.
+   *
+   * @param character The first character of the words.
+   * @return The {@link PrefixRange} of the words starting with {@code character}, or an empty
+   *     {@link Optional} if the pack is not sorted or the character is not ASCII.
+   */
+  public Optional<PrefixRange> getLetterRange(char character) {
+    if (letterIndex == null || character >= ASCII_CHARACTERS) {
+      return Optional.empty();
+    }
+    return Optional.of(new PrefixRange(letterIndex[character], letterIndex[character + 1]));
+  }
+
+  private static int firstCharacter(String word) {
+    return word.isEmpty() ? -1 : word.charAt(0);
+  }
+
+  /** Compares words by their UTF-8 bytes, which is the order of their code points. */
+  static final Comparator<String> UTF8_ORDER =
+      (first, second) -> {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; ) {
+          int a = first.codePointAt(i);
+          int b = second.codePointAt(i);
+          if (a != b) {
+            return Integer.compare(a, b);
+          }
+          i += Character.charCount(a);
+        }
+        return Integer.compare(first.length(), second.length());
+      };
+
+  /**
+   * Positions of the sections of a pack, read from and checked against its header.
+   *
+   * @param sorted {@code true} if the words are sorted.
+   * @param count The number of words.
+   * @param letterIndexPosition The position of the letter index, meaningful only if sorted.
+   * @param offsetsPosition The position of the offsets of the words.
+   * @param dataPosition The position of the bytes of the words.
+   */
+  record Layout(
+      boolean sorted, int count, int letterIndexPosition, int offsetsPosition, int dataPosition) {
+
+    /** Reads the layout of a pack, with absolute reads that leave the buffer untouched. */
+    static Layout of(ByteBuffer buffer) throws IOException {
+      int headerSize = 3 * Integer.BYTES + 1;
+      if (buffer.limit() < headerSize || buffer.getInt(0) != MAGIC) {
+        throw new IOException("The data given is not a word pack.");
+      }
+      int version = buffer.getInt(Integer.BYTES);
+      if (version != VERSION) {
+        throw new IOException(
+            String.format(
+                "The word pack version is %s, but only %s is supported.", version, VERSION));
+      }
+      boolean sorted = (buffer.get(2 * Integer.BYTES) & SORTED) != 0;
+      int count = buffer.getInt(2 * Integer.BYTES + 1);
+      int offsetsPosition = headerSize + (sorted ? Integer.BYTES * (ASCII_CHARACTERS + 1) : 0);
+      long dataPosition = offsetsPosition + (long) Integer.BYTES * (count + 1L);
+      if (count < 0
+          || dataPosition > buffer.limit()
+          || dataPosition + buffer.getInt((int) dataPosition - Integer.BYTES) > buffer.limit()) {
+        throw new IOException("The word pack given is truncated.");
+      }
+      return new Layout(sorted, count, headerSize, offsetsPosition, (int) dataPosition);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Build tool packing a JSON array of words into a {@link WordPack}.
+ *
+ * <p>It is run by Maven in the {@code process-classes} phase, once per dataset, with the JSON file,
+ * the resource to write and whether the words are sorted:
+ *
+ * <pre>{@code
+ * java io.github.jumblejuggler.utils.WordPackCompiler src/main/java/resources/words.json \
+ *     target/classes/io/github/jumblejuggler/words.bin sorted
+ * }</pre>
+ *
+ * <p>A missing JSON file is skipped with a warning, the dataset then being read from the JSON file
+ * at runtime.
+ */
+public final class WordPackCompiler {
+  private static final Logger logger = Logger.getLogger(WordPackCompiler.class.getName());
+  private static final String USAGE =
+      "Usage: WordPackCompiler <input.json> <output.bin> <sorted|unsorted>";
+
+  private WordPackCompiler() {}
+
+  /**
+   * Packs a JSON array of words.
+   *
+   * @param args The JSON file, the pack file to write and {@code sorted} or {@code unsorted}.
+   * @throws IOException if the JSON file cannot be read or the pack cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3 || !List.of("sorted", "unsorted").contains(args[2])) {
+      throw new IllegalArgumentException(USAGE);
+    }
+    Path input = Path.of(args[0]);
+    Path output = Path.of(args[1]);
+    if (!Files.isRegularFile(input)) {
+      logger.warning(String.format("No dataset at %s, %s is not packed.", input, output));
+      return;
+    }
+    List<String> words = new ObjectMapper().readValue(input.toFile(), new TypeReference<>() {});
+    WordPack pack = WordPack.of(words, "sorted".equals(args[2]));
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    try (OutputStream out = Files.newOutputStream(output)) {
+      pack.write(out);
+    }
+    logger.info(String.format("Packed %s words from %s into %s.", words.size(), input, output));
+  }
+}
@@ -0,0 +1,322 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import io.github.jumblejuggler.utils.WordDictionary.PrefixRange;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Index of the words of a {@link WordDictionary} for suffix, substring and wildcard queries.
+ *
+ * <p>The index is made of two structures:
+ *
+ * <ul>
+ *   <li>the ranks of the words sorted by their characters read from the end, where the words
+ *       sharing a suffix are contiguous and found by two binary searches;
+ *   <li>the posting lists of the trigrams, giving for every three characters in a row the sorted
+ *       ranks of the words containing them.
+ * </ul>
+ *
+ * <p>A substring query intersects the posting lists of the trigrams of the substring, then checks
+ * the few remaining candidates. A wildcard pattern, where {@value #WILDCARD} stands for any single
+ * character, does the same with the trigrams of its literal parts, among the words of its length.
+ * The results of the substring and wildcard queries are cached per query.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * WordPatternIndex index = WordsUtil.getInstance().getPatternIndex();
+ * WordRanks ranks = index.matching("?A??E");
+ * String word = dictionary.get(ranks.rankAt(0));
+ * }</pre>
+ *
+ * @see WordsUtil#getPatternIndex()
+ */
+public final class WordPatternIndex {
+  /** The character of a pattern standing for any single character. */
+  public static final char WILDCARD = '?';
+
+  private static final int GRAM = 3;
+
+  /** Bound on the number of cached query results. */
+  private static final int MAX_CACHED_QUERIES = 1024;
+
+  private static final Comparator<String> REVERSED_ORDER = WordPatternIndex::compareReversed;
+
+  private final WordDictionary dictionary;
+  private final WordLengthIndex lengthIndex;
+
+  /** The ranks of the words, sorted by their characters read from the end. */
+  private final int[] suffixOrder;
+
+  /** The sorted ranks of the words containing each trigram. */
+  private final Map<Long, int[]> postings;
+
+  private final Map<String, WordRanks> cache = new ConcurrentHashMap<>();
+
+  private WordPatternIndex(
+      WordDictionary dictionary,
+      WordLengthIndex lengthIndex,
+      int[] suffixOrder,
+      Map<Long, int[]> postings) {
+    this.dictionary = dictionary;
+    this.lengthIndex = lengthIndex;
+    this.suffixOrder = suffixOrder;
+    this.postings = postings;
+  }
+
+  /**
+   * Indexes the words of a dictionary.
+   *
+   * @param dictionary The dictionary to index.
+   * @param lengthIndex The {@link WordLengthIndex} of the same dictionary.
+   * @return A new {@link WordPatternIndex}.
+   */
+  public static WordPatternIndex of(WordDictionary dictionary, WordLengthIndex lengthIndex) {
+    String[] words = new String[dictionary.size()];
+    for (int rank = 0; rank < words.length; rank++) {
+      words[rank] = dictionary.get(rank);
+    }
+    int[] suffixOrder =
+        IntStream.range(0, words.length)
+            .boxed()
+            .sorted(Comparator.comparing(rank -> words[rank], REVERSED_ORDER))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    return new WordPatternIndex(dictionary, lengthIndex, suffixOrder, buildPostings(words));
+  }
+
+  /**
+   * Returns the ranks of the words ending with a suffix.
+   *
+   * @param suffix The suffix the words end with.
+   * @return The {@link WordRanks} of the words ending with {@code suffix}.
+   */
+  public WordRanks endingWith(String suffix) {
+    int from = searchSuffix(suffix, false);
+    int to = searchSuffix(suffix, true);
+    return new WordRanks(suffixOrder, from, to);
+  }
+
+  /**
+   * Returns the ranks of the words containing a substring.
+   *
+   * @param substring The substring the words contain.
+   * @return The {@link WordRanks} of the words containing {@code substring}.
+   */
+  public WordRanks containing(String substring) {
+    if (substring.isEmpty()) {
+      return new WordRanks(null, 0, dictionary.size());
+    }
+    WordRanks cached = cache.get("C" + substring);
+    if (cached != null) {
+      return cached;
+    }
+    int[] candidates = candidates(List.of(substring));
+    List<Integer> matches = new ArrayList<>();
+    forEachCandidate(
+        candidates,
+        null,
+        rank -> {
+          if (dictionary.get(rank).contains(substring)) {
+            matches.add(rank);
+          }
+        });
+    return cache("C" + substring, matches);
+  }
+
+  /**
+   * Returns the ranks of the words matching a wildcard pattern, where {@value #WILDCARD} stands for
+   * any single character and any other character for itself.
+   *
+   * @param pattern The pattern the words match, as long as the words.
+   * @return The {@link WordRanks} of the words matching {@code pattern}.
+   */
+  public WordRanks matching(String pattern) {
+    WordRanks cached = cache.get("M" + pattern);
+    if (cached != null) {
+      return cached;
+    }
+    List<String> literals = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i <= pattern.length(); i++) {
+      if (i == pattern.length() || pattern.charAt(i) == WILDCARD) {
+        if (i > start) {
+          literals.add(pattern.substring(start, i));
+        }
+        start = i + 1;
+      }
+    }
+    int[] candidates = candidates(literals);
+    PrefixRange lengthRange = lengthIndex.range(pattern.length(), pattern.length() + 1);
+    List<Integer> matches = new ArrayList<>();
+    forEachCandidate(
+        candidates,
+        candidates == null ? lengthRange : null,
+        rank -> {
+          if (matches(dictionary.get(rank), pattern)) {
+            matches.add(rank);
+          }
+        });
+    return cache("M" + pattern, matches);
+  }
+
+  private static Map<Long, int[]> buildPostings(String[] words) {
+    Map<Long, int[]> counts = new HashMap<>();
+    for (int rank = 0; rank < words.length; rank++) {
+      String word = words[rank];
+      for (int i = 0; i + GRAM <= word.length(); i++) {
+        int[] count = counts.computeIfAbsent(trigram(word, i), key -> new int[] {0, -1});
+        if (count[1] != rank) {
+          count[0]++;
+          count[1] = rank;
+        }
+      }
+    }
+    Map<Long, int[]> postings = new HashMap<>(counts.size() * 4 / 3 + 1);
+    counts.forEach(
+        (key, count) -> {
+          postings.put(key, new int[count[0]]);
+          count[0] = 0;
+          count[1] = -1;
+        });
+    for (int rank = 0; rank < words.length; rank++) {
+      String word = words[rank];
+      for (int i = 0; i + GRAM <= word.length(); i++) {
+        long key = trigram(word, i);
+        int[] count = counts.get(key);
+        if (count[1] != rank) {
+          postings.get(key)[count[0]++] = rank;
+          count[1] = rank;
+        }
+      }
+    }
+    return postings;
+  }
+
+  /**
+   * Returns the sorted ranks of the words containing all the trigrams of the literals, or {@code
+   * null} if no literal is long enough to have a trigram.
+   */
+  private int[] candidates(List<String> literals) {
+    List<int[]> lists = new ArrayList<>();
+    for (String literal : literals) {
+      for (int i = 0; i + GRAM <= literal.length(); i++) {
+        int[] list = postings.get(trigram(literal, i));
+        if (list == null) {
+          return new int[0];
+        }
+        lists.add(list);
+      }
+    }
+    if (lists.isEmpty()) {
+      return null;
+    }
+    lists.sort(Comparator.comparingInt(list -> list.length));
+    int[] result = lists.get(0);
+    for (int l = 1; l < lists.size() && result.length > 0; l++) {
+      int[] other = lists.get(l);
+      int[] intersection = new int[result.length];
+      int size = 0;
+      for (int rank : result) {
+        if (Arrays.binarySearch(other, rank) >= 0) {
+          intersection[size++] = rank;
+        }
+      }
+      result = Arrays.copyOf(intersection, size);
+    }
+    return result;
+  }
+
+  /**
+   * Calls the action on the candidates, or on the ranks of a length range if there is none, or on
+   * all the ranks if there is no range either.
+   */
+  private void forEachCandidate(int[] candidates, PrefixRange lengthRange, IntConsumer action) {
+    if (candidates != null) {
+      for (int rank : candidates) {
+        action.accept(rank);
+      }
+    } else if (lengthRange != null) {
+      for (int position = lengthRange.from(); position < lengthRange.to(); position++) {
+        action.accept(lengthIndex.rankAt(position));
+      }
+    } else {
+      for (int rank = 0; rank < dictionary.size(); rank++) {
+        action.accept(rank);
+      }
+    }
+  }
+
+  private WordRanks cache(String key, List<Integer> matches) {
+    int[] ranks = matches.stream().mapToInt(Integer::intValue).sorted().toArray();
+    WordRanks result = new WordRanks(ranks, 0, ranks.length);
+    if (cache.size() < MAX_CACHED_QUERIES) {
+      cache.putIfAbsent(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the position in {@link #suffixOrder} of the first word that is not before the suffix,
+   * the words before the suffix being the words smaller than it read from the end and, when {@code
+   * upper} is {@code true}, the words ending with it.
+   */
+  private int searchSuffix(String suffix, boolean upper) {
+    int low = 0;
+    int high = suffixOrder.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      String word = dictionary.get(suffixOrder[middle]);
+      if (compareReversed(word, suffix) < 0 || (upper && word.endsWith(suffix))) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Compares two strings by their characters read from the end. */
+  private static int compareReversed(String first, String second) {
+    int length = Math.min(first.length(), second.length());
+    for (int k = 1; k <= length; k++) {
+      char a = first.charAt(first.length() - k);
+      char b = second.charAt(second.length() - k);
+      if (a != b) {
+        return a - b;
+      }
+    }
+    return first.length() - second.length();
+  }
+
+  private static boolean matches(String word, String pattern) {
+    if (word.length() != pattern.length()) {
+      return false;
+    }
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c != WILDCARD && c != word.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long trigram(String word, int index) {
+    return ((long) word.charAt(index) << 32)
+        | ((long) word.charAt(index + 1) << 16)
+        | word.charAt(index + 2);
+  }
+}
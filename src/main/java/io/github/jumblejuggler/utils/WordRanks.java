@@ -0,0 +1,58 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+/**
+ * Immutable list of the ranks of the dictionary words matching a query of a {@link
+ * WordPatternIndex}.
+ *
+ * <p>It is a view over a region of an index, so it is created without copying the ranks.
+ */
+public final class WordRanks {
+  /** The ranks the view is over, {@code null} if the ranks are the positions themselves. */
+  private final int[] ranks;
+
+  private final int from;
+  private final int to;
+
+  WordRanks(int[] ranks, int from, int to) {
+    this.ranks = ranks;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Returns the number of matching words.
+   *
+   * @return The number of ranks.
+   */
+  public int size() {
+    return to - from;
+  }
+
+  /**
+   * Returns {@code true} if no word matches.
+   *
+   * @return {@code true} if there is no rank.
+   */
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  /**
+   * Returns a rank of the list.
+   *
+   * @param position The position of the rank, between 0 (included) and {@link #size()} (excluded).
+   * @return The rank of a matching word, to be read with {@link WordDictionary#get(int)}.
+   * @throws IndexOutOfBoundsException if {@code position} is out of the list.
+   */
+  public int rankAt(int position) {
+    if (position < 0 || position >= size()) {
+      throw new IndexOutOfBoundsException(position);
+    }
+    return ranks == null ? from + position : ranks[from + position];
+  }
+}
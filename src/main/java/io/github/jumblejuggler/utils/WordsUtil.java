@@ -7,12 +7,15 @@ package io.github.jumblejuggler.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.jumblejuggler.utils.WordDictionary.PrefixRange;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,6 +27,10 @@ import java.util.logging.Logger;
  * loaded from an external JSON file. Additionally, it constructs a map where words are grouped
  * alphabetically based on their starting letter.
  *
+ * <p>The words are sorted once they are loaded, so the words sharing a prefix form a contiguous
+ * range of the list. {@link #getPrefixRange(String)} finds that range with two binary searches, and
+ * keeps the ranges of the short prefixes, which are asked for the most, in a cache.
+ *
  * <p>To obtain an instance of this utility class, use the {@code getWords()} and {@code
  * getWordsSortedMap()} methods:
  *
@@ -36,8 +43,9 @@ import java.util.logging.Logger;
  * method. If an error occurs while loading the words from the JSON file, a {@code RuntimeException}
  * is thrown.
  *
- * <p>The default file path for the JSON file is "src/main/java/resources/words.json". If needed,
- * you can customize the file path by modifying the {@code filePath} variable in the code.
+ * <p>The words are read from the {@code /io/github/jumblejuggler/words.bin} classpath resource, a
+ * {@link WordPack} packed from "src/main/java/resources/words.json" at build time. When the
+ * resource is missing, as when running from the sources, the JSON file is parsed instead.
  *
  * <p>Example usage:
  *
@@ -53,27 +61,58 @@ import java.util.logging.Logger;
 public class WordsUtil {
   private static final Logger logger = Logger.getLogger(WordsUtil.class.getName());
 
+  /** System property choosing the backend of the dictionary. */
+  public static final String DICTIONARY_PROPERTY = "jumblejuggler.words.dictionary";
+
+  /** Value of {@link #DICTIONARY_PROPERTY} selecting {@link WordDictionary#sortedArray}. */
+  public static final String SORTED_ARRAY = "sorted-array";
+
+  /** Value of {@link #DICTIONARY_PROPERTY} selecting {@link WordDictionary#frontCoded}. */
+  public static final String FRONT_CODED = "front-coded";
+
   /** Static inner class to hold the single instance of {@link WordsUtil}. */
   private static class SingletonHolder {
     private static final WordsUtil INSTANCE = new WordsUtil();
   }
 
-  private final List<String> words = new ArrayList<>();
-  private final Map<Character, List<String>> wordsAlphabeticallyMap = new HashMap<>();
+  /** The classpath resource of the words packed at build time. */
+  private static final String WORDS_RESOURCE = "/io/github/jumblejuggler/words.bin";
+
+  /** The prefixes up to this length have their range cached. */
+  private static final int MAX_CACHED_PREFIX_LENGTH = 3;
+
+  /** Bound on the number of cached ranges, whatever the characters of the prefixes. */
+  private static final int MAX_CACHED_PREFIXES = 4096;
+
+  private final WordDictionary dictionary;
+  private final List<String> words;
+  private final Map<String, PrefixRange> prefixRanges = new ConcurrentHashMap<>();
+  private volatile Map<Character, List<String>> wordsAlphabeticallyMap;
+  private volatile WordLengthIndex lengthIndex;
+  private volatile WordPatternIndex patternIndex;
+  private volatile EncodedWords encodedWords;
 
   /**
-   * Private constructor that loads words from the file and builds the words map.
+   * Private constructor that loads words into the dictionary.
    *
-   * <p>It associates each word with its starting letter in the {@link #wordsAlphabeticallyMap}.
+   * <p>With the mapped storage of {@link WordPack#STORAGE_PROPERTY}, the {@link WordPack} packed at
+   * build time is mapped as the dictionary. Otherwise, the words are read from that pack, or from
+   * the JSON file if there is none on the classpath. The ranges of the letters indexed by the pack
+   * seed the cache of the prefix ranges.
    */
   private WordsUtil() {
     try {
-      loadWordsFromFile();
-      this.words.forEach(
-          word ->
-              this.wordsAlphabeticallyMap
-                  .computeIfAbsent(Character.toUpperCase(word.charAt(0)), k -> new ArrayList<>())
-                  .add(word));
+      Optional<WordDictionary> mapped =
+          WordPack.isMappedStorage() ? mapDictionary() : Optional.empty();
+      if (mapped.isPresent()) {
+        this.dictionary = mapped.get();
+      } else {
+        Optional<WordPack> pack = WordPack.load(WORDS_RESOURCE);
+        this.dictionary =
+            createDictionary(pack.isPresent() ? pack.get().getWords() : loadWordsFromFile());
+        pack.ifPresent(this::cacheLetterRanges);
+      }
+      this.words = new WordDictionaryList(dictionary);
     } catch (IOException e) {
       logger.log(Level.SEVERE, e.getMessage(), e);
       throw new RuntimeException(e);
@@ -90,31 +129,186 @@ public class WordsUtil {
   }
 
   /**
-   * Returns the non-empty list of dictionary words.
+   * Returns the dictionary the words are kept in.
+   *
+   * @return The {@link WordDictionary} of the words.
+   */
+  public WordDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns the non-empty list of dictionary words, in the order of the dictionary.
+   *
+   * <p>The list is an unmodifiable view of the {@link WordDictionary}, which holds no copy of the
+   * words: with the mapped storage, a word is only decoded when it is read.
    *
    * @return {@link #words}
    */
   public List<String> getWords() {
-    return SingletonHolder.INSTANCE.words;
+    return words;
   }
 
   /**
    * Returns the non-empty map of dictionary words where keys are the English alphabet letters and
    * values are lists of words starting with the corresponding letter.
    *
+   * <p>The map copies every word and is only built on the first call. Prefer {@link
+   * #getPrefixRange(String)}, which finds the words of a letter without any copy.
+   *
    * @return {@link #wordsAlphabeticallyMap}
    */
   public Map<Character, List<String>> getWordsSortedMap() {
-    return SingletonHolder.INSTANCE.wordsAlphabeticallyMap;
+    Map<Character, List<String>> map = wordsAlphabeticallyMap;
+    if (map == null) {
+      synchronized (this) {
+        map = wordsAlphabeticallyMap;
+        if (map == null) {
+          Map<Character, List<String>> built = new HashMap<>();
+          this.words.forEach(
+              word ->
+                  built
+                      .computeIfAbsent(
+                          Character.toUpperCase(word.charAt(0)), k -> new ArrayList<>())
+                      .add(word));
+          map = wordsAlphabeticallyMap = built;
+        }
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Returns the range of the dictionary words starting with a prefix, in the list returned by
+   * {@link #getWords()}.
+   *
+   * @param prefix The prefix the words start with.
+   * @return The {@link PrefixRange} of the words starting with {@code prefix}, which is empty if
+   *     there is none.
+   */
+  public PrefixRange getPrefixRange(String prefix) {
+    if (prefix.length() > MAX_CACHED_PREFIX_LENGTH) {
+      return dictionary.prefixRange(prefix);
+    }
+    PrefixRange range = prefixRanges.get(prefix);
+    if (range == null) {
+      range = dictionary.prefixRange(prefix);
+      if (prefixRanges.size() < MAX_CACHED_PREFIXES) {
+        prefixRanges.putIfAbsent(prefix, range);
+      }
+    }
+    return range;
+  }
+
+  /**
+   * Returns the index of the dictionary words by length.
+   *
+   * <p>The index reads every word once, so it is only built on the first call.
+   *
+   * @return The {@link WordLengthIndex} of the dictionary.
+   */
+  public WordLengthIndex getLengthIndex() {
+    WordLengthIndex index = lengthIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = lengthIndex;
+        if (index == null) {
+          index = lengthIndex = WordLengthIndex.of(dictionary);
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the index of the dictionary words for suffix, substring and wildcard queries.
+   *
+   * <p>The index reads every word once, so it is only built on the first call.
+   *
+   * @return The {@link WordPatternIndex} of the dictionary.
+   */
+  public WordPatternIndex getPatternIndex() {
+    WordPatternIndex index = patternIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = patternIndex;
+        if (index == null) {
+          index = patternIndex = WordPatternIndex.of(dictionary, getLengthIndex());
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the dictionary words encoded in UTF-8, in lowercase and capitalised forms, with the
+   * ranks of the dictionary.
+   *
+   * <p>The table reads every word once, so it is only built on the first call.
+   *
+   * @return The {@link EncodedWords} of the dictionary.
+   */
+  public EncodedWords getEncodedWords() {
+    EncodedWords encoded = encodedWords;
+    if (encoded == null) {
+      synchronized (this) {
+        encoded = encodedWords;
+        if (encoded == null) {
+          encoded = encodedWords = EncodedWords.of(getWords());
+        }
+      }
+    }
+    return encoded;
+  }
+
+  /**
+   * Returns an estimate of the heap memory retained by the dictionary.
+   *
+   * @return The estimated number of bytes.
+   * @see WordDictionary#getMemoryFootprint()
+   */
+  public long getMemoryFootprint() {
+    return dictionary.getMemoryFootprint();
+  }
+
+  private static Optional<WordDictionary> mapDictionary() throws IOException {
+    Optional<WordDictionary> mapped = WordPack.mapDictionary(WORDS_RESOURCE);
+    if (mapped.isEmpty()) {
+      logger.warning(
+          String.format("No %s on the classpath to map, using the heap instead.", WORDS_RESOURCE));
+    }
+    return mapped;
+  }
+
+  private static WordDictionary createDictionary(List<String> words) {
+    String backend = System.getProperty(DICTIONARY_PROPERTY, SORTED_ARRAY);
+    if (FRONT_CODED.equals(backend)) {
+      return WordDictionary.frontCoded(words);
+    }
+    if (!SORTED_ARRAY.equals(backend)) {
+      logger.warning(
+          String.format(
+              "Unknown dictionary \"%s\" given for %s, using \"%s\" instead.",
+              backend, DICTIONARY_PROPERTY, SORTED_ARRAY));
+    }
+    return WordDictionary.sortedArray(words);
+  }
+
+  private void cacheLetterRanges(WordPack pack) {
+    for (char c = 0; c < 128; c++) {
+      String prefix = String.valueOf(c);
+      pack.getLetterRange(c).ifPresent(range -> prefixRanges.put(prefix, range));
+    }
   }
 
   /**
-   * Loads dictionary words from the JSON file into {@link #words}.
+   * Loads dictionary words from the JSON file.
    *
+   * @return The words, in the order of the file.
    * @throws IOException if an error occurred while reading the JSON file.
    */
-  private void loadWordsFromFile() throws IOException {
+  private static List<String> loadWordsFromFile() throws IOException {
     String filePath = "src/main/java/resources/words.json";
-    this.words.addAll(new ObjectMapper().readValue(new File(filePath), new TypeReference<>() {}));
+    return new ObjectMapper().readValue(new File(filePath), new TypeReference<>() {});
   }
 }
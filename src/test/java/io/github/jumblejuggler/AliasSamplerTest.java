@@ -0,0 +1,70 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import org.junit.jupiter.api.Test;
+
+class AliasSamplerTest {
+
+  @Test
+  void of_DrawsProportionallyToTheWeights() {
+    AliasSampler sampler = AliasSampler.of(new double[] {1, 0, 2, 7});
+    assertEquals(4, sampler.size());
+    int[] counts = new int[4];
+    JumbleJuggler juggler = JumbleJuggler.withSeed(1L);
+    for (int i = 0; i < 100_000; i++) {
+      counts[sampler.nextInt(juggler)]++;
+    }
+    assertEquals(0, counts[1]);
+    assertTrue(counts[0] > 9_000 && counts[0] < 11_000);
+    assertTrue(counts[2] > 19_000 && counts[2] < 21_000);
+    assertTrue(counts[3] > 69_000 && counts[3] < 71_000);
+  }
+
+  @Test
+  void of_WhenManyZeroWeights_NeverDrawsThem() {
+    double[] weights = new double[1_000];
+    weights[123] = 0.1;
+    weights[999] = 0.3;
+    AliasSampler sampler = AliasSampler.of(JumbleJuggler.withSeed(2L), weights);
+    for (int i = 0; i < 10_000; i++) {
+      int value = sampler.nextInt();
+      assertTrue(value == 123 || value == 999);
+    }
+  }
+
+  @Test
+  void nextInt_WhenSameSeed_GeneratesSameValues() {
+    AliasSampler sampler = AliasSampler.of(new double[] {0.5, 0.25, 0.25});
+    AliasSampler first = sampler.withJuggler(JumbleJuggler.withSeed(3L));
+    AliasSampler second = sampler.withJuggler(JumbleJuggler.withSeed(3L));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.getAsInt(), second.nextInt());
+    }
+  }
+
+  @Test
+  void of_WhenTheWeightsAreInvalid_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> AliasSampler.of(new double[] {1, -1}));
+    assertEquals(
+        "The weight at index 1 is -1.0, but it must be finite and not negative.",
+        exception.getMessage());
+    assertThrows(JumbleJugglerException.class, () -> AliasSampler.of(new double[] {Double.NaN}));
+    assertThrows(
+        JumbleJugglerException.class,
+        () -> AliasSampler.of(new double[] {Double.MAX_VALUE, Double.MAX_VALUE}));
+    assertThrows(JumbleJugglerException.class, () -> AliasSampler.of(new double[0]));
+    exception =
+        assertThrows(JumbleJugglerException.class, () -> AliasSampler.of(new double[] {0, 0}));
+    assertEquals(
+        "The weights given add up to 0.0, but their sum must be finite and strictly positive.",
+        exception.getMessage());
+  }
+}
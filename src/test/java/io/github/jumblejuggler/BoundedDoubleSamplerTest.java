@@ -0,0 +1,77 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoundedDoubleSamplerTest {
+
+  @Test
+  void between() {
+    BoundedDoubleSampler sampler = DoubleJuggler.between(-0.5, 0.5);
+    assertEquals(-0.5, sampler.getMin());
+    assertEquals(0.5, sampler.getMax());
+    for (int i = 0; i < 1_000; i++) {
+      double value = sampler.nextDouble();
+      assertTrue(value >= -0.5 && value < 0.5);
+      assertTrue(sampler.getAsDouble() >= -0.5 && sampler.getAsDouble() < 0.5);
+    }
+  }
+
+  @Test
+  void fill() {
+    double[] values = new double[10];
+    Arrays.fill(values, 0.5);
+    DoubleJuggler.between(JumbleJuggler.withSeed(1L), -0.5, 0.5).fill(values, 2, 5);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -0.5 && values[i] < 0.5);
+      } else {
+        assertEquals(0.5, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> DoubleJuggler.between(-0.5, 0.5).fill(values, 8, 5));
+  }
+
+  @Test
+  void withJuggler_WhenSameSeed_GeneratesSameValues() {
+    BoundedDoubleSampler sampler = BoundedDoubleSampler.between(-0.5, 0.5);
+    BoundedDoubleSampler first = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    BoundedDoubleSampler second = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.nextDouble(), second.nextDouble());
+    }
+  }
+
+  @Test
+  void between_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> DoubleJuggler.between(0.5, -0.5));
+    assertEquals(
+        "The minimum value given is 0.5, but it must be smaller than the maximum value given which is -0.5.",
+        exception.getMessage());
+  }
+
+  @Test
+  void between_WhenRangeIsNotFinite_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> BoundedDoubleSampler.between(-Double.MAX_VALUE, Double.MAX_VALUE));
+    assertEquals(
+        "The range between the minimum value "
+            + -Double.MAX_VALUE
+            + " and the maximum value "
+            + Double.MAX_VALUE
+            + " given must be finite.",
+        exception.getMessage());
+  }
+}
@@ -0,0 +1,78 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoundedFloatSamplerTest {
+
+  @Test
+  void between() {
+    BoundedFloatSampler sampler = FloatJuggler.between(-0.5F, 0.5F);
+    assertEquals(-0.5F, sampler.getMin());
+    assertEquals(0.5F, sampler.getMax());
+    for (int i = 0; i < 1_000; i++) {
+      float value = sampler.nextFloat();
+      assertTrue(value >= -0.5F && value < 0.5F);
+      assertTrue(sampler.getAsDouble() >= -0.5F && sampler.getAsDouble() < 0.5F);
+    }
+  }
+
+  @Test
+  void fill() {
+    float[] values = new float[10];
+    Arrays.fill(values, 0.5F);
+    FloatJuggler.between(JumbleJuggler.withSeed(1L), -0.5F, 0.5F).fill(values, 2, 5);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -0.5F && values[i] < 0.5F);
+      } else {
+        assertEquals(0.5F, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> FloatJuggler.between(-0.5F, 0.5F).fill(values, 8, 5));
+  }
+
+  @Test
+  void withJuggler_WhenSameSeed_GeneratesSameValues() {
+    BoundedFloatSampler sampler = BoundedFloatSampler.between(-0.5F, 0.5F);
+    BoundedFloatSampler first = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    BoundedFloatSampler second = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.nextFloat(), second.nextFloat());
+    }
+  }
+
+  @Test
+  void between_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> FloatJuggler.between(0.5F, -0.5F));
+    assertEquals(
+        "The minimum value given is 0.5, but it must be smaller than the maximum value given which is -0.5.",
+        exception.getMessage());
+  }
+
+  @Test
+  void between_WhenRangeIsNotFinite_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> BoundedFloatSampler.between(-Float.MAX_VALUE, Float.MAX_VALUE));
+    assertEquals(
+        "The range between the minimum value "
+            + -Float.MAX_VALUE
+            + " and the maximum value "
+            + Float.MAX_VALUE
+            + " given must be finite.",
+        exception.getMessage());
+  }
+}
@@ -0,0 +1,95 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class BoundedIntSamplerTest {
+
+  @Test
+  void of() {
+    BoundedIntSampler sampler = BoundedIntSampler.of(3);
+    assertEquals(0, sampler.getMin());
+    assertEquals(3, sampler.getMax());
+
+    int[] counts = new int[3];
+    JumbleJuggler juggler = JumbleJuggler.withSeed(1L);
+    for (int i = 0; i < 30_000; i++) {
+      counts[sampler.nextInt(juggler)]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 9_000 && count < 11_000);
+    }
+  }
+
+  @Test
+  void between() {
+    BoundedIntSampler sampler = BoundedIntSampler.between(-5, 5);
+    SplittableRandom random = new SplittableRandom(2L);
+    for (int i = 0; i < 1_000; i++) {
+      int value = sampler.nextInt(random);
+      assertTrue(value >= -5 && value < 5);
+    }
+
+    BoundedIntSampler full = BoundedIntSampler.between(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertEquals(Integer.MAX_VALUE, full.getMax());
+    assertTrue(full.nextInt(random) < Integer.MAX_VALUE);
+  }
+
+  @Test
+  void nextInt_WhenSameSeed_GeneratesSameValues() {
+    BoundedIntSampler sampler = BoundedIntSampler.between(10, 1_000_000);
+    JumbleJuggler first = JumbleJuggler.withSeed(4L);
+    JumbleJuggler second = JumbleJuggler.withSeed(4L);
+    for (int i = 0; i < 100; i++) {
+      int value = sampler.nextInt(first);
+      assertEquals(value, BoundedIntSampler.nextInt(second.getRandomGenerator(), 10, 1_000_000));
+    }
+  }
+
+  @Test
+  void nextInt_WhenBoundIsNotPositive_ThrowException() {
+    SplittableRandom random = new SplittableRandom(3L);
+    assertEquals(0, BoundedIntSampler.nextInt(random, 1));
+    assertThrows(IllegalArgumentException.class, () -> BoundedIntSampler.nextInt(random, 0));
+    assertThrows(IllegalArgumentException.class, () -> BoundedIntSampler.nextInt(random, 2, 2));
+  }
+
+  @Test
+  void of_WhenBoundIsNotPositive_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> BoundedIntSampler.of(0));
+    assertEquals("The value given is 0, but it must be strictly positive.", exception.getMessage());
+  }
+
+  @Test
+  void between_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> BoundedIntSampler.between(5, -5));
+    assertEquals(
+        "The minimum value given is 5, but it must be smaller than the maximum value given which is -5.",
+        exception.getMessage());
+  }
+
+  @Test
+  void fill() {
+    BoundedIntSampler sampler = IntegerJuggler.between(JumbleJuggler.withSeed(5L), -5, 5);
+    int[] values = new int[100];
+    sampler.fill(values);
+    for (int value : values) {
+      assertTrue(value >= -5 && value < 5);
+    }
+
+    int[] expected = new int[100];
+    sampler.withJuggler(JumbleJuggler.withSeed(5L)).fill(expected);
+    assertArrayEquals(expected, values);
+    assertTrue(sampler.getAsInt() >= -5);
+  }
+}
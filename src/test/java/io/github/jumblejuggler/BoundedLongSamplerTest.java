@@ -0,0 +1,98 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoundedLongSamplerTest {
+
+  @Test
+  void between() {
+    BoundedLongSampler sampler = LongJuggler.between(-50L, 50L);
+    assertEquals(-50L, sampler.getMin());
+    assertEquals(50L, sampler.getMax());
+    for (int i = 0; i < 1_000; i++) {
+      long value = sampler.nextLong();
+      assertTrue(value >= -50L && value < 50L);
+      assertTrue(sampler.getAsLong() >= -50L && sampler.getAsLong() < 50L);
+    }
+  }
+
+  @Test
+  void fill() {
+    long[] values = new long[10];
+    Arrays.fill(values, 50L);
+    LongJuggler.between(JumbleJuggler.withSeed(1L), -50L, 50L).fill(values, 2, 5);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -50L && values[i] < 50L);
+      } else {
+        assertEquals(50L, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> LongJuggler.between(-50L, 50L).fill(values, 8, 5));
+  }
+
+  @Test
+  void withJuggler_WhenSameSeed_GeneratesSameValues() {
+    BoundedLongSampler sampler = BoundedLongSampler.between(-50L, 50L);
+    BoundedLongSampler first = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    BoundedLongSampler second = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.nextLong(), second.nextLong());
+    }
+  }
+
+  @Test
+  void between_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> LongJuggler.between(50L, -50L));
+    assertEquals(
+        "The minimum value given is 50, but it must be smaller than the maximum value given which is -50.",
+        exception.getMessage());
+  }
+
+  @Test
+  void between_WhenRangeIsWiderThanLong_StaysInRange() {
+    BoundedLongSampler full = BoundedLongSampler.between(Long.MIN_VALUE, Long.MAX_VALUE);
+    BoundedLongSampler upper = BoundedLongSampler.between(-1L, Long.MAX_VALUE);
+    boolean negative = false;
+    for (int i = 0; i < 1_000; i++) {
+      long value = full.nextLong();
+      assertTrue(value < Long.MAX_VALUE);
+      negative |= value < 0L;
+      assertTrue(upper.nextLong() >= -1L);
+    }
+    assertTrue(negative);
+  }
+
+  @Test
+  void nextLong_IsUniform() {
+    BoundedLongSampler sampler = BoundedLongSampler.between(JumbleJuggler.withSeed(9L), 0L, 3L);
+    int[] counts = new int[3];
+    for (int i = 0; i < 30_000; i++) {
+      counts[(int) sampler.nextLong()]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 9_000 && count < 11_000);
+    }
+  }
+
+  @Test
+  void nextLong_WhenSameSeed_MatchesTheScalarMethod() {
+    BoundedLongSampler sampler = LongJuggler.between(JumbleJuggler.withSeed(4L), -7L, 1L << 40);
+    JumbleJuggler juggler = JumbleJuggler.withSeed(4L);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(
+          sampler.nextLong(), LongJuggler.generateRandomLongBetween(juggler, -7L, 1L << 40));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoundedShortSamplerTest {
+
+  @Test
+  void between() {
+    BoundedShortSampler sampler = ShortJuggler.between((short) -50, (short) 50);
+    assertEquals((short) -50, sampler.getMin());
+    assertEquals((short) 50, sampler.getMax());
+    for (int i = 0; i < 1_000; i++) {
+      short value = sampler.nextShort();
+      assertTrue(value >= (short) -50 && value < (short) 50);
+      assertTrue(sampler.getAsInt() >= (short) -50 && sampler.getAsInt() < (short) 50);
+    }
+  }
+
+  @Test
+  void fill() {
+    short[] values = new short[10];
+    Arrays.fill(values, (short) 50);
+    ShortJuggler.between(JumbleJuggler.withSeed(1L), (short) -50, (short) 50).fill(values, 2, 5);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= (short) -50 && values[i] < (short) 50);
+      } else {
+        assertEquals((short) 50, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ShortJuggler.between((short) -50, (short) 50).fill(values, 8, 5));
+  }
+
+  @Test
+  void withJuggler_WhenSameSeed_GeneratesSameValues() {
+    BoundedShortSampler sampler = BoundedShortSampler.between((short) -50, (short) 50);
+    BoundedShortSampler first = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    BoundedShortSampler second = sampler.withJuggler(JumbleJuggler.withSeed(6L));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.nextShort(), second.nextShort());
+    }
+  }
+
+  @Test
+  void between_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> ShortJuggler.between((short) 50, (short) -50));
+    assertEquals(
+        "The minimum value given is 50, but it must be smaller than the maximum value given which is -50.",
+        exception.getMessage());
+  }
+}
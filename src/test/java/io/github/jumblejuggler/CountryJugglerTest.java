@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.jumblejuggler.constants.Country;
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +75,203 @@ class CountryJugglerTest {
         "Based on the provided code, the country does not exist. Make sure you input the correct code.",
         exception.getMessage());
   }
+
+  @Test
+  void tryGetCountryByIso2Code() {
+    assertEquals(Optional.of(Country.BE), CountryJuggler.tryGetCountryByIso2Code("be"));
+    assertTrue(CountryJuggler.tryGetCountryByIso2Code("ZZ").isEmpty());
+    assertTrue(CountryJuggler.tryGetCountryByIso2Code("ZZZ").isEmpty());
+    assertTrue(CountryJuggler.tryGetCountryByIso2Code(null).isEmpty());
+  }
+
+  @Test
+  void tryGetCountryByIso3Code() {
+    assertEquals(Optional.of(Country.LB), CountryJuggler.tryGetCountryByIso3Code("LBN"));
+    assertTrue(CountryJuggler.tryGetCountryByIso3Code("ZZZ").isEmpty());
+    assertTrue(CountryJuggler.tryGetCountryByIso3Code("ZZRF").isEmpty());
+  }
+
+  @Test
+  void getCountryByIsoCode_AgreesWithTheCountryMaps() {
+    Country.getIso2CountryMap()
+        .forEach(
+            (code, country) -> {
+              assertSame(country, CountryJuggler.getCountryByIso2Code(code));
+              assertSame(country, CountryJuggler.getCountryByIso2Code(code.toLowerCase()));
+            });
+    Country.getIso3CountryMap()
+        .forEach(
+            (code, country) -> {
+              assertSame(country, CountryJuggler.getCountryByIso3Code(code));
+              assertSame(
+                  country,
+                  CountryJuggler.getCountryByIso3Code(new StringBuilder(code.toLowerCase())));
+            });
+  }
+
+  @Test
+  void getCountryByIsoCode_TakesLettersAndCharSequences() {
+    assertEquals(Country.FR, CountryJuggler.getCountryByIso2Code('f', 'R'));
+    assertEquals(Country.US, CountryJuggler.getCountryByIso3Code('U', 's', 'a'));
+    assertEquals(Country.BE, CountryJuggler.getCountryByIso2Code(new StringBuilder("bE")));
+    assertEquals(
+        Optional.of(Country.LB), CountryJuggler.tryGetCountryByIso3Code(new StringBuilder("lbn")));
+    assertSame(
+        CountryJuggler.tryGetCountryByIso2Code("FR"),
+        CountryJuggler.tryGetCountryByIso2Code('f', 'r'));
+  }
+
+  @Test
+  void getCountryByIsoCode_WhenNotLetters_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> CountryJuggler.getCountryByIso2Code("F1"));
+    assertEquals(
+        "The provided iso2 code is invalid. The iso2 code is a two-letter string only. Example: \"FR\"",
+        exception.getMessage());
+    assertThrows(JumbleJugglerException.class, () -> CountryJuggler.getCountryByIso3Code("U[A"));
+    assertTrue(CountryJuggler.tryGetCountryByIso2Code('@', 'A').isEmpty());
+    assertTrue(CountryJuggler.tryGetCountryByIso3Code('É', 'T', 'E').isEmpty());
+  }
+
+  @Test
+  void selectByContinent_HasTheCountriesOfTheContinent() {
+    for (String continent : new String[] {"AF", "AN", "AS", "EU", "NA", "OC", "SA"}) {
+      List<Country> expected =
+          Country.getCountries().stream()
+              .filter(country -> country.getContinent().equals(continent))
+              .toList();
+      assertEquals(expected, CountryJuggler.selectByContinent(continent).getCountries());
+    }
+    assertSame(CountryJuggler.selectByContinent("EU"), CountryJuggler.selectByContinent("eu"));
+    assertTrue(CountryJuggler.selectByContinent("XX").isEmpty());
+  }
+
+  @Test
+  void getRandomCountryInContinent_IsInTheContinent() {
+    JumbleJuggler juggler = JumbleJuggler.withSeed(42L);
+    for (int i = 0; i < 100; i++) {
+      assertEquals("EU", CountryJuggler.getRandomCountryInContinent(juggler, "EU").getContinent());
+      assertEquals("OC", CountryJuggler.tryGetRandomCountryInContinent("oc").get().getContinent());
+    }
+    assertEquals(
+        CountryJuggler.getRandomCountryInContinent(JumbleJuggler.withSeed(7L), "AS"),
+        CountryJuggler.getRandomCountryInContinent(JumbleJuggler.withSeed(7L), "AS"));
+  }
+
+  @Test
+  void getRandomCountryInContinent_WhenNoCountry_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> CountryJuggler.getRandomCountryInContinent("XX"));
+    assertEquals(
+        "No country is in the continent \"XX\". The continent is a two-letter code. Example: \"EU\"",
+        exception.getMessage());
+    assertTrue(CountryJuggler.tryGetRandomCountryInContinent("XX").isEmpty());
+    assertTrue(CountryJuggler.tryGetRandomCountryInContinent(null).isEmpty());
+  }
+
+  @Test
+  void getRandomCountryWithCurrency_HasTheCurrency() {
+    CountrySelection euro = CountryJuggler.selectByCurrency("eur");
+    assertTrue(euro.contains(Country.FR));
+    assertFalse(euro.contains(Country.US));
+    for (int i = 0; i < 100; i++) {
+      assertEquals("EUR", CountryJuggler.getRandomCountryWithCurrency("EUR").getCurrency());
+    }
+    assertEquals(Optional.of(Country.LB), CountryJuggler.tryGetRandomCountryWithCurrency("LBP"));
+    assertThrows(
+        JumbleJugglerException.class, () -> CountryJuggler.getRandomCountryWithCurrency(""));
+    assertTrue(CountryJuggler.tryGetRandomCountryWithCurrency("XXX").isEmpty());
+  }
+
+  @Test
+  void select_ReturnsTheCountriesMatchingAPredicate() {
+    Predicate<Country> inRegistry = Country::isInGoogleLibPhoneNumber;
+    CountrySelection selection = CountryJuggler.select(inRegistry);
+    assertEquals(selection.getCountries(), CountryJuggler.select(inRegistry).getCountries());
+    assertEquals(
+        Country.getCountries().stream().filter(inRegistry).count(), (long) selection.size());
+    for (int i = 0; i < 100; i++) {
+      assertTrue(CountryJuggler.getRandomCountryMatching(inRegistry).isInGoogleLibPhoneNumber());
+    }
+    assertThrows(
+        JumbleJugglerException.class,
+        () -> CountryJuggler.getRandomCountryMatching(country -> false));
+  }
+
+  @Test
+  void select_CombinesFilters() {
+    CountrySelection selection =
+        CountryJuggler.selectByContinent("EU")
+            .and(CountryJuggler.selectByCurrency("EUR"))
+            .filter(Country::isInGoogleLibPhoneNumber);
+    assertFalse(selection.isEmpty());
+    assertTrue(selection.contains(Country.FR));
+    for (Country country : selection.getCountries()) {
+      assertEquals("EU", country.getContinent());
+      assertEquals("EUR", country.getCurrency());
+    }
+    assertEquals(Country.getCountries().size(), CountryJuggler.selectAll().size());
+    assertTrue(CountryJuggler.selectByCurrency("XXX").tryGetRandomCountry().isEmpty());
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> CountryJuggler.selectByCurrency("XXX").getRandomCountry());
+    assertEquals("There is no country in the selection to pick from.", exception.getMessage());
+  }
+
+  @Test
+  void getRandomCountryByPopulation_WhenSameSeed_IsTheSame() {
+    JumbleJuggler first = JumbleJuggler.withSeed(9L);
+    JumbleJuggler second = JumbleJuggler.withSeed(9L);
+    for (int i = 0; i < 100; i++) {
+      Country country = CountryJuggler.getRandomCountryByPopulation(first);
+      assertEquals(country, CountryJuggler.getRandomCountryByPopulation(second));
+      assertTrue(country.getPopulation() > 0);
+    }
+  }
+
+  @Test
+  void getCountryByName_IgnoresCaseAccentsAndPunctuation() {
+    assertEquals(Country.CW, CountryJuggler.getCountryByName("Curaçao"));
+    assertEquals(Country.CW, CountryJuggler.getCountryByName("  CURACAO. "));
+    assertEquals(Country.AX, CountryJuggler.getCountryByName("Åland islands"));
+    assertEquals(Country.BA, CountryJuggler.getCountryByName("Bosnia & Herzegovina"));
+    assertEquals(Country.AG, CountryJuggler.getCountryByName("Antigua&Barbuda"));
+    assertEquals(Country.BA, CountryJuggler.getCountryByName("Bosnia &Herzegovina"));
+    assertEquals(Country.GW, CountryJuggler.getCountryByName("guinea bissau"));
+    assertEquals(Country.BQ, CountryJuggler.getCountryByName("Bonaire Saint-Eustatius and Saba"));
+    assertEquals(
+        Optional.of(Country.RE), CountryJuggler.tryGetCountryByName(new StringBuilder("Réunion")));
+    for (Country country : Country.values()) {
+      assertEquals(
+          country, CountryJuggler.getCountryByName(country.getCountryName()), country.name());
+    }
+  }
+
+  @Test
+  void getCountryByName_WhenNoCountryHasTheName_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> CountryJuggler.getCountryByName("Atlantis"));
+    assertEquals(
+        "No country is named \"Atlantis\". Make sure you input the correct name.",
+        exception.getMessage());
+    assertTrue(CountryJuggler.tryGetCountryByName("United").isEmpty());
+    assertTrue(CountryJuggler.tryGetCountryByName(null).isEmpty());
+  }
+
+  @Test
+  void getCountriesByNamePrefix_ReturnsTheMatchingNames() {
+    assertEquals(List.of(Country.GB), CountryJuggler.getCountriesByNamePrefix("united k"));
+    assertEquals(
+        List.of(Country.AE, Country.GB, Country.US, Country.UM),
+        CountryJuggler.getCountriesByNamePrefix("UNITED"));
+    List<Country> saints = CountryJuggler.getCountriesByNamePrefix("Saint ");
+    assertEquals(7, saints.size());
+    saints.forEach(country -> assertTrue(country.getCountryName().startsWith("Saint ")));
+    assertEquals(List.of(Country.NE, Country.NG), CountryJuggler.getCountriesByNamePrefix("niger"));
+    assertTrue(CountryJuggler.getCountriesByNamePrefix("zz").isEmpty());
+    assertEquals(Country.values().length, CountryJuggler.getCountriesByNamePrefix("").size());
+  }
 }
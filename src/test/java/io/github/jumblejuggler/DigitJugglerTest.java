@@ -0,0 +1,85 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class DigitJugglerTest {
+
+  @Test
+  void generateRandomDigits() {
+    for (int count : new int[] {0, 1, 8, 9, 10, 40}) {
+      String digits = DigitJuggler.generateRandomDigits(count);
+      assertEquals(count, digits.length());
+      assertTrue(digits.chars().allMatch(Character::isDigit));
+    }
+  }
+
+  @Test
+  void generateRandomDigits_WhenSameSeed_GeneratesSameDigits() {
+    assertEquals(
+        DigitJuggler.generateRandomDigits(JumbleJuggler.withSeed(8L), 30),
+        DigitJuggler.generateRandomDigits(JumbleJuggler.withSeed(8L), 30));
+  }
+
+  @Test
+  void generateRandomDigitsWithoutLeadingZero() {
+    for (int i = 0; i < 100; i++) {
+      String digits = DigitJuggler.generateRandomDigitsWithoutLeadingZero(25);
+      assertEquals(25, digits.length());
+      assertNotEquals('0', digits.charAt(0));
+      assertTrue(digits.chars().allMatch(Character::isDigit));
+    }
+  }
+
+  @Test
+  void appendRandomDigits() {
+    StringBuilder builder = new StringBuilder("REF-");
+    assertSame(builder, DigitJuggler.appendRandomDigits(builder, 12));
+    assertEquals(16, builder.length());
+    assertTrue(builder.toString().matches("REF-\\d{12}"));
+
+    DigitJuggler.appendRandomDigitsWithoutLeadingZero(builder, 3);
+    assertTrue(builder.toString().matches("REF-\\d{12}[1-9]\\d{2}"));
+  }
+
+  @Test
+  void fillWithRandomDigits() {
+    char[] chars = new char[24];
+    Arrays.fill(chars, 'x');
+    DigitJuggler.fillWithRandomDigits(chars, 2, 20);
+    assertTrue(new String(chars).matches("xx\\d{20}xx"));
+
+    byte[] bytes = new byte[24];
+    Arrays.fill(bytes, (byte) 'x');
+    DigitJuggler.fillWithRandomDigits(bytes, 2, 20);
+    assertTrue(new String(bytes, StandardCharsets.US_ASCII).matches("xx\\d{20}xx"));
+
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> DigitJuggler.fillWithRandomDigits(chars, 10, 20));
+  }
+
+  @Test
+  void generateRandomDigits_WhenCountIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> DigitJuggler.generateRandomDigits(-1));
+    assertEquals("The count given is -1, but it must not be negative.", exception.getMessage());
+  }
+
+  @Test
+  void generateRandomDigitsWithoutLeadingZero_WhenCountIsZero_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> DigitJuggler.generateRandomDigitsWithoutLeadingZero(0));
+    assertEquals("The count given is 0, but it must be strictly positive.", exception.getMessage());
+  }
+}
@@ -8,6 +8,9 @@ package io.github.jumblejuggler;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -15,13 +18,14 @@ class DoubleJugglerTest {
 
   @Test
   void testGenerateRandomPositiveDouble() {
-    double result = Assertions.assertDoesNotThrow(DoubleJuggler::generateRandomPositiveDouble);
+    double result =
+        Assertions.assertDoesNotThrow(() -> DoubleJuggler.generateRandomPositiveDouble());
     assertTrue(result >= 0);
   }
 
   @Test
   void testGenerateRandomNegativeDouble() {
-    double result = assertDoesNotThrow(DoubleJuggler::generateRandomNegativeDouble);
+    double result = assertDoesNotThrow(() -> DoubleJuggler.generateRandomNegativeDouble());
     assertTrue(result < 0);
   }
 
@@ -126,4 +130,114 @@ class DoubleJugglerTest {
         "The value given is " + random + ", but it must be strictly negative.",
         exception.getMessage());
   }
+
+  @Test
+  void fillWithRandomDoublesBetween() {
+    double[] values = new double[1_000];
+    Assertions.assertDoesNotThrow(
+        () -> DoubleJuggler.fillWithRandomDoublesBetween(values, -0.5, 0.5));
+    for (double value : values) {
+      assertTrue(value >= -0.5 && value < 0.5);
+    }
+  }
+
+  @Test
+  void fillWithRandomDoublesBetween_WithOffsetAndLength_FillsOnlyTheRegion() {
+    double[] values = new double[10];
+    Arrays.fill(values, 0.5);
+    DoubleJuggler.fillWithRandomDoublesBetween(JumbleJuggler.withSeed(1L), values, 2, 5, -0.5, 0.5);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -0.5 && values[i] < 0.5);
+      } else {
+        assertEquals(0.5, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> DoubleJuggler.fillWithRandomDoublesBetween(values, 8, 5, -0.5, 0.5));
+  }
+
+  @Test
+  void fillWithRandomDoublesBetween_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> DoubleJuggler.fillWithRandomDoublesBetween(new double[1], 0.5, -0.5));
+    assertEquals(
+        "The minimum value given is 0.5, but it must be smaller than the maximum value given which is -0.5.",
+        exception.getMessage());
+  }
+
+  @Test
+  void fillWithRandomDoublesBetween_WhenRangeIsNotFinite_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () ->
+                DoubleJuggler.fillWithRandomDoublesBetween(
+                    new double[1], -Double.MAX_VALUE, Double.MAX_VALUE));
+    assertEquals(
+        "The range between the minimum value "
+            + -Double.MAX_VALUE
+            + " and the maximum value "
+            + Double.MAX_VALUE
+            + " given must be finite.",
+        exception.getMessage());
+  }
+
+  @Test
+  void doubles() {
+    double[] values = DoubleJuggler.doubles(1_000, -0.5, 0.5).toArray();
+    assertEquals(1_000, values.length);
+    for (double value : values) {
+      assertTrue(value >= -0.5 && value < 0.5);
+    }
+    assertTrue(DoubleJuggler.positiveDoubles(1_000).allMatch(value -> value >= 0));
+    assertTrue(DoubleJuggler.negativeDoubles(1_000).allMatch(value -> value < 0));
+  }
+
+  @Test
+  void doubles_WhenParallel_IsSizedAndSplitsTheSource() {
+    Spliterator.OfDouble spliterator =
+        DoubleJuggler.doubles(JumbleJuggler.withSeed(3L), 1_000, -0.5, 0.5).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(1_000, spliterator.getExactSizeIfKnown());
+    assertEquals(500, spliterator.trySplit().getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+
+    assertEquals(
+        100_000,
+        DoubleJuggler.doubles(JumbleJuggler.withSeed(3L), 100_000, -0.5, 0.5).parallel().count());
+    assertTrue(
+        DoubleJuggler.doubles(JumbleJuggler.withSeed(3L), 100_000, -0.5, 0.5)
+            .parallel()
+            .allMatch(value -> value >= -0.5 && value < 0.5));
+  }
+
+  @Test
+  void doubles_WhenCountIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> DoubleJuggler.doubles(-1));
+    assertEquals("The count given is -1, but it must not be negative.", exception.getMessage());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveDoubleSmallerThan() {
+    OptionalDouble result = DoubleJuggler.tryGenerateRandomPositiveDoubleSmallerThan(10.0);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsDouble() >= 0.0 && result.getAsDouble() < 10.0);
+    assertTrue(DoubleJuggler.tryGenerateRandomPositiveDoubleSmallerThan(-10.0).isEmpty());
+    assertTrue(
+        DoubleJuggler.tryGenerateRandomPositiveDoubleSmallerThan(Double.POSITIVE_INFINITY)
+            .isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomNegativeDoubleGreaterThan() {
+    OptionalDouble result = DoubleJuggler.tryGenerateRandomNegativeDoubleGreaterThan(-10.0);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsDouble() >= -10.0 && result.getAsDouble() < 0.0);
+    assertTrue(DoubleJuggler.tryGenerateRandomNegativeDoubleGreaterThan(10.0).isEmpty());
+  }
 }
@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -18,13 +20,13 @@ class FloatJugglerTest {
 
   @Test
   void testGenerateRandomPositiveFloat() {
-    float result = Assertions.assertDoesNotThrow(FloatJuggler::generateRandomPositiveFloat);
+    float result = Assertions.assertDoesNotThrow(() -> FloatJuggler.generateRandomPositiveFloat());
     assertTrue(result >= 0);
   }
 
   @Test
   void testGenerateRandomNegativeFloat() {
-    float result = assertDoesNotThrow(FloatJuggler::generateRandomNegativeFloat);
+    float result = assertDoesNotThrow(() -> FloatJuggler.generateRandomNegativeFloat());
     assertTrue(result < 0);
   }
 
@@ -129,4 +131,76 @@ class FloatJugglerTest {
         "The value given is " + random + ", but it must be strictly negative.",
         exception.getMessage());
   }
+
+  @Test
+  void fillWithRandomFloatsBetween() {
+    float[] values = new float[1_000];
+    Assertions.assertDoesNotThrow(
+        () -> FloatJuggler.fillWithRandomFloatsBetween(values, -0.5F, 0.5F));
+    for (float value : values) {
+      assertTrue(value >= -0.5F && value < 0.5F);
+    }
+  }
+
+  @Test
+  void fillWithRandomFloatsBetween_WithOffsetAndLength_FillsOnlyTheRegion() {
+    float[] values = new float[10];
+    Arrays.fill(values, 0.5F);
+    FloatJuggler.fillWithRandomFloatsBetween(JumbleJuggler.withSeed(1L), values, 2, 5, -0.5F, 0.5F);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -0.5F && values[i] < 0.5F);
+      } else {
+        assertEquals(0.5F, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> FloatJuggler.fillWithRandomFloatsBetween(values, 8, 5, -0.5F, 0.5F));
+  }
+
+  @Test
+  void fillWithRandomFloatsBetween_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> FloatJuggler.fillWithRandomFloatsBetween(new float[1], 0.5F, -0.5F));
+    assertEquals(
+        "The minimum value given is 0.5, but it must be smaller than the maximum value given which is -0.5.",
+        exception.getMessage());
+  }
+
+  @Test
+  void fillWithRandomFloatsBetween_WhenRangeIsNotFinite_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () ->
+                FloatJuggler.fillWithRandomFloatsBetween(
+                    new float[1], -Float.MAX_VALUE, Float.MAX_VALUE));
+    assertEquals(
+        "The range between the minimum value "
+            + -Float.MAX_VALUE
+            + " and the maximum value "
+            + Float.MAX_VALUE
+            + " given must be finite.",
+        exception.getMessage());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveFloatSmallerThan() {
+    Optional<Float> result = FloatJuggler.tryGenerateRandomPositiveFloatSmallerThan(10f);
+    assertTrue(result.isPresent());
+    assertTrue(result.get() >= 0f && result.get() < 10f);
+    assertTrue(FloatJuggler.tryGenerateRandomPositiveFloatSmallerThan(-10f).isEmpty());
+    assertTrue(FloatJuggler.tryGenerateRandomPositiveFloatSmallerThan(Float.NaN).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomNegativeFloatGreaterThan() {
+    Optional<Float> result = FloatJuggler.tryGenerateRandomNegativeFloatGreaterThan(-10f);
+    assertTrue(result.isPresent());
+    assertTrue(result.get() >= -10f && result.get() < 0f);
+    assertTrue(FloatJuggler.tryGenerateRandomNegativeFloatGreaterThan(10f).isEmpty());
+  }
 }
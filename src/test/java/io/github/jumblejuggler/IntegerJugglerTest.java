@@ -11,6 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -18,13 +21,13 @@ class IntegerJugglerTest {
 
   @Test
   void testGenerateRandomPositiveInt() {
-    int result = assertDoesNotThrow(IntegerJuggler::generateRandomPositiveInt);
+    int result = assertDoesNotThrow(() -> IntegerJuggler.generateRandomPositiveInt());
     assertTrue(result >= 0);
   }
 
   @Test
   void testGenerateRandomNegativeInt() {
-    int result = assertDoesNotThrow(IntegerJuggler::generateRandomNegativeInt);
+    int result = assertDoesNotThrow(() -> IntegerJuggler.generateRandomNegativeInt());
     assertTrue(result < 0);
   }
 
@@ -171,4 +174,142 @@ class IntegerJugglerTest {
             () -> IntegerJuggler.generateRandomPositiveIntWithLength(length));
     assertEquals(7, String.valueOf(result).length());
   }
+
+  @Test
+  void fillWithRandomIntsBetween() {
+    int[] values = new int[1_000];
+    Assertions.assertDoesNotThrow(() -> IntegerJuggler.fillWithRandomIntsBetween(values, -50, 50));
+    for (int value : values) {
+      assertTrue(value >= -50 && value < 50);
+    }
+  }
+
+  @Test
+  void fillWithRandomIntsBetween_WithOffsetAndLength_FillsOnlyTheRegion() {
+    int[] values = new int[10];
+    Arrays.fill(values, 50);
+    IntegerJuggler.fillWithRandomIntsBetween(JumbleJuggler.withSeed(1L), values, 2, 5, -50, 50);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -50 && values[i] < 50);
+      } else {
+        assertEquals(50, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> IntegerJuggler.fillWithRandomIntsBetween(values, 8, 5, -50, 50));
+  }
+
+  @Test
+  void fillWithRandomIntsBetween_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> IntegerJuggler.fillWithRandomIntsBetween(new int[1], 50, -50));
+    assertEquals(
+        "The minimum value given is 50, but it must be smaller than the maximum value given which is -50.",
+        exception.getMessage());
+  }
+
+  @Test
+  void ints() {
+    int[] values = IntegerJuggler.ints(1_000, -50, 50).toArray();
+    assertEquals(1_000, values.length);
+    for (int value : values) {
+      assertTrue(value >= -50 && value < 50);
+    }
+    assertTrue(IntegerJuggler.positiveInts(1_000).allMatch(value -> value >= 0));
+    assertTrue(IntegerJuggler.negativeInts(1_000).allMatch(value -> value < 0));
+  }
+
+  @Test
+  void ints_WhenParallel_IsSizedAndSplitsTheSource() {
+    Spliterator.OfInt spliterator =
+        IntegerJuggler.ints(JumbleJuggler.withSeed(3L), 1_000, -50, 50).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(1_000, spliterator.getExactSizeIfKnown());
+    assertEquals(500, spliterator.trySplit().getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+
+    assertEquals(
+        100_000,
+        IntegerJuggler.ints(JumbleJuggler.withSeed(3L), 100_000, -50, 50).parallel().count());
+    assertTrue(
+        IntegerJuggler.ints(JumbleJuggler.withSeed(3L), 100_000, -50, 50)
+            .parallel()
+            .allMatch(value -> value >= -50 && value < 50));
+  }
+
+  @Test
+  void ints_WhenSequential_MatchesTheScalarMethod() {
+    JumbleJuggler juggler = JumbleJuggler.withSeed(5L);
+    int[] values = IntegerJuggler.ints(JumbleJuggler.withSeed(5L), 100, -50, 50).toArray();
+    for (int value : values) {
+      assertEquals(IntegerJuggler.generateRandomIntBetween(juggler, -50, 50), value);
+    }
+  }
+
+  @Test
+  void ints_WhenCountIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> IntegerJuggler.ints(-1));
+    assertEquals("The count given is -1, but it must not be negative.", exception.getMessage());
+  }
+
+  @Test
+  void generateRandomPositiveIntWithLength_CoversEveryLength() {
+    for (int length = 1; length <= 10; length++) {
+      int expectedLength = length;
+      for (int i = 0; i < 100; i++) {
+        int result = IntegerJuggler.generateRandomPositiveIntWithLength(expectedLength);
+        assertEquals(expectedLength, String.valueOf(result).length());
+      }
+    }
+  }
+
+  @Test
+  void generateRandomPositiveIntWithLength_WhenLengthIsOutOfRange_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> IntegerJuggler.generateRandomPositiveIntWithLength(11));
+    assertEquals(
+        "The length given is 11, but it must be between 1 and 10.", exception.getMessage());
+    assertThrows(
+        JumbleJugglerException.class, () -> IntegerJuggler.generateRandomPositiveIntWithLength(0));
+  }
+
+  @Test
+  void tryGenerateRandomIntBetween() {
+    OptionalInt result = IntegerJuggler.tryGenerateRandomIntBetween(-5, 5);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsInt() >= -5 && result.getAsInt() < 5);
+    assertTrue(IntegerJuggler.tryGenerateRandomIntBetween(5, 5).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveIntSmallerThan() {
+    OptionalInt result = IntegerJuggler.tryGenerateRandomPositiveIntSmallerThan(10);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsInt() >= 0 && result.getAsInt() < 10);
+    assertTrue(IntegerJuggler.tryGenerateRandomPositiveIntSmallerThan(-10).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveIntWithLength() {
+    OptionalInt result = IntegerJuggler.tryGenerateRandomPositiveIntWithLength(4);
+    assertTrue(result.isPresent());
+    assertEquals(4, String.valueOf(result.getAsInt()).length());
+    assertTrue(IntegerJuggler.tryGenerateRandomPositiveIntWithLength(0).isEmpty());
+    assertTrue(IntegerJuggler.tryGenerateRandomPositiveIntWithLength(11).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomIntBetween_MatchesTheThrowingMethod() {
+    int expected = IntegerJuggler.generateRandomIntBetween(JumbleJuggler.withSeed(7L), 0, 1000);
+    OptionalInt result =
+        IntegerJuggler.tryGenerateRandomIntBetween(JumbleJuggler.withSeed(7L), 0, 1000);
+    assertEquals(OptionalInt.of(expected), result);
+  }
 }
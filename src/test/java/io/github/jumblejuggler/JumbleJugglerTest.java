@@ -0,0 +1,187 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class JumbleJugglerTest {
+
+  @Test
+  void getDefault() {
+    JumbleJuggler juggler = JumbleJuggler.getDefault();
+    assertTrue(juggler.isDefault());
+    assertSame(ThreadLocalRandom.current(), juggler.getRandomGenerator());
+    assertSame(juggler, juggler.split());
+  }
+
+  @Test
+  void withSeed_WhenSameSeed_GeneratesSameValues() {
+    JumbleJuggler first = JumbleJuggler.withSeed(42L);
+    JumbleJuggler second = JumbleJuggler.withSeed(42L);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(
+          IntegerJuggler.generateRandomIntBetween(first, -50, 50),
+          IntegerJuggler.generateRandomIntBetween(second, -50, 50));
+      assertEquals(LongJuggler.generateRandomLong(first), LongJuggler.generateRandomLong(second));
+      assertEquals(
+          DoubleJuggler.generateRandomDouble(first), DoubleJuggler.generateRandomDouble(second));
+      assertEquals(
+          FloatJuggler.generateRandomNegativeFloat(first),
+          FloatJuggler.generateRandomNegativeFloat(second));
+      assertEquals(
+          ShortJuggler.generateRandomPositiveShort(first),
+          ShortJuggler.generateRandomPositiveShort(second));
+      assertEquals(CountryJuggler.getRandomCountry(first), CountryJuggler.getRandomCountry(second));
+    }
+    assertEquals(
+        LoremIpsumJuggler.generateRandomParagraph(first),
+        LoremIpsumJuggler.generateRandomParagraph(second));
+    assertEquals(
+        PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+            first, PhoneNumberUtil.PhoneNumberType.MOBILE, PhoneNumberUtil.PhoneNumberFormat.E164),
+        PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+            second,
+            PhoneNumberUtil.PhoneNumberType.MOBILE,
+            PhoneNumberUtil.PhoneNumberFormat.E164));
+  }
+
+  @Test
+  void split_IsReproducibleAndIndependent() {
+    JumbleJuggler first = JumbleJuggler.withSeed(7L).split();
+    JumbleJuggler second = JumbleJuggler.withSeed(7L).split();
+    JumbleJuggler parent = JumbleJuggler.withSeed(7L);
+    JumbleJuggler child = parent.split();
+
+    long[] firstValues = new long[16];
+    long[] parentValues = new long[16];
+    for (int i = 0; i < firstValues.length; i++) {
+      firstValues[i] = LongJuggler.generateRandomLong(first);
+      assertEquals(firstValues[i], LongJuggler.generateRandomLong(second));
+      assertEquals(firstValues[i], LongJuggler.generateRandomLong(child));
+      parentValues[i] = LongJuggler.generateRandomLong(parent);
+    }
+    assertFalse(Arrays.equals(firstValues, parentValues));
+  }
+
+  @Test
+  void withSeedAndStream_IsReproducibleAndIndependent() {
+    long[][] values = new long[3][16];
+    for (int stream = 0; stream < values.length; stream++) {
+      JumbleJuggler juggler = JumbleJuggler.withSeed(7L, stream);
+      JumbleJuggler again = JumbleJuggler.withSeed(7L, stream);
+      for (int i = 0; i < values[stream].length; i++) {
+        values[stream][i] = LongJuggler.generateRandomLong(juggler);
+        assertEquals(values[stream][i], LongJuggler.generateRandomLong(again));
+      }
+    }
+    assertFalse(Arrays.equals(values[0], values[1]));
+    assertFalse(Arrays.equals(values[1], values[2]));
+    assertNotEquals(
+        LongJuggler.generateRandomLong(JumbleJuggler.withSeed(7L, 0)),
+        LongJuggler.generateRandomLong(JumbleJuggler.withSeed(8L, 0)));
+  }
+
+  @Test
+  void withAlgorithmAndStream_IsReproducibleAndIndependent() {
+    JumbleJuggler juggler = JumbleJuggler.withAlgorithm("Xoshiro256PlusPlus", 7L, 3L);
+    assertEquals("Xoshiro256PlusPlus", juggler.getAlgorithm());
+    assertEquals(
+        LongJuggler.generateRandomLong(juggler),
+        LongJuggler.generateRandomLong(JumbleJuggler.withAlgorithm("Xoshiro256PlusPlus", 7L, 3L)));
+    assertNotEquals(
+        LongJuggler.generateRandomLong(JumbleJuggler.withAlgorithm("SplittableRandom", 7L, 0L)),
+        LongJuggler.generateRandomLong(JumbleJuggler.withAlgorithm("SplittableRandom", 7L, 1L)));
+    assertThrows(
+        JumbleJugglerException.class, () -> JumbleJuggler.withAlgorithm("SecureRandom", 7L, 0L));
+  }
+
+  @Test
+  void of_WhenGeneratorIsNotSplittable_SplitsIntoNewStream() {
+    JumbleJuggler juggler = JumbleJuggler.of(new Random(3L));
+    assertFalse(juggler.isDefault());
+
+    JumbleJuggler split = juggler.split();
+    assertNotSame(juggler.getRandomGenerator(), split.getRandomGenerator());
+    assertDoesNotThrow(() -> IntegerJuggler.generateRandomPositiveIntWithLength(split, 5));
+  }
+
+  @Test
+  void withAlgorithm() {
+    for (String algorithm :
+        new String[] {"Xoshiro256PlusPlus", "L64X128MixRandom", "SplittableRandom"}) {
+      JumbleJuggler first = JumbleJuggler.withAlgorithm(algorithm, 11L);
+      JumbleJuggler second = JumbleJuggler.withAlgorithm(algorithm, 11L);
+      assertEquals(algorithm, first.getAlgorithm());
+      assertEquals(LongJuggler.generateRandomLong(first), LongJuggler.generateRandomLong(second));
+      assertEquals(algorithm, first.split().getAlgorithm());
+      assertDoesNotThrow(
+          () -> IntegerJuggler.generateRandomInt(JumbleJuggler.withAlgorithm(algorithm)));
+    }
+  }
+
+  @Test
+  void withAlgorithm_WhenThreadLocalRandom_UsesThreadLocalRandom() {
+    JumbleJuggler juggler = JumbleJuggler.withAlgorithm(JumbleJuggler.THREAD_LOCAL_RANDOM);
+    assertTrue(juggler.isDefault());
+    assertSame(ThreadLocalRandom.current(), juggler.getRandomGenerator());
+  }
+
+  @Test
+  void withAlgorithm_WhenAlgorithmIsUnknown_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> JumbleJuggler.withAlgorithm("Dice"));
+    assertEquals(
+        "The random generator algorithm given is Dice, but it is not available.",
+        exception.getMessage());
+  }
+
+  @Test
+  void withAlgorithm_WhenThreadLocalRandomIsSeeded_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> JumbleJuggler.withAlgorithm(JumbleJuggler.THREAD_LOCAL_RANDOM, 1L));
+    assertEquals(
+        "The random generator algorithm given is ThreadLocalRandom, but it cannot be seeded.",
+        exception.getMessage());
+  }
+
+  @Test
+  void withAlgorithm_WhenAlgorithmIsStochastic_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> JumbleJuggler.withAlgorithm("SecureRandom", 1L));
+    assertEquals(
+        "The random generator algorithm given is SecureRandom, but it cannot be seeded.",
+        exception.getMessage());
+  }
+
+  @Test
+  void withSeed_WhenAlgorithmIsStochastic_UsesSplittableRandom() {
+    JumbleJuggler first = JumbleJuggler.seeded("SecureRandom", 11L);
+    JumbleJuggler second = JumbleJuggler.seeded("SecureRandom", 11L);
+    assertEquals("SplittableRandom", first.getAlgorithm());
+    assertEquals(LongJuggler.generateRandomLong(first), LongJuggler.generateRandomLong(second));
+    assertEquals(
+        "SplittableRandom",
+        JumbleJuggler.seeded(JumbleJuggler.THREAD_LOCAL_RANDOM, 11L).getAlgorithm());
+  }
+
+  @Test
+  void of_WhenGeneratorIsNull_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> JumbleJuggler.of(null));
+    assertEquals("The random generator given must not be null.", exception.getMessage());
+  }
+}
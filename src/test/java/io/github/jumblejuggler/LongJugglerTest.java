@@ -11,6 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -18,13 +21,13 @@ class LongJugglerTest {
 
   @Test
   void testGenerateRandomPositiveLong() {
-    long result = assertDoesNotThrow(LongJuggler::generateRandomPositiveLong);
+    long result = assertDoesNotThrow(() -> LongJuggler.generateRandomPositiveLong());
     assertTrue(result >= 0L);
   }
 
   @Test
   void testGenerateRandomNegativeLong() {
-    long result = assertDoesNotThrow(LongJuggler::generateRandomNegativeLong);
+    long result = assertDoesNotThrow(() -> LongJuggler.generateRandomNegativeLong());
     assertTrue(result < 0L);
   }
 
@@ -173,4 +176,134 @@ class LongJugglerTest {
             () -> LongJuggler.generateRandomPositiveLongWithLength(length));
     assertEquals(5, String.valueOf(result).length());
   }
+
+  @Test
+  void fillWithRandomLongsBetween() {
+    long[] values = new long[1_000];
+    Assertions.assertDoesNotThrow(() -> LongJuggler.fillWithRandomLongsBetween(values, -50L, 50L));
+    for (long value : values) {
+      assertTrue(value >= -50L && value < 50L);
+    }
+  }
+
+  @Test
+  void fillWithRandomLongsBetween_WithOffsetAndLength_FillsOnlyTheRegion() {
+    long[] values = new long[10];
+    Arrays.fill(values, 50L);
+    LongJuggler.fillWithRandomLongsBetween(JumbleJuggler.withSeed(1L), values, 2, 5, -50L, 50L);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= -50L && values[i] < 50L);
+      } else {
+        assertEquals(50L, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> LongJuggler.fillWithRandomLongsBetween(values, 8, 5, -50L, 50L));
+  }
+
+  @Test
+  void fillWithRandomLongsBetween_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> LongJuggler.fillWithRandomLongsBetween(new long[1], 50L, -50L));
+    assertEquals(
+        "The minimum value given is 50, but it must be smaller than the maximum value given which is -50.",
+        exception.getMessage());
+  }
+
+  @Test
+  void longs() {
+    long[] values = LongJuggler.longs(1_000, -50L, 50L).toArray();
+    assertEquals(1_000, values.length);
+    for (long value : values) {
+      assertTrue(value >= -50L && value < 50L);
+    }
+    assertTrue(LongJuggler.positiveLongs(1_000).allMatch(value -> value >= 0));
+    assertTrue(LongJuggler.negativeLongs(1_000).allMatch(value -> value < 0));
+  }
+
+  @Test
+  void longs_WhenParallel_IsSizedAndSplitsTheSource() {
+    Spliterator.OfLong spliterator =
+        LongJuggler.longs(JumbleJuggler.withSeed(3L), 1_000, -50L, 50L).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(1_000, spliterator.getExactSizeIfKnown());
+    assertEquals(500, spliterator.trySplit().getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+
+    assertEquals(
+        100_000,
+        LongJuggler.longs(JumbleJuggler.withSeed(3L), 100_000, -50L, 50L).parallel().count());
+    assertTrue(
+        LongJuggler.longs(JumbleJuggler.withSeed(3L), 100_000, -50L, 50L)
+            .parallel()
+            .allMatch(value -> value >= -50L && value < 50L));
+  }
+
+  @Test
+  void longs_WhenSequential_MatchesTheScalarMethod() {
+    JumbleJuggler juggler = JumbleJuggler.withSeed(5L);
+    long[] values = LongJuggler.longs(JumbleJuggler.withSeed(5L), 100, -50L, 50L).toArray();
+    for (long value : values) {
+      assertEquals(LongJuggler.generateRandomLongBetween(juggler, -50L, 50L), value);
+    }
+  }
+
+  @Test
+  void longs_WhenCountIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> LongJuggler.longs(-1));
+    assertEquals("The count given is -1, but it must not be negative.", exception.getMessage());
+  }
+
+  @Test
+  void generateRandomPositiveLongWithLength_CoversEveryLength() {
+    for (int length = 1; length <= 19; length++) {
+      int expectedLength = length;
+      for (int i = 0; i < 100; i++) {
+        long result = LongJuggler.generateRandomPositiveLongWithLength(expectedLength);
+        assertEquals(expectedLength, String.valueOf(result).length());
+      }
+    }
+  }
+
+  @Test
+  void generateRandomPositiveLongWithLength_WhenLengthIsOutOfRange_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> LongJuggler.generateRandomPositiveLongWithLength(20L));
+    assertEquals(
+        "The length given is 20, but it must be between 1 and 19.", exception.getMessage());
+    assertThrows(
+        JumbleJugglerException.class, () -> LongJuggler.generateRandomPositiveLongWithLength(0L));
+  }
+
+  @Test
+  void tryGenerateRandomLongBetween() {
+    OptionalLong result = LongJuggler.tryGenerateRandomLongBetween(-5L, 5L);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsLong() >= -5L && result.getAsLong() < 5L);
+    assertTrue(LongJuggler.tryGenerateRandomLongBetween(5L, -5L).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveLongSmallerThan() {
+    OptionalLong result = LongJuggler.tryGenerateRandomPositiveLongSmallerThan(10L);
+    assertTrue(result.isPresent());
+    assertTrue(result.getAsLong() >= 0L && result.getAsLong() < 10L);
+    assertTrue(LongJuggler.tryGenerateRandomPositiveLongSmallerThan(-10L).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveLongWithLength() {
+    OptionalLong result = LongJuggler.tryGenerateRandomPositiveLongWithLength(15);
+    assertTrue(result.isPresent());
+    assertEquals(15, String.valueOf(result.getAsLong()).length());
+    assertTrue(LongJuggler.tryGenerateRandomPositiveLongWithLength(0).isEmpty());
+    assertTrue(LongJuggler.tryGenerateRandomPositiveLongWithLength(20).isEmpty());
+  }
 }
@@ -0,0 +1,104 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class LoremIpsumDocumentTest {
+  private static final int BLOCK_SIZE = LoremIpsumDocument.BLOCK_SIZE;
+
+  @Test
+  void charAt_WhenSameSeedAndLength_IsTheSame() {
+    LoremIpsumDocument first = LoremIpsumJuggler.generateRandomDocumentWithSeed(42L, 500_000_000);
+    LoremIpsumDocument second = LoremIpsumJuggler.generateRandomDocumentWithSeed(42L, 500_000_000);
+    assertEquals(500_000_000, first.length());
+    for (int index = 499_999_999; index > 0; index -= 12_345_677) {
+      assertEquals(first.charAt(index), second.charAt(index));
+    }
+    assertEquals('\n', first.charAt(BLOCK_SIZE - 1));
+    assertTrue(Character.isUpperCase(first.charAt(BLOCK_SIZE)));
+    assertEquals('\n', first.charAt(499_999_999));
+  }
+
+  @Test
+  void charAt_WhenOtherSeed_IsDifferent() {
+    String first = LoremIpsumJuggler.generateRandomDocumentWithSeed(1L, 200).toString();
+    String second = LoremIpsumJuggler.generateRandomDocumentWithSeed(2L, 200).toString();
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  void toString_IsGeneratedFromAFixedAlgorithm() {
+    StringBuilder expected = new StringBuilder();
+    LoremIpsumJuggler.appendBlock(
+        JumbleJuggler.withAlgorithm("SplittableRandom", 5L, 0L), expected, 300);
+    assertEquals(
+        expected.toString(), LoremIpsumJuggler.generateRandomDocumentWithSeed(5L, 300).toString());
+  }
+
+  @Test
+  void toString_IsMadeOfParagraphsOfBlockSize() {
+    String text =
+        LoremIpsumJuggler.generateRandomDocumentWithSeed(3L, 2 * BLOCK_SIZE + 10).toString();
+    assertEquals(2 * BLOCK_SIZE + 10, text.length());
+    String[] paragraphs = text.split("\n");
+    assertEquals(3, paragraphs.length);
+    assertEquals(BLOCK_SIZE - 1, paragraphs[0].length());
+    assertEquals(BLOCK_SIZE - 1, paragraphs[1].length());
+    assertTrue(paragraphs[2].endsWith("."));
+  }
+
+  @Test
+  void subSequence_IsAViewOfTheDocument() {
+    LoremIpsumDocument document =
+        LoremIpsumJuggler.generateRandomDocumentWithSeed(5L, 3 * BLOCK_SIZE);
+    String text = document.toString();
+    LoremIpsumDocument part = document.subSequence(BLOCK_SIZE - 100, 2 * BLOCK_SIZE + 100);
+    assertEquals(text.substring(BLOCK_SIZE - 100, 2 * BLOCK_SIZE + 100), part.toString());
+    assertEquals(
+        text.substring(BLOCK_SIZE, BLOCK_SIZE + 10), part.subSequence(100, 110).toString());
+    assertEquals(document.getSeed(), part.getSeed());
+    assertThrows(IndexOutOfBoundsException.class, () -> part.charAt(part.length()));
+    assertThrows(IndexOutOfBoundsException.class, () -> document.subSequence(10, 5));
+  }
+
+  @Test
+  void openReader_ReadsTheWholeDocument() throws IOException {
+    LoremIpsumDocument document =
+        LoremIpsumJuggler.generateRandomDocumentWithSeed(7L, 4 * BLOCK_SIZE + 123);
+    StringWriter out = new StringWriter();
+    try (Reader reader = document.openReader()) {
+      reader.transferTo(out);
+      assertEquals(-1, reader.read());
+    }
+    assertEquals(document.toString(), out.toString());
+  }
+
+  @Test
+  void generateRandomDocument_WhenTheLengthIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> LoremIpsumJuggler.generateRandomDocument(-1));
+    assertEquals("The size given is -1, but it must not be negative.", exception.getMessage());
+  }
+
+  @Test
+  void generateRandomDocument_WhenShort_IsStillMadeOfLines() {
+    for (int length = 0; length < 8; length++) {
+      LoremIpsumDocument document = LoremIpsumJuggler.generateRandomDocument(length);
+      assertEquals(length, document.toString().length());
+      if (length > 0) {
+        assertEquals('\n', document.charAt(length - 1));
+      }
+    }
+  }
+}
@@ -8,6 +8,15 @@ package io.github.jumblejuggler;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +28,7 @@ class LoremIpsumJugglerTest {
 
   @Test
   void generateRandomSentence() {
-    String result = assertDoesNotThrow(LoremIpsumJuggler::generateRandomSentence);
+    String result = assertDoesNotThrow(() -> LoremIpsumJuggler.generateRandomSentence());
     assertTrue(result.split(" ").length >= MIN_WORDS);
     assertTrue(result.split(" ").length <= MAX_WORDS);
   }
@@ -44,7 +53,7 @@ class LoremIpsumJugglerTest {
 
   @Test
   void generateRandomParagraph() {
-    String result = assertDoesNotThrow(LoremIpsumJuggler::generateRandomParagraph);
+    String result = assertDoesNotThrow(() -> LoremIpsumJuggler.generateRandomParagraph());
     assertTrue(result.split(" ").length >= MIN_SENTENCES * MIN_WORDS);
     assertTrue(result.split(" ").length <= MAX_SENTENCES * MAX_WORDS);
   }
@@ -109,6 +118,211 @@ class LoremIpsumJugglerTest {
     assertEquals(7 * 16, result.split(" ").length);
   }
 
+  @Test
+  void generateRandomParagraphWithSentencesOfWords_KeepsTheFormat() {
+    String result =
+        assertDoesNotThrow(
+            () ->
+                LoremIpsumJuggler.generateRandomParagraphWithSentencesOfWords(
+                    JumbleJuggler.withSeed(7), 50, 6));
+    assertTrue(Character.isUpperCase(result.charAt(0)));
+    assertTrue(result.endsWith(". "));
+    assertFalse(result.contains("  "));
+    String[] words = result.split(" ");
+    for (int i = 1; i < words.length; i++) {
+      char previous = words[i - 1].charAt(words[i - 1].length() - 1);
+      boolean endsSentence = previous == '.' || previous == '!' || previous == '?';
+      assertEquals(endsSentence, Character.isUpperCase(words[i].charAt(0)), result);
+    }
+  }
+
+  @Test
+  void generateRandomParagraph_WithTheSameSeed_IsTheSame() {
+    String first =
+        assertDoesNotThrow(
+            () -> LoremIpsumJuggler.generateRandomParagraph(JumbleJuggler.withSeed(3)));
+    String second =
+        assertDoesNotThrow(
+            () -> LoremIpsumJuggler.generateRandomParagraph(JumbleJuggler.withSeed(3)));
+    assertEquals(first, second);
+  }
+
+  @Test
+  void writeRandomParagraphs_WritesOneParagraphPerLine() throws Exception {
+    StringWriter out = new StringWriter();
+    LoremIpsumJuggler.writeRandomParagraphs(JumbleJuggler.withSeed(11), out, 500);
+    String text = out.toString();
+    assertTrue(text.length() > 8 * 8192);
+    assertTrue(text.endsWith(".\n"));
+    String[] paragraphs = text.split("\n");
+    assertEquals(500, paragraphs.length);
+    for (String paragraph : paragraphs) {
+      int words = paragraph.split(" ").length;
+      assertTrue(words >= MIN_SENTENCES * MIN_WORDS && words < MAX_SENTENCES * MAX_WORDS);
+      assertTrue(Character.isUpperCase(paragraph.charAt(0)));
+    }
+  }
+
+  @Test
+  void writeRandomParagraphs_WritesTheSameTextToEveryOutput() throws Exception {
+    StringWriter writer = new StringWriter();
+    StringBuilder appendable = new StringBuilder();
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    ByteArrayOutputStream channel = new ByteArrayOutputStream();
+    LoremIpsumJuggler.writeRandomParagraphs(JumbleJuggler.withSeed(5), writer, 200);
+    LoremIpsumJuggler.writeRandomParagraphs(JumbleJuggler.withSeed(5), appendable, 200);
+    LoremIpsumJuggler.writeRandomParagraphs(JumbleJuggler.withSeed(5), stream, 200);
+    LoremIpsumJuggler.writeRandomParagraphs(
+        JumbleJuggler.withSeed(5), Channels.newChannel(channel), 200);
+    assertEquals(writer.toString(), appendable.toString());
+    assertEquals(writer.toString(), stream.toString(StandardCharsets.UTF_8));
+    assertEquals(writer.toString(), channel.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void writeRandomParagraphs_WhenNoParagraph_WritesNothing() throws Exception {
+    StringWriter out = new StringWriter();
+    LoremIpsumJuggler.writeRandomParagraphs(out, 0);
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void writeRandomParagraphs_WhenTheNumberIsNegative_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> LoremIpsumJuggler.writeRandomParagraphs(new StringWriter(), -1));
+    assertEquals(
+        "The number of paragraphs given is -1, but it must not be negative.",
+        exception.getMessage());
+  }
+
+  @Test
+  void streamRandomParagraphs_StopsWhenTheThreadIsInterrupted() throws Exception {
+    long[] written = {0};
+    Writer out =
+        new Writer() {
+          @Override
+          public void write(char[] chars, int offset, int length) {
+            written[0] += length;
+            if (written[0] > 1_000_000) {
+              Thread.currentThread().interrupt();
+            }
+          }
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void close() {}
+        };
+    try {
+      LoremIpsumJuggler.streamRandomParagraphs(out);
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+    assertTrue(written[0] > 1_000_000);
+  }
+
+  @Test
+  void generateRandomTextOfLength_EndsAtTheLength() throws Exception {
+    JumbleJuggler juggler = JumbleJuggler.withSeed(13);
+    assertEquals("", LoremIpsumJuggler.generateRandomTextOfLength(juggler, 0));
+    for (int length = 2; length < 5000; length += length < 600 ? 1 : 97) {
+      String text = LoremIpsumJuggler.generateRandomTextOfLength(juggler, length);
+      assertEquals(length, text.length());
+      assertTrue(text.endsWith("."), text);
+      assertTrue(Character.isUpperCase(text.charAt(0)), text);
+      assertFalse(text.contains("  "), text);
+    }
+  }
+
+  @Test
+  void generateRandomTextOfSize_EndsAtTheSize() throws Exception {
+    JumbleJuggler juggler = JumbleJuggler.withSeed(17);
+    for (int size : new int[] {0, 2, 3, 40, 4096, 1 << 20}) {
+      byte[] text = LoremIpsumJuggler.generateRandomTextOfSize(juggler, size);
+      assertEquals(size, text.length);
+      if (size > 0) {
+        assertEquals('.', text[size - 1]);
+      }
+    }
+  }
+
+  @Test
+  void putRandomText_FillsTheRemainingBytes() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(1000);
+    buffer.position(10).limit(900);
+    LoremIpsumJuggler.putRandomText(JumbleJuggler.withSeed(19), buffer);
+    assertEquals(900, buffer.position());
+    buffer.flip().position(10);
+    String text = StandardCharsets.UTF_8.decode(buffer).toString();
+    assertEquals(890, text.length());
+    assertTrue(text.endsWith("."));
+    assertTrue(Character.isUpperCase(text.charAt(0)));
+  }
+
+  @Test
+  void generateRandomTextOfLength_WhenTheLengthCannotBeMade_ThrowException() {
+    JumbleJugglerException tooSmall =
+        assertThrows(
+            JumbleJugglerException.class, () -> LoremIpsumJuggler.generateRandomTextOfLength(1));
+    assertEquals("No text of size 1 can be made of the Lorem Ipsum words.", tooSmall.getMessage());
+    JumbleJugglerException negative =
+        assertThrows(
+            JumbleJugglerException.class, () -> LoremIpsumJuggler.generateRandomTextOfSize(-3));
+    assertEquals("The size given is -3, but it must not be negative.", negative.getMessage());
+  }
+
+  @Test
+  void generateRandomParagraphsWithSeed_DoesNotDependOnTheNumberOfThreads() throws Exception {
+    String[] parallel = LoremIpsumJuggler.generateRandomParagraphsWithSeed(23L, 2000);
+    ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      String[] sequential =
+          single.submit(() -> LoremIpsumJuggler.generateRandomParagraphsWithSeed(23L, 2000)).get();
+      assertArrayEquals(sequential, parallel);
+    } finally {
+      single.shutdown();
+    }
+    assertEquals(2000, parallel.length);
+    for (String paragraph : parallel) {
+      assertTrue(paragraph.split(" ").length >= MIN_SENTENCES * MIN_WORDS);
+    }
+    assertFalse(
+        Arrays.equals(parallel, LoremIpsumJuggler.generateRandomParagraphsWithSeed(24L, 2000)));
+  }
+
+  @Test
+  void generateRandomParagraphsWithSeed_UsesAFixedAlgorithm() {
+    String[] paragraphs = LoremIpsumJuggler.generateRandomParagraphsWithSeed(37L, 10);
+    JumbleJuggler juggler = JumbleJuggler.withAlgorithm("SplittableRandom", 37L, 0L);
+    for (String paragraph : paragraphs) {
+      assertEquals(LoremIpsumJuggler.generateRandomParagraph(juggler), paragraph);
+    }
+  }
+
+  @Test
+  void generateRandomParagraphsWithSeed_KeepsThePrefixOfLongerRuns() {
+    String[] shorter = LoremIpsumJuggler.generateRandomParagraphsWithSeed(29L, 300);
+    String[] longer = LoremIpsumJuggler.generateRandomParagraphsWithSeed(29L, 700);
+    assertArrayEquals(shorter, Arrays.copyOf(longer, 300));
+  }
+
+  @Test
+  void forEachRandomParagraphWithSeed_CallsTheSinkOncePerIndex() {
+    AtomicLongArray calls = new AtomicLongArray(1000);
+    LoremIpsumJuggler.forEachRandomParagraphWithSeed(
+        31L, 1000, (paragraph, index) -> calls.incrementAndGet((int) index));
+    for (int index = 0; index < calls.length(); index++) {
+      assertEquals(1L, calls.get(index));
+    }
+    assertEquals(0, LoremIpsumJuggler.generateRandomParagraphs(0).length);
+    assertThrows(
+        JumbleJugglerException.class, () -> LoremIpsumJuggler.generateRandomParagraphs(-1));
+  }
+
   @Test
   void throwExceptions() {
     assertAll(
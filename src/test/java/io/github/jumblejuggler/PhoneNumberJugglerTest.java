@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.google.i18n.phonenumbers.PhoneNumberUtil;
 import io.github.jumblejuggler.constants.Country;
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class PhoneNumberJugglerTest {
@@ -181,4 +183,72 @@ class PhoneNumberJugglerTest {
       }
     }
   }
+
+  @Test
+  void tryGetRandomPhoneNumberWithFormatByCountryCodeAndType() {
+    for (Country country : Country.values()) {
+      Optional<String> result =
+          PhoneNumberJuggler.tryGetRandomPhoneNumberWithFormatByCountryCodeAndType(
+              country.name(),
+              PhoneNumberUtil.PhoneNumberType.FIXED_LINE,
+              PhoneNumberUtil.PhoneNumberFormat.E164);
+      assertEquals(country.isInGoogleLibPhoneNumber(), result.isPresent(), country.name());
+      result.ifPresent(phoneNumber -> assertTrue(phoneNumber.startsWith("+")));
+    }
+    assertTrue(
+        PhoneNumberJuggler.tryGetRandomPhoneNumberWithFormatByCountryCodeAndType(
+                "ZZ",
+                PhoneNumberUtil.PhoneNumberType.FIXED_LINE,
+                PhoneNumberUtil.PhoneNumberFormat.E164)
+            .isEmpty());
+  }
+
+  @Test
+  void tryGetRandomPhoneNumberWithFormatAndType() {
+    Optional<String> result =
+        PhoneNumberJuggler.tryGetRandomPhoneNumberWithFormatAndType(
+            PhoneNumberUtil.PhoneNumberType.MOBILE, PhoneNumberUtil.PhoneNumberFormat.E164);
+    assertTrue(result.isPresent());
+    assertTrue(result.get().startsWith("+"));
+  }
+
+  @Test
+  void getRandomPhoneNumberWithFormatAndType_WithWeightedCountries() {
+    WeightedCountrySampler countries =
+        WeightedCountrySampler.of(Map.of(Country.FR, 1.0, Country.AQ, 1.0));
+    for (int i = 0; i < 100; i++) {
+      String result =
+          PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+              countries,
+              PhoneNumberUtil.PhoneNumberType.MOBILE,
+              PhoneNumberUtil.PhoneNumberFormat.E164);
+      assertTrue(result.startsWith("+33"), result);
+    }
+    assertTrue(
+        PhoneNumberJuggler.tryGetRandomPhoneNumberWithFormatAndType(
+                WeightedCountrySampler.byPopulation(),
+                PhoneNumberUtil.PhoneNumberType.FIXED_LINE,
+                PhoneNumberUtil.PhoneNumberFormat.INTERNATIONAL)
+            .orElseThrow()
+            .startsWith("+"));
+
+    WeightedCountrySampler antarctica = WeightedCountrySampler.of(Map.of(Country.AQ, 1.0));
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () ->
+                PhoneNumberJuggler.getRandomPhoneNumberWithFormatAndType(
+                    antarctica,
+                    PhoneNumberUtil.PhoneNumberType.MOBILE,
+                    PhoneNumberUtil.PhoneNumberFormat.E164));
+    assertEquals(
+        "No country with a weight in the phone registry of google's libphonenumber has MOBILE phone numbers.",
+        exception.getMessage());
+    assertTrue(
+        PhoneNumberJuggler.tryGetRandomPhoneNumberWithFormatAndType(
+                antarctica,
+                PhoneNumberUtil.PhoneNumberType.MOBILE,
+                PhoneNumberUtil.PhoneNumberFormat.E164)
+            .isEmpty());
+  }
 }
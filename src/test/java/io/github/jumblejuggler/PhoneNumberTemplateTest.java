@@ -0,0 +1,64 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+import org.junit.jupiter.api.Test;
+
+class PhoneNumberTemplateTest {
+  private static final PhoneNumberUtil PHONE_NUMBER_UTIL = PhoneNumberUtil.getInstance();
+
+  @Test
+  void generate_FormatsLikeLibPhoneNumber() throws NumberParseException {
+    for (PhoneNumberUtil.PhoneNumberType type :
+        new PhoneNumberUtil.PhoneNumberType[] {
+          PhoneNumberUtil.PhoneNumberType.MOBILE, PhoneNumberUtil.PhoneNumberType.FIXED_LINE
+        }) {
+      for (String region : PHONE_NUMBER_UTIL.getSupportedRegions()) {
+        PhoneNumberTemplate template = PhoneNumberTemplate.of(region, type);
+        if (template == null) {
+          continue;
+        }
+        for (long seed = 0; seed < 5; seed++) {
+          String e164 =
+              template.generate(
+                  JumbleJuggler.withSeed(seed), PhoneNumberUtil.PhoneNumberFormat.E164);
+          Phonenumber.PhoneNumber phoneNumber = PHONE_NUMBER_UTIL.parse(e164, region);
+          for (PhoneNumberUtil.PhoneNumberFormat format :
+              PhoneNumberUtil.PhoneNumberFormat.values()) {
+            assertEquals(
+                PHONE_NUMBER_UTIL.format(phoneNumber, format),
+                template.generate(JumbleJuggler.withSeed(seed), format),
+                region + " " + type + " " + format);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void generate_KeepsTheFirstGroupOfTheExample() {
+    PhoneNumberTemplate template =
+        PhoneNumberTemplate.of("FR", PhoneNumberUtil.PhoneNumberType.MOBILE);
+    Phonenumber.PhoneNumber example =
+        PHONE_NUMBER_UTIL.getExampleNumberForType("FR", PhoneNumberUtil.PhoneNumberType.MOBILE);
+    String prefix =
+        PHONE_NUMBER_UTIL.format(example, PhoneNumberUtil.PhoneNumberFormat.RFC3966).split("-")[1];
+    String e164 = PHONE_NUMBER_UTIL.format(example, PhoneNumberUtil.PhoneNumberFormat.E164);
+    for (int i = 0; i < 100; i++) {
+      String result =
+          template.generate(JumbleJuggler.getDefault(), PhoneNumberUtil.PhoneNumberFormat.E164);
+      assertTrue(result.startsWith("+33" + prefix), result);
+      assertEquals(e164.length(), result.length());
+      assertNotEquals('0', result.charAt(3 + prefix.length()));
+    }
+    assertNull(PhoneNumberTemplate.of("AQ", PhoneNumberUtil.PhoneNumberType.MOBILE));
+  }
+}
@@ -8,6 +8,8 @@ package io.github.jumblejuggler;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.Arrays;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -15,13 +17,13 @@ class ShortJugglerTest {
 
   @Test
   void testGenerateRandomPositiveShort() {
-    short result = assertDoesNotThrow(ShortJuggler::generateRandomPositiveShort);
+    short result = assertDoesNotThrow(() -> ShortJuggler.generateRandomPositiveShort());
     assertTrue(result >= 0);
   }
 
   @Test
   void testGenerateRandomNegativeShort() {
-    short result = assertDoesNotThrow(ShortJuggler::generateRandomNegativeShort);
+    short result = assertDoesNotThrow(() -> ShortJuggler.generateRandomNegativeShort());
     assertTrue(result < 0);
   }
 
@@ -158,4 +160,59 @@ class ShortJugglerTest {
             + ".",
         exception.getMessage());
   }
+
+  @Test
+  void fillWithRandomShortsBetween() {
+    short[] values = new short[1_000];
+    Assertions.assertDoesNotThrow(
+        () -> ShortJuggler.fillWithRandomShortsBetween(values, (short) -50, (short) 50));
+    for (short value : values) {
+      assertTrue(value >= (short) -50 && value < (short) 50);
+    }
+  }
+
+  @Test
+  void fillWithRandomShortsBetween_WithOffsetAndLength_FillsOnlyTheRegion() {
+    short[] values = new short[10];
+    Arrays.fill(values, (short) 50);
+    ShortJuggler.fillWithRandomShortsBetween(
+        JumbleJuggler.withSeed(1L), values, 2, 5, (short) -50, (short) 50);
+    for (int i = 0; i < values.length; i++) {
+      if (i >= 2 && i < 7) {
+        assertTrue(values[i] >= (short) -50 && values[i] < (short) 50);
+      } else {
+        assertEquals((short) 50, values[i]);
+      }
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ShortJuggler.fillWithRandomShortsBetween(values, 8, 5, (short) -50, (short) 50));
+  }
+
+  @Test
+  void fillWithRandomShortsBetween_WhenMinGreaterThanMax_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> ShortJuggler.fillWithRandomShortsBetween(new short[1], (short) 50, (short) -50));
+    assertEquals(
+        "The minimum value given is 50, but it must be smaller than the maximum value given which is -50.",
+        exception.getMessage());
+  }
+
+  @Test
+  void tryGenerateRandomShortBetween() {
+    Optional<Short> result = ShortJuggler.tryGenerateRandomShortBetween((short) -5, (short) 5);
+    assertTrue(result.isPresent());
+    assertTrue(result.get() >= -5 && result.get() < 5);
+    assertTrue(ShortJuggler.tryGenerateRandomShortBetween((short) 5, (short) -5).isEmpty());
+  }
+
+  @Test
+  void tryGenerateRandomPositiveShortSmallerThan() {
+    Optional<Short> result = ShortJuggler.tryGenerateRandomPositiveShortSmallerThan((short) 10);
+    assertTrue(result.isPresent());
+    assertTrue(result.get() >= 0 && result.get() < 10);
+    assertTrue(ShortJuggler.tryGenerateRandomPositiveShortSmallerThan((short) -10).isEmpty());
+  }
 }
@@ -0,0 +1,98 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.jumblejuggler.constants.Country;
+import io.github.jumblejuggler.exceptions.JumbleJugglerException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WeightedCountrySamplerTest {
+
+  @Test
+  void byPopulation_FollowsThePopulations() {
+    Map<Country, Integer> counts = new EnumMap<>(Country.class);
+    JumbleJuggler juggler = JumbleJuggler.withSeed(1L);
+    for (int i = 0; i < 100_000; i++) {
+      counts.merge(
+          WeightedCountrySampler.byPopulation().getRandomCountry(juggler), 1, Integer::sum);
+    }
+    // India and China are each about 18% of the world
+    assertTrue(counts.get(Country.IN) > 16_000 && counts.get(Country.IN) < 20_000);
+    assertTrue(counts.get(Country.CN) > 16_000 && counts.get(Country.CN) < 20_000);
+    assertTrue(counts.getOrDefault(Country.TV, 0) < 10);
+    assertFalse(counts.containsKey(Country.AQ));
+    assertEquals(0, WeightedCountrySampler.byPopulation().getWeight(Country.AQ));
+  }
+
+  @Test
+  void of_Map_OnlyDrawsTheCountriesOfTheMap() {
+    WeightedCountrySampler sampler =
+        WeightedCountrySampler.of(Map.of(Country.FR, 3.0, Country.BE, 1.0));
+    int france = 0;
+    for (int i = 0; i < 10_000; i++) {
+      Country country = sampler.getRandomCountry();
+      assertTrue(country == Country.FR || country == Country.BE);
+      france += country == Country.FR ? 1 : 0;
+    }
+    assertTrue(france > 7_000 && france < 8_000);
+    assertEquals(3.0, sampler.getWeight(Country.FR));
+  }
+
+  @Test
+  void of_Array_TakesTheWeightsByOrdinal() {
+    double[] weights = new double[Country.values().length];
+    weights[Country.JP.ordinal()] = 1;
+    WeightedCountrySampler sampler = WeightedCountrySampler.of(weights);
+    weights[Country.US.ordinal()] = 1_000;
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Country.JP, sampler.getRandomCountry());
+    }
+  }
+
+  @Test
+  void of_WhenTheWeightsAreInvalid_ThrowException() {
+    JumbleJugglerException exception =
+        assertThrows(JumbleJugglerException.class, () -> WeightedCountrySampler.of(new double[3]));
+    assertEquals(
+        String.format(
+            "3 weights are given, but there must be one for each of the %s countries.",
+            Country.values().length),
+        exception.getMessage());
+    exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> WeightedCountrySampler.of(Map.of(Country.FR, -1.0)));
+    assertEquals(
+        "The weight of FR is -1.0, but it must be finite and not negative.",
+        exception.getMessage());
+    exception =
+        assertThrows(
+            JumbleJugglerException.class, () -> WeightedCountrySampler.of(Map.of(Country.FR, 0.0)));
+    assertEquals(
+        "At least one country must have a strictly positive weight.", exception.getMessage());
+  }
+
+  @Test
+  void filter_KeepsTheWeightsOfTheMatchingCountries() {
+    WeightedCountrySampler europe =
+        WeightedCountrySampler.byPopulation()
+            .filter(country -> country.getContinent().equals("EU"));
+    assertEquals(Country.DE.getPopulation(), europe.getWeight(Country.DE));
+    assertEquals(0, europe.getWeight(Country.US));
+    for (int i = 0; i < 1_000; i++) {
+      assertEquals("EU", europe.getRandomCountry().getContinent());
+    }
+
+    WeightedCountrySampler none = europe.filter(country -> false);
+    assertTrue(none.isEmpty());
+    assertTrue(none.tryGetRandomCountry().isEmpty());
+    assertThrows(JumbleJugglerException.class, none::getRandomCountry);
+  }
+}
@@ -15,7 +15,7 @@ class WordJugglerTest {
 
   @Test
   void getRandomDictionaryWord() {
-    String word = assertDoesNotThrow(WordJuggler::getRandomDictionaryWord);
+    String word = assertDoesNotThrow(() -> WordJuggler.getRandomDictionaryWord());
     assertFalse(word.isEmpty());
   }
 
@@ -57,4 +57,14 @@ class WordJugglerTest {
             () -> WordJuggler.getRandomDictionaryWordStartingWithString("Na3"));
     assertEquals("No Words start with \"Na3\"", exception.getMessage());
   }
+
+  @Test
+  void getRandomDictionaryWordOfLength_WhenLengthIsTheLargestInt_ThrowsException() {
+    JumbleJugglerException exception =
+        assertThrows(
+            JumbleJugglerException.class,
+            () -> WordJuggler.getRandomDictionaryWordOfLength(Integer.MAX_VALUE));
+    assertEquals(
+        "No Words have a length between 2147483647 and 2147483648", exception.getMessage());
+  }
 }
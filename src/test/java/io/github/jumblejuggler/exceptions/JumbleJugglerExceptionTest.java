@@ -0,0 +1,49 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.exceptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JumbleJugglerExceptionTest {
+
+  @AfterEach
+  void restoreDefaults() {
+    JumbleJugglerException.setLoggingEnabled(true);
+    JumbleJugglerException.setStackTraceEnabled(true);
+  }
+
+  @Test
+  void constructor_KeepsTheMessageAndTheCause() {
+    IllegalArgumentException cause = new IllegalArgumentException("bad argument");
+    JumbleJugglerException exception =
+        new JumbleJugglerException(cause, JumbleJugglerExceptionTest.class);
+    assertEquals("bad argument", exception.getMessage());
+    assertSame(cause, exception.getCause());
+    assertTrue(exception.getStackTrace().length > 0);
+  }
+
+  @Test
+  void setStackTraceEnabled_WhenFalse_SkipsTheStackTrace() {
+    JumbleJugglerException.setStackTraceEnabled(false);
+    JumbleJugglerException exception =
+        new JumbleJugglerException("no trace", JumbleJugglerExceptionTest.class);
+    assertEquals("no trace", exception.getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void setLoggingEnabled() {
+    JumbleJugglerException.setLoggingEnabled(false);
+    assertTrue(!JumbleJugglerException.isLoggingEnabled());
+    JumbleJugglerException.setLoggingEnabled(true);
+    assertTrue(JumbleJugglerException.isLoggingEnabled());
+  }
+}
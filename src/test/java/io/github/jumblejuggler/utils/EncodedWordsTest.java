@@ -0,0 +1,81 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EncodedWordsTest {
+  private static final EncodedWords WORDS = EncodedWords.of(List.of("lorem", "ÉTÉ", "", "Ipsum"));
+
+  @Test
+  void put_CopiesTheLowercaseForm() {
+    assertEquals("lorem", read(0, false));
+    assertEquals("été", read(1, false));
+    assertEquals("", read(2, false));
+    assertEquals("ipsum", read(3, false));
+    assertEquals(5, WORDS.length(1));
+  }
+
+  @Test
+  void putCapitalized_CopiesTheCapitalisedForm() {
+    assertEquals("Lorem", read(0, true));
+    assertEquals("Été", read(1, true));
+    assertEquals("", read(2, true));
+    assertEquals("Ipsum", read(3, true));
+    assertEquals(5, WORDS.capitalizedLength(1));
+  }
+
+  @Test
+  void put_IntoADirectBuffer_AppendsAtThePosition() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    WORDS.putCapitalized(0, buffer);
+    buffer.put((byte) ' ');
+    WORDS.put(3, buffer);
+    buffer.flip();
+    assertEquals("Lorem ipsum", StandardCharsets.UTF_8.decode(buffer).toString());
+  }
+
+  @Test
+  void put_WhenTheWordDoesNotFit_ThrowException() {
+    assertThrows(BufferOverflowException.class, () -> WORDS.put(0, ByteBuffer.allocate(4)));
+  }
+
+  @Test
+  void put_WhenTheRankIsOutOfTheTable_ThrowException() {
+    assertEquals(4, WORDS.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> WORDS.put(4, ByteBuffer.allocate(8)));
+    assertThrows(IndexOutOfBoundsException.class, () -> WORDS.length(-1));
+  }
+
+  @Test
+  void of_LoremIpsumWords_KeepsTheirRanks() {
+    List<String> words = LoremIpsumUtil.getInstance().getWords();
+    EncodedWords encoded = LoremIpsumUtil.getInstance().getEncodedWords();
+    assertEquals(words.size(), encoded.size());
+    for (int rank = 0; rank < words.size(); rank++) {
+      ByteBuffer buffer = ByteBuffer.allocate(encoded.length(rank));
+      encoded.put(rank, buffer);
+      assertEquals(words.get(rank), new String(buffer.array(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static String read(int rank, boolean capitalized) {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    if (capitalized) {
+      WORDS.putCapitalized(rank, buffer);
+    } else {
+      WORDS.put(rank, buffer);
+    }
+    return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+  }
+}
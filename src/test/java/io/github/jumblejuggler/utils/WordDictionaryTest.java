@@ -0,0 +1,128 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class WordDictionaryTest {
+  private static final List<String> WORDS =
+      List.of("NAY", "ZOO", "NA", "NAP", "A", "NE", "NAPE", "NO", "NAB");
+  private static final List<String> SORTED_WORDS =
+      List.of("A", "NA", "NAB", "NAP", "NAPE", "NAY", "NE", "NO", "ZOO");
+  private static final List<Function<List<String>, WordDictionary>> BACKENDS =
+      List.of(WordDictionary::sortedArray, WordDictionary::frontCoded, WordDictionaryTest::mapped);
+
+  @Test
+  void get_ReturnsTheWordsInOrder() {
+    for (Function<List<String>, WordDictionary> backend : BACKENDS) {
+      WordDictionary dictionary = backend.apply(WORDS);
+      assertEquals(SORTED_WORDS.size(), dictionary.size());
+      for (int i = 0; i < SORTED_WORDS.size(); i++) {
+        assertEquals(SORTED_WORDS.get(i), dictionary.get(i));
+      }
+      assertThrows(IndexOutOfBoundsException.class, () -> dictionary.get(SORTED_WORDS.size()));
+    }
+  }
+
+  @Test
+  void prefixRange() {
+    for (Function<List<String>, WordDictionary> backend : BACKENDS) {
+      WordDictionary.PrefixRange range = backend.apply(WORDS).prefixRange("NA");
+      assertEquals(new WordDictionary.PrefixRange(1, 6), range);
+      assertEquals(5, range.size());
+    }
+  }
+
+  @Test
+  void prefixRange_MatchesALinearScan() {
+    for (Function<List<String>, WordDictionary> backend : BACKENDS) {
+      WordDictionary dictionary = backend.apply(WORDS);
+      for (String prefix : List.of("", "A", "N", "NAP", "NAPE", "NAPES", "Z", "ZOO", "B", "0")) {
+        WordDictionary.PrefixRange range = dictionary.prefixRange(prefix);
+        assertEquals(
+            SORTED_WORDS.stream().filter(word -> word.startsWith(prefix)).toList(),
+            SORTED_WORDS.subList(range.from(), range.to()),
+            prefix);
+      }
+    }
+  }
+
+  @Test
+  void prefixRange_WhenNoWordStartsWithThePrefix_IsEmpty() {
+    for (Function<List<String>, WordDictionary> backend : BACKENDS) {
+      WordDictionary.PrefixRange range = backend.apply(WORDS).prefixRange("NA3");
+      assertTrue(range.isEmpty());
+      assertEquals(0, range.size());
+    }
+  }
+
+  @Test
+  void frontCoded_AcrossManyBuckets_MatchesTheSortedArray() {
+    Random random = new Random(42L);
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      StringBuilder word = new StringBuilder();
+      int length = 1 + random.nextInt(8);
+      for (int j = 0; j < length; j++) {
+        word.append((char) ('A' + random.nextInt(4)));
+      }
+      words.add(word.toString());
+    }
+    WordDictionary sortedArray = WordDictionary.sortedArray(words);
+    WordDictionary frontCoded = WordDictionary.frontCoded(words);
+    for (int i = 0; i < words.size(); i++) {
+      assertEquals(sortedArray.get(i), frontCoded.get(i));
+    }
+    for (String prefix : List.of("A", "AB", "BCD", "DDDD", "CA", "AAAAAAAA", "E")) {
+      assertEquals(sortedArray.prefixRange(prefix), frontCoded.prefixRange(prefix), prefix);
+    }
+    assertTrue(frontCoded.getMemoryFootprint() < sortedArray.getMemoryFootprint());
+  }
+
+  @Test
+  void mapped_MatchesTheSortedArray() {
+    Random random = new Random(7L);
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      words.add(Integer.toString(random.nextInt(100_000), 7));
+    }
+    WordDictionary sortedArray = WordDictionary.sortedArray(words);
+    WordDictionary mapped = mapped(words);
+    assertEquals(0, mapped.getMemoryFootprint());
+    for (int i = 0; i < words.size(); i++) {
+      assertEquals(sortedArray.get(i), mapped.get(i));
+    }
+    for (String prefix : List.of("1", "12", "345", "6666", "7", "")) {
+      assertEquals(sortedArray.prefixRange(prefix), mapped.prefixRange(prefix), prefix);
+    }
+  }
+
+  private static WordDictionary mapped(List<String> words) {
+    try {
+      Path file = Files.createTempFile("words", ".bin");
+      file.toFile().deleteOnExit();
+      try (OutputStream out = Files.newOutputStream(file)) {
+        WordPack.of(words, true).write(out);
+      }
+      return new MappedWordPack(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WordLengthIndexTest {
+  private static final WordDictionary DICTIONARY =
+      WordDictionary.sortedArray(
+          List.of("A", "NA", "NAB", "NAP", "NAPE", "NAY", "NE", "NO", "ZOO"));
+  private static final WordLengthIndex INDEX = WordLengthIndex.of(DICTIONARY);
+
+  @Test
+  void range_OfASingleLength() {
+    assertEquals(List.of("NAB", "NAP", "NAY", "ZOO"), wordsIn(INDEX.range(3, 4)));
+    assertEquals(List.of("A"), wordsIn(INDEX.range(1, 2)));
+  }
+
+  @Test
+  void range_OfSeveralLengths_IsContiguous() {
+    assertEquals(List.of("NA", "NE", "NO", "NAB", "NAP", "NAY", "ZOO"), wordsIn(INDEX.range(2, 4)));
+    assertEquals(DICTIONARY.size(), INDEX.range(0, Integer.MAX_VALUE).size());
+  }
+
+  @Test
+  void range_WhenNoWordHasTheLength_IsEmpty() {
+    assertTrue(INDEX.range(5, 100).isEmpty());
+    assertTrue(INDEX.range(4, 2).isEmpty());
+    assertTrue(INDEX.range(-3, 0).isEmpty());
+  }
+
+  @Test
+  void getMaxLength() {
+    assertEquals(4, INDEX.getMaxLength());
+  }
+
+  private static List<String> wordsIn(WordDictionary.PrefixRange range) {
+    List<String> words = new ArrayList<>();
+    for (int position = range.from(); position < range.to(); position++) {
+      words.add(DICTIONARY.get(INDEX.rankAt(position)));
+    }
+    return words;
+  }
+}
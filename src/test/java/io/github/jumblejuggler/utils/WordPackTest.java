@@ -0,0 +1,95 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class WordPackTest {
+  private static final String LOREM_IPSUM_RESOURCE = "/io/github/jumblejuggler/lorem-ipsum.bin";
+  private static final List<String> WORDS = List.of("NAY", "ZOO", "ÉTÉ", "A", "NAP", "NE", "");
+
+  @Test
+  void write_ThenRead_WhenSorted_KeepsTheWordsAndTheIndex() throws IOException {
+    WordPack pack = roundTrip(WordPack.of(WORDS, true));
+    assertTrue(pack.isSorted());
+    assertEquals(List.of("", "A", "NAP", "NAY", "NE", "ZOO", "ÉTÉ"), pack.getWords());
+    assertEquals(Optional.of(new WordDictionary.PrefixRange(2, 5)), pack.getLetterRange('N'));
+    assertEquals(Optional.of(new WordDictionary.PrefixRange(2, 2)), pack.getLetterRange('B'));
+    assertEquals(Optional.empty(), pack.getLetterRange('É'));
+  }
+
+  @Test
+  void write_ThenRead_WhenUnsorted_KeepsTheOrder() throws IOException {
+    WordPack pack = roundTrip(WordPack.of(WORDS, false));
+    assertFalse(pack.isSorted());
+    assertEquals(WORDS, pack.getWords());
+    assertEquals(Optional.empty(), pack.getLetterRange('N'));
+  }
+
+  @Test
+  void read_WhenNotAPack_ThrowException() {
+    byte[] json = "[\"A\", \"B\"]".getBytes();
+    assertThrows(IOException.class, () -> WordPack.read(new ByteArrayInputStream(json)));
+  }
+
+  @Test
+  void read_WhenTruncated_ThrowException() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    WordPack.of(WORDS, true).write(out);
+    byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 2);
+    assertThrows(IOException.class, () -> WordPack.read(new ByteArrayInputStream(truncated)));
+  }
+
+  @Test
+  void load_WhenTheResourceIsMissing_IsEmpty() throws IOException {
+    assertEquals(Optional.empty(), WordPack.load("/io/github/jumblejuggler/missing.bin"));
+  }
+
+  @Test
+  void write_IsDeterministic() throws IOException {
+    ByteArrayOutputStream first = new ByteArrayOutputStream();
+    ByteArrayOutputStream second = new ByteArrayOutputStream();
+    WordPack.of(WORDS, true).write(first);
+    WordPack.of(WORDS, true).write(second);
+    assertArrayEquals(first.toByteArray(), second.toByteArray());
+  }
+
+  @Test
+  void mapWords_ReadsTheSameWordsAsLoad() throws IOException {
+    List<String> loaded = WordPack.load(LOREM_IPSUM_RESOURCE).orElseThrow().getWords();
+    List<String> mapped = WordPack.mapWords(LOREM_IPSUM_RESOURCE).orElseThrow();
+    assertEquals(loaded, mapped);
+    assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, "lorem"));
+  }
+
+  @Test
+  void mapDictionary_WhenThePackIsNotSorted_ThrowException() {
+    assertThrows(IOException.class, () -> WordPack.mapDictionary(LOREM_IPSUM_RESOURCE));
+  }
+
+  @Test
+  void mapWords_WhenTheResourceIsMissing_IsEmpty() throws IOException {
+    assertEquals(Optional.empty(), WordPack.mapWords("/io/github/jumblejuggler/missing.bin"));
+  }
+
+  private static WordPack roundTrip(WordPack pack) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pack.write(out);
+    return WordPack.read(new ByteArrayInputStream(out.toByteArray()));
+  }
+}
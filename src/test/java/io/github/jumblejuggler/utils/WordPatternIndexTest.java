@@ -0,0 +1,95 @@
+/**
+* @author h@jjoujti
+* Copyright (C)2023. All rights reserved.
+* This code is licensed under the MIT License.
+*/
+package io.github.jumblejuggler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class WordPatternIndexTest {
+  private static final WordDictionary DICTIONARY = randomDictionary();
+  private static final WordPatternIndex INDEX =
+      WordPatternIndex.of(DICTIONARY, WordLengthIndex.of(DICTIONARY));
+
+  @Test
+  void endingWith_MatchesALinearScan() {
+    for (String suffix : List.of("", "A", "BA", "CAB", "DDDD", "ABCDA", "E")) {
+      assertEquals(scan(word -> word.endsWith(suffix)), sorted(INDEX.endingWith(suffix)), suffix);
+    }
+  }
+
+  @Test
+  void containing_MatchesALinearScan() {
+    for (String substring : List.of("", "A", "BC", "CAB", "DDDD", "ABCDA", "E", "AAE")) {
+      assertEquals(
+          scan(word -> word.contains(substring)), sorted(INDEX.containing(substring)), substring);
+    }
+  }
+
+  @Test
+  void matching_MatchesALinearScan() {
+    for (String pattern : List.of("?", "A?", "?A??B", "??CAB??", "ABC", "?????", "??E", "")) {
+      assertEquals(
+          scan(word -> word.matches(pattern.replace("?", "."))),
+          sorted(INDEX.matching(pattern)),
+          pattern);
+    }
+  }
+
+  @Test
+  void matching_CachesTheResult() {
+    assertSame(INDEX.matching("?BC?"), INDEX.matching("?BC?"));
+    assertSame(INDEX.containing("BCA"), INDEX.containing("BCA"));
+  }
+
+  @Test
+  void rankAt_WhenOutOfTheList_ThrowException() {
+    WordRanks ranks = INDEX.endingWith("CAB");
+    assertTrue(ranks.size() > 0);
+    assertThrows(IndexOutOfBoundsException.class, () -> ranks.rankAt(ranks.size()));
+    assertThrows(IndexOutOfBoundsException.class, () -> ranks.rankAt(-1));
+  }
+
+  private static WordDictionary randomDictionary() {
+    Random random = new Random(11L);
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      StringBuilder word = new StringBuilder();
+      int length = 1 + random.nextInt(7);
+      for (int j = 0; j < length; j++) {
+        word.append((char) ('A' + random.nextInt(4)));
+      }
+      words.add(word.toString());
+    }
+    return WordDictionary.sortedArray(words);
+  }
+
+  private static List<Integer> scan(Predicate<String> predicate) {
+    List<Integer> ranks = new ArrayList<>();
+    for (int rank = 0; rank < DICTIONARY.size(); rank++) {
+      if (predicate.test(DICTIONARY.get(rank))) {
+        ranks.add(rank);
+      }
+    }
+    return ranks;
+  }
+
+  private static List<Integer> sorted(WordRanks ranks) {
+    List<Integer> list = new ArrayList<>();
+    for (int position = 0; position < ranks.size(); position++) {
+      list.add(ranks.rankAt(position));
+    }
+    list.sort(null);
+    return list;
+  }
+}